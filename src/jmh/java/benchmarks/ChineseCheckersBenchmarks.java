@@ -0,0 +1,63 @@
+package benchmarks;
+
+import core.AbstractForwardModel;
+import core.AbstractGameState;
+import core.actions.AbstractAction;
+import games.GameType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A perft-style benchmark of Chinese Checkers: counts every sequence of moves to the given depth from the start of
+ * the game, which exercises move generation (and the copying of states) much as a tree search does.
+ * <p>
+ * Build with {@code mvn -P jmh package}, then for example
+ * {@code java -jar target/Benchmarks-jar-with-dependencies.jar ChineseCheckersBenchmarks -p depth=3}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChineseCheckersBenchmarks {
+
+    @Param({"2", "6"})
+    public int nPlayers;
+
+    @Param({"2", "3"})
+    public int depth;
+
+    AbstractForwardModel forwardModel;
+    AbstractGameState startState;
+
+    @Setup(Level.Trial)
+    public void createGame() {
+        core.Game game = GameType.ChineseCheckers.createGameInstance(nPlayers, 42);
+        forwardModel = game.getForwardModel();
+        startState = game.getGameState();
+    }
+
+    /**
+     * @return the number of move sequences of the given length from the state
+     */
+    long perft(AbstractGameState state, int depth) {
+        List<AbstractAction> actions = forwardModel.computeAvailableActions(state);
+        if (depth == 1)
+            return actions.size();
+        long count = 0;
+        for (AbstractAction action : actions) {
+            AbstractGameState next = state.copy();
+            forwardModel.next(next, action);
+            count += next.isNotTerminal() ? perft(next, depth - 1) : 1;
+        }
+        return count;
+    }
+
+    @Benchmark
+    public long perft() {
+        return perft(startState, depth);
+    }
+}
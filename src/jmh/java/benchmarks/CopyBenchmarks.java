@@ -0,0 +1,131 @@
+package benchmarks;
+
+import core.AbstractForwardModel;
+import core.AbstractGameState;
+import core.Game;
+import core.actions.AbstractAction;
+import games.GameType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of AbstractGameState.copy() on a spread of states from real games (where GameBenchmarks uses
+ * a single mid-game state).
+ * <p>
+ * Seeded games are played out with uniformly random actions, and statesPerGame states are kept from each, evenly
+ * spaced through the game. Each benchmark call takes the next of these states, and copies it alternately from the
+ * perspective of the player to move (as MCTS does under Information_Set) and with full information. In
+ * copyAndAction one random action is then applied to the copy, so that any work deferred by copy-on-write
+ * components is included in the cost rather than hidden.
+ * <p>
+ * Build with {@code mvn -P jmh package}, then for example
+ * {@code java -jar target/Benchmarks-jar-with-dependencies.jar CopyBenchmarks -p gameType=Dominion -prof gc}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CopyBenchmarks {
+
+    @Param({"Dominion", "Catan", "TerraformingMars"})
+    public GameType gameType;
+
+    @Param("3")
+    public int nPlayers;
+
+    @Param("5")
+    public int nGames;
+
+    @Param("100")
+    public int statesPerGame;
+
+    @Param("42")
+    public long seed;
+
+    AbstractForwardModel forwardModel;
+    List<AbstractGameState> states;
+    Random rnd;
+    int next;
+
+    @Setup(Level.Trial)
+    public void playGames() {
+        rnd = new Random(seed);
+        states = new ArrayList<>();
+        for (int g = 0; g < nGames; g++) {
+            // each game is played twice from the same seeds: first to find its length, then to copy the states we keep
+            // (copying every state of a long game, and then discarding most of them, can run out of memory)
+            int gameSeed = rnd.nextInt();
+            long actionSeed = rnd.nextLong();
+            int length = playGame(gameSeed, actionSeed, 0, 0);
+            playGame(gameSeed, actionSeed, length, Math.min(statesPerGame, length));
+        }
+        if (states.isEmpty())
+            throw new IllegalStateException("No states found for " + gameType);
+    }
+
+    /**
+     * Plays one game with uniformly random actions, and adds copies of n states, evenly spaced over the first length
+     * of them, to the list.
+     *
+     * @return the number of states in the game from which an action was taken
+     */
+    private int playGame(int gameSeed, long actionSeed, int length, int n) {
+        Game game = gameType.createGameInstance(nPlayers, gameSeed);
+        forwardModel = game.getForwardModel();
+        AbstractGameState state = game.getGameState();
+        Random actionRnd = new Random(actionSeed);
+        int i = 0, kept = 0;
+        while (i < GameBenchmarks.MAX_PLAYOUT_ACTIONS && state.isNotTerminal()) {
+            List<AbstractAction> actions = forwardModel.computeAvailableActions(state);
+            if (actions.isEmpty())
+                break;
+            if (kept < n && i == kept * length / n) {
+                states.add(state.copy());
+                kept++;
+            }
+            i++;
+            try {
+                forwardModel.next(state, actions.get(actionRnd.nextInt(actions.size())));
+            } catch (AssertionError e) {
+                // some games reject a few of the actions they generate, we use the states up to that point
+                break;
+            }
+        }
+        return i;
+    }
+
+    private AbstractGameState copyNextState() {
+        AbstractGameState state = states.get(next % states.size());
+        // over two passes through the states, each is copied from both perspectives
+        int perspective = (next + next / states.size()) % 2 == 0 ? state.getCurrentPlayer() : -1;
+        next++;
+        return state.copy(perspective);
+    }
+
+    @Benchmark
+    public AbstractGameState copy() {
+        return copyNextState();
+    }
+
+    @Benchmark
+    public AbstractGameState copyAndAction() {
+        AbstractGameState copy = copyNextState();
+        if (copy.isNotTerminal()) {
+            List<AbstractAction> actions = forwardModel.computeAvailableActions(copy);
+            if (!actions.isEmpty()) {
+                try {
+                    forwardModel.next(copy, actions.get(rnd.nextInt(actions.size())));
+                } catch (AssertionError e) {
+                    // the cost of the copy still counts
+                }
+            }
+        }
+        return copy;
+    }
+}
@@ -0,0 +1,60 @@
+package benchmarks;
+
+import core.AbstractForwardModel;
+import core.AbstractGameState;
+import core.actions.AbstractAction;
+import games.GameType;
+import games.dominion.players.BigMoney;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks a whole game of Dominion between Big Money players, as Game would run it: each decision is taken on
+ * a copy of the state made for the current player (which reshuffles the cards that player cannot see), and the
+ * chosen action is then applied to the real state.
+ * <p>
+ * Build with {@code mvn -P jmh package}, then for example
+ * {@code java -jar target/Benchmarks-jar-with-dependencies.jar DominionBenchmarks -p nPlayers=4}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DominionBenchmarks {
+
+    @Param({"2", "4"})
+    public int nPlayers;
+
+    @Param("42")
+    public long seed;
+
+    long gamesPlayed;
+
+    /**
+     * @return the number of actions taken in the game
+     */
+    @Benchmark
+    public int bigMoneySelfPlay() {
+        core.Game game = GameType.Dominion.createGameInstance(nPlayers, seed + gamesPlayed++);
+        AbstractForwardModel forwardModel = game.getForwardModel();
+        AbstractGameState state = game.getGameState();
+        BigMoney[] players = new BigMoney[nPlayers];
+        for (int p = 0; p < nPlayers; p++) {
+            players[p] = new BigMoney();
+            players[p].setForwardModel(forwardModel);
+        }
+        int actions = 0;
+        while (state.isNotTerminal()) {
+            int player = state.getCurrentPlayer();
+            AbstractGameState observation = state.copy(player);
+            List<AbstractAction> available = forwardModel.computeAvailableActions(observation);
+            forwardModel.next(state, players[player].getAction(observation, available));
+            actions++;
+        }
+        return actions;
+    }
+}
@@ -0,0 +1,139 @@
+package benchmarks;
+
+import core.AbstractForwardModel;
+import core.AbstractGameState;
+import core.actions.AbstractAction;
+import games.GameType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Microbenchmarks of the core operations every game implements, measured on a seeded mid-game state of each
+ * GameType (so that regressions in game implementations show up as numbers).
+ * <p>
+ * The state is found by playing a random game from the seeded start to find its length, and then replaying the
+ * same seeded random game to the requested fraction of that length.
+ * <p>
+ * Build with {@code mvn -P jmh package}, then for example
+ * {@code java -jar target/Benchmarks-jar-with-dependencies.jar GameBenchmarks -p gameType=Dominion,Catan}
+ * <p>
+ * Adding {@code -prof gc} also reports the memory each operation allocates (gc.alloc.rate.norm, in bytes); for
+ * copy() this is the size of a state copy, as almost everything a copy allocates is kept by it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GameBenchmarks {
+
+    // a cap on the length of any random playout, for games that can in principle go on for ever
+    static final int MAX_PLAYOUT_ACTIONS = 20000;
+
+    // with no values given, JMH runs every GameType
+    @Param
+    public GameType gameType;
+
+    // 0 uses the smallest supported number of players that is at least 2
+    @Param("0")
+    public int nPlayers;
+
+    @Param("42")
+    public long seed;
+
+    // how far through the seeded random game the benchmarked state is taken
+    @Param("0.5")
+    public double gameProgress;
+
+    AbstractForwardModel forwardModel;
+    AbstractGameState midGameState;
+    List<AbstractAction> midGameActions;
+    Random rnd;
+
+    @Setup(Level.Trial)
+    public void createMidGameState() {
+        int players = nPlayers > 0 ? nPlayers :
+                Math.min(gameType.getMaxPlayers(), Math.max(2, gameType.getMinPlayers()));
+        // a first game to find the length of a random playout from this seed, and then a second, identically
+        // seeded, game that we stop part way through
+        AbstractGameState firstGame = gameType.createGameInstance(players, seed).getGameState();
+        forwardModel = gameType.createGameInstance(players, seed).getForwardModel();
+        int length = randomPlayout(firstGame, new Random(seed), MAX_PLAYOUT_ACTIONS);
+
+        midGameState = gameType.createGameInstance(players, seed).getGameState();
+        randomPlayout(midGameState, new Random(seed), (int) (length * gameProgress));
+        if (!midGameState.isNotTerminal())
+            throw new IllegalStateException(gameType + " reached a terminal state before the mid-game point");
+        midGameActions = new ArrayList<>(forwardModel.computeAvailableActions(midGameState));
+        rnd = new Random(seed);
+    }
+
+    /**
+     * Plays uniformly random actions from the state until it is terminal or maxActions have been taken.
+     *
+     * @return the number of actions taken
+     */
+    int randomPlayout(AbstractGameState state, Random random, int maxActions) {
+        int actions = 0;
+        while (state.isNotTerminal() && actions < maxActions) {
+            List<AbstractAction> available = forwardModel.computeAvailableActions(state);
+            if (available.isEmpty())
+                break;
+            try {
+                forwardModel.next(state, available.get(random.nextInt(available.size())));
+            } catch (AssertionError e) {
+                // a few games reject some of the actions they generate; we treat this as the end of the game
+                break;
+            }
+            actions++;
+        }
+        return actions;
+    }
+
+    @Benchmark
+    public AbstractGameState copy() {
+        return midGameState.copy();
+    }
+
+    @Benchmark
+    public AbstractGameState copyForCurrentPlayer() {
+        return midGameState.copy(midGameState.getCurrentPlayer());
+    }
+
+    @Benchmark
+    public List<AbstractAction> computeAvailableActions() {
+        return forwardModel.computeAvailableActions(midGameState);
+    }
+
+    /**
+     * A fresh copy of the mid-game state and one of its available actions, set up (outside the measured time)
+     * before every call of next().
+     */
+    @State(Scope.Thread)
+    public static class NextInput {
+        AbstractGameState state;
+        AbstractAction action;
+
+        @Setup(Level.Invocation)
+        public void prepare(GameBenchmarks benchmark) {
+            state = benchmark.midGameState.copy();
+            action = benchmark.midGameActions.get(benchmark.rnd.nextInt(benchmark.midGameActions.size())).copy();
+        }
+    }
+
+    @Benchmark
+    public AbstractGameState next(NextInput input) {
+        forwardModel.next(input.state, input.action);
+        return input.state;
+    }
+
+    @Benchmark
+    public int randomPlayout() {
+        return randomPlayout(midGameState.copy(), rnd, MAX_PLAYOUT_ACTIONS);
+    }
+}
@@ -0,0 +1,66 @@
+package benchmarks;
+
+import core.AbstractGameState;
+import core.actions.AbstractAction;
+import games.GameType;
+import org.openjdk.jmh.annotations.*;
+import players.PlayerConstants;
+import players.mcts.MCTSParams;
+import players.mcts.MCTSPlayer;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The time MCTSPlayer takes for a fixed number of iterations from the same mid-game states as GameBenchmarks.
+ * This includes the forward model and copies as well as the tree itself, so the games with cheap forward models
+ * (Connect4, TicTacToe) are the most sensitive to changes in the tree code.
+ * <p>
+ * For example {@code java -jar target/Benchmarks-jar-with-dependencies.jar MCTSBenchmarks -p budget=2000}
+ * (add {@code -prof gc} to also report the bytes allocated per search, as gc.alloc.rate.norm)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MCTSBenchmarks {
+
+    @Param({"Connect4", "TicTacToe", "Dominion", "LoveLetter"})
+    public GameType gameType;
+
+    @Param("42")
+    public long seed;
+
+    // MCTS iterations per decision
+    @Param("1000")
+    public int budget;
+
+    AbstractGameState midGameState;
+    List<AbstractAction> midGameActions;
+    MCTSPlayer player;
+
+    @Setup(Level.Trial)
+    public void createPlayer() {
+        GameBenchmarks game = new GameBenchmarks();
+        game.gameType = gameType;
+        game.seed = seed;
+        game.gameProgress = 0.5;
+        game.createMidGameState();
+        midGameState = game.midGameState;
+        midGameActions = game.midGameActions;
+
+        MCTSParams params = new MCTSParams();
+        params.setParameterValue("budgetType", PlayerConstants.BUDGET_ITERATIONS);
+        params.setParameterValue("budget", budget);
+        params.setRandomSeed(seed);
+        player = new MCTSPlayer(params);
+        player.setForwardModel(game.forwardModel);
+    }
+
+    @Benchmark
+    public AbstractAction search() {
+        return player.getAction(midGameState.copy(midGameState.getCurrentPlayer()), midGameActions);
+    }
+}
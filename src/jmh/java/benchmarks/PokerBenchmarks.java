@@ -0,0 +1,50 @@
+package benchmarks;
+
+import core.components.Deck;
+import core.components.FrenchCard;
+import games.GameType;
+import games.poker.PokerForwardModel;
+import games.poker.PokerGameState;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the Poker showdown: ranking the hand of every player still in the round (two hole cards each, plus
+ * five community cards), as is done at the end of every round of every rollout.
+ * <p>
+ * Build with {@code mvn -P jmh package}, then for example
+ * {@code java -jar target/Benchmarks-jar-with-dependencies.jar PokerBenchmarks -p nPlayers=6}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PokerBenchmarks {
+
+    @Param({"2", "4"})
+    public int nPlayers;
+
+    @Param("42")
+    public long seed;
+
+    PokerForwardModel forwardModel;
+    PokerGameState showdownState;
+
+    @Setup(Level.Trial)
+    public void dealShowdown() {
+        showdownState = (PokerGameState) GameType.Poker.createGameInstance(nPlayers, seed).getGameState();
+        forwardModel = new PokerForwardModel();
+        // the hole cards are dealt at setup; we then deal the flop, turn and river
+        Deck<FrenchCard> community = showdownState.getCommunityCards();
+        while (community.getSize() < 5)
+            community.add(showdownState.getDrawDeck().draw());
+    }
+
+    @Benchmark
+    public Object translatePokerHands() {
+        return forwardModel.translatePokerHands(showdownState);
+    }
+}
@@ -92,7 +92,7 @@ public abstract class AbstractForwardModel {
      * @param action    - action played
      */
     protected void illegalActionPlayed(AbstractGameState gameState, AbstractAction action) {
-        disqualifyOrRandomAction(gameState.coreGameParameters.disqualifyPlayerOnIllegalActionPlayed, gameState);
+        disqualifyOrRandomAction(gameState.getCoreGameParameters().disqualifyPlayerOnIllegalActionPlayed, gameState);
     }
 
     /**
@@ -137,7 +137,7 @@ public abstract class AbstractForwardModel {
             currentState.recordAction(action, player);
             _next(currentState, action);
         } else {
-            if (currentState.coreGameParameters.verbose) {
+            if (currentState.getCoreGameParameters().verbose) {
                 System.out.println("Invalid action.");
             }
             illegalActionPlayed(currentState, action);
@@ -152,7 +152,7 @@ public abstract class AbstractForwardModel {
      * @return - the list of actions available.
      */
     public final List<AbstractAction> computeAvailableActions(AbstractGameState gameState) {
-        return computeAvailableActions(gameState, gameState.coreGameParameters.actionSpace);
+        return computeAvailableActions(gameState, gameState.getCoreGameParameters().actionSpace);
     }
 
     public final List<AbstractAction> computeAvailableActions(AbstractGameState gameState, ActionSpace actionSpace) {
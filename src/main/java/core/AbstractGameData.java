@@ -7,10 +7,16 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 public class AbstractGameData {
 
+    // Data loaded so far, by data path; shared by all games, so never changed after loading
+    private static final Map<String, AbstractGameData> loadedData = new ConcurrentHashMap<>();
+
     private List<GraphBoard> graphBoards = new ArrayList<>();
     private List<GridBoard> gridBoards = new ArrayList<>();
     private List<Deck<Card>> decks = new ArrayList<>();
@@ -36,6 +42,34 @@ public class AbstractGameData {
         }
     }
 
+    /**
+     * Gives the data at the given path, which is read from file only the first time it is asked for (by any thread),
+     * and is then shared. The shared data must not be changed: the find methods give a new copy of what they find,
+     * and these copies are what a game should set up its state with.
+     * @param dataPath - path to the directory with the data files
+     * @return the data loaded from the path
+     */
+    public static AbstractGameData getData(String dataPath) {
+        return getData(dataPath, AbstractGameData::new);
+    }
+
+    /**
+     * As getData(dataPath), for games with their own type of data. Only one type of data can be loaded from a path.
+     * @param dataPath - path to the directory (or prefix of the files) with the data
+     * @param newData  - creates the empty data object, that is then loaded from the path
+     * @return the data loaded from the path
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends AbstractGameData> T getData(String dataPath, Supplier<T> newData) {
+        return (T) loadedData.computeIfAbsent(dataPath, path -> {
+            T data = newData.get();
+            data.load(path);
+            // Copying once marks any decks as sharing their components, so later copies only read the shared data
+            data.copy();
+            return data;
+        });
+    }
+
     public GridBoard findGridBoard(String name) {
         for (GridBoard<?> c : gridBoards) {
             if (name.equalsIgnoreCase(c.getComponentName())) {
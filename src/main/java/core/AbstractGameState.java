@@ -36,6 +36,9 @@ import static java.util.stream.Collectors.toList;
 public abstract class AbstractGameState {
 
     // Parameters, forward model and turn order for the game
+    // The parameters are shared by all copies of the state, so must not be changed once the game is set up: to play
+    // with different parameters, copy them and create a new game with the copy. They are marked as shared (and so
+    // cannot be changed) from the first copy until the game ends, or the state is reset for a new game.
     protected final AbstractParameters gameParameters;
     // Game being played
     protected final GameType gameType = _getGameType();
@@ -56,8 +59,8 @@ public abstract class AbstractGameState {
     // A record of all actions taken to reach this game state
     // The history is stored as a list of pairs, where the first element is the player who took the action
     // this is in chronological order
-    private List<Pair<Integer, AbstractAction>> history = new ArrayList<>();
-    private List<String> historyText = new ArrayList<>();
+    private HistoryLog<Pair<Integer, AbstractAction>> history = new HistoryLog<>();
+    private HistoryLog<String> historyText = new HistoryLog<>();
 
     // Status of the game, and status for each player (in cooperative games, the game status is also each player's status)
     protected CoreConstants.GameResult gameStatus;
@@ -66,6 +69,7 @@ public abstract class AbstractGameState {
     protected IGamePhase gamePhase;
     // Stack for extended actions
     protected Stack<IExtendedSequence> actionsInProgress = new Stack<>();
+    // Created when first needed, copies share the original's
     CoreParameters coreGameParameters;
     private int gameID;
     // rnd is used for all random number generation in the game - for events within the game
@@ -82,7 +86,6 @@ public abstract class AbstractGameState {
         this.nTeams = nPlayers;  // we always default the number of teams to the number of players
         // this is then overridden in the game-specific constructor if needed
         this.gameParameters = gameParameters;
-        this.coreGameParameters = new CoreParameters();
     }
 
     protected abstract GameType _getGameType();
@@ -95,8 +98,8 @@ public abstract class AbstractGameState {
         gameStatus = GAME_ONGOING;
         playerResults = new CoreConstants.GameResult[getNPlayers()];
         Arrays.fill(playerResults, GAME_ONGOING);
-        history = new ArrayList<>();
-        historyText = new ArrayList<>();
+        history = new HistoryLog<>();
+        historyText = new HistoryLog<>();
         playerTimer = new ElapsedCpuChessTimer[getNPlayers()];
         tick = 0;
         turnOwner = 0;
@@ -111,12 +114,15 @@ public abstract class AbstractGameState {
      * Resets variables initialised for this game state.
      */
     void reset(long seed) {
+        // any copies are of the previous game
+        gameParameters.setShared(false);
         gameParameters.randomSeed = seed;
         reset();
     }
 
     // Getters
     public CoreParameters getCoreGameParameters() {
+        if (coreGameParameters == null) coreGameParameters = new CoreParameters();
         return coreGameParameters;
     }
     public final CoreConstants.GameResult getGameStatus() {
@@ -164,9 +170,9 @@ public abstract class AbstractGameState {
     /**
      * @return All actions that have been executed on this state since reset()/initialisation
      */
-    public List<Pair<Integer, AbstractAction>> getHistory() { return new ArrayList<>(history);}
+    public List<Pair<Integer, AbstractAction>> getHistory() { return history.toList();}
     public List<String> getHistoryAsText() {
-        return new ArrayList<>(historyText);
+        return historyText.toList();
     }
     public int getGameID() {
         return gameID;
@@ -291,26 +297,30 @@ public abstract class AbstractGameState {
      */
     public final AbstractGameState copy(int playerId) {
         AbstractGameState s = _copy(playerId);
+        if (s.gameParameters == gameParameters)
+            gameParameters.setShared(true);
         // Copy super class things
         s.allComponents = allComponents.emptyCopy();
         s.gameStatus = gameStatus;
         s.playerResults = playerResults.clone();
         s.gamePhase = gamePhase;
-        s.coreGameParameters = coreGameParameters;
+        s.coreGameParameters = getCoreGameParameters();
         s.tick = tick;
         s.nPlayers = nPlayers;
         s.roundCounter = roundCounter;
         s.turnCounter = turnCounter;
         s.turnOwner = turnOwner;
         s.firstPlayer = firstPlayer;
+        s.gameID = gameID;
         // If we are copying from a player's perspective, then we branch the RNG so that the master copy
         // is not called an arbitrary number of times. This is to ensure that all shuffles in the main game are
         // the same if we start with the same seed
         s.rnd = playerId == -1 ? rnd : new Random(System.currentTimeMillis());
 
-        if (!coreGameParameters.competitionMode) {
-            s.history = new ArrayList<>(history);
-            s.historyText = new ArrayList<>(historyText);
+        if (!s.coreGameParameters.competitionMode) {
+            // the history logs are append-only, so the copy can share them with this state (in constant time)
+            s.history = history.copy();
+            s.historyText = historyText.copy();
             // we do not copy individual actions in history, as these are now dead and should not change
             // History is for debugging and spectation of games. There is a risk that History might contain information
             // formally hidden to some participants. For this reason, in COMPETITION_MODE we explicitly do not copy
@@ -329,8 +339,8 @@ public abstract class AbstractGameState {
             s.playerTimer[i] = playerTimer[i].copy();
         }
 
-        // Update the list of components for ID matching in actions.
-        s.addAllComponents();
+        // The list of components for ID matching in actions is not built here; getComponentById() builds it on
+        // the first lookup that misses, so copies that are never queried by ID (most rollout states) skip it.
         return s;
     }
 
@@ -353,15 +363,15 @@ public abstract class AbstractGameState {
         logEvent(event, eventText.get());
     }
     public void logEvent(IGameEvent event, String eventText) {
-        LogEvent logAction = new LogEvent(eventText);
-        listeners.forEach(l -> l.onEvent(Event.createEvent(event, this, logAction)));
+        Event e = Event.createEvent(event, this, new LogEvent(eventText));
+        listeners.forEach(l -> l.onEvent(e));
         if (getCoreGameParameters().recordEventHistory) {
             recordHistory(eventText);
         }
     }
     public void logEvent(IGameEvent event) {
-        LogEvent logAction = new LogEvent(event.name());
-        listeners.forEach(l -> l.onEvent(Event.createEvent(event, this, logAction)));
+        Event e = Event.createEvent(event, this, new LogEvent(event.name()));
+        listeners.forEach(l -> l.onEvent(e));
         if (getCoreGameParameters().recordEventHistory) {
             recordHistory(event.name());
         }
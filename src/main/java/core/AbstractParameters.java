@@ -23,6 +23,8 @@ public abstract class AbstractParameters {
     long incrementActionS = 0, incrementTurnS = 0, incrementRoundS = 0;
     // Increment in seconds, added after a custom milestone (to be added manually in game implementation). Default 0.
     long incrementMilestoneS = 0;
+    // Set while a game is in progress with these parameters, as they are shared by all copies of its state
+    private boolean shared;
 
 
     public AbstractParameters() {
@@ -59,20 +61,45 @@ public abstract class AbstractParameters {
     }
 
     public void setRandomSeed(long randomSeed) {
+        checkNotShared();
         this.randomSeed = randomSeed;
     }
 
     public void setThinkingTimeMins(long thinkingTimeMins) {
+        checkNotShared();
         this.thinkingTimeMins = thinkingTimeMins;
     }
 
     public void setMaxRounds(int max) {
+        checkNotShared();
         maxRounds = max;
     }
     public void setTimeoutRounds(int max) {
+        checkNotShared();
         timeoutRounds = max;
     }
 
+    /**
+     * @return true if a game is in progress with these parameters, and they have been shared with copies of its state
+     */
+    public boolean isShared() {
+        return shared;
+    }
+
+    void setShared(boolean shared) {
+        this.shared = shared;
+    }
+
+    /**
+     * To be called before any change to the parameters.
+     *
+     * @throws IllegalStateException if the parameters are shared by the copies of the state of a game in progress
+     */
+    protected final void checkNotShared() {
+        if (shared)
+            throw new IllegalStateException("Parameters cannot be changed while they are shared by a game in progress. Change a copy() of them instead");
+    }
+
     /**
      * Retrieve total thinking time for the game, in minutes
      *
@@ -153,6 +180,7 @@ public abstract class AbstractParameters {
      * Randomizes the set of parameters, if this is a class that implements the TunableParameters interface.
      */
     public void randomize() {
+        checkNotShared();
         if (this instanceof ITunableParameters params) {
             Random rnd = new Random(randomSeed);
             params.getParameterNames().forEach(name -> {
@@ -172,6 +200,7 @@ public abstract class AbstractParameters {
      * interface.
      */
     public void reset() {
+        checkNotShared();
         if (this instanceof ITunableParameters) {
             Map<String, Object> defaultValues = ((ITunableParameters) this).getDefaultParameterValues();
             ((ITunableParameters) this).setParameterValues(defaultValues);
@@ -170,6 +170,20 @@ public abstract class AbstractPlayer {
 
     public abstract AbstractPlayer copy();
 
+    /**
+     * copy() gives the copy new parameters, with a new random seed, as needed when the copy plays against this player.
+     * This is for a copy that stands in for this player instead (for example in a game run on another thread), so it
+     * keeps the same name and random seed.
+     *
+     * @return a copy of this player with the same name and random seed
+     */
+    public AbstractPlayer copyWithSameSeed() {
+        AbstractPlayer copy = copy();
+        copy.setName(toString());
+        copy.parameters.setRandomSeed(parameters.getRandomSeed());
+        return copy;
+    }
+
     // override this to provide information on the last decision taken
     public Map<AbstractAction, Map<String, Object>> getDecisionStats() {
         return Collections.emptyMap();
@@ -416,7 +416,8 @@ public class Game {
      */
     public final void run() {
 
-        listeners.forEach(l -> l.onEvent(Event.createEvent(Event.GameEvent.ABOUT_TO_START, gameState)));
+        Event aboutToStart = Event.createEvent(Event.GameEvent.ABOUT_TO_START, gameState);
+        listeners.forEach(l -> l.onEvent(aboutToStart));
 
         boolean firstEnd = true;
 
@@ -476,7 +477,7 @@ public class Game {
 
                 } else {
                     if (firstEnd) {
-                        if (gameState.coreGameParameters.verbose) {
+                        if (gameState.getCoreGameParameters().verbose) {
                             System.out.println("Ended");
                         }
                         terminate();
@@ -488,7 +489,7 @@ public class Game {
             }
         }
         if (firstEnd) {
-            if (gameState.coreGameParameters.verbose) {
+            if (gameState.getCoreGameParameters().verbose) {
                 System.out.println("Ended");
             }
             terminate();
@@ -549,11 +550,11 @@ public class Game {
         actionComputeTime = (System.nanoTime() - s);
         actionSpaceSize.add(new Pair<>(activePlayer, observedActions.size()));
 
-        if (gameState.coreGameParameters.verbose) {
+        if (gameState.getCoreGameParameters().verbose) {
             System.out.println("Round: " + gameState.getRoundCounter());
         }
 
-        if (observation instanceof IPrintable && gameState.coreGameParameters.verbose) {
+        if (observation instanceof IPrintable && gameState.getCoreGameParameters().verbose) {
             ((IPrintable) observation).printToConsole();
         }
 
@@ -579,13 +580,16 @@ public class Game {
                 agentTime += (System.nanoTime() - s);
                 nDecisions++;
             }
-            if (gameState.coreGameParameters.competitionMode && action != null && !observedActions.contains(action)) {
+            if (gameState.getCoreGameParameters().competitionMode && action != null && !observedActions.contains(action)) {
                 System.out.printf("Action played that was not in the list of available actions: %s%n", action.getString(gameState));
                 action = null;
             }
             // We publish an ACTION_CHOSEN message before we implement the action, so that observers can record the state that led to the decision
-            AbstractAction finalAction = action;
-            listeners.forEach(l -> l.onEvent(Event.createEvent(Event.GameEvent.ACTION_CHOSEN, gameState, finalAction, activePlayer)));
+            // (one event, shared by all the listeners, so that those that copy the state can share the copy)
+            Event actionChosen = Event.createEvent(Event.GameEvent.ACTION_CHOSEN, gameState, action, activePlayer);
+            for (IGameListener l : listeners)
+                if (l.listens(Event.GameEvent.ACTION_CHOSEN))
+                    l.onEvent(actionChosen);
 
         } else {
             currentPlayer.registerUpdatedObservation(observation);
@@ -595,7 +599,7 @@ public class Game {
         gameState.playerTimer[activePlayer].pause();
         gameState.playerTimer[activePlayer].incrementAction();
 
-        if (gameState.coreGameParameters.verbose && !(action == null)) {
+        if (gameState.getCoreGameParameters().verbose && !(action == null)) {
             System.out.println(action);
         }
         if (action == null)
@@ -603,7 +607,7 @@ public class Game {
 
         // Check player timeout
         if (observation.playerTimer[activePlayer].exceededMaxTime()) {
-            action = forwardModel.disqualifyOrRandomAction(gameState.coreGameParameters.disqualifyPlayerOnTimeout, gameState);
+            action = forwardModel.disqualifyOrRandomAction(gameState.getCoreGameParameters().disqualifyPlayerOnTimeout, gameState);
         } else {
             // Resolve action and game rules, time it
             s = System.nanoTime();
@@ -616,8 +620,13 @@ public class Game {
 
         // We publish an ACTION_TAKEN message once the action is taken so that observers can record the result of the action
         // (such as the next player)
-        AbstractAction finalAction1 = action;
-        listeners.forEach(l -> l.onEvent(Event.createEvent(Event.GameEvent.ACTION_TAKEN, gameState, finalAction1.copy(), activePlayer)));
+        Event actionTaken = null;
+        for (IGameListener l : listeners)
+            if (l.listens(Event.GameEvent.ACTION_TAKEN)) {
+                if (actionTaken == null)
+                    actionTaken = Event.createEvent(Event.GameEvent.ACTION_TAKEN, gameState, action.copy(), activePlayer);
+                l.onEvent(actionTaken);
+            }
 
         if (debug) System.out.printf("Finishing oneAction for player %s%n", activePlayer);
         return action;
@@ -628,20 +637,21 @@ public class Game {
      */
     private void terminate() {
         // Print last state
-        if (gameState instanceof IPrintable && gameState.coreGameParameters.verbose) {
+        if (gameState instanceof IPrintable && gameState.getCoreGameParameters().verbose) {
             ((IPrintable) gameState).printToConsole();
         }
 
         // Perform any end of game computations as required by the game
         forwardModel.endGame(gameState);
-        listeners.forEach(l -> l.onEvent(Event.createEvent(Event.GameEvent.GAME_OVER, gameState)));
-        if (gameState.coreGameParameters.recordEventHistory) {
+        Event gameOver = Event.createEvent(Event.GameEvent.GAME_OVER, gameState);
+        listeners.forEach(l -> l.onEvent(gameOver));
+        if (gameState.getCoreGameParameters().recordEventHistory) {
             gameState.recordHistory(Event.GameEvent.GAME_OVER.name());
             for (int i = 0; i < gameState.getNPlayers(); i++) {
                 gameState.recordHistory(String.format("Player %d finishes at position %d with score: %.0f", i, gameState.getOrdinalPosition(i), gameState.getGameScore(i)));
             }
         }
-        if (gameState.coreGameParameters.verbose) {
+        if (gameState.getCoreGameParameters().verbose) {
             System.out.println("Game Over");
         }
 
@@ -649,6 +659,8 @@ public class Game {
         for (AbstractPlayer player : players) {
             player.finalizePlayer(gameState.copy(player.getPlayerID()));
         }
+        // the copies of the state made during the game are no longer in use, so the parameters can be changed
+        gameState.getGameParameters().setShared(false);
     }
 
     /**
@@ -799,7 +811,7 @@ public class Game {
     }
 
     public CoreParameters getCoreParameters() {
-        return gameState.coreGameParameters;
+        return gameState.getCoreGameParameters();
     }
 
     public void setCoreParameters(CoreParameters coreParameters) {
@@ -0,0 +1,56 @@
+package core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An append-only log that can be copied in constant time.
+ * <p>
+ * Entries are held in an immutable linked chain from the most recent backwards, so a copy simply shares the chain
+ * of its parent, and each later append by either extends its own branch without affecting the other. This is used
+ * for the game state history, which would otherwise be copied in full (and grows with the game) on every state copy.
+ */
+final class HistoryLog<T> {
+
+    private static final class Entry<T> {
+        final T value;
+        final Entry<T> previous;
+        final int size;
+
+        Entry(T value, Entry<T> previous) {
+            this.value = value;
+            this.previous = previous;
+            this.size = previous == null ? 1 : previous.size + 1;
+        }
+    }
+
+    private Entry<T> last;
+
+    void add(T value) {
+        last = new Entry<>(value, last);
+    }
+
+    int size() {
+        return last == null ? 0 : last.size;
+    }
+
+    HistoryLog<T> copy() {
+        HistoryLog<T> retValue = new HistoryLog<>();
+        retValue.last = last;
+        return retValue;
+    }
+
+    /**
+     * @return a new list of all entries, oldest first
+     */
+    List<T> toList() {
+        int size = size();
+        List<T> retValue = new ArrayList<>(size);
+        for (int i = 0; i < size; i++)
+            retValue.add(null);
+        int i = size - 1;
+        for (Entry<T> e = last; e != null; e = e.previous)
+            retValue.set(i--, e.value);
+        return retValue;
+    }
+}
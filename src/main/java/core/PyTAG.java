@@ -297,7 +297,7 @@ public class PyTAG {
             gameState.playerTimer[activePlayer].pause();
             gameState.playerTimer[activePlayer].incrementAction();
 
-            if (gameState.coreGameParameters.verbose && !(action == null)) {
+            if (gameState.getCoreGameParameters().verbose && !(action == null)) {
                 System.out.println(action);
             }
             if (action == null)
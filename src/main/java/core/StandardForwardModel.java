@@ -71,7 +71,10 @@ public abstract class StandardForwardModel extends AbstractForwardModel {
 
         int currentPlayer = gs.getCurrentPlayer();
         gs.getPlayerTimer()[currentPlayer].incrementTurn();
-        gs.listeners.forEach(l -> l.onEvent(Event.createEvent(TURN_OVER, gs, currentPlayer)));
+        if (!gs.listeners.isEmpty()) {
+            Event turnOver = Event.createEvent(TURN_OVER, gs, currentPlayer);
+            gs.listeners.forEach(l -> l.onEvent(turnOver));
+        }
         if (gs.getCoreGameParameters().recordEventHistory) {
             gs.recordHistory(TURN_OVER.name());
         }
@@ -121,7 +124,10 @@ public abstract class StandardForwardModel extends AbstractForwardModel {
 
         int currentPlayer = gs.getCurrentPlayer();
         gs.getPlayerTimer()[currentPlayer].incrementRound();
-        gs.listeners.forEach(l -> l.onEvent(Event.createEvent(ROUND_OVER, gs, currentPlayer)));
+        if (!gs.listeners.isEmpty()) {
+            Event roundOver = Event.createEvent(ROUND_OVER, gs, currentPlayer);
+            gs.listeners.forEach(l -> l.onEvent(roundOver));
+        }
         if (gs.getCoreGameParameters().recordEventHistory) {
             gs.recordHistory(ROUND_OVER.name());
         }
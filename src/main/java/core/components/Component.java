@@ -12,7 +12,12 @@ public abstract class Component {
 
     protected transient final int componentID;  // Unique ID of this component
     protected final ComponentType type;  // Type of this component
-    protected HashMap<Integer, Property> properties;  // Maps between integer key for the property and the property object
+    private static final Property[] NO_PROPERTIES = new Property[0];
+
+    protected Property[] properties = NO_PROPERTIES;  // Property objects, by the index of their key (see PropertyKeys)
+    // Properties that do not change during the game (the definition of the component, such as a name or colour), shared
+    // by all copies of the component instead of being copied. Never modified, only replaced.
+    private Property[] staticProperties = NO_PROPERTIES;
     protected transient int ownerId = -1;  // By default belongs to the game
     protected String componentName;  // Name of this component
 
@@ -20,28 +25,24 @@ public abstract class Component {
         this.componentID = ID++;
         this.type = type;
         this.componentName = name;
-        this.properties = new HashMap<>();
     }
 
     public Component(ComponentType type) {
         this.componentID = ID++;
         this.type = type;
         this.componentName = type.toString();
-        this.properties = new HashMap<>();
     }
 
     protected Component(ComponentType type, String name, int componentID) {
         this.componentID = componentID;
         this.type = type;
         this.componentName = name;
-        this.properties = new HashMap<>();
     }
 
     protected Component(ComponentType type, int componentID) {
         this.componentID = componentID;
         this.type = type;
         this.componentName = type.toString();
-        this.properties = new HashMap<>();
     }
 
     /**
@@ -64,7 +65,11 @@ public abstract class Component {
      */
     public int getNumProperties()
     {
-        return properties.size();
+        int n = 0;
+        for (int i = 0; i < Math.max(properties.length, staticProperties.length); i++) {
+            if (getProperty(i, properties) != null || getProperty(i, staticProperties) != null) n++;
+        }
+        return n;
     }
 
     /**
@@ -102,11 +107,18 @@ public abstract class Component {
     }
 
     /**
-     * Get the full map of properties.
+     * Get the full map of properties, static and not. Changes to the map returned do not change the component.
      * @return - mapping from property integer key to property objects.
      */
     public HashMap<Integer, Property> getProperties() {
-        return properties;
+        HashMap<Integer, Property> all = new HashMap<>();
+        for (Property prop : staticProperties) {
+            if (prop != null) all.put(prop.getHashKey(), prop);
+        }
+        for (Property prop : properties) {
+            if (prop != null) all.put(prop.getHashKey(), prop);
+        }
+        return all;
     }
 
     /**
@@ -116,16 +128,42 @@ public abstract class Component {
      */
     public Property getProperty(int propId)
     {
-        return properties.get(propId);
+        int index = PropertyKeys.find(propId);
+        if (index == -1) return null;
+        Property prop = getProperty(index, properties);
+        return prop != null ? prop : getProperty(index, staticProperties);
+    }
+
+    private static Property getProperty(int index, Property[] props) {
+        return index < props.length ? props[index] : null;
+    }
+
+    private static Property[] withProperty(Property[] props, Property prop) {
+        int index = prop.getIndex();
+        if (index >= props.length) props = Arrays.copyOf(props, index + 1);
+        props[index] = prop;
+        return props;
     }
 
     /**
-     * Adds a property with an id and a Property object
+     * Adds a property with an id and a Property object. This hides any static property with the same id.
      * @param prop property to add
      */
     public void setProperty(Property prop)
     {
-        properties.put(prop.getHashKey(), prop);
+        properties = withProperty(properties, prop);
+    }
+
+    /**
+     * Adds a property that will not change during the game. The property object is then shared by all copies of
+     * the component, and must not be modified (set a new property with setProperty() instead).
+     * @param prop property to add
+     */
+    public void setStaticProperty(Property prop)
+    {
+        // copies made so far keep the array they were given
+        staticProperties = withProperty(staticProperties.clone(), prop);
+        if (prop.getIndex() < properties.length) properties[prop.getIndex()] = null;
     }
 
     public void setProperties(HashMap<Integer, Property> props) {
@@ -155,6 +193,7 @@ public abstract class Component {
                 String type = (String) value.get(0);
 
                 Property prop = null;
+                boolean mutable = true;  // arrays and lists may be modified in place, the rest are only ever replaced
                 if (type.contains("[]"))  // Array
                 {
                     JSONArray values = (JSONArray) value.get(1);
@@ -176,6 +215,7 @@ public abstract class Component {
                         prop = new PropertyLongArrayList(key, values);
                     }
                 } else {
+                    mutable = false;
                     if (type.contains("String")) {
                         prop = new PropertyString(key, (String) value.get(1));
                     } else if (type.contains("Color")) {
@@ -191,7 +231,8 @@ public abstract class Component {
                     }
                 }
                 if (prop != null) {
-                    c.setProperty(prop);
+                    if (mutable) c.setProperty(prop);
+                    else c.setStaticProperty(prop);
                 }
             }
         }
@@ -200,16 +241,20 @@ public abstract class Component {
     }
 
     /**
-     * Copies super class variables in given subclass instance.
+     * Copies super class variables in given subclass instance. Static properties are shared, not copied.
      * @param copyTo - subclass component instance
      */
     public void copyComponentTo(Component copyTo)
     {
-        copyTo.properties.clear();
-        for (int prop_key : this.properties.keySet()) {
-            Property newProp = this.properties.get(prop_key).copy();
-            copyTo.setProperty(newProp);
+        if (properties.length == 0) {
+            copyTo.properties = NO_PROPERTIES;
+        } else {
+            copyTo.properties = new Property[properties.length];
+            for (int i = 0; i < properties.length; i++) {
+                if (properties[i] != null) copyTo.properties[i] = properties[i].copy();
+            }
         }
+        copyTo.staticProperties = staticProperties;
         copyTo.ownerId = ownerId;
         copyTo.componentName = componentName;
     }
@@ -221,7 +266,7 @@ public abstract class Component {
                 ", type=" + type +
                 ", ownerId=" + ownerId +
                 ", componentName='" + componentName + '\'' +
-                ", properties=" + properties +
+                ", properties=" + getProperties() +
                 '}';
     }
 
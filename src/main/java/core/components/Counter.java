@@ -14,7 +14,7 @@ import java.util.List;
 import java.util.Objects;
 
 public class Counter extends Component {
-    protected int[] values;
+    protected int[] values;  // Allowed values, if any; never modified after construction, so shared between copies
 
     protected int valueIdx;  // Current value of this counter
     protected int minimum;  // Minimum value (inclusive)
@@ -51,7 +51,7 @@ public class Counter extends Component {
     }
 
     public Counter copy() {
-        Counter copy = new Counter(values != null? values.clone() : null, valueIdx, minimum, maximum, componentName, componentID);
+        Counter copy = new Counter(values, valueIdx, minimum, maximum, componentName, componentID);
         copyComponentTo(copy);
         return copy;
     }
@@ -10,6 +10,7 @@ import org.json.simple.parser.ParseException;
 import java.io.FileReader;
 import java.io.IOException;
 import java.util.*;
+import java.util.stream.Stream;
 
 import static core.CoreConstants.VisibilityMode;
 
@@ -25,6 +26,10 @@ public class Deck<T extends Component> extends Component implements IComponentCo
 
     protected int capacity;  // Capacity of the deck (maximum number of elements)
     protected List<T> components;  // List of components in this deck
+    // True if the components list may also be referenced by another Deck. This happens when a deck is copied and
+    // all of its components are immutable (their copy() returns themselves), in which case the list is shared
+    // rather than duplicated, and whichever deck first changes it takes its own copy (see ownComponents()).
+    protected boolean sharedComponents;
     protected VisibilityMode visibility;
 
     public Deck(String name, VisibilityMode visibility) {
@@ -119,7 +124,7 @@ public class Deck<T extends Component> extends Component implements IComponentCo
     public T pick(int idx) {
         if (components.size() > 0 && idx < components.size() && idx >= 0) {
             T c = components.get(idx);
-            components.remove(idx);
+            ownComponents().remove(idx);
             return c;
         }
         return null;
@@ -197,7 +202,7 @@ public class Deck<T extends Component> extends Component implements IComponentCo
         if (c == null)
             throw new IllegalArgumentException("null cannot be added to a Deck");
         c.setOwnerId(ownerId);
-        components.add(index, c);
+        ownComponents().add(index, c);
         return capacity == -1 || components.size() <= capacity;
     }
 
@@ -230,7 +235,7 @@ public class Deck<T extends Component> extends Component implements IComponentCo
      * @return true if not over capacity, false otherwise.
      */
     public boolean add(Deck<T> d, int index) {
-        components.addAll(index, d.components);
+        ownComponents().addAll(index, d.components);
         for (T comp : d.components) {
             comp.setOwnerId(ownerId);
         }
@@ -242,7 +247,7 @@ public class Deck<T extends Component> extends Component implements IComponentCo
     }
 
     public boolean add(Collection<T> d, int index) {
-        components.addAll(index, d);
+        ownComponents().addAll(index, d);
         for (T comp : d) {
             comp.setOwnerId(ownerId);
         }
@@ -273,7 +278,7 @@ public class Deck<T extends Component> extends Component implements IComponentCo
     public boolean remove(int idx) {
         if (idx >= 0 && idx < components.size()) {
             components.get(idx).setOwnerId(-1);
-            components.remove(idx);
+            ownComponents().remove(idx);
             return true;
         }
         return false;
@@ -298,7 +303,12 @@ public class Deck<T extends Component> extends Component implements IComponentCo
         for (T comp : components) {
             comp.setOwnerId(-1);
         }
-        components.clear();
+        if (sharedComponents) {
+            components = new ArrayList<>();
+            sharedComponents = false;
+        } else {
+            components.clear();
+        }
     }
 
     // Getters, Setters
@@ -307,7 +317,7 @@ public class Deck<T extends Component> extends Component implements IComponentCo
      * Shuffles the deck with a specific random object.
      */
     public void shuffle(Random rnd) {
-        Collections.shuffle(components, rnd);
+        Collections.shuffle(ownComponents(), rnd);
     }
 
     /**
@@ -318,7 +328,7 @@ public class Deck<T extends Component> extends Component implements IComponentCo
      * @param rnd       - random number generator used for shuffling
      */
     public void shuffle(int fromIndex, int toIndex, Random rnd) {
-        List<T> subList = components.subList(fromIndex, toIndex);
+        List<T> subList = ownComponents().subList(fromIndex, toIndex);
         Collections.shuffle(subList, rnd);
         int i = 0;
         for (T component : subList) {
@@ -332,9 +342,32 @@ public class Deck<T extends Component> extends Component implements IComponentCo
      */
     @Override
     public List<T> getComponents() {
+        // the caller may modify the list, so we can no longer share it
+        return ownComponents();
+    }
+
+    /**
+     * @return the list of components, first replacing it with a private copy if it is currently shared with
+     * another Deck. This must be used in place of the field for anything that modifies the list.
+     */
+    protected final List<T> ownComponents() {
+        if (sharedComponents) {
+            components = new ArrayList<>(components);
+            sharedComponents = false;
+        }
         return components;
     }
 
+    @Override
+    public int getSize() {
+        return components.size();
+    }
+
+    @Override
+    public Stream<T> stream() {
+        return components.stream();
+    }
+
     /**
      * Set the components in this deck.
      *
@@ -342,6 +375,7 @@ public class Deck<T extends Component> extends Component implements IComponentCo
      */
     public void setComponents(ArrayList<T> components) {
         this.components = components;
+        this.sharedComponents = false;
         for (T comp : components) {
             comp.setOwnerId(ownerId);
         }
@@ -378,7 +412,7 @@ public class Deck<T extends Component> extends Component implements IComponentCo
      */
     public void setComponent(int idx, T component) {
         component.setOwnerId(ownerId);
-        components.set(idx, component);
+        ownComponents().set(idx, component);
     }
 
     /**
@@ -412,11 +446,18 @@ public class Deck<T extends Component> extends Component implements IComponentCo
     }
 
     protected void copyTo(Deck<T> deck) {
-        List<T> newComponents = new ArrayList<>();
-        for (T c : components) {
-            newComponents.add((T) c.copy());
+        List<T> newComponents = null;
+        for (int i = 0; i < components.size(); i++) {
+            T c = components.get(i);
+            T copy = (T) c.copy();
+            if (newComponents == null && copy != c) {
+                // the first component that is really copied; from here on we need a new list
+                newComponents = new ArrayList<>(components.subList(0, i));
+            }
+            if (newComponents != null)
+                newComponents.add(copy);
         }
-        deck.components = newComponents;
+        shareOrSet(deck, newComponents);
         deck.capacity = capacity;
 
         //copy type and component.
@@ -425,17 +466,37 @@ public class Deck<T extends Component> extends Component implements IComponentCo
 
 
     protected void copyTo(Deck<T> deck, int playerId) {
-        List<T> newComponents = new ArrayList<>();
-        for (T c : components) {
-            newComponents.add((T) c.copy(playerId));
+        List<T> newComponents = null;
+        for (int i = 0; i < components.size(); i++) {
+            T c = components.get(i);
+            T copy = (T) c.copy(playerId);
+            if (newComponents == null && copy != c) {
+                newComponents = new ArrayList<>(components.subList(0, i));
+            }
+            if (newComponents != null)
+                newComponents.add(copy);
         }
-        deck.components = newComponents;
+        shareOrSet(deck, newComponents);
         deck.capacity = capacity;
 
         //copy type and component.
         copyComponentTo(deck);
     }
 
+    /**
+     * Gives the copy its own list of components if one was needed, and otherwise shares this deck's list with it.
+     */
+    private void shareOrSet(Deck<T> deck, List<T> newComponents) {
+        if (newComponents == null) {
+            // only written once, so that a deck shared between threads (e.g. loaded game data) can be copied by any
+            if (!sharedComponents) sharedComponents = true;
+            deck.components = components;
+            deck.sharedComponents = true;
+        } else {
+            deck.components = newComponents;
+        }
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
@@ -13,7 +13,6 @@ import java.io.FileReader;
 import java.io.IOException;
 import java.util.*;
 
-import static core.CoreConstants.imgHash;
 import static core.CoreConstants.nameHash;
 
 public class GraphBoard extends Component implements IComponentContainer<BoardNode> {
@@ -238,9 +237,9 @@ public class GraphBoard extends Component implements IComponentContainer<BoardNo
         String neighboursKey = (String) board.get("neighboursKey");
         int maxNeighbours = (int) (long) board.get("maxNeighbours");
 
-        properties.put(Hash.GetInstance().hash("boardType"), new PropertyString("boardType", boardType));
+        setStaticProperty(new PropertyString("boardType", boardType));
         if (board.get("img") != null) {
-            properties.put(imgHash, new PropertyString("img", (String) board.get("img")));
+            setStaticProperty(new PropertyString("img", (String) board.get("img")));
         }
 
         JSONArray nodeList = (JSONArray) board.get("nodes");
@@ -25,6 +25,10 @@ public class GridBoard<T extends Component> extends Component implements ICompon
     private int height;  // Height of the board
 
     private Component[][] grid;  // 2D grid representation of this board
+    // Rows that may also be referenced by another GridBoard (see copy()). A shared row is cloned before it is
+    // written to, so copies cost O(height) and only the rows actually changed are ever duplicated.
+    // null if no rows are shared.
+    private boolean[] sharedRows;
 
     protected GridBoard() {
         super(CoreConstants.ComponentType.BOARD);
@@ -69,6 +73,18 @@ public class GridBoard<T extends Component> extends Component implements ICompon
         this.width = orig.getWidth();
         this.height = orig.getHeight();
         this.grid = orig.grid.clone();
+        orig.shareRowsWith(this);
+    }
+
+    /**
+     * Marks all rows of this grid as shared with the other board, which must hold a clone of the outer grid array.
+     */
+    private void shareRowsWith(GridBoard<T> other) {
+        if (sharedRows == null)
+            sharedRows = new boolean[height];
+        Arrays.fill(sharedRows, true);
+        other.sharedRows = new boolean[height];
+        Arrays.fill(other.sharedRows, true);
     }
 
     /**
@@ -122,6 +138,7 @@ public class GridBoard<T extends Component> extends Component implements ICompon
             if (w >= 0) System.arraycopy(this.grid[i], 0, grid[i + offsetY], offsetX, w);
         }
         this.grid = grid;
+        this.sharedRows = null;
     }
 
     /**
@@ -134,6 +151,10 @@ public class GridBoard<T extends Component> extends Component implements ICompon
      */
     public boolean setElement(int x, int y, T value) {
         if (x >= 0 && x < width && y >= 0 && y < height) {
+            if (sharedRows != null && sharedRows[y]) {
+                grid[y] = grid[y].clone();
+                sharedRows[y] = false;
+            }
             grid[y][x] = value;
             return true;
         } else
@@ -167,6 +188,14 @@ public class GridBoard<T extends Component> extends Component implements ICompon
      * @return - 2D grid.
      */
     public Component[][] getGridValues() {
+        // the caller may write to the arrays directly, so no row can remain shared
+        if (sharedRows != null) {
+            for (int y = 0; y < height; y++) {
+                if (sharedRows[y])
+                    grid[y] = grid[y].clone();
+            }
+            sharedRows = null;
+        }
         return grid;
     }
 
@@ -189,12 +218,18 @@ public class GridBoard<T extends Component> extends Component implements ICompon
      * @return - new grid with the same elements and correct orientation.
      */
     public Component[][] rotate(int orientation) {
-        GridBoard<T> copy = copy();
         orientation %= 4;  // Maximum 4 sides to a grid
+        Component[][] rotated = grid;
         for (int i = 0; i < orientation; i++) {
-            copy.grid = rotateClockWise(copy.grid);
+            rotated = rotateClockWise(rotated);
+        }
+        if (rotated == grid) {
+            // not rotated, but the rows may be shared with copies of this grid, so the caller gets its own
+            rotated = new Component[grid.length][];
+            for (int i = 0; i < grid.length; i++)
+                rotated[i] = grid[i].clone();
         }
-        return copy.grid;
+        return rotated;
     }
 
     /**
@@ -231,11 +266,9 @@ public class GridBoard<T extends Component> extends Component implements ICompon
 
     @Override
     public GridBoard<T> copy() {
-        Component[][] gridCopy = new Component[getHeight()][getWidth()];
-        for (int i = 0; i < height; i++) {
-            if (width >= 0) System.arraycopy(grid[i], 0, gridCopy[i], 0, width);
-        }
-        GridBoard<T> g = new GridBoard<>(gridCopy, componentID);
+        // elements are not copied (as before), and the rows themselves are copied on write
+        GridBoard<T> g = new GridBoard<>(grid.clone(), componentID);
+        shareRowsWith(g);
         copyComponentTo(g);
         return g;
     }
@@ -298,10 +331,11 @@ public class GridBoard<T extends Component> extends Component implements ICompon
         this.height = (int) (long) size.get(1);
 
         if (board.get("img") != null) {
-            properties.put(imgHash, new PropertyString((String) board.get("img")));
+            setStaticProperty(new PropertyString("img", imgHash, (String) board.get("img")));
         }
 
         this.grid = new Component[height][width];
+        this.sharedRows = null;
 
         JSONArray grids = (JSONArray) board.get("grid");
         int y = 0;
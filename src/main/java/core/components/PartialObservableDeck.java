@@ -17,6 +17,9 @@ public class PartialObservableDeck<T extends Component> extends Deck<T> {
 
     // Visibility of each component in the deck, order corresponds to order of elements in the deck;
     protected List<boolean[]> elementVisibility = new ArrayList<>();
+    // True if elementVisibility, or any of the arrays in it, may also be referenced by another deck (as after copy()).
+    // Anything that changes visibility must go through ownVisibility() first.
+    protected boolean sharedVisibility;
 
     public boolean getVisibilityForPlayer(int elementIdx, int playerID) {
         return elementVisibility.get(elementIdx)[playerID];
@@ -47,7 +50,7 @@ public class PartialObservableDeck<T extends Component> extends Deck<T> {
         this(id, ownerID, new boolean[nPlayers]);
     }
 
-    private PartialObservableDeck(String name, int ownerID, boolean[] defaultVisibility, int ID) {
+    protected PartialObservableDeck(String name, int ownerID, boolean[] defaultVisibility, int ID) {
         super(name, ownerID, ID, VisibilityMode.MIXED_VISIBILITY);
         this.deckVisibility = defaultVisibility;
     }
@@ -99,6 +102,7 @@ public class PartialObservableDeck<T extends Component> extends Deck<T> {
     public void setComponents(ArrayList<T> components, ArrayList<boolean[]> visibilityPerPlayer) {
         super.setComponents(components);
         this.elementVisibility = visibilityPerPlayer;
+        this.sharedVisibility = false;
     }
 
     /**
@@ -112,6 +116,7 @@ public class PartialObservableDeck<T extends Component> extends Deck<T> {
                 throw new IllegalArgumentException("All entries of visibility need to have length " + deckVisibility.length +
                         " but at least one entry is of length " + b.length);
         this.elementVisibility = visibility;
+        this.sharedVisibility = false;
     }
 
     /**
@@ -124,7 +129,7 @@ public class PartialObservableDeck<T extends Component> extends Deck<T> {
     public void setVisibilityOfComponent(int index, int playerID, boolean visibility) {
         if (index >= 0 && index < elementVisibility.size()) {
             if (playerID >= 0 && playerID < deckVisibility.length)
-                this.elementVisibility.get(index)[playerID] = visibility;
+                ownVisibility().get(index)[playerID] = visibility;
             else
                 throw new IllegalArgumentException("playerID " + playerID + "needs to be in range [0," + (deckVisibility.length-1) + "]");
         } else {
@@ -140,7 +145,7 @@ public class PartialObservableDeck<T extends Component> extends Deck<T> {
      */
     public void setVisibilityOfComponent(int index, boolean[] visibility) {
         if (index >= 0 && index < elementVisibility.size()) {
-            this.elementVisibility.set(index, visibility.clone());
+            ownVisibility().set(index, visibility.clone());
         } else {
             throw new IllegalArgumentException("component index " + index + " needs to be in range [0," + components.size() + "]");
         }
@@ -168,7 +173,7 @@ public class PartialObservableDeck<T extends Component> extends Deck<T> {
      * @return true if not over capacity, false otherwise.
      */
     public boolean add(T c, int index, boolean[] visibilityPerPlayer) {
-        this.elementVisibility.add(index, visibilityPerPlayer.clone());
+        ownVisibility().add(index, visibilityPerPlayer.clone());
         return super.add(c, index);
     }
 
@@ -181,7 +186,7 @@ public class PartialObservableDeck<T extends Component> extends Deck<T> {
      */
     public boolean add(Deck<T> d, int index) {
         for (int i = 0; i < d.components.size(); i++) {
-            this.elementVisibility.add(index, deckVisibility.clone());
+            ownVisibility().add(index, deckVisibility.clone());
         }
         return super.add(d, index);
     }
@@ -195,7 +200,8 @@ public class PartialObservableDeck<T extends Component> extends Deck<T> {
     public boolean add(PartialObservableDeck<T> d) {
         if (d == null)
             throw new IllegalArgumentException("d cannot be null");
-        elementVisibility.addAll(d.elementVisibility);
+        for (boolean[] visibility : d.elementVisibility)
+            ownVisibility().add(visibility.clone());
         for (int i = 0; i < deckVisibility.length; i++) {
             deckVisibility[i] &= d.deckVisibility[i];
         }
@@ -207,7 +213,7 @@ public class PartialObservableDeck<T extends Component> extends Deck<T> {
         if (d == null)
             throw new IllegalArgumentException("d cannot be null");
         for (int i = 0; i < d.getSize(); i++) {
-            elementVisibility.add(deckVisibility.clone());
+            ownVisibility().add(deckVisibility.clone());
         }
         return super.add(d);
     }
@@ -216,7 +222,8 @@ public class PartialObservableDeck<T extends Component> extends Deck<T> {
     public void setComponents(ArrayList<T> components) {
         super.setComponents(components);
 
-        elementVisibility.clear();
+        elementVisibility = new ArrayList<>(components.size());
+        sharedVisibility = false;
         for (int i = 0; i < components.size(); i++) {
             elementVisibility.add(deckVisibility.clone());
         }
@@ -226,7 +233,7 @@ public class PartialObservableDeck<T extends Component> extends Deck<T> {
     public T pick(int idx) {
         T el = super.pick(idx);
         if (el != null) {
-            elementVisibility.remove(idx);
+            ownVisibility().remove(idx);
             return el;
         }
         return null;
@@ -252,7 +259,7 @@ public class PartialObservableDeck<T extends Component> extends Deck<T> {
     @Override
     public boolean remove(int idx) {
         if (super.remove(idx)) {
-            elementVisibility.remove(idx);
+            ownVisibility().remove(idx);
             return true;
         }
         return false;
@@ -261,13 +268,16 @@ public class PartialObservableDeck<T extends Component> extends Deck<T> {
     @Override
     public void clear() {
         super.clear();
-        elementVisibility.clear();
+        elementVisibility = new ArrayList<>();
+        sharedVisibility = false;
     }
 
     @Override
     public void shuffle(Random rnd) {
         Pair<List<T>, List<boolean[]>> shuffled = shuffleLists(components, elementVisibility, rnd);
         components = shuffled.a;
+        sharedComponents = false;
+        // the new list still holds the same (possibly shared) visibility arrays, so sharedVisibility is unchanged
         elementVisibility = shuffled.b;
     }
 
@@ -278,7 +288,10 @@ public class PartialObservableDeck<T extends Component> extends Deck<T> {
     public void shuffleAndResetVisibility(Random rnd)
     {
         shuffle(rnd);
-        elementVisibility.replaceAll(ignored -> deckVisibility.clone());
+        elementVisibility = new ArrayList<>(elementVisibility.size());
+        for (int i = 0; i < components.size(); i++)
+            elementVisibility.add(deckVisibility.clone());
+        sharedVisibility = false;
     }
 
 
@@ -332,14 +345,14 @@ public class PartialObservableDeck<T extends Component> extends Deck<T> {
             boolean[] b = elementVisibility.get(i);
             if (b[playerId] == visible) {
                 // Draw element from shuffled lists
-                components.set(i, shuffled.a.get(n));
+                ownComponents().set(i, shuffled.a.get(n));
                 /*
                 if other players can see a card, we know which card position they can see, but
                 not the actual card (otherwise, it would by definition be visible to us). Therefore
                 we do *not* shuffle element visibility, and keep this in the same order
                 */
                 if (visible)
-                    elementVisibility.set(i, shuffled.b.get(n));
+                    ownVisibility().set(i, shuffled.b.get(n));
                 n++;
             }
         }
@@ -353,31 +366,41 @@ public class PartialObservableDeck<T extends Component> extends Deck<T> {
     public PartialObservableDeck<T> copy() {
         PartialObservableDeck<T> dp = new PartialObservableDeck<>(componentName, ownerId, deckVisibility, componentID);
         this.copyTo(dp); // Copy super
-
-        dp.deckVisibility = deckVisibility.clone();
-
-        ArrayList<boolean[]> newVisibility = new ArrayList<>();
-        for (boolean[] visibility : elementVisibility) {
-            newVisibility.add(visibility.clone());
-        }
-        dp.elementVisibility = newVisibility;
-
+        copyVisibilityTo(dp);
         return dp;
     }
 
     public PartialObservableDeck<T> copy(int playerId) {
         PartialObservableDeck<T> dp = new PartialObservableDeck<>(componentName, ownerId, deckVisibility, componentID);
         this.copyTo(dp, playerId); // Copy super
+        copyVisibilityTo(dp);
+        return dp;
+    }
 
-        dp.deckVisibility = deckVisibility.clone();
+    /**
+     * Gives a copy of this deck the same visibility, sharing the visibility of the components until either deck
+     * changes it.
+     */
+    protected void copyVisibilityTo(PartialObservableDeck<T> other) {
+        other.deckVisibility = deckVisibility.clone();
+        sharedVisibility = true;
+        other.elementVisibility = elementVisibility;
+        other.sharedVisibility = true;
+    }
 
-        ArrayList<boolean[]> newVisibility = new ArrayList<>();
-        for (boolean[] visibility : elementVisibility) {
-            newVisibility.add(visibility.clone());
+    /**
+     * @return the element visibility list, first replacing it (and the arrays it holds) with a private copy if it
+     * may currently be shared with another deck.
+     */
+    protected final List<boolean[]> ownVisibility() {
+        if (sharedVisibility) {
+            List<boolean[]> newVisibility = new ArrayList<>(elementVisibility.size() + 1);
+            for (boolean[] visibility : elementVisibility)
+                newVisibility.add(visibility.clone());
+            elementVisibility = newVisibility;
+            sharedVisibility = false;
         }
-        dp.elementVisibility = newVisibility;
-
-        return dp;
+        return elementVisibility;
     }
 
     public String toString(AbstractGameState gs, int playerID) {
@@ -2,7 +2,39 @@ package core.interfaces;
 
 import core.AbstractGameState;
 
+/**
+ * Maps a game state to a 64-bit key, used for example by MCGS to identify transpositions.
+ * Two states that should be treated as the same node must have the same key; distinct states should collide
+ * with negligible probability.
+ * <p>
+ * A game that maintains a Zobrist-style hash incrementally on its state can simply return it here; otherwise
+ * {@link #hash(int, double[])} gives a key over a feature vector without building any intermediate String.
+ */
 public interface IStateKey {
 
-    String getKey(AbstractGameState state);
+    long getKey(AbstractGameState state);
+
+    /**
+     * Hashes a feature vector, together with the player it was computed for, to a 64-bit key.
+     * -0.0 and 0.0 are treated as the same value.
+     */
+    static long hash(int player, double[] values) {
+        long h = mix(player + 0x9E3779B97F4A7C15L);
+        for (double v : values) {
+            h = mix(h ^ Double.doubleToLongBits(v + 0.0));
+        }
+        return h;
+    }
+
+    /**
+     * 64-bit finaliser from MurmurHash3; a cheap bijective mix with good avalanche behaviour.
+     */
+    static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
 }
@@ -8,20 +8,25 @@ public abstract class Property
     protected final String hashString;
     // Hash of property name
     protected final int hashKey;
+    // Dense index of the hash key, see PropertyKeys
+    protected final transient int index;
 
     public Property(String hashString, int hashKey) {
         this.hashString = hashString;
         this.hashKey = hashKey;
+        this.index = PropertyKeys.register(hashKey);
     }
 
     public Property(String hashString) {
         this.hashString = hashString;
         this.hashKey = Hash.GetInstance().hash(hashString);
+        this.index = PropertyKeys.register(hashKey);
     }
 
     // Getters
     public String getHashString() {return hashString;}
     public int getHashKey() {return  hashKey;}
+    public int getIndex() {return index;}
 
     /* Methods to be implemented by subclass */
 
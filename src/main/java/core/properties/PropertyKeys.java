@@ -0,0 +1,91 @@
+package core.properties;
+
+/**
+ * Gives each property key (the hash of a property name, as used in Property.getHashKey()) a small, dense index, in
+ * the order the keys are first seen. Components keep their properties in arrays by this index.
+ * <p>
+ * Keys are registered when a Property is created, which is rare; they are looked up on every property access. The
+ * table is therefore replaced (never changed) when a key is added, so lookups need no locking and allocate nothing,
+ * and can be made from any number of threads.
+ */
+public final class PropertyKeys {
+
+    /**
+     * An open addressing table from key to index + 1 (0 for an empty slot).
+     */
+    private static final class Table {
+        final int[] keys;
+        final int[] indices;
+        final int size;
+
+        Table(int capacity, int size) {
+            keys = new int[capacity];
+            indices = new int[capacity];
+            this.size = size;
+        }
+
+        int find(int key) {
+            int mask = keys.length - 1;
+            for (int slot = mix(key) & mask; ; slot = (slot + 1) & mask) {
+                if (indices[slot] == 0) return -1;
+                if (keys[slot] == key) return indices[slot] - 1;
+            }
+        }
+
+        void put(int key, int index) {
+            int mask = keys.length - 1;
+            int slot = mix(key) & mask;
+            while (indices[slot] != 0) slot = (slot + 1) & mask;
+            keys[slot] = key;
+            indices[slot] = index + 1;
+        }
+    }
+
+    private static volatile Table table = new Table(64, 0);
+
+    private PropertyKeys() {
+    }
+
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * @param hashKey - key of the property
+     * @return the index of the key, or -1 if no property with this key has been created
+     */
+    public static int find(int hashKey) {
+        return table.find(hashKey);
+    }
+
+    /**
+     * @param hashKey - key of the property
+     * @return the index of the key, which is registered if it has not been seen before
+     */
+    public static int register(int hashKey) {
+        int index = table.find(hashKey);
+        if (index != -1) return index;
+        synchronized (PropertyKeys.class) {
+            Table t = table;
+            index = t.find(hashKey);
+            if (index != -1) return index;
+            index = t.size;
+            // kept at most half full
+            Table newTable = new Table((t.size + 1) * 2 > t.keys.length ? t.keys.length * 2 : t.keys.length, t.size + 1);
+            for (int slot = 0; slot < t.keys.length; slot++) {
+                if (t.indices[slot] != 0) newTable.put(t.keys[slot], t.indices[slot] - 1);
+            }
+            newTable.put(hashKey, index);
+            table = newTable;
+            return index;
+        }
+    }
+
+    /**
+     * @return the number of keys registered so far
+     */
+    public static int size() {
+        return table.size;
+    }
+}
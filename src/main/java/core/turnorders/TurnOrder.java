@@ -137,7 +137,10 @@ public abstract class TurnOrder {
 
         gameState.getPlayerTimer()[getCurrentPlayer(gameState)].incrementTurn();
 
-        listeners.forEach(l -> l.onEvent(Event.createEvent(Event.GameEvent.TURN_OVER, gameState,getCurrentPlayer(gameState))));
+        if (!listeners.isEmpty()) {
+            Event turnOver = Event.createEvent(Event.GameEvent.TURN_OVER, gameState, getCurrentPlayer(gameState));
+            listeners.forEach(l -> l.onEvent(turnOver));
+        }
 
         turnCounter++;
         if (turnCounter >= nPlayers) endRound(gameState);
@@ -154,8 +157,8 @@ public abstract class TurnOrder {
         logEvent(eventText.get(), state);
     }
     public void logEvent(String eventText, AbstractGameState state) {
-        LogEvent logAction = new LogEvent(eventText);
-        listeners.forEach(l -> l.onEvent(Event.createEvent(Event.GameEvent.GAME_EVENT, state, logAction)));
+        Event e = Event.createEvent(Event.GameEvent.GAME_EVENT, state, new LogEvent(eventText));
+        listeners.forEach(l -> l.onEvent(e));
         if (state.getCoreGameParameters().recordEventHistory) {
             state.recordHistory(eventText);
         }
@@ -174,7 +177,10 @@ public abstract class TurnOrder {
 
         gameState.getPlayerTimer()[getCurrentPlayer(gameState)].incrementRound();
 
-        listeners.forEach(l -> l.onEvent(Event.createEvent(Event.GameEvent.ROUND_OVER, gameState, getCurrentPlayer(gameState))));
+        if (!listeners.isEmpty()) {
+            Event roundOver = Event.createEvent(Event.GameEvent.ROUND_OVER, gameState, getCurrentPlayer(gameState));
+            listeners.forEach(l -> l.onEvent(roundOver));
+        }
         if (gameState.getCoreGameParameters().recordEventHistory) {
             gameState.recordHistory(Event.GameEvent.ROUND_OVER.name());
         }
@@ -4,7 +4,7 @@ import core.AbstractParameters;
 import core.AbstractPlayer;
 import core.interfaces.*;
 import evaluation.listeners.*;
-import evaluation.loggers.FileStatsLogger;
+import evaluation.loggers.DoubleArrayFileLogger;
 import evaluation.metrics.Event;
 import evaluation.tournaments.RandomRRTournament;
 import evaluation.tournaments.RoundRobinTournament;
@@ -242,7 +242,7 @@ public class ProgressiveLearner {
 
         String fileName = String.format("%s_%d.data", prefix, iter);
         dataFilesByIteration[iter] = fileName;
-        listener.setLogger(new FileStatsLogger(fileName, "\t", false));
+        listener.setLogger(new DoubleArrayFileLogger(fileName, "\t", false));
         tournament.setListeners(Collections.singletonList(listener));
         tournament.run();
 
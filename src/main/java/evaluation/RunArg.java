@@ -22,6 +22,11 @@ public enum RunArg {
             "\t This may be useful if you want to use the same destDir for multiple experiments.",
             false,
             new Usage[]{Usage.RunGames}),
+    asyncListeners("(Optional) If true (default is false), then each listener processes the events of a game on a thread of its own,\n" +
+            "\t so that expensive metrics do not slow down the games (for the listeners that support this, such as\n" +
+            "\t MetricsGameListener and StateFeatureListener). See AsyncGameListener.",
+            false,
+            new Usage[]{Usage.RunGames}),
     byTeam("If true (the default) and the game supports teams, then one player type will be assigned to all players on a team.\n" +
             "\t If false, then each player will be assigned a player type independently.",
             true,
@@ -96,6 +101,12 @@ public enum RunArg {
     nPlayers("The number of players in each game. Overrides playerRange.",
             -1,
             new Usage[]{Usage.ParameterSearch, Usage.RunGames}),
+    nThreads("The number of threads used to run the games of a tournament in parallel. Defaults to 1 (serial).\n" +
+            "\t Each game then runs on its own Game instance with copies of the agents, and results (and listener\n" +
+            "\t data) are merged in the same order as a serial run.\n" +
+            "\t In ParameterSearch, NTBEA trials are run in batches of this size, and the evaluation games in parallel.",
+            1,
+            new Usage[]{Usage.RunGames, Usage.ParameterSearch}),
     neighbourhood("The size of neighbourhood to look at in NTBEA. Default is min(50, |searchSpace|/100) ",
             50,
             new Usage[]{Usage.ParameterSearch}),
@@ -148,6 +159,12 @@ public enum RunArg {
             "\t Defaults to false",
             false,
             new Usage[]{Usage.RunGames}),
+    tournamentThreads("The number of (game, player count) tournaments to run at the same time. Defaults to 1 (one after another).\n" +
+            "\t Each tournament uses its own copies of the agents and listeners, and up to nThreads threads for its games,\n" +
+            "\t so the total thread budget is tournamentThreads * nThreads. A summary of all the tournaments is\n" +
+            "\t printed (and added to the output file, if any) once they have all finished.",
+            1,
+            new Usage[]{Usage.RunGames}),
     tuneGame("If true, then we will tune the game instead of tuning the agent.\n" +
             "\tIn this case the searchSpace file must be relevant for the game.",
             false,
@@ -3,6 +3,7 @@ package evaluation;
 import core.AbstractParameters;
 import core.AbstractPlayer;
 import core.interfaces.IGameRunner;
+import evaluation.listeners.AsyncGameListener;
 import evaluation.listeners.IGameListener;
 import evaluation.tournaments.AbstractTournament;
 import evaluation.tournaments.RandomRRTournament;
@@ -24,9 +25,11 @@ import utilities.Pair;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileReader;
+import java.io.FileWriter;
 import java.io.IOException;
 import java.text.SimpleDateFormat;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.regex.Pattern;
 
 import static evaluation.RunArg.*;
@@ -117,42 +120,151 @@ public class RunGames implements IGameRunner {
     @Override
     public void run() {
         // Now we loop over each game and player count combination
-        for (GameType gameType : gamesAndPlayerCounts.keySet()) {
-            String gameName = gameType.name();
-            //     timeDir.insert(0, gameName + "_");
-
-            for (int playerCount : gamesAndPlayerCounts.get(gameType)) {
-                System.out.printf("Game: %s, Players: %d\n", gameName, playerCount);
-                String playersDir = playerCount + "-players";
-
-                AbstractParameters params = config.get(gameParams).equals("") ? null : AbstractParameters.createFromFile(gameType, (String) config.get(gameParams));
-
-                RoundRobinTournament tournament = config.get(mode).equals("exhaustive") || tournamentMode == ONE_VS_ALL ?
-                        new RoundRobinTournament(agents, gameType, playerCount, params, tournamentMode, config) :
-                        new RandomRRTournament(agents, gameType, playerCount, params, tournamentMode, config);
-
-                // Add listeners
-                //noinspection unchecked
-                for (String listenerClass : ((List<String>) config.get(listener))) {
-                    IGameListener gameTracker = IGameListener.createListener(listenerClass, (String) config.get(metrics));
-                    tournament.addListener(gameTracker);
-                    String outputDir = (String) config.get(destDir);
-                    List<String> directories = new ArrayList<>(Arrays.asList(outputDir.split(Pattern.quote(File.separator))));
-                    if (gamesAndPlayerCounts.size() > 1)
-                        directories.add(gameName);
-                    if (gamesAndPlayerCounts.get(gameType).length > 1)
-                        directories.add(playersDir);
-                    if ((boolean) config.get(addTimeStamp))
-                        directories.add(timeDir);
-                    gameTracker.setOutputDirectory(directories.toArray(new String[0]));
+        List<Pair<GameType, Integer>> jobs = new ArrayList<>();
+        for (GameType gameType : gamesAndPlayerCounts.keySet())
+            for (int playerCount : gamesAndPlayerCounts.get(gameType))
+                jobs.add(new Pair<>(gameType, playerCount));
+
+        int tournamentThreads = (int) config.getOrDefault(RunArg.tournamentThreads, 1);
+        List<RoundRobinTournament> tournaments = new ArrayList<>();
+        List<Throwable> failures = new ArrayList<>();
+        if (tournamentThreads <= 1 || jobs.size() == 1) {
+            for (Pair<GameType, Integer> job : jobs) {
+                System.out.printf("Game: %s, Players: %d\n", job.a.name(), job.b);
+                tournaments.add(runTournament(job.a, job.b, agents));
+                failures.add(null);
+            }
+        } else {
+            // The tournaments are independent, so we run them on a pool of threads. Each has its own copies of the
+            // agents (and its own listeners, writing to their own directories).
+            ExecutorService executor = Executors.newFixedThreadPool(Math.min(tournamentThreads, jobs.size()));
+            try {
+                List<Future<RoundRobinTournament>> results = new ArrayList<>();
+                for (Pair<GameType, Integer> job : jobs) {
+                    List<AbstractPlayer> jobAgents = new ArrayList<>();
+                    for (AbstractPlayer agent : agents)
+                        jobAgents.add(agent.copyWithSameSeed());
+                    results.add(executor.submit(() -> {
+                        // the header comes before the tournament's own output (which may be interleaved with that of
+                        // the other tournaments running at the same time)
+                        System.out.printf("Game: %s, Players: %d\n", job.a.name(), job.b);
+                        return runTournament(job.a, job.b, jobAgents);
+                    }));
                 }
+                // we wait for each tournament here, in order
+                for (int i = 0; i < jobs.size(); i++) {
+                    Pair<GameType, Integer> job = jobs.get(i);
+                    try {
+                        tournaments.add(results.get(i).get());
+                        failures.add(null);
+                    } catch (ExecutionException e) {
+                        // we still wait for (and summarise) the other tournaments
+                        System.out.printf("Game: %s, Players: %d failed: %s\n", job.a.name(), job.b, e.getCause());
+                        e.getCause().printStackTrace(System.out);
+                        tournaments.add(null);
+                        failures.add(e.getCause());
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while waiting for tournaments", e);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        if (jobs.size() > 1)
+            reportSummary(jobs, tournaments, failures);
+        long failed = failures.stream().filter(Objects::nonNull).count();
+        if (failed > 0)
+            throw new RuntimeException(failed + " of " + jobs.size() + " tournaments failed", failures.stream().filter(Objects::nonNull).findFirst().get());
+    }
+
+    private RoundRobinTournament runTournament(GameType gameType, int playerCount, List<AbstractPlayer> tournamentAgents) {
+        RoundRobinTournament tournament = createTournament(gameType, playerCount, tournamentAgents);
+        try {
+            tournament.run();
+        } finally {
+            // stop the threads of any asynchronous listeners, which are not used after the tournament
+            for (IGameListener gameTracker : tournament.getListeners()) {
+                if (gameTracker instanceof AsyncGameListener)
+                    ((AsyncGameListener) gameTracker).close();
+            }
+        }
+        return tournament;
+    }
 
-                // run tournament
-                tournament.setRandomSeed((Number) config.get(RunArg.seed));
-                tournament.setVerbose((boolean) config.get(verbose));
-                tournament.setResultsFile((String) config.get(output));
-                tournament.setRandomGameParams((boolean) config.get(randomGameParams));
-                tournament.run();
+    private RoundRobinTournament createTournament(GameType gameType, int playerCount, List<AbstractPlayer> tournamentAgents) {
+        String gameName = gameType.name();
+        String playersDir = playerCount + "-players";
+
+        AbstractParameters params = config.get(gameParams).equals("") ? null : AbstractParameters.createFromFile(gameType, (String) config.get(gameParams));
+
+        RoundRobinTournament tournament = config.get(mode).equals("exhaustive") || tournamentMode == ONE_VS_ALL ?
+                new RoundRobinTournament(tournamentAgents, gameType, playerCount, params, tournamentMode, config) :
+                new RandomRRTournament(tournamentAgents, gameType, playerCount, params, tournamentMode, config);
+
+        // Add listeners
+        //noinspection unchecked
+        for (String listenerClass : ((List<String>) config.get(listener))) {
+            IGameListener gameTracker = IGameListener.createListener(listenerClass, (String) config.get(metrics));
+            if ((boolean) config.get(asyncListeners) && gameTracker.canRunAsynchronously())
+                gameTracker = new AsyncGameListener(gameTracker);
+            tournament.addListener(gameTracker);
+            String outputDir = (String) config.get(destDir);
+            List<String> directories = new ArrayList<>(Arrays.asList(outputDir.split(Pattern.quote(File.separator))));
+            if (gamesAndPlayerCounts.size() > 1)
+                directories.add(gameName);
+            if (gamesAndPlayerCounts.get(gameType).length > 1)
+                directories.add(playersDir);
+            if ((boolean) config.get(addTimeStamp))
+                directories.add(timeDir);
+            gameTracker.setOutputDirectory(directories.toArray(new String[0]));
+        }
+
+        // run tournament
+        tournament.setRandomSeed((Number) config.get(RunArg.seed));
+        tournament.setVerbose((boolean) config.get(verbose));
+        tournament.setResultsFile((String) config.get(output));
+        tournament.setRandomGameParams((boolean) config.get(randomGameParams));
+        return tournament;
+    }
+
+    /**
+     * Reports the final ranking of every tournament together (in the order they were specified), to the console
+     * and to the results file (if there is one).
+     */
+    private void reportSummary(List<Pair<GameType, Integer>> jobs, List<RoundRobinTournament> tournaments, List<Throwable> failures) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("============= Summary of %d tournaments ============= \n", jobs.size()));
+        sb.append(String.format("%-20s %-8s %-30s %-18s %s\n", "Game", "Players", "Agent", "Win rate", "Mean Ordinal"));
+        for (int i = 0; i < jobs.size(); i++) {
+            String game = jobs.get(i).a.name();
+            int players = jobs.get(i).b;
+            RoundRobinTournament tournament = tournaments.get(i);
+            if (tournament == null) {
+                sb.append(String.format("%-20s %-8d FAILED: %s\n", game, players, failures.get(i)));
+                continue;
+            }
+            // the tournament's agents are in the same order as ours (they may be copies)
+            List<Integer> byWinRate = new ArrayList<>();
+            for (int agent = 0; agent < tournament.getNumberOfAgents(); agent++)
+                byWinRate.add(agent);
+            byWinRate.sort(Comparator.comparingDouble(tournament::getWinRate).reversed());
+            for (int agent : byWinRate) {
+                sb.append(String.format("%-20s %-8d %-30s %.2f +/- %.3f    %.2f +/- %.2f\n", game, players,
+                        agents.get(agent), tournament.getWinRate(agent), tournament.getWinStdErr(agent),
+                        tournament.getOrdinalRank(agent), tournament.getOrdinalStdErr(agent)));
+            }
+        }
+        System.out.print(sb);
+        String resultsFile = (String) config.get(output);
+        if (!resultsFile.isEmpty()) {
+            try (FileWriter writer = new FileWriter(resultsFile, true)) {
+                writer.write(sb.toString());
+                writer.write("\n");
+            } catch (IOException e) {
+                e.printStackTrace();
             }
         }
     }
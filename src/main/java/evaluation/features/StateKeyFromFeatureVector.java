@@ -4,8 +4,6 @@ import core.AbstractGameState;
 import core.interfaces.IStateFeatureVector;
 import core.interfaces.IStateKey;
 
-import java.util.Arrays;
-
 public class StateKeyFromFeatureVector  implements IStateKey {
 
     public final IStateFeatureVector featureVector;
@@ -15,8 +13,8 @@ public class StateKeyFromFeatureVector  implements IStateKey {
     }
 
     @Override
-    public String getKey(AbstractGameState state) {
+    public long getKey(AbstractGameState state) {
         double[] retValue = featureVector.featureVector(state, state.getCurrentPlayer());
-        return String.format("%d-%s", state.getCurrentPlayer(), Arrays.toString(retValue));
+        return IStateKey.hash(state.getCurrentPlayer(), retValue);
     }
 }
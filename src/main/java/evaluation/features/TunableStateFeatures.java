@@ -85,8 +85,8 @@ public abstract class TunableStateFeatures extends TunableParameters implements
     }
 
     @Override
-    public String getKey(AbstractGameState state) {
+    public long getKey(AbstractGameState state) {
         double[] retValue = featureVector(state, state.getCurrentPlayer());
-        return String.format("%d-%s", state.getCurrentPlayer(), Arrays.toString(retValue));
+        return IStateKey.hash(state.getCurrentPlayer(), retValue);
     }
 }
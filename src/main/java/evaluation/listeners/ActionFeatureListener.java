@@ -4,7 +4,7 @@ import core.AbstractGameState;
 import core.actions.AbstractAction;
 import core.interfaces.IActionFeatureVector;
 import core.interfaces.IStateFeatureVector;
-import evaluation.loggers.FileStatsLogger;
+import evaluation.loggers.DoubleArrayFileLogger;
 import evaluation.metrics.Event;
 
 import java.util.HashMap;
@@ -35,7 +35,13 @@ public class ActionFeatureListener extends FeatureListener {
         this.psiFn = psi;
         this.phiFn = phi;
         this.includeActionsNotTaken = includeActionsNotTaken;
-        logger = new FileStatsLogger(fileName);
+        logger = new DoubleArrayFileLogger(fileName);
+    }
+
+    @Override
+    public boolean canRunAsynchronously() {
+        // this calls the Game's forward model for the actions available in each state, which has moved on by then
+        return false;
     }
 
     @Override
@@ -0,0 +1,212 @@
+package evaluation.listeners;
+
+import core.Game;
+import core.interfaces.IGameEvent;
+import evaluation.metrics.Event;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Passes events on to another listener on a thread of its own, so that an expensive listener (for example a
+ * MetricsGameListener with many metrics) does not slow down the game. To use it, wrap the listener:
+ * {@code game.addListener(new AsyncGameListener(listener))}.
+ * <p>
+ * The events the listener is interested in are copied when they happen (with copies of the state and action, made once
+ * per event and shared by all asynchronous listeners, see Event.snapshot()), and put in a bounded queue. The listener's thread takes them from the queue in batches, and gives them to the listener
+ * in the order they happened. If the queue is full, then the game either waits for space (BLOCK, the default), or
+ * the event is dropped (DROP, see getDroppedEvents()).
+ * <p>
+ * At the end of each game, the game waits until the listener has processed all of its events. So at GAME_OVER the
+ * listener can still use the Game (for the players, or timings), and the next game does not start until it is done.
+ * During the game the listener should only use what is in the event, as the game will have moved on. All other calls
+ * (report(), reset() etc.) also wait for the events before them to be processed. Only listeners that opt in with
+ * IGameListener.canRunAsynchronously() can be wrapped.
+ */
+public class AsyncGameListener implements IGameListener, AutoCloseable {
+
+    public enum Backpressure {
+        BLOCK, DROP
+    }
+
+    private static final AtomicInteger threadCount = new AtomicInteger();
+
+    private final IGameListener listener;
+    private final BlockingQueue<Event> queue;
+    private final Backpressure backpressure;
+    private final int batchSize;
+    private final Thread consumer;
+
+    private final AtomicLong queued = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private long processed;  // guarded by this
+    private volatile Throwable failure;  // the first exception thrown by the listener, not yet reported
+
+    public AsyncGameListener(IGameListener listener) {
+        this(listener, 1024, 64, Backpressure.BLOCK);
+    }
+
+    /**
+     * @param listener     - the listener to pass events on to
+     * @param capacity     - the maximum number of events waiting to be processed
+     * @param batchSize    - the maximum number of events taken from the queue at a time
+     * @param backpressure - what to do with an event when the queue is full
+     */
+    public AsyncGameListener(IGameListener listener, int capacity, int batchSize, Backpressure backpressure) {
+        if (capacity < 1 || batchSize < 1)
+            throw new IllegalArgumentException("Capacity and batch size must be positive");
+        if (!listener.canRunAsynchronously())
+            throw new IllegalArgumentException(listener.getClass().getSimpleName() + " cannot run on its own thread (see IGameListener.canRunAsynchronously())");
+        this.listener = listener;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.backpressure = backpressure;
+        consumer = new Thread(this::consume, "AsyncGameListener-" + threadCount.incrementAndGet());
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    @Override
+    public void onEvent(Event event) {
+        if (!listener.listens(event.type))
+            return;
+        Event snapshot = event.snapshot();
+        if (backpressure == Backpressure.DROP) {
+            if (queue.offer(snapshot))
+                queued.incrementAndGet();
+            else
+                dropped.incrementAndGet();
+        } else {
+            try {
+                queue.put(snapshot);
+                queued.incrementAndGet();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        if (event.type == Event.GameEvent.GAME_OVER)
+            flush();
+    }
+
+    private void consume() {
+        List<Event> batch = new ArrayList<>(batchSize);
+        try {
+            while (true) {
+                batch.add(queue.take());
+                queue.drainTo(batch, batchSize - 1);
+                for (Event event : batch) {
+                    try {
+                        listener.onEvent(event);
+                    } catch (RuntimeException | Error e) {
+                        if (failure == null) failure = e;
+                    }
+                }
+                synchronized (this) {
+                    processed += batch.size();
+                    notifyAll();
+                }
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            // closed
+        }
+    }
+
+    /**
+     * Waits until all events so far have been processed by the listener.
+     *
+     * @throws RuntimeException if the listener threw an exception while processing any of them
+     */
+    public void flush() {
+        long target = queued.get();
+        synchronized (this) {
+            while (processed < target && consumer.isAlive()) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        Throwable t = failure;
+        if (t != null) {
+            failure = null;
+            throw new RuntimeException("Listener " + listener + " failed to process an event", t);
+        }
+    }
+
+    /**
+     * Processes any remaining events, and then stops the listener's thread. The listener itself is not closed.
+     */
+    @Override
+    public void close() {
+        try {
+            flush();
+        } finally {
+            consumer.interrupt();
+        }
+    }
+
+    /**
+     * @return the number of events dropped because the queue was full (always 0 with BLOCK)
+     */
+    public long getDroppedEvents() {
+        return dropped.get();
+    }
+
+    public IGameListener getListener() {
+        return listener;
+    }
+
+    @Override
+    public boolean listens(IGameEvent eventType) {
+        return listener.listens(eventType);
+    }
+
+    @Override
+    public boolean canRunAsynchronously() {
+        return true;
+    }
+
+    @Override
+    public void report() {
+        flush();
+        listener.report();
+    }
+
+    @Override
+    public boolean setOutputDirectory(String... nestedDirectories) {
+        flush();
+        return listener.setOutputDirectory(nestedDirectories);
+    }
+
+    @Override
+    public void setGame(Game game) {
+        flush();
+        listener.setGame(game);
+    }
+
+    @Override
+    public Game getGame() {
+        return listener.getGame();
+    }
+
+    @Override
+    public void reset() {
+        flush();
+        listener.reset();
+    }
+
+    @Override
+    public void init(Game game, int nPlayersPerGame, Set<String> playerNames) {
+        flush();
+        listener.init(game, nPlayersPerGame, playerNames);
+    }
+}
@@ -2,7 +2,9 @@ package evaluation.listeners;
 
 import core.*;
 import core.actions.AbstractAction;
+import core.interfaces.IGameEvent;
 import core.interfaces.IStatisticLogger;
+import evaluation.loggers.DoubleArrayFileLogger;
 import evaluation.metrics.Event;
 
 import java.util.*;
@@ -48,6 +50,16 @@ public abstract class FeatureListener implements IGameListener {
         }
     }
 
+    @Override
+    public boolean listens(IGameEvent eventType) {
+        return eventType == frequency || eventType == Event.GameEvent.GAME_OVER;
+    }
+
+    @Override
+    public boolean canRunAsynchronously() {
+        // the features are of the state in the event
+        return true;
+    }
 
     protected void writeDataWithStandardHeaders(AbstractGameState state) {
         int totP = state.getNPlayers();
@@ -64,34 +76,92 @@ public abstract class FeatureListener implements IGameListener {
         }).toArray();
         double[] ordinal = IntStream.range(0, totP).mapToDouble(state::getOrdinalPosition).toArray();
         double finalRound = state.getRoundCounter();
-        for (StateFeatureListener.LocalDataWrapper record : currentData) {
-            // we use a LinkedHashMap so that the order of the keys is preserved, and hence the
-            // data is written to file in a sensible order for human viewing
-            Map<String, Double> data = new LinkedHashMap<>();
-            data.put("GameID", (double) state.getGameID());
-            data.put("Player", (double) record.player);
-            data.put("Round", (double) record.gameRound);
-            data.put("Turn", (double) record.gameTurn);
-            data.put("CurrentScore", record.currentScore);
-            for (int i = 0; i < record.array.length; i++) {
-                data.put(names()[i], record.array[i]);
-            }
-            data.put("PlayerCount", (double) getGame().getPlayers().size());
-            data.put("TotalRounds", finalRound);
-            data.put("TotalTurns", (double) state.getTurnCounter());
-            data.put("TotalTicks", (double) state.getGameTick());
-            for (int i = 0; i < record.actionScores.length; i++) {
-                data.put(record.actionScoreNames[i], record.actionScores[i]);
+        if (logger instanceof DoubleArrayFileLogger) {
+            writeRows((DoubleArrayFileLogger) logger, state, finalScores, winLoss, ordinal);
+        } else {
+            for (StateFeatureListener.LocalDataWrapper record : currentData) {
+                // we use a LinkedHashMap so that the order of the keys is preserved, and hence the
+                // data is written to file in a sensible order for human viewing
+                Map<String, Double> data = new LinkedHashMap<>();
+                data.put("GameID", (double) state.getGameID());
+                data.put("Player", (double) record.player);
+                data.put("Round", (double) record.gameRound);
+                data.put("Turn", (double) record.gameTurn);
+                data.put("CurrentScore", record.currentScore);
+                for (int i = 0; i < record.array.length; i++) {
+                    data.put(names()[i], record.array[i]);
+                }
+                data.put("PlayerCount", (double) getGame().getPlayers().size());
+                data.put("TotalRounds", finalRound);
+                data.put("TotalTurns", (double) state.getTurnCounter());
+                data.put("TotalTicks", (double) state.getGameTick());
+                for (int i = 0; i < record.actionScores.length; i++) {
+                    data.put(record.actionScoreNames[i], record.actionScores[i]);
+                }
+                data.put("Win", winLoss[record.player]);
+                data.put("Ordinal", ordinal[record.player]);
+                data.put("FinalScore", finalScores[record.player]);
+                logger.record(data);
             }
-            data.put("Win", winLoss[record.player]);
-            data.put("Ordinal", ordinal[record.player]);
-            data.put("FinalScore", finalScores[record.player]);
-            logger.record(data);
         }
         logger.processDataAndNotFinish();
         currentData = new ArrayList<>();
     }
 
+    /**
+     * The equivalent of the Map-based records above for a DoubleArrayFileLogger, with the same columns in the same
+     * order. This re-uses one row array for all records, and so avoids boxing every value.
+     */
+    private void writeRows(DoubleArrayFileLogger arrayLogger, AbstractGameState state,
+                           double[] finalScores, double[] winLoss, double[] ordinal) {
+        if (currentData.isEmpty()) return;
+        String[] names = names();
+        if (arrayLogger.getColumns() == null) {
+            // the action scores are not known until we have the first record
+            String[] actionScoreNames = currentData.get(0).actionScoreNames;
+            List<String> columns = new ArrayList<>(List.of("GameID", "Player", "Round", "Turn", "CurrentScore"));
+            columns.addAll(Arrays.asList(names));
+            columns.addAll(List.of("PlayerCount", "TotalRounds", "TotalTurns", "TotalTicks"));
+            columns.addAll(Arrays.asList(actionScoreNames));
+            columns.addAll(List.of("Win", "Ordinal", "FinalScore"));
+            arrayLogger.setColumns(columns.toArray(new String[0]));
+        }
+        String[] columns = arrayLogger.getColumns();
+        int actionScoreStart = 9 + names.length;
+        int nActionScores = columns.length - actionScoreStart - 3;
+        double[] row = new double[columns.length];
+        // the values for the whole game
+        row[0] = state.getGameID();
+        row[5 + names.length] = getGame().getPlayers().size();
+        row[6 + names.length] = state.getRoundCounter();
+        row[7 + names.length] = state.getTurnCounter();
+        row[8 + names.length] = state.getGameTick();
+        for (StateFeatureListener.LocalDataWrapper record : currentData) {
+            row[1] = record.player;
+            row[2] = record.gameRound;
+            row[3] = record.gameTurn;
+            row[4] = record.currentScore;
+            System.arraycopy(record.array, 0, row, 5, names.length);
+            Arrays.fill(row, actionScoreStart, actionScoreStart + nActionScores, Double.NaN);
+            for (int i = 0; i < record.actionScoreNames.length; i++) {
+                // the names are normally in the same order for every record, so we only search if they are not
+                int col = actionScoreStart + i;
+                if (i >= nActionScores || !columns[col].equals(record.actionScoreNames[i])) {
+                    col = -1;
+                    for (int j = 0; j < nActionScores; j++)
+                        if (columns[actionScoreStart + j].equals(record.actionScoreNames[i]))
+                            col = actionScoreStart + j;
+                    if (col == -1) continue; // as for FileStatsLogger, new keys after the first record are ignored
+                }
+                row[col] = record.actionScores[i];
+            }
+            row[columns.length - 3] = winLoss[record.player];
+            row[columns.length - 2] = ordinal[record.player];
+            row[columns.length - 1] = finalScores[record.player];
+            arrayLogger.record(row);
+        }
+    }
+
     @Override
     public void report() {
         logger.processDataAndFinish();
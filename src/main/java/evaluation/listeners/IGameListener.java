@@ -1,6 +1,7 @@
 package evaluation.listeners;
 
 import core.Game;
+import core.interfaces.IGameEvent;
 import evaluation.metrics.AbstractMetric;
 import evaluation.metrics.Event;
 import evaluation.metrics.GameMetrics;
@@ -24,6 +25,23 @@ public interface IGameListener {
      */
     void onEvent(Event event);
 
+    /**
+     * @param eventType - type of event
+     * @return false if onEvent() ignores events of this type (so they need not be passed on), true otherwise
+     */
+    default boolean listens(IGameEvent eventType) {
+        return true;
+    }
+
+    /**
+     * @return true if the listener can process events on another thread, after the game has moved on (see
+     * AsyncGameListener). It must then only use what is in each event during the game (not the Game), and must not
+     * change the state or action in the event, as these are shared with other listeners.
+     */
+    default boolean canRunAsynchronously() {
+        return false;
+    }
+
 
     /**
      * This is called when all processing is finished, for example after running a sequence of games
@@ -7,6 +7,7 @@ import evaluation.metrics.Event;
 import evaluation.metrics.IDataLogger;
 import evaluation.metrics.IMetricsCollection;
 import evaluation.metrics.tablessaw.DataTableSaw;
+import evaluation.metrics.tablessaw.StreamingDataTableSaw;
 import utilities.Utils;
 
 import java.io.File;
@@ -57,11 +58,24 @@ public class MetricsGameListener implements IGameListener {
     }
 
     public MetricsGameListener(IDataLogger.ReportDestination logTo, IDataLogger.ReportType[] dataTypes, AbstractMetric[] metrics) {
+        this(logTo, dataTypes, metrics, 0);
+    }
+
+    /**
+     * @param gamesPerChunk - if positive, the data of each metric is only kept in memory for this many games, and
+     *                      then written to a temporary file (see StreamingDataTableSaw). Use this for long runs with
+     *                      many metrics. If 0, all data is kept in memory. RawDataPerEvent joins all the data of
+     *                      the metrics for each event in memory, so cannot be used with gamesPerChunk (RawData can,
+     *                      as each metric's data is then written out one chunk at a time).
+     */
+    public MetricsGameListener(IDataLogger.ReportDestination logTo, IDataLogger.ReportType[] dataTypes, AbstractMetric[] metrics, int gamesPerChunk) {
+        if (gamesPerChunk > 0 && Arrays.asList(dataTypes).contains(RawDataPerEvent))
+            throw new IllegalArgumentException("RawDataPerEvent reads all the data into memory, so is not supported with gamesPerChunk");
         reportDestinations = Collections.singletonList(logTo);
         this.reportTypes = Arrays.asList(dataTypes);
         this.metrics = new LinkedHashMap<>();
         for (AbstractMetric m : metrics) {
-            m.setDataLogger(new DataTableSaw(m)); //todo this logger needs to be read from JSON
+            m.setDataLogger(gamesPerChunk > 0 ? new StreamingDataTableSaw(m, gamesPerChunk) : new DataTableSaw(m)); //todo this logger needs to be read from JSON
             this.metrics.put(m.getName(), m);
             eventsOfInterest.addAll(m.getEventTypes());
         }
@@ -92,6 +106,16 @@ public class MetricsGameListener implements IGameListener {
         }
     }
 
+    @Override
+    public boolean listens(IGameEvent eventType) {
+        return eventsOfInterest.contains(eventType);
+    }
+
+    @Override
+    public boolean canRunAsynchronously() {
+        return true;
+    }
+
     @Override
     public boolean setOutputDirectory(String... nestedDirectories) {
 
@@ -0,0 +1,66 @@
+package evaluation.listeners;
+
+import core.AbstractGameState;
+import core.Game;
+import evaluation.metrics.Event;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records every event raised by a single game, together with a snapshot of the game state at that point, so that
+ * the events can later be replayed (possibly on a different thread) to the listeners that actually process them.
+ * <p>
+ * This is used when games are run in parallel (see {@link evaluation.tournaments.RoundRobinTournament}), as the
+ * standard listeners are not thread-safe and expect to see the events of one game at a time, in order.
+ */
+public class RecordingGameListener implements IGameListener {
+
+    private final List<Event> events = new ArrayList<>();
+    private Game game;
+
+    @Override
+    public void onEvent(Event event) {
+        // the state is copied as the live game state will have moved on by the time the event is replayed
+        AbstractGameState snapshot = event.state == null ? null : event.state.copy();
+        events.add(Event.createEvent(event.type, snapshot, event.action, event.playerID));
+    }
+
+    /**
+     * Sends all recorded events, in the order they occurred, to each of the listeners provided.
+     * Each listener is first pointed at the Game that generated the events.
+     */
+    public void replayTo(List<IGameListener> listeners) {
+        for (IGameListener listener : listeners)
+            listener.setGame(game);
+        for (Event e : events) {
+            for (IGameListener listener : listeners) {
+                listener.onEvent(Event.createEvent(e.type, e.state, e.action, e.playerID));
+            }
+        }
+    }
+
+    public int size() {
+        return events.size();
+    }
+
+    @Override
+    public void report() {
+        // nothing to report; the listeners we replay to do this
+    }
+
+    @Override
+    public void setGame(Game game) {
+        this.game = game;
+    }
+
+    @Override
+    public Game getGame() {
+        return game;
+    }
+
+    @Override
+    public void reset() {
+        events.clear();
+    }
+}
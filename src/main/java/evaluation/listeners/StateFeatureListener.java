@@ -3,7 +3,7 @@ package evaluation.listeners;
 import core.AbstractGameState;
 import core.actions.AbstractAction;
 import core.interfaces.IStateFeatureVector;
-import evaluation.loggers.FileStatsLogger;
+import evaluation.loggers.DoubleArrayFileLogger;
 import evaluation.metrics.Event;
 
 import java.util.regex.Pattern;
@@ -21,7 +21,7 @@ public class StateFeatureListener extends FeatureListener {
     public StateFeatureListener(IStateFeatureVector phi, Event.GameEvent frequency, boolean currentPlayerOnly, String fileName) {
         super(frequency, currentPlayerOnly);
         this.phiFn = phi;
-        logger = new FileStatsLogger(fileName);
+        logger = new DoubleArrayFileLogger(fileName);
     }
 
     @Override
@@ -0,0 +1,163 @@
+package evaluation.loggers;
+
+import core.interfaces.IStatisticLogger;
+import evaluation.summarisers.TAGStatSummary;
+
+import java.io.*;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * A logger for large volumes of numeric data (such as the training data written by FeatureListener).
+ * <p>
+ * This has a fixed set of columns, which are written once as a header line, and each record is then a double[]
+ * with one value per column. Lines are written in the same tab-delimited layout as FileStatsLogger (so the files can
+ * be read by the same code), but without boxing, per-record Maps or String.format(), and through a large buffer that
+ * is only flushed when the logger is finished (or the buffer is full).
+ * Values are written at full precision; integral values are written without a decimal point, and NaN as 'NaN'.
+ */
+public class DoubleArrayFileLogger implements IStatisticLogger {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final String fileName;
+    private final String delimiter;
+    private final boolean append;
+    private String[] columns;
+    private Writer writer;
+    private final StringBuilder line = new StringBuilder(256);
+
+    /**
+     * @param fileName  The full location of the file to write results to
+     * @param delimiter The delimiter to use in the file between data items
+     * @param append    If true, and the file already exists, then data is added to the end of it (with no new header)
+     */
+    public DoubleArrayFileLogger(String fileName, String delimiter, boolean append) {
+        this.fileName = fileName;
+        this.delimiter = delimiter;
+        this.append = append;
+    }
+
+    public DoubleArrayFileLogger(String fileName) {
+        this(fileName, "\t", true);
+    }
+
+    /**
+     * Sets the columns of the file. This must be called once, before the first record is written.
+     */
+    public void setColumns(String[] columnNames) {
+        if (columns != null)
+            throw new AssertionError("Columns have already been set for " + fileName);
+        columns = columnNames.clone();
+    }
+
+    public String[] getColumns() {
+        return columns == null ? null : columns.clone();
+    }
+
+    private void initialise() {
+        if (columns == null)
+            throw new AssertionError("setColumns() must be called before recording data to " + fileName);
+        try {
+            boolean headerNeeded = !(append && new File(fileName).exists());
+            writer = new BufferedWriter(new FileWriter(fileName, append), BUFFER_SIZE);
+            if (headerNeeded) {
+                writer.write(String.join(delimiter, columns));
+                writer.write('\n');
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+            throw new AssertionError("Problem opening file " + fileName + " : " + e.getMessage());
+        }
+    }
+
+    /**
+     * Writes one line to the file. The row must have one value per column (and is not retained, so the caller
+     * is free to re-use the array).
+     */
+    public void record(double[] row) {
+        if (writer == null) initialise();
+        if (row.length != columns.length)
+            throw new IllegalArgumentException("Expected " + columns.length + " values but got " + row.length);
+        line.setLength(0);
+        for (int i = 0; i < row.length; i++) {
+            if (i > 0) line.append(delimiter);
+            appendValue(row[i]);
+        }
+        line.append('\n');
+        try {
+            writer.append(line);
+        } catch (IOException e) {
+            e.printStackTrace();
+            throw new AssertionError("Problem writing to file " + fileName + " : " + e.getMessage());
+        }
+    }
+
+    private void appendValue(double value) {
+        long asLong = (long) value;
+        if (asLong == value && Math.abs(asLong) < (1L << 53))
+            line.append(asLong);
+        else
+            line.append(value);
+    }
+
+    /**
+     * Records the values in data, in column order. If the columns have not yet been set, then they are taken from
+     * the keys of this first record. Values that are missing or not numeric are recorded as NaN.
+     */
+    @Override
+    public void record(Map<String, ?> data) {
+        if (columns == null)
+            setColumns(data.keySet().toArray(new String[0]));
+        double[] row = new double[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            Object datum = data.get(columns[i]);
+            row[i] = datum instanceof Number ? ((Number) datum).doubleValue() : Double.NaN;
+        }
+        record(row);
+    }
+
+    @Override
+    public void record(String key, Object datum) {
+        // single data items are ignored, as for FileStatsLogger
+    }
+
+    /**
+     * The data is buffered, so this does nothing; it is written when the buffer is full, or on processDataAndFinish()
+     */
+    @Override
+    public void processDataAndNotFinish() {
+    }
+
+    /**
+     * This flushes and closes the file
+     */
+    @Override
+    public void processDataAndFinish() {
+        if (writer == null) return;
+        try {
+            writer.close();
+        } catch (IOException e) {
+            e.printStackTrace();
+            throw new AssertionError("Problem closing file " + fileName + " : " + e.getMessage());
+        }
+    }
+
+    /**
+     * This always returns an empty Map
+     *
+     * @return A summary of the data
+     */
+    @Override
+    public Map<String, TAGStatSummary> summary() {
+        return new HashMap<>();
+    }
+
+    @Override
+    public DoubleArrayFileLogger emptyCopy(String id) {
+        String[] fileParts = fileName.split(Pattern.quote("."));
+        if (fileParts.length != 2)
+            throw new AssertionError("Filename does not conform to expected <stem>.<type>");
+        return new DoubleArrayFileLogger(fileParts[0] + "_" + id + "." + fileParts[1], delimiter, append);
+    }
+}
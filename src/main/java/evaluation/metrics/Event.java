@@ -42,6 +42,7 @@ public class Event
     public AbstractGameState state;
     public AbstractAction action;
     public int playerID;
+    private Event snapshot;  // made by snapshot(), and then shared
 
     public static Event createEvent(IGameEvent type,
                                     AbstractGameState gameState,
@@ -56,6 +57,16 @@ public class Event
         return e;
     }
 
+    /**
+     * @return a copy of this event, with copies of the state and action, for a listener that processes it after the
+     * game has moved on. The copy is made on the first call and then shared, so it must not be changed.
+     */
+    public Event snapshot() {
+        if (snapshot == null)
+            snapshot = createEvent(type, state == null ? null : state.copy(), action == null ? null : action.copy(), playerID);
+        return snapshot;
+    }
+
     public static Event createEvent(IGameEvent type)
     {
         return Event.createEvent(type, null, null, -1);
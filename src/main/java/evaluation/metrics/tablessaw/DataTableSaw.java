@@ -8,6 +8,7 @@ import evaluation.metrics.IDataProcessor;
 import tech.tablesaw.api.*;
 import tech.tablesaw.columns.Column;
 
+import java.io.File;
 import java.util.*;
 
 /**
@@ -115,6 +116,48 @@ public class DataTableSaw implements IDataLogger {
         }
     }
 
+    /**
+     * @return the number of rows of data recorded
+     */
+    public int rowCount() {
+        return data.rowCount();
+    }
+
+    /**
+     * @return the names of all columns, in order
+     */
+    public List<String> columnNames() {
+        return data.columnNames();
+    }
+
+    /**
+     * @return a table, named after the metric, with all the data recorded. Where only some of the columns are needed,
+     * getColumns() may be much cheaper.
+     */
+    public Table getData() {
+        return data;
+    }
+
+    /**
+     * @param columnNames - names of the columns wanted (names not in the data are ignored)
+     * @return a table, named after the metric, with just these columns of the data recorded
+     */
+    public Table getColumns(String... columnNames) {
+        Table columns = Table.create(data.name());
+        for (String name : columnNames) {
+            if (data.containsColumn(name))
+                columns.addColumns(data.column(name));
+        }
+        return columns;
+    }
+
+    /**
+     * Writes all the data recorded to the given file, in csv format.
+     */
+    public void writeCsv(File file) {
+        data.write().csv(file);
+    }
+
     @Override
     public IDataProcessor getDefaultProcessor() {
         return new TableSawDataProcessor();
@@ -153,7 +196,7 @@ public class DataTableSaw implements IDataLogger {
         // TODO: Apply same filtering for all other data processing, separate table into different events before reporting
         Map<AbstractMetric, Table> metricTables = new HashMap<>();
         for (AbstractMetric m : metricGroup) {
-            Table metricData = ((DataTableSaw)m.getDataLogger()).data;
+            Table metricData = ((DataTableSaw)m.getDataLogger()).getData();
             if (m.filterByEventTypeWhenReporting()) {
                 metricTables.put(m, metricData.where(metricData.stringColumn("Event").isEqualTo(event.name())));
             } else {
@@ -0,0 +1,202 @@
+package evaluation.metrics.tablessaw;
+
+import evaluation.metrics.AbstractMetric;
+import evaluation.metrics.IDataLogger;
+import tech.tablesaw.api.ColumnType;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.columns.Column;
+import tech.tablesaw.io.csv.CsvReadOptions;
+import tech.tablesaw.io.csv.CsvWriteOptions;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.*;
+
+/**
+ * A DataTableSaw that only keeps the data of the most recent games in memory. Once the data of gamesPerChunk games
+ * has been recorded, it is written to a csv file (a chunk) in a temporary directory, and cleared from memory. This
+ * allows metrics to be recorded over very long runs (such as tournaments of 100k games) without running out of heap.
+ * <p>
+ * The chunks are read back when the data is reported, the TableSawDataProcessor asking only for the columns it needs
+ * at any one time, and the raw data being written out one chunk at a time. Chunks are deleted on reset(), and when
+ * the JVM exits.
+ */
+public class StreamingDataTableSaw extends DataTableSaw {
+
+    /**
+     * A file with the data of some games, with the names and types of its columns (columns can be added as games
+     * with other players are seen, so these need not be the same for all chunks).
+     */
+    private static class Chunk {
+        final File file;
+        final String[] columnNames;
+        final ColumnType[] columnTypes;
+        final int rowCount;
+
+        Chunk(File file, Table data) {
+            this.file = file;
+            this.columnNames = data.columnNames().toArray(new String[0]);
+            this.columnTypes = data.columnTypes();
+            this.rowCount = data.rowCount();
+        }
+
+        /**
+         * Appends the rows of this chunk to the given table, reading only its columns from the file (and adding
+         * missing values to those columns not in this chunk).
+         */
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        void appendTo(Table table) {
+            ColumnType[] types = new ColumnType[columnNames.length];
+            boolean anyColumn = false;
+            for (int i = 0; i < columnNames.length; i++) {
+                types[i] = table.containsColumn(columnNames[i]) ? columnTypes[i] : ColumnType.SKIP;
+                anyColumn |= types[i] != ColumnType.SKIP;
+            }
+            Table part = anyColumn ? Table.read().usingOptions(CsvReadOptions.builder(file)
+                    .columnTypes(types)
+                    .missingValueIndicator("")
+                    .build()) : null;
+            for (Column column : table.columns()) {
+                if (part != null && part.containsColumn(column.name())) {
+                    column.append(part.column(column.name()));
+                } else {
+                    for (int r = 0; r < rowCount; r++)
+                        column.appendMissing();
+                }
+            }
+        }
+    }
+
+    private final int gamesPerChunk;
+    private final List<Chunk> chunks = new ArrayList<>();
+    private File directory;
+    private int chunkRowCount;  // total rows in chunks
+    private String currentGameID;
+    private int gamesInMemory;
+
+    /**
+     * @param metric        - metric recording the data
+     * @param gamesPerChunk - number of games for which data is kept in memory before it is written to file
+     */
+    public StreamingDataTableSaw(AbstractMetric metric, int gamesPerChunk) {
+        super(metric);
+        if (gamesPerChunk < 1)
+            throw new IllegalArgumentException("gamesPerChunk must be positive");
+        this.gamesPerChunk = gamesPerChunk;
+    }
+
+    @Override
+    public void addData(String columnName, Object data) {
+        // The GameID is the first column recorded for each row, so when it changes the rows before are complete
+        if (columnName.equals("GameID") && !Objects.equals(data, currentGameID)) {
+            if (gamesInMemory >= gamesPerChunk)
+                writeChunk();
+            currentGameID = (String) data;
+            gamesInMemory++;
+        }
+        super.addData(columnName, data);
+    }
+
+    private void writeChunk() {
+        int rows = data.rowCount();
+        for (Column<?> column : data.columns()) {
+            if (column.size() != rows) return;  // part of a row recorded, we wait until it is complete
+        }
+        if (rows > 0) {
+            try {
+                if (directory == null) {
+                    directory = Files.createTempDirectory("metrics-" + metric.getName()).toFile();
+                    directory.deleteOnExit();
+                }
+                File file = new File(directory, "chunk" + chunks.size() + ".csv");
+                file.deleteOnExit();
+                data.write().csv(file);
+                chunks.add(new Chunk(file, data));
+                chunkRowCount += rows;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not write metric data for " + metric.getName(), e);
+            }
+            data = data.emptyCopy();
+        }
+        gamesInMemory = 0;
+    }
+
+    /**
+     * @return the number of chunks written to file so far
+     */
+    public int getChunkCount() {
+        return chunks.size();
+    }
+
+    @Override
+    public int rowCount() {
+        return chunkRowCount + data.rowCount();
+    }
+
+    @Override
+    public Table getData() {
+        return getColumns(data.columnNames().toArray(new String[0]));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Override
+    public Table getColumns(String... columnNames) {
+        Table columns = Table.create(data.name());
+        for (String name : columnNames) {
+            if (data.containsColumn(name))
+                columns.addColumns(data.column(name).emptyCopy());
+        }
+        for (Chunk chunk : chunks)
+            chunk.appendTo(columns);
+        for (Column column : columns.columns())
+            column.append(data.column(column.name()));
+        return columns;
+    }
+
+    @Override
+    public void writeCsv(File file) {
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(file.toPath()), StandardCharsets.UTF_8))) {
+            boolean header = true;
+            for (Chunk chunk : chunks) {
+                Table part = data.emptyCopy();
+                chunk.appendTo(part);
+                part.write().usingOptions(CsvWriteOptions.builder(writer).header(header).build());
+                header = false;
+            }
+            data.write().usingOptions(CsvWriteOptions.builder(writer).header(header).build());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        for (Chunk chunk : chunks)
+            chunk.file.delete();
+        chunks.clear();
+        chunkRowCount = 0;
+        currentGameID = null;
+        gamesInMemory = 0;
+    }
+
+    @Override
+    public IDataLogger copy() {
+        StreamingDataTableSaw copy = new StreamingDataTableSaw(metric, gamesPerChunk);
+        copy.data = getData();
+        return copy;
+    }
+
+    @Override
+    public IDataLogger emptyCopy() {
+        StreamingDataTableSaw copy = new StreamingDataTableSaw(metric, gamesPerChunk);
+        copy.data = data.emptyCopy();
+        return copy;
+    }
+
+    @Override
+    public IDataLogger create() {
+        return new StreamingDataTableSaw(metric, gamesPerChunk);
+    }
+}
@@ -19,6 +19,7 @@ import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.*;
+import java.util.function.BiFunction;
 
 public class TableSawDataProcessor implements IDataProcessor {
 
@@ -26,25 +27,49 @@ public class TableSawDataProcessor implements IDataProcessor {
     @Override
     public void processRawDataToFile(IDataLogger logger, String folderName) {
         DataTableSaw dts = (DataTableSaw) logger;
-        dts.data.write().csv(folderName + "/" + dts.data.name() + ".csv");
+        dts.writeCsv(new File(folderName + "/" + dts.data.name() + ".csv"));
     }
 
     @Override
     public void processRawDataToConsole(IDataLogger logger) {
         DataTableSaw dts = (DataTableSaw) logger;
         System.out.println();
-        System.out.println(dts.data);
+        System.out.println(dts.getData());
     }
 
     private Map<String, List<Table>> getSummarisedData(DataTableSaw dts)
     {
-        Map<String, List<Table>> summarisedData;
-        if (dts.metric.getGamesCompleted() < dts.data.column(0).size()) {
-            summarisedData = summariseDataProgression(dts.metric, dts.data);
+        if (isProgression(dts)) {
+            return byColumn(dts, this::summariseDataProgression);
         } else {
-            summarisedData = summariseData(dts.metric, dts.data);
+            return byColumn(dts, this::summariseData);
         }
-        return summarisedData;
+    }
+
+    private boolean isProgression(DataTableSaw dts) {
+        return dts.metric.getGamesCompleted() < dts.rowCount();
+    }
+
+    /**
+     * Summaries and plots are made for one column of the metric's data at a time, each only needing the GameID and
+     * Tick columns as well. So rather than reading all the data at once (which may be too much to hold in memory with
+     * a StreamingDataTableSaw), we ask the logger for one column at a time, and for GameID and Tick once only.
+     * @param process - summary or plot function, mapping from column name to its output
+     * @return - the outputs for all of the metric's columns
+     */
+    private <T> Map<String, T> byColumn(DataTableSaw dts, BiFunction<AbstractMetric, Table, Map<String, T>> process) {
+        Map<String, T> results = new HashMap<>();
+        Table index = dts.getColumns("GameID", "Tick");
+        for (String column : dts.columnNames()) {
+            if (dts.metric.getColumnNames().contains(column) && !index.containsColumn(column)) {
+                Table data = Table.create(index.name());
+                for (Column<?> c : index.columns())
+                    data.addColumns(c.copy());
+                data.addColumns(dts.getColumns(column).column(0));
+                results.putAll(process.apply(dts.metric, data));
+            }
+        }
+        return results;
     }
 
 
@@ -100,10 +125,10 @@ public class TableSawDataProcessor implements IDataProcessor {
         }
         if (success) {
             Map<String, Figure> figures;
-            if (dts.metric.getGamesCompleted() < dts.data.column(0).size()) {
-                figures = plotDataProgression(dts.metric, dts.data);
+            if (isProgression(dts)) {
+                figures = byColumn(dts, this::plotDataProgression);
             } else {
-                figures = plotData(dts.metric, dts.data);
+                figures = byColumn(dts, this::plotData);
             }
             for (Map.Entry<String, Figure> figure : figures.entrySet()) {
                 TAGPlot.save(figure.getValue(), new File(plotFolderMetric + "/" + figure.getKey() + ".html"));
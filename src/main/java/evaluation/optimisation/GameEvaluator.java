@@ -12,6 +12,8 @@ import evodef.SolutionEvaluator;
 import games.GameType;
 
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
 import java.util.stream.IntStream;
 
 import static java.util.stream.Collectors.toList;
@@ -94,6 +96,40 @@ public class GameEvaluator implements SolutionEvaluator {
      */
     @Override
     public double evaluate(int[] settings) {
+        return prepareTrial(settings).get();
+    }
+
+    /**
+     * Evaluates a batch of settings, running the games in parallel on the executor.
+     * All the set up (agent instantiation, opponent choice and random seeds) is done on the calling thread and
+     * in the order of the list, so the results are the same as calling evaluate() on each in turn.
+     *
+     * @return the game score for each of the settings, in the same order
+     */
+    public double[] evaluate(List<int[]> settings, ExecutorService executor) {
+        List<Future<Double>> results = settings.stream()
+                .map(this::prepareTrial)
+                .map(trial -> executor.submit(trial::get))
+                .collect(toList());
+        double[] retValue = new double[results.size()];
+        for (int i = 0; i < retValue.length; i++) {
+            try {
+                retValue[i] = results.get(i).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while waiting for NTBEA trial", e);
+            } catch (ExecutionException e) {
+                throw new RuntimeException("NTBEA trial failed: " + e.getCause(), e.getCause());
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Sets up the game for one trial of the settings. The returned Supplier plays the game and returns the score
+     * for the agent being optimised; it uses its own Game and players, so can be run on any thread.
+     */
+    private Supplier<Double> prepareTrial(int[] settings) {
         if (debug)
             System.out.printf("Starting evaluation %d of %s at %tT%n", nEvals,
                     Arrays.toString(settings), System.currentTimeMillis());
@@ -101,7 +137,9 @@ public class GameEvaluator implements SolutionEvaluator {
         boolean tuningPlayer = configuredThing instanceof AbstractPlayer;
         boolean tuningGame = configuredThing instanceof Game;
 
-        Game newGame = tuningGame ? (Game) configuredThing : game.createGameInstance(nPlayers, gameParams);
+        // each trial has its own copy of the game parameters, as the game's reset() and setup change them
+        Game newGame = tuningGame ? (Game) configuredThing :
+                game.createGameInstance(nPlayers, gameParams == null ? null : gameParams.copy());
         // we assign one player to each team (the default for a game is each player being their own team of 1)
         int nTeams = newGame.getGameState().getNTeams();
         List<AbstractPlayer> allPlayers = new ArrayList<>(nTeams);
@@ -127,23 +165,23 @@ public class GameEvaluator implements SolutionEvaluator {
         }
 
         // always reset the random seed for each new game
-        newGame.reset(allPlayers, rnd.nextLong());
-
-        newGame.run();
-        int playerOnTeam = -1;
-        for (int p = 0; p < newGame.getGameState().getNPlayers(); p++) {
-            if (newGame.getGameState().getTeam(p) == playerIndex) {
-                playerOnTeam = p;
-            }
-        }
-        if (playerOnTeam == -1)
-            throw new AssertionError("No Player found on team " + playerIndex);
-        double retValue = tuningGame ? gameHeuristic.evaluateGame(newGame) : stateHeuristic.evaluateState(newGame.getGameState(), playerOnTeam);
+        long seed = rnd.nextLong();
+        nEvals++;
 
-    //    System.out.println("GameEvaluator: " + retValue);
+        return () -> {
+            newGame.reset(allPlayers, seed);
 
-        nEvals++;
-        return retValue;
+            newGame.run();
+            int playerOnTeam = -1;
+            for (int p = 0; p < newGame.getGameState().getNPlayers(); p++) {
+                if (newGame.getGameState().getTeam(p) == playerIndex) {
+                    playerOnTeam = p;
+                }
+            }
+            if (playerOnTeam == -1)
+                throw new AssertionError("No Player found on team " + playerIndex);
+            return tuningGame ? gameHeuristic.evaluateGame(newGame) : stateHeuristic.evaluateState(newGame.getGameState(), playerOnTeam);
+        };
     }
 
     public void addListener(IGameListener listener) {
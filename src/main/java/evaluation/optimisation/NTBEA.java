@@ -8,6 +8,8 @@ import core.interfaces.IStateHeuristic;
 import evaluation.RunArg;
 import evaluation.listeners.IGameListener;
 import evaluation.tournaments.RoundRobinTournament;
+import evodef.DefaultMutator;
+import evodef.SearchSpaceUtil;
 import org.apache.commons.math3.util.CombinatoricsUtils;
 import games.GameType;
 import ntbea.NTupleBanditEA;
@@ -25,6 +27,8 @@ import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.IntToDoubleFunction;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -50,6 +54,8 @@ public class NTBEA {
     int currentIteration = 0;
     IStateHeuristic stateHeuristic;
     IGameHeuristic gameHeuristic;
+    // If params.nThreads > 1 then the games for NTBEA trials and evaluations are run on this pool
+    ExecutorService executor;
 
     public NTBEA(NTBEAParameters parameters, GameType game, int nPlayers) {
         // Now initialise the other bits and pieces needed for the NTBEA package
@@ -128,8 +134,17 @@ public class NTBEA {
      */
     public Pair<Object, int[]> run() {
 
-        for (currentIteration = 0; currentIteration < params.repeats; currentIteration++) {
-            runIteration();
+        if (params.nThreads > 1)
+            executor = Executors.newFixedThreadPool(params.nThreads);
+        try {
+            for (currentIteration = 0; currentIteration < params.repeats; currentIteration++) {
+                runIteration();
+            }
+        } finally {
+            if (executor != null) {
+                executor.shutdownNow();
+                executor = null;
+            }
         }
 
         // After all runs are complete, if tournamentGames are specified, then we allow all the
@@ -167,6 +182,7 @@ public class NTBEA {
                 config.put(matchups, gamesPerMatchup);
                 config.put(byTeam, false);
                 config.put(RunArg.distinctRandomSeeds, 0);
+                config.put(RunArg.nThreads, params.nThreads);
                 RoundRobinTournament tournament = new RoundRobinTournament(players, game, nPlayers, params.gameParams,
                         NO_SELF_PLAY, config);
                 tournament.verbose = false;
@@ -219,7 +235,54 @@ public class NTBEA {
 
     protected void runTrials() {
         evaluator.reset();
-        searchFramework.runTrial(evaluator, params.iterationsPerRun);
+        if (executor == null)
+            searchFramework.runTrial(evaluator, params.iterationsPerRun);
+        else
+            runBatchedTrials();
+    }
+
+    /**
+     * The parallel equivalent of searchFramework.runTrial(). Each batch of trials is the current point plus the
+     * best of its neighbours (using the same mean + kExplore * exploration estimate as NTupleBanditEA), so that
+     * there is one game per thread. The games of a batch are run in parallel, and their results are then added
+     * to the landscape model in order before the next batch is picked from the neighbourhood of the current point.
+     * This is only used with more than one thread; with one, runTrials() uses NTupleBanditEA itself. The batches
+     * follow the same steps as NTupleBanditEA, but the random numbers differ, so the two do not give the same search.
+     */
+    protected void runBatchedTrials() {
+        DefaultMutator mutator = new DefaultMutator(params.searchSpace);
+        // as in NTupleBanditEA, no more than a quarter of the search space, and no fewer than 5
+        int nNeighbours = Math.max(5, (int) Math.min(params.neighbourhoodSize, SearchSpaceUtil.size(params.searchSpace) / 4));
+        Random rnd = new Random(params.seed + currentIteration);
+
+        int[] current = SearchSpaceUtil.randomPoint(params.searchSpace);
+        List<int[]> batch = new ArrayList<>();
+        batch.add(current);
+        batch.addAll(bestNeighbours(current, mutator, nNeighbours, Math.min(params.nThreads, params.iterationsPerRun) - 1, rnd));
+        int trials = 0;
+        while (true) {
+            double[] results = evaluator.evaluate(batch, executor);
+            for (int i = 0; i < results.length; i++)
+                landscapeModel.addPoint(batch.get(i), results[i]);
+            trials += results.length;
+            if (trials >= params.iterationsPerRun)
+                break;
+            batch = bestNeighbours(current, mutator, nNeighbours, Math.min(params.nThreads, params.iterationsPerRun - trials), rnd);
+            current = batch.get(0);
+        }
+    }
+
+    private List<int[]> bestNeighbours(int[] point, DefaultMutator mutator, int nNeighbours, int n, Random rnd) {
+        List<int[]> neighbours = new ArrayList<>();
+        for (int i = 0; i < Math.max(n, nNeighbours); i++)
+            neighbours.add(mutator.randMut(point));
+        // the small amount of noise breaks ties at random, as in NTupleBanditEA
+        Map<int[], Double> value = new HashMap<>();
+        for (int[] neighbour : neighbours)
+            value.put(neighbour, landscapeModel.getMeanEstimate(neighbour) +
+                    params.kExplore * landscapeModel.getExplorationEstimate(neighbour) + rnd.nextDouble() * 1e-6);
+        neighbours.sort(Comparator.comparingDouble(value::get).reversed());
+        return new ArrayList<>(neighbours.subList(0, n));
     }
 
     protected void runIteration() {
@@ -258,8 +321,9 @@ public class NTBEA {
 
     protected Pair<Double, Double> evaluateWinner(int[] winnerSettings) {
 
-        double[] results = IntStream.range(0, params.evalGames)
-                .mapToDouble(answer -> evaluator.evaluate(winnerSettings)).toArray();
+        double[] results = executor == null
+                ? IntStream.range(0, params.evalGames).mapToDouble(answer -> evaluator.evaluate(winnerSettings)).toArray()
+                : evaluator.evaluate(Collections.nCopies(params.evalGames, winnerSettings), executor);
 
         double avg = Arrays.stream(results).average().orElse(0.0);
         double stdErr = Math.sqrt(Arrays.stream(results)
@@ -8,7 +8,6 @@ import utilities.JSONUtils;
 
 import java.io.FileReader;
 import java.util.*;
-import java.util.regex.Pattern;
 import java.util.stream.IntStream;
 
 import static java.util.stream.Collectors.toList;
@@ -277,11 +276,12 @@ public abstract class TunableParameters extends AbstractParameters implements IT
      */
     @Override
     public void setParameterValue(String parameterName, Object value) {
-        if (parameterName.split(Pattern.quote(".")).length > 1) {
+        checkNotShared();
+        int dot = parameterName.indexOf('.');
+        if (dot > 0 && dot < parameterName.length() - 1) {
             // in this case we pass on to the subParam (as well as updating here)
-            String[] split = parameterName.split(Pattern.quote("."));
-            String subParamName = split[0];
-            String subParam = parameterName.substring(subParamName.length() + 1);
+            String subParamName = parameterName.substring(0, dot);
+            String subParam = parameterName.substring(dot + 1);
             ((ITunableParameters) getParameterValue(subParamName)).setParameterValue(subParam, value);
         }
         if (parameterTypes.get(parameterName).isEnum() && value instanceof String) {
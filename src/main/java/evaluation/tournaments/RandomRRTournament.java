@@ -48,6 +48,7 @@ public class RandomRRTournament extends RoundRobinTournament {
                 matchup.add(idStream.getAsInt());
             evaluateMatchUp(matchup, 1, Collections.singletonList(gameSeeds.get(i)));
             if(reportPeriod > 0 && (i+1) % reportPeriod == 0 && i != gamesPerMatchUp - 1) {
+                completePendingGames();
                 reportResults();
             }
         }
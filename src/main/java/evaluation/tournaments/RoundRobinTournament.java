@@ -1,9 +1,13 @@
 package evaluation.tournaments;
 
+import core.AbstractGameState;
 import core.AbstractParameters;
 import core.AbstractPlayer;
+import core.Game;
 import evaluation.RunArg;
+import evaluation.listeners.AsyncGameListener;
 import evaluation.listeners.IGameListener;
+import evaluation.listeners.RecordingGameListener;
 import evaluation.listeners.TournamentMetricsGameListener;
 import evaluation.tournaments.AbstractTournament.TournamentMode;
 import games.GameType;
@@ -13,6 +17,10 @@ import utilities.Pair;
 import java.io.File;
 import java.io.FileWriter;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -47,6 +55,12 @@ public class RoundRobinTournament extends AbstractTournament {
     String seedFile;
     Random seedRnd = new Random(randomSeed);
 
+    // If nThreads > 1 then games are run on a pool of worker threads, and their results are merged back
+    // in the order they were submitted (so that the outcome is the same as a serial run with the same seeds)
+    protected int nThreads;
+    private ExecutorService executor;
+    private final Deque<PendingGame> pendingGames = new ArrayDeque<>();
+
 
     /**
      * Create a round robin tournament, which plays all agents against all others.
@@ -87,6 +101,7 @@ public class RoundRobinTournament extends AbstractTournament {
         this.byTeam = (boolean) config.getOrDefault(RunArg.byTeam, false);
         this.tournamentSeeds = (int) config.getOrDefault(RunArg.distinctRandomSeeds, 0);
         this.seedFile = (String) config.getOrDefault(RunArg.seedFile, "");
+        this.nThreads = (int) config.getOrDefault(RunArg.nThreads, 1);
         if (!seedFile.isEmpty()) {
             this.gameSeeds = loadSeedsFromFile();
             if (gameSeeds.isEmpty()) {
@@ -116,20 +131,30 @@ public class RoundRobinTournament extends AbstractTournament {
             game.addListener(gameTracker);
         }
 
-        LinkedList<Integer> matchUp = new LinkedList<>();
-        // add outer loop if we have tournamentSeeds enabled; if not this will just run once
-        List<Integer> allSeeds = new ArrayList<>(gameSeeds);
-        for (int iter = 0; iter < Math.max(1, tournamentSeeds); iter++) {
-            if (tournamentSeeds > 0) {
-                // use the same seed for each game in the tournament
-                // allSeeds contains the ones loaded from file - if empty then use a random one
-                int nextRnd =  allSeeds.isEmpty() ? seedRnd.nextInt() : allSeeds.get(iter);
-                gameSeeds = IntStream.range(0, gamesPerMatchUp).mapToObj(i -> nextRnd).collect(toList());
-            } else {
-                // use a seed per matchup
-                gameSeeds = IntStream.range(0, gamesPerMatchUp).mapToObj(i -> seedRnd.nextInt()).collect(toList());
+        if (nThreads > 1)
+            executor = Executors.newFixedThreadPool(nThreads);
+        try {
+            LinkedList<Integer> matchUp = new LinkedList<>();
+            // add outer loop if we have tournamentSeeds enabled; if not this will just run once
+            List<Integer> allSeeds = new ArrayList<>(gameSeeds);
+            for (int iter = 0; iter < Math.max(1, tournamentSeeds); iter++) {
+                if (tournamentSeeds > 0) {
+                    // use the same seed for each game in the tournament
+                    // allSeeds contains the ones loaded from file - if empty then use a random one
+                    int nextRnd = allSeeds.isEmpty() ? seedRnd.nextInt() : allSeeds.get(iter);
+                    gameSeeds = IntStream.range(0, gamesPerMatchUp).mapToObj(i -> nextRnd).collect(toList());
+                } else {
+                    // use a seed per matchup
+                    gameSeeds = IntStream.range(0, gamesPerMatchUp).mapToObj(i -> seedRnd.nextInt()).collect(toList());
+                }
+                createAndRunMatchUp(matchUp);
+            }
+            completePendingGames();
+        } finally {
+            if (executor != null) {
+                executor.shutdownNow();
+                executor = null;
             }
-            createAndRunMatchUp(matchUp);
         }
         reportResults();
 
@@ -244,6 +269,34 @@ public class RoundRobinTournament extends AbstractTournament {
         for (int agentID : agentIDsInThisGame)
             matchUpPlayers.add(tournamentMode == SELF_PLAY ? this.agents.get(agentID).copy() : this.agents.get(agentID));
 
+        if (executor != null) {
+            // The matchup is announced (to the console and listeners) when its first game is merged back
+            for (int i = 0; i < nGames; i++)
+                submitGame(agentIDsInThisGame, matchUpPlayers, i == 0, seeds.get(i));
+            return;
+        }
+
+        startMatchUp(agentIDsInThisGame, matchUpPlayers);
+
+        // Run the game N = gamesPerMatchUp times with these players
+        for (int i = 0; i < nGames; i++) {
+            // if tournamentSeeds > 0, then we are running this many tournaments, each with a different random seed fixed for the whole tournament
+            // so we override the standard random seeds
+            // Randomize parameters (before the game is set up with them, as they cannot be changed during the game)
+            if (randomGameParams) {
+                game.getGameState().getGameParameters().setRandomSeed(seeds.get(i));
+                game.getGameState().getGameParameters().randomize();
+            }
+            game.reset(matchUpPlayers, seeds.get(i));
+            if (randomGameParams)
+                System.out.println("Game parameters: " + game.getGameState().getGameParameters());
+
+            game.run();  // Always running tournaments without visuals
+            recordResults(game.getGameState(), agentIDsInThisGame);
+        }
+    }
+
+    private void startMatchUp(List<Integer> agentIDsInThisGame, List<AbstractPlayer> matchUpPlayers) {
         if (verbose) {
             StringBuffer sb = new StringBuffer();
             sb.append("[");
@@ -256,79 +309,170 @@ public class RoundRobinTournament extends AbstractTournament {
         // TODO : Not sure this is the ideal place for this...ask Raluca
         Set<String> agentNames = agents.stream().map(AbstractPlayer::toString).collect(Collectors.toSet());
         for (IGameListener listener : listeners) {
+            if (listener instanceof AsyncGameListener) {
+                ((AsyncGameListener) listener).flush();
+                listener = ((AsyncGameListener) listener).getListener();
+            }
             if (listener instanceof TournamentMetricsGameListener) {
                 ((TournamentMetricsGameListener) listener).tournamentInit(game, nPlayers, agentNames, new HashSet<>(matchUpPlayers));
             }
         }
+    }
 
-        // Run the game N = gamesPerMatchUp times with these players
-        for (int i = 0; i < nGames; i++) {
-            // if tournamentSeeds > 0, then we are running this many tournaments, each with a different random seed fixed for the whole tournament
-            // so we override the standard random seeds
-            game.reset(matchUpPlayers, seeds.get(i));
-
-            // Randomize parameters
-            if (randomGameParams) {
-                game.getGameState().getGameParameters().randomize();
-                System.out.println("Game parameters: " + game.getGameState().getGameParameters());
-            }
+    /**
+     * Updates the tournament statistics with the result of one finished game.
+     *
+     * @param finalState         - the state of the game once it has finished
+     * @param agentIDsInThisGame - IDs of agents participating in this game.
+     */
+    private void recordResults(AbstractGameState finalState, List<Integer> agentIDsInThisGame) {
+        GameResult[] results = finalState.getPlayerResults();
 
-            game.run();  // Always running tournaments without visuals
-            GameResult[] results = game.getGameState().getPlayerResults();
-
-            int numDraws = 0;
-            for (int j = 0; j < matchUpPlayers.size(); j++) {
-                nGamesPlayed[agentIDsInThisGame.get(j)] += 1;
-                for (int k = 0; k < matchUpPlayers.size(); k++) {
-                    if (k != j) {
-                        nGamesPlayedPerOpponent[agentIDsInThisGame.get(j)][agentIDsInThisGame.get(k)] += 1;
-                    }
+        int numDraws = 0;
+        for (int j = 0; j < agentIDsInThisGame.size(); j++) {
+            nGamesPlayed[agentIDsInThisGame.get(j)] += 1;
+            for (int k = 0; k < agentIDsInThisGame.size(); k++) {
+                if (k != j) {
+                    nGamesPlayedPerOpponent[agentIDsInThisGame.get(j)][agentIDsInThisGame.get(k)] += 1;
                 }
+            }
 
-                // now we need to be careful if we have a team game, as the agents are indexed by Team, not player
-                if (byTeam) {
-                    for (int player = 0; player < game.getGameState().getNPlayers(); player++) {
-                        if (game.getGameState().getTeam(player) == j) {
-                            numDraws += updatePoints(results, agentIDsInThisGame, agentIDsInThisGame.get(j), player);
-                            break; // we stop after one player on the team to avoid double counting
-                        }
+            // now we need to be careful if we have a team game, as the agents are indexed by Team, not player
+            if (byTeam) {
+                for (int player = 0; player < finalState.getNPlayers(); player++) {
+                    if (finalState.getTeam(player) == j) {
+                        numDraws += updatePoints(finalState, agentIDsInThisGame, agentIDsInThisGame.get(j), player);
+                        break; // we stop after one player on the team to avoid double counting
                     }
-                } else {
-                    numDraws += updatePoints(results, agentIDsInThisGame, agentIDsInThisGame.get(j), j);
                 }
+            } else {
+                numDraws += updatePoints(finalState, agentIDsInThisGame, agentIDsInThisGame.get(j), j);
             }
+        }
 
-            if (numDraws > 0) {
-                double pointsPerDraw = 1.0 / numDraws;
-                for (int j = 0; j < matchUpPlayers.size(); j++) {
-                    if (results[j] == GameResult.DRAW_GAME) pointsPerPlayer[agentIDsInThisGame.get(j)] += pointsPerDraw;
-                    if (results[j] == GameResult.DRAW_GAME)
-                        pointsPerPlayerSquared[agentIDsInThisGame.get(j)] += pointsPerDraw * pointsPerDraw;
-                }
+        if (numDraws > 0) {
+            double pointsPerDraw = 1.0 / numDraws;
+            for (int j = 0; j < agentIDsInThisGame.size(); j++) {
+                if (results[j] == GameResult.DRAW_GAME) pointsPerPlayer[agentIDsInThisGame.get(j)] += pointsPerDraw;
+                if (results[j] == GameResult.DRAW_GAME)
+                    pointsPerPlayerSquared[agentIDsInThisGame.get(j)] += pointsPerDraw * pointsPerDraw;
             }
+        }
 
-            if (verbose) {
-                StringBuffer sb = new StringBuffer();
-                sb.append("[");
-                for (int j = 0; j < matchUpPlayers.size(); j++) {
-                    for (int player = 0; player < game.getGameState().getNPlayers(); player++) {
-                        if (game.getGameState().getTeam(player) == j) {
-                            sb.append(results[player]).append(",");
-                            break; // we stop after one player on the team to avoid double counting
-                        }
+        if (verbose) {
+            StringBuffer sb = new StringBuffer();
+            sb.append("[");
+            for (int j = 0; j < agentIDsInThisGame.size(); j++) {
+                for (int player = 0; player < finalState.getNPlayers(); player++) {
+                    if (finalState.getTeam(player) == j) {
+                        sb.append(results[player]).append(",");
+                        break; // we stop after one player on the team to avoid double counting
                     }
                 }
-                sb.setCharAt(sb.length() - 1, ']');
-                System.out.println(sb);
             }
+            sb.setCharAt(sb.length() - 1, ']');
+            System.out.println(sb);
+        }
+        totalGamesRun++;
+    }
+
+    /**
+     * Hands one game to the worker pool. Everything that consumes random numbers from shared objects (copying the
+     * agents, copying the game parameters) is done here on the calling thread, so that the games run are the same
+     * as in a serial run whatever the thread scheduling. Each game gets its own Game, forward model and agent copies.
+     * <p>
+     * Results are identical to a serial run provided the agents are themselves reproducible from game to game
+     * (for example with resetSeedEachGame, and a budget that is not based on elapsed time).
+     *
+     * @param agentIDsInThisGame - IDs of agents participating in this game.
+     * @param matchUpPlayers     - the players for the whole matchup; each game is given copies of these
+     * @param firstOfMatchUp     - true if this is the first game of the matchup
+     * @param seed               - random seed for the game
+     */
+    private void submitGame(List<Integer> agentIDsInThisGame, List<AbstractPlayer> matchUpPlayers,
+                            boolean firstOfMatchUp, long seed) {
+        List<AbstractPlayer> players = new ArrayList<>();
+        for (AbstractPlayer player : matchUpPlayers)
+            players.add(player.copyWithSameSeed());
+        AbstractParameters params = game.getGameState().getGameParameters().copy();
+        if (randomGameParams) {
+            // as in a serial run, randomised from the game's seed
+            params.setRandomSeed(seed);
+            params.randomize();
+        }
+        RecordingGameListener recorder = listeners.isEmpty() ? null : new RecordingGameListener();
+        GameType gameType = game.getGameType();
+
+        Future<Game> result = executor.submit(() -> {
+            Game workerGame = gameType.createGameInstance(nPlayers, seed, params);
+            if (recorder != null)
+                workerGame.addListener(recorder);
+            workerGame.reset(players, seed);
+            workerGame.run();
+            return workerGame;
+        });
+        pendingGames.add(new PendingGame(new ArrayList<>(agentIDsInThisGame), firstOfMatchUp ? matchUpPlayers : null, recorder, result));
+
+        // We cap the number of finished-but-unmerged games, as each holds its recorded events in memory
+        while (pendingGames.size() > 2 * nThreads)
+            mergeNextGame();
+    }
 
+    /**
+     * Waits for the oldest outstanding game, then replays its events to the listeners and records its result.
+     */
+    private void mergeNextGame() {
+        PendingGame next = pendingGames.poll();
+        Game finished;
+        try {
+            finished = next.result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for tournament game", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Tournament game failed: " + e.getCause(), e.getCause());
         }
-        totalGamesRun += nGames;
+        if (next.matchUpPlayers != null)
+            startMatchUp(next.agentIDs, next.matchUpPlayers);
+        if (randomGameParams)
+            System.out.println("Game parameters: " + finished.getGameState().getGameParameters());
+        if (next.recorder != null)
+            next.recorder.replayTo(listeners);
+        recordResults(finished.getGameState(), next.agentIDs);
     }
 
-    private int updatePoints(GameResult[] results, List<Integer> matchUpPlayers, int j, int player) {
+    /**
+     * Blocks until every game handed to the worker pool has finished and been merged into the tournament results.
+     * Does nothing if the tournament is running serially.
+     */
+    protected void completePendingGames() {
+        if (pendingGames.isEmpty())
+            return;
+        while (!pendingGames.isEmpty())
+            mergeNextGame();
+        // the listeners were pointed at the worker games during replay
+        for (IGameListener listener : listeners)
+            listener.setGame(game);
+    }
+
+    private static class PendingGame {
+        final List<Integer> agentIDs;
+        final List<AbstractPlayer> matchUpPlayers;  // only set for the first game of a matchup
+        final RecordingGameListener recorder;
+        final Future<Game> result;
+
+        PendingGame(List<Integer> agentIDs, List<AbstractPlayer> matchUpPlayers, RecordingGameListener recorder, Future<Game> result) {
+            this.agentIDs = agentIDs;
+            this.matchUpPlayers = matchUpPlayers;
+            this.recorder = recorder;
+            this.result = result;
+        }
+    }
+
+    private int updatePoints(AbstractGameState finalState, List<Integer> matchUpPlayers, int j, int player) {
         // j is the index of the agent in the matchup; player is the corresponding player number in the game
-        int ordinalPos = game.getGameState().getOrdinalPosition(player);
+        GameResult[] results = finalState.getPlayerResults();
+        int ordinalPos = finalState.getOrdinalPosition(player);
         rankPerPlayer[j] += ordinalPos;
         rankPerPlayerSquared[j] += ordinalPos * ordinalPos;
 
@@ -423,14 +567,17 @@ public class RoundRobinTournament extends AbstractTournament {
 
         // To file
         if (toFile) {
-            try {
-                FileWriter writer = new FileWriter(resultsFile, true);
-                for (String line : dataDump)
-                    writer.write(line);
-                writer.write("\n");
-                writer.close();
-            } catch (Exception e) {
-                e.printStackTrace();
+            // several tournaments may be running at once (and share the results file)
+            synchronized (RoundRobinTournament.class) {
+                try {
+                    FileWriter writer = new FileWriter(resultsFile, true);
+                    for (String line : dataDump)
+                        writer.write(line);
+                    writer.write("\n");
+                    writer.close();
+                } catch (Exception e) {
+                    e.printStackTrace();
+                }
             }
         }
     }
@@ -472,6 +619,10 @@ public class RoundRobinTournament extends AbstractTournament {
         seedRnd = new Random(this.randomSeed);
     }
 
+    public void setNThreads(int nThreads) {
+        this.nThreads = nThreads;
+    }
+
     public void setRandomGameParams(boolean randomGameParams) {
         this.randomGameParams = randomGameParams;
     }
@@ -96,7 +96,7 @@ public class BlackjackGameState extends AbstractGameState implements IPrintable
 
     @Override
     protected AbstractGameState _copy(int playerId) {
-        BlackjackGameState copy = new BlackjackGameState(gameParameters.copy(), getNPlayers());
+        BlackjackGameState copy = new BlackjackGameState(gameParameters, getNPlayers());
         copy.playerDecks = new ArrayList<>();
         for (PartialObservableDeck<FrenchCard> d : playerDecks) {
             copy.playerDecks.add(d.copy());
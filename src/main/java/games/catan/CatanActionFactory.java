@@ -22,7 +22,6 @@ import utilities.Utils;
 import java.util.*;
 
 import static games.catan.CatanConstants.HEX_SIDES;
-import static games.catan.components.Building.Type.Settlement;
 
 public class CatanActionFactory {
     /**
@@ -34,42 +33,31 @@ public class CatanActionFactory {
         ArrayList<AbstractAction> actions = new ArrayList<>();
         // find possible settlement locations and propose them as actions
         CatanTile[][] board = gs.getBoard();
-        HashSet<Integer> settlementsAdded = new HashSet<>();
-        for (int x = 0; x < board.length; x++) {
-            for (int y = 0; y < board[x].length; y++) {
-                CatanTile tile = board[x][y];
-                // where it is legal to place tile then it can be placed from there
-                if (!(tile.getTileType().equals(CatanTile.TileType.SEA) ||
-                    tile.getTileType().equals(CatanTile.TileType.DESERT))) {
-                    for (int i = 0; i < HEX_SIDES; i++) {
-                        Building settlement = gs.getBuilding(tile, i);
-                        if (!settlementsAdded.contains(settlement.getComponentID()) && settlement.getOwnerId() == -1) {
-                            if (gs.checkSettlementPlacement(settlement, gs.getCurrentPlayer())) {
-                                settlementsAdded.add(settlement.getComponentID());
-                                if (actionSpace.structure != ActionSpace.Structure.Deep) {  // Flat is default
-                                    int[][] coords = tile.getNeighboursOnVertex(i);
-                                    int edge = (HEX_SIDES+i-1)%HEX_SIDES;
-                                    Edge edgeObj = gs.getRoad(settlement, tile, edge);
-                                    if (edgeObj.getOwnerId() == -1) {
-                                        actions.add(new PlaceSettlementWithRoad(x, y, i, edge, player));
-                                        for (int k = 0; k < coords.length; k++) {
-                                            int[] neighbour = coords[k];
-                                            int vertex = (i + 2*(k+1)) % HEX_SIDES;
-                                            edge = (HEX_SIDES+vertex-1)%HEX_SIDES;
-                                            CatanTile nTile = board[neighbour[0]][neighbour[1]];
-                                            edgeObj = gs.getRoad(nTile, vertex, edge);
-                                            if (edgeObj != null && edgeObj.getOwnerId() == -1) {
-                                                actions.add(new PlaceSettlementWithRoad(neighbour[0], neighbour[1], vertex, edge, player));
-                                            }
-                                        }
-                                    }
-                                } else {
-                                    actions.add(new DeepPlaceSettlementThenRoad(x, y, i, player));
-                                }
-                            }
+        CatanBuildFrontier frontier = gs.buildFrontier;
+        BitSet legal = frontier.legalSetupSettlements();
+        for (int slot = legal.nextSetBit(0); slot >= 0; slot = legal.nextSetBit(slot + 1)) {
+            int x = frontier.setupCoordinates[slot][0], y = frontier.setupCoordinates[slot][1], i = frontier.setupCoordinates[slot][2];
+            CatanTile tile = board[x][y];
+            Building settlement = gs.getBuilding(tile, i);
+            if (actionSpace.structure != ActionSpace.Structure.Deep) {  // Flat is default
+                int[][] coords = tile.getNeighboursOnVertex(i);
+                int edge = (HEX_SIDES+i-1)%HEX_SIDES;
+                Edge edgeObj = gs.getRoad(settlement, tile, edge);
+                if (edgeObj.getOwnerId() == -1) {
+                    actions.add(new PlaceSettlementWithRoad(x, y, i, edge, player));
+                    for (int k = 0; k < coords.length; k++) {
+                        int[] neighbour = coords[k];
+                        int vertex = (i + 2*(k+1)) % HEX_SIDES;
+                        edge = (HEX_SIDES+vertex-1)%HEX_SIDES;
+                        CatanTile nTile = board[neighbour[0]][neighbour[1]];
+                        edgeObj = gs.getRoad(nTile, vertex, edge);
+                        if (edgeObj != null && edgeObj.getOwnerId() == -1) {
+                            actions.add(new PlaceSettlementWithRoad(neighbour[0], neighbour[1], vertex, edge, player));
                         }
                     }
                 }
+            } else {
+                actions.add(new DeepPlaceSettlementThenRoad(x, y, i, player));
             }
         }
 
@@ -310,24 +298,10 @@ public class CatanActionFactory {
         ArrayList<AbstractAction> actions = new ArrayList<>();
         if (free || gs.checkCost(catanParameters.costMapping.get(BuyAction.BuyType.Road), player)
                 && !gs.playerTokens.get(player).get(BuyAction.BuyType.Road).isMaximum()) {
-            Set<Integer> roadsAdded = new HashSet<>();
-            CatanTile[][] board = gs.getBoard();
-            for (int x = 0; x < board.length; x++) {
-                for (int y = 0; y < board[x].length; y++) {
-                    CatanTile tile = board[x][y];
-                    for (int i = 0; i < HEX_SIDES; i++) {
-                        Building settlement = gs.getBuilding(tile, i);
-                        // Roads
-                        Edge edge = gs.getRoad(settlement, tile, i);
-                        if (edge == null || roadsAdded.contains(edge.getComponentID())) continue;
-                        roadsAdded.add(edge.getComponentID());
-
-                        if (!(tile.getTileType().equals(CatanTile.TileType.SEA) || tile.getTileType().equals(CatanTile.TileType.DESERT))
-                                && gs.checkRoadPlacement(i, tile, gs.getCurrentPlayer())) {
-                            actions.add(new BuildRoad(x, y, i, player, free));
-                        }
-                    }
-                }
+            BitSet legal = gs.buildFrontier.legalRoads(player);
+            for (int slot = legal.nextSetBit(0); slot >= 0; slot = legal.nextSetBit(slot + 1)) {
+                int[] c = gs.buildFrontier.roadCoordinates[slot];
+                actions.add(new BuildRoad(c[0], c[1], c[2], player, free));
             }
         }
         return actions;
@@ -338,23 +312,10 @@ public class CatanActionFactory {
         CatanParameters catanParameters = (CatanParameters) gs.getGameParameters();
         if (gs.checkCost(catanParameters.costMapping.get(BuyAction.BuyType.Settlement), player)
                 && !gs.playerTokens.get(player).get(BuyAction.BuyType.Settlement).isMaximum()) {
-            Set<Integer> settlementsAdded = new HashSet<>();
-            CatanTile[][] board = gs.getBoard();
-            for (int x = 0; x < board.length; x++) {
-                for (int y = 0; y < board[x].length; y++) {
-                    CatanTile tile = board[x][y];
-                    for (int i = 0; i < HEX_SIDES; i++) {
-                        Building settlement = gs.getBuilding(tile, i);
-                        if (settlementsAdded.contains(settlement.getComponentID())) continue;
-                        settlementsAdded.add(settlement.getComponentID());
-
-                        // legal to place?
-                        if (!(tile.getTileType().equals(CatanTile.TileType.SEA) || tile.getTileType().equals(CatanTile.TileType.DESERT))
-                                && gs.checkSettlementPlacement(settlement, gs.getCurrentPlayer())) {
-                            actions.add(new BuildSettlement(x, y, i, player, false));
-                        }
-                    }
-                }
+            BitSet legal = gs.buildFrontier.legalSettlements(player);
+            for (int slot = legal.nextSetBit(0); slot >= 0; slot = legal.nextSetBit(slot + 1)) {
+                int[] c = gs.buildFrontier.vertexCoordinates[slot];
+                actions.add(new BuildSettlement(c[0], c[1], c[2], player, false));
             }
         }
         return actions;
@@ -365,20 +326,10 @@ public class CatanActionFactory {
         ArrayList<AbstractAction> actions = new ArrayList<>();
         if (gs.checkCost(catanParameters.costMapping.get(BuyAction.BuyType.City), player)
                 && !gs.playerTokens.get(player).get(BuyAction.BuyType.City).isMaximum()) {
-            Set<Integer> settlementsAdded = new HashSet<>();
-            CatanTile[][] board = gs.getBoard();
-            for (int x = 0; x < board.length; x++) {
-                for (int y = 0; y < board[x].length; y++) {
-                    CatanTile tile = board[x][y];
-                    for (int i = 0; i < HEX_SIDES; i++) {
-                        Building settlement = gs.getBuilding(tile, i);
-                        if (settlementsAdded.contains(settlement.getComponentID())) continue;
-                        settlementsAdded.add(settlement.getComponentID());
-                        if (settlement.getOwnerId() == player && settlement.getBuildingType() == Settlement) {
-                            actions.add(new BuildCity(x, y, i, player));
-                        }
-                    }
-                }
+            BitSet legal = gs.buildFrontier.legalCities(player);
+            for (int slot = legal.nextSetBit(0); slot >= 0; slot = legal.nextSetBit(slot + 1)) {
+                int[] c = gs.buildFrontier.vertexCoordinates[slot];
+                actions.add(new BuildCity(c[0], c[1], c[2], player));
             }
         }
         return actions;
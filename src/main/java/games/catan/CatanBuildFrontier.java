@@ -0,0 +1,261 @@
+package games.catan;
+
+import core.components.BoardNodeWithEdges;
+import core.components.Edge;
+import core.components.GraphBoardWithEdges;
+import games.catan.components.Building;
+import games.catan.components.CatanTile;
+
+import java.util.*;
+
+import static games.catan.CatanConstants.HEX_SIDES;
+
+/**
+ * Keeps track of where each player can legally build, updated as pieces are placed, so that build actions can be
+ * listed without checking every vertex and edge of the board.
+ * <p>
+ * Every edge and vertex of the board is given a slot, in the order in which CatanActionFactory first meets it when
+ * scanning board[x][y] for each side of the tile. The slot records that tile and side, which the actions refer to.
+ * Legal places are then held as bitsets over the slots (one per player, for roads, settlements and cities), so that
+ * actions come out in the same order as the scan of the board would give.
+ * <p>
+ * The rules are those of CatanGameState.checkRoadPlacement() and checkSettlementPlacement(), and as in the original
+ * scan only edges and vertices first met on a tile that is not sea or desert are offered.
+ * The layout of the slots is shared by all copies of the state; only the owners and bitsets are copied.
+ */
+class CatanBuildFrontier {
+
+    // Board layout, shared between copies
+    private final Map<Integer, Integer> roadSlot, vertexSlot;  // component ID -> slot
+    final int[][] roadCoordinates, vertexCoordinates, setupCoordinates;  // {x, y, side} of each slot
+    private final boolean[] roadOnLand, vertexOnLand;
+    private final int[] setupSlot;  // vertex slot -> slot in setupCoordinates (first met on land), or -1
+    private final int[][] vertexRoads, vertexNeighbours;  // road / vertex slots next to each vertex slot
+    private final int[] roadEnds;  // vertex slots at the two ends of road slot r are at 2r and 2r+1
+
+    private final int[] roadOwner, vertexOwner;
+    private final BitSet[] roads, settlements, cities;  // legal places for each player
+    private final BitSet setup;  // vertices free to settle in the setup phase, by setup slot
+
+    CatanBuildFrontier(CatanTile[][] board, GraphBoardWithEdges graph, int nPlayers) {
+        roadSlot = new HashMap<>();
+        vertexSlot = new HashMap<>();
+        List<int[]> roadCoords = new ArrayList<>(), vertexCoords = new ArrayList<>(), setupCoords = new ArrayList<>();
+        List<Boolean> roadLand = new ArrayList<>(), vertexLand = new ArrayList<>();
+        Map<Integer, Integer> setupSlots = new HashMap<>();
+        List<BoardNodeWithEdges> slotNodes = new ArrayList<>();
+        List<Edge> slotEdges = new ArrayList<>();
+        for (int x = 0; x < board.length; x++) {
+            for (int y = 0; y < board[x].length; y++) {
+                CatanTile tile = board[x][y];
+                boolean land = !(tile.getTileType() == CatanTile.TileType.SEA || tile.getTileType() == CatanTile.TileType.DESERT);
+                for (int i = 0; i < HEX_SIDES; i++) {
+                    BoardNodeWithEdges vertex = graph.getNodeByID(tile.getVerticesBoardNodeIDs()[i]);
+                    if (!vertexSlot.containsKey(vertex.getComponentID())) {
+                        vertexSlot.put(vertex.getComponentID(), vertexCoords.size());
+                        vertexCoords.add(new int[]{x, y, i});
+                        vertexLand.add(land);
+                        slotNodes.add(vertex);
+                    }
+                    if (land && !setupSlots.containsKey(vertex.getComponentID())) {
+                        setupSlots.put(vertex.getComponentID(), setupCoords.size());
+                        setupCoords.add(new int[]{x, y, i});
+                    }
+                    Edge edge = vertex.getEdgeByID(tile.getEdgeIDs()[i]);
+                    if (edge != null && !roadSlot.containsKey(edge.getComponentID())) {
+                        roadSlot.put(edge.getComponentID(), roadCoords.size());
+                        roadCoords.add(new int[]{x, y, i});
+                        roadLand.add(land);
+                        slotEdges.add(edge);
+                    }
+                }
+            }
+        }
+        // anything not met in the scan is never offered
+        for (BoardNodeWithEdges vertex : graph.getBoardNodes()) {
+            if (!vertexSlot.containsKey(vertex.getComponentID())) {
+                vertexSlot.put(vertex.getComponentID(), vertexCoords.size());
+                vertexCoords.add(null);
+                vertexLand.add(false);
+                slotNodes.add(vertex);
+            }
+            for (Edge edge : vertex.getEdges()) {
+                if (!roadSlot.containsKey(edge.getComponentID())) {
+                    roadSlot.put(edge.getComponentID(), roadCoords.size());
+                    roadCoords.add(null);
+                    roadLand.add(false);
+                    slotEdges.add(edge);
+                }
+            }
+        }
+
+        int nVertices = vertexCoords.size(), nRoads = roadCoords.size();
+        roadCoordinates = roadCoords.toArray(new int[0][]);
+        vertexCoordinates = vertexCoords.toArray(new int[0][]);
+        setupCoordinates = setupCoords.toArray(new int[0][]);
+        roadOnLand = new boolean[nRoads];
+        vertexOnLand = new boolean[nVertices];
+        for (int r = 0; r < nRoads; r++) roadOnLand[r] = roadLand.get(r);
+        for (int v = 0; v < nVertices; v++) vertexOnLand[v] = vertexLand.get(v);
+        setupSlot = new int[nVertices];
+        vertexRoads = new int[nVertices][];
+        vertexNeighbours = new int[nVertices][];
+        roadEnds = new int[2 * nRoads];
+        Arrays.fill(roadEnds, -1);
+        for (int v = 0; v < nVertices; v++) {
+            BoardNodeWithEdges vertex = slotNodes.get(v);
+            setupSlot[v] = setupSlots.getOrDefault(vertex.getComponentID(), -1);
+            Map<Edge, BoardNodeWithEdges> neighbours = vertex.getNeighbourEdgeMapping();
+            vertexRoads[v] = new int[neighbours.size()];
+            vertexNeighbours[v] = new int[neighbours.size()];
+            int k = 0;
+            for (Map.Entry<Edge, BoardNodeWithEdges> e : neighbours.entrySet()) {
+                int r = roadSlot.get(e.getKey().getComponentID());
+                vertexRoads[v][k] = r;
+                vertexNeighbours[v][k] = vertexSlot.get(e.getValue().getComponentID());
+                roadEnds[roadEnds[2 * r] == -1 ? 2 * r : 2 * r + 1] = v;
+                k++;
+            }
+        }
+
+        roadOwner = new int[nRoads];
+        vertexOwner = new int[nVertices];
+        Arrays.fill(roadOwner, -1);
+        Arrays.fill(vertexOwner, -1);
+        roads = new BitSet[nPlayers];
+        settlements = new BitSet[nPlayers];
+        cities = new BitSet[nPlayers];
+        for (int p = 0; p < nPlayers; p++) {
+            roads[p] = new BitSet(nRoads);
+            settlements[p] = new BitSet(nVertices);
+            cities[p] = new BitSet(nVertices);
+        }
+        setup = new BitSet(setupCoordinates.length);
+        setup.set(0, setupCoordinates.length);
+
+        // Pick up anything already on the board
+        for (int v = 0; v < nVertices; v++) {
+            BoardNodeWithEdges vertex = slotNodes.get(v);
+            if (vertex.getOwnerId() != -1) {
+                settlementBuilt(vertex.getComponentID(), vertex.getOwnerId());
+                if (((Building) vertex).getBuildingType() == Building.Type.City)
+                    cityBuilt(vertex.getComponentID(), vertex.getOwnerId());
+            }
+        }
+        for (int r = 0; r < nRoads; r++) {
+            Edge edge = slotEdges.get(r);
+            if (edge.getOwnerId() != -1)
+                roadBuilt(edge.getComponentID(), edge.getOwnerId());
+        }
+    }
+
+    private CatanBuildFrontier(CatanBuildFrontier other) {
+        roadSlot = other.roadSlot;
+        vertexSlot = other.vertexSlot;
+        roadCoordinates = other.roadCoordinates;
+        vertexCoordinates = other.vertexCoordinates;
+        setupCoordinates = other.setupCoordinates;
+        roadOnLand = other.roadOnLand;
+        vertexOnLand = other.vertexOnLand;
+        setupSlot = other.setupSlot;
+        vertexRoads = other.vertexRoads;
+        vertexNeighbours = other.vertexNeighbours;
+        roadEnds = other.roadEnds;
+        roadOwner = other.roadOwner.clone();
+        vertexOwner = other.vertexOwner.clone();
+        roads = new BitSet[other.roads.length];
+        settlements = new BitSet[other.settlements.length];
+        cities = new BitSet[other.cities.length];
+        for (int p = 0; p < roads.length; p++) {
+            roads[p] = (BitSet) other.roads[p].clone();
+            settlements[p] = (BitSet) other.settlements[p].clone();
+            cities[p] = (BitSet) other.cities[p].clone();
+        }
+        setup = (BitSet) other.setup.clone();
+    }
+
+    CatanBuildFrontier copy() {
+        return new CatanBuildFrontier(this);
+    }
+
+    /**
+     * @return true if a settlement can go on this vertex slot: it is free, and so are all its neighbours
+     */
+    private boolean settleable(int v) {
+        if (vertexOwner[v] != -1)
+            return false;
+        for (int w : vertexNeighbours[v])
+            if (vertexOwner[w] != -1) return false;
+        return true;
+    }
+
+    /**
+     * Offers the player the free roads at this vertex slot.
+     */
+    private void openRoadsAt(int v, int player) {
+        for (int r : vertexRoads[v])
+            if (roadOwner[r] == -1 && roadOnLand[r]) roads[player].set(r);
+    }
+
+    void roadBuilt(int edgeID, int player) {
+        int r = roadSlot.get(edgeID);
+        roadOwner[r] = player;
+        for (BitSet legal : roads)
+            legal.clear(r);
+        for (int end = 0; end < 2; end++) {
+            int v = roadEnds[2 * r + end];
+            if (v == -1) continue;
+            openRoadsAt(v, player);
+            if (vertexOnLand[v] && settleable(v))
+                settlements[player].set(v);
+        }
+    }
+
+    void settlementBuilt(int vertexID, int player) {
+        int v = vertexSlot.get(vertexID);
+        vertexOwner[v] = player;
+        // the distance rule: nobody can settle here, or next to here
+        for (int p = 0; p < settlements.length; p++) {
+            settlements[p].clear(v);
+            for (int w : vertexNeighbours[v])
+                settlements[p].clear(w);
+        }
+        if (setupSlot[v] != -1) setup.clear(setupSlot[v]);
+        for (int w : vertexNeighbours[v])
+            if (setupSlot[w] != -1) setup.clear(setupSlot[w]);
+        cities[player].set(v);
+        openRoadsAt(v, player);
+    }
+
+    void cityBuilt(int vertexID, int player) {
+        cities[player].clear(vertexSlot.get(vertexID));
+    }
+
+    /**
+     * @return the road slots the player can build on (not to be modified)
+     */
+    BitSet legalRoads(int player) {
+        return roads[player];
+    }
+
+    /**
+     * @return the vertex slots the player can build a settlement on, outside the setup phase (not to be modified)
+     */
+    BitSet legalSettlements(int player) {
+        return settlements[player];
+    }
+
+    /**
+     * @return the vertex slots with a settlement of the player, which can be upgraded to a city (not to be modified)
+     */
+    BitSet legalCities(int player) {
+        return cities[player];
+    }
+
+    /**
+     * @return the slots of setupCoordinates which any player can settle in the setup phase (not to be modified)
+     */
+    BitSet legalSetupSettlements() {
+        return setup;
+    }
+}
@@ -16,10 +16,13 @@ import java.util.*;
 import static core.CoreConstants.GameResult;
 import static games.catan.CatanConstants.HEX_SIDES;
 import static games.catan.stats.CatanMetrics.CatanEvent.LargestArmySteal;
+import static games.catan.stats.CatanMetrics.CatanEvent.LongestRoadSteal;
 
 public class CatanGameState extends AbstractGameState {
     protected CatanTile[][] board;
     protected GraphBoardWithEdges catanGraph;
+    CatanRoadNetwork roadNetwork; // incremental longest road of each player, kept in step with catanGraph
+    CatanBuildFrontier buildFrontier; // where each player can build, kept in step with catanGraph
     protected int[] scores; // score for each player
     protected int[] victoryPoints; // secret points from victory cards
     protected int[] knights, roadLengths; // knight count and road length for each player
@@ -131,6 +134,8 @@ public class CatanGameState extends AbstractGameState {
 
     public void setGraph(GraphBoardWithEdges graph) {
         this.catanGraph = graph;
+        this.roadNetwork = new CatanRoadNetwork(graph);
+        this.buildFrontier = new CatanBuildFrontier(board, graph, getNPlayers());
     }
 
     public GraphBoardWithEdges getGraph() {
@@ -236,72 +241,58 @@ public class CatanGameState extends AbstractGameState {
         return exchangeRates.get(playerID);
     }
 
-    public int getRoadDistance(int x, int y, int edgeIdx) {
-        // As the settlements are the nodes, we expand them to find roads
-        // calculates the distance length of the road
-        Set<Edge> roadSet = new LinkedHashSet<>();
-        Set<Edge> roadSet2 = new LinkedHashSet<>();
-
-        ArrayList<Building> dir1 = new ArrayList<>();
-        ArrayList<Building> dir2 = new ArrayList<>();
-        Building settl1 = (Building) catanGraph.getNodeByID(board[x][y].getVerticesBoardNodeIDs()[edgeIdx]);
-        Building settl2 = (Building) catanGraph.getNodeByID(board[x][y].getVerticesBoardNodeIDs()[(edgeIdx + 1) % 6]);
-
-        dir1.add(settl1);
-        dir2.add(settl2);
-
-        // find longest segment, we first follow dir_1 then dir_2
-        roadSet = expandRoad(roadSet, new ArrayList<>(dir1), new ArrayList<>(dir2));
-        roadSet.addAll(expandRoad(roadSet2, new ArrayList<>(dir2), new ArrayList<>(dir1)));
-
-//        System.out.println("Current road length is " + roadSet.size() + " for player " + getCurrentPlayer());
-        return roadSet.size();
+    /**
+     * Records a road built by the player, updating their road length and where they can build.
+     *
+     * @return the new length of the longest road of the player
+     */
+    public int roadBuilt(Edge road, int playerID) {
+        roadNetwork.roadBuilt(road.getComponentID(), playerID);
+        buildFrontier.roadBuilt(road.getComponentID(), playerID);
+        roadLengths[playerID] = roadNetwork.longestRoad(playerID);
+        return roadLengths[playerID];
     }
 
-    private Set<Edge> expandRoad(Set<Edge> roadSet, List<Building> unexpanded, List<Building> expanded) {
-        // return length, makes it possible to compare segments
-        // modify original set
-        if (unexpanded.size() == 0) {
-            return roadSet;
+    /**
+     * Records a settlement built by the player, updating where everyone can build. This may break the roads of other
+     * players through it: if this shortens the longest road, it goes to the player that now has the longest road
+     * (over the minimum length), or to nobody if there is a tie for it.
+     */
+    public void settlementBuilt(Building settlement, int playerID) {
+        buildFrontier.settlementBuilt(settlement.getComponentID(), playerID);
+        roadNetwork.settlementBuilt(settlement.getComponentID(), playerID);
+        int longest = 0;
+        for (int p = 0; p < getNPlayers(); p++) {
+            roadLengths[p] = roadNetwork.longestRoad(p);
+            longest = Math.max(longest, roadLengths[p]);
         }
-        if (unexpanded.size() == 2) {
-            // Handle branching
-            int length = 0;
-            Set<Edge> longestSegment = new LinkedHashSet<>(roadSet);
-            for (Building settlement : unexpanded) {
-                ArrayList<Building> toExpand = new ArrayList<>();
-                toExpand.add(settlement);
-                Set<Edge> roadSetCopy = new LinkedHashSet<>(roadSet);
-                roadSetCopy = expandRoad(roadSetCopy, toExpand, expanded);
-                if (roadSetCopy.size() >= length) {
-                    length = roadSetCopy.size();
-                    longestSegment = roadSetCopy;
-                }
-            }
-            roadSet.addAll(longestSegment);
-            return roadSet;
+        if (longestRoadOwner == -1 || roadLengths[longestRoadOwner] >= longestRoadLength)
+            return;
+
+        CatanParameters cp = (CatanParameters) getGameParameters();
+        longestRoadLength = longest;
+        if (roadLengths[longestRoadOwner] == longest)
+            return;
+        int newOwner = -1;
+        for (int p = 0; p < getNPlayers(); p++) {
+            if (roadLengths[p] == longest)
+                newOwner = newOwner == -1 ? p : -2;
+        }
+        addScore(longestRoadOwner, -cp.longest_road_value);
+        if (newOwner >= 0 && longest > cp.min_longest_road) {
+            logEvent(LongestRoadSteal, String.valueOf(newOwner));
+            addScore(newOwner, cp.longest_road_value);
+            longestRoadOwner = newOwner;
         } else {
-            // case of expanding a single settlement
-            Building settlement = unexpanded.remove(0);
-            expanded.add(settlement);
-
-            for (Map.Entry<Edge, BoardNodeWithEdges> e : settlement.getNeighbourEdgeMapping().entrySet()) {
-                if (e.getKey().getOwnerId() == getCurrentPlayer()) {
-                    if (expanded.contains((Building)e.getValue())) {
-                        // The road used to get here
-                        roadSet.add(e.getKey());
-                    } else {
-                        // if settlement belongs to somebody else it's a deadend
-                        if (e.getValue().getOwnerId() == -1 || e.getValue().getOwnerId() == getCurrentPlayer()) {
-                            unexpanded.add((Building) e.getValue());
-                        }
-                    }
-                }
-            }
+            longestRoadOwner = -1;
         }
+    }
 
-        // only gets here when explored a single road
-        return expandRoad(roadSet, unexpanded, expanded);
+    /**
+     * Records a settlement of the player upgraded to a city.
+     */
+    public void cityBuilt(Building city, int playerID) {
+        buildFrontier.cityBuilt(city.getComponentID(), playerID);
     }
 
     public int getNResourcesInHand(int player) {
@@ -395,10 +386,12 @@ public class CatanGameState extends AbstractGameState {
 
     @Override
     protected CatanGameState _copy(int playerId) {
-        CatanGameState copy = new CatanGameState(getGameParameters().copy(), getNPlayers());
+        CatanGameState copy = new CatanGameState(gameParameters, getNPlayers());
         copy.gamePhase = gamePhase;
         copy.board = copyBoard();
         copy.catanGraph = catanGraph.copy();
+        copy.roadNetwork = roadNetwork.copy();
+        copy.buildFrontier = buildFrontier.copy();
 
         copy.gameStatus = gameStatus;
         copy.playerResults = playerResults.clone();
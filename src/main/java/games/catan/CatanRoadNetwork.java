@@ -0,0 +1,262 @@
+package games.catan;
+
+import core.components.BoardNodeWithEdges;
+import core.components.Edge;
+import core.components.GraphBoardWithEdges;
+
+import java.util.*;
+
+/**
+ * Keeps track of the longest road of each player as roads and settlements are built, without walking the whole road
+ * network of the player each time.
+ * <p>
+ * The roads of a player are split into components: roads that are connected by a shared vertex that is not occupied
+ * by another player. Each component caches the length of the longest trail through it (a path that uses no road
+ * twice, and does not pass through a settlement of another player). Building a road merges the components at its ends
+ * and marks the result as stale; building a settlement can split the components of other players that run through
+ * that vertex. Stale lengths are only recomputed when needed, and components with fewer roads than the best length
+ * found so far for the player are skipped, as the number of roads bounds the length of a trail.
+ * <p>
+ * The topology of the board (which vertices each edge joins) never changes during a game, so it is shared by all
+ * copies of the state; only the arrays of owners and components are copied.
+ */
+class CatanRoadNetwork {
+
+    // Board topology, shared between copies
+    private final Map<Integer, Integer> edgeIndex;  // edge component ID -> index
+    private final Map<Integer, Integer> vertexIndex;  // building component ID -> index
+    private final int[] edgeEnds;  // the two vertex indices of edge e are at 2e and 2e+1
+    private final int[][] vertexEdges;  // the edge indices at each vertex
+
+    private final int[] edgeOwner, vertexOwner;
+    // Each road belongs to a component, labelled by the index of one of its roads (the 'root' of the component).
+    // The size and longest trail of the component are stored at the index of the root.
+    private final int[] component, componentSize, componentLength;
+
+    CatanRoadNetwork(GraphBoardWithEdges graph) {
+        edgeIndex = new HashMap<>();
+        vertexIndex = new HashMap<>();
+        for (BoardNodeWithEdges node : graph.getBoardNodes())
+            vertexIndex.put(node.getComponentID(), vertexIndex.size());
+        List<Integer> ends = new ArrayList<>();
+        List<List<Integer>> edgesAtVertex = new ArrayList<>();
+        for (int v = 0; v < vertexIndex.size(); v++)
+            edgesAtVertex.add(new ArrayList<>());
+        for (BoardNodeWithEdges node : graph.getBoardNodes()) {
+            int v = vertexIndex.get(node.getComponentID());
+            for (Map.Entry<Edge, BoardNodeWithEdges> e : node.getNeighbourEdgeMapping().entrySet()) {
+                int id = e.getKey().getComponentID();
+                if (edgeIndex.containsKey(id))
+                    continue;
+                int idx = edgeIndex.size();
+                edgeIndex.put(id, idx);
+                int w = vertexIndex.get(e.getValue().getComponentID());
+                ends.add(v);
+                ends.add(w);
+                edgesAtVertex.get(v).add(idx);
+                edgesAtVertex.get(w).add(idx);
+            }
+        }
+        edgeEnds = ends.stream().mapToInt(i -> i).toArray();
+        vertexEdges = new int[edgesAtVertex.size()][];
+        for (int v = 0; v < vertexEdges.length; v++)
+            vertexEdges[v] = edgesAtVertex.get(v).stream().mapToInt(i -> i).toArray();
+
+        int nEdges = edgeIndex.size();
+        edgeOwner = new int[nEdges];
+        vertexOwner = new int[vertexEdges.length];
+        component = new int[nEdges];
+        componentSize = new int[nEdges];
+        componentLength = new int[nEdges];
+        Arrays.fill(edgeOwner, -1);
+        Arrays.fill(vertexOwner, -1);
+        Arrays.fill(component, -1);
+
+        // Pick up anything already on the board
+        for (BoardNodeWithEdges node : graph.getBoardNodes()) {
+            if (node.getOwnerId() != -1)
+                vertexOwner[vertexIndex.get(node.getComponentID())] = node.getOwnerId();
+            for (Edge edge : node.getEdges()) {
+                int e = edgeIndex.get(edge.getComponentID());
+                if (edge.getOwnerId() != -1 && edgeOwner[e] == -1)
+                    addRoad(e, edge.getOwnerId());
+            }
+        }
+    }
+
+    private CatanRoadNetwork(CatanRoadNetwork other) {
+        edgeIndex = other.edgeIndex;
+        vertexIndex = other.vertexIndex;
+        edgeEnds = other.edgeEnds;
+        vertexEdges = other.vertexEdges;
+        edgeOwner = other.edgeOwner.clone();
+        vertexOwner = other.vertexOwner.clone();
+        component = other.component.clone();
+        componentSize = other.componentSize.clone();
+        componentLength = other.componentLength.clone();
+    }
+
+    CatanRoadNetwork copy() {
+        return new CatanRoadNetwork(this);
+    }
+
+    /**
+     * @return true if the roads of the player can run through this vertex (i.e. no other player has built on it)
+     */
+    private boolean passable(int vertex, int player) {
+        return vertexOwner[vertex] == -1 || vertexOwner[vertex] == player;
+    }
+
+    /**
+     * Records a road built by the player on the edge with the given component ID.
+     */
+    void roadBuilt(int edgeID, int player) {
+        addRoad(edgeIndex.get(edgeID), player);
+    }
+
+    private void addRoad(int e, int player) {
+        if (edgeOwner[e] != -1)
+            throw new AssertionError("Road already owned: " + e);
+        edgeOwner[e] = player;
+        component[e] = e;
+        componentSize[e] = 1;
+        componentLength[e] = 1;
+        int root = e;
+        for (int end = 0; end < 2; end++) {
+            int v = edgeEnds[2 * e + end];
+            if (!passable(v, player))
+                continue;
+            for (int f : vertexEdges[v]) {
+                if (f != e && edgeOwner[f] == player && component[f] != root)
+                    root = merge(root, component[f]);
+            }
+        }
+        if (componentSize[root] > 1)
+            componentLength[root] = -1;
+    }
+
+    /**
+     * Merges two components, relabelling the smaller one.
+     *
+     * @return the root of the merged component
+     */
+    private int merge(int a, int b) {
+        if (componentSize[a] < componentSize[b]) {
+            int t = a;
+            a = b;
+            b = t;
+        }
+        for (int f = 0; f < component.length; f++) {
+            if (component[f] == b)
+                component[f] = a;
+        }
+        componentSize[a] += componentSize[b];
+        return a;
+    }
+
+    /**
+     * Records a settlement built by the player on the vertex with the given component ID. This may split the roads
+     * of other players that run through the vertex.
+     */
+    void settlementBuilt(int vertexID, int player) {
+        int v = vertexIndex.get(vertexID);
+        vertexOwner[v] = player;
+        for (int e : vertexEdges[v]) {
+            int owner = edgeOwner[e];
+            if (owner == -1 || owner == player)
+                continue;
+            int count = 0;
+            for (int f : vertexEdges[v])
+                if (edgeOwner[f] == owner) count++;
+            if (count > 1) {
+                split(component[e]);
+                return;  // (there are only three edges at a vertex, so only one other player can have two of them)
+            }
+        }
+    }
+
+    /**
+     * Relabels the roads of a component, which may now be in more than one piece.
+     */
+    private void split(int root) {
+        int player = edgeOwner[root];
+        List<Integer> roads = new ArrayList<>();
+        for (int f = 0; f < component.length; f++) {
+            if (component[f] == root) {
+                component[f] = -1;
+                roads.add(f);
+            }
+        }
+        Deque<Integer> toVisit = new ArrayDeque<>();
+        for (int start : roads) {
+            if (component[start] != -1)
+                continue;
+            component[start] = start;
+            componentSize[start] = 0;
+            componentLength[start] = -1;
+            toVisit.push(start);
+            while (!toVisit.isEmpty()) {
+                int e = toVisit.pop();
+                componentSize[start]++;
+                for (int end = 0; end < 2; end++) {
+                    int v = edgeEnds[2 * e + end];
+                    if (!passable(v, player))
+                        continue;
+                    for (int f : vertexEdges[v]) {
+                        if (edgeOwner[f] == player && component[f] == -1) {
+                            component[f] = start;
+                            toVisit.push(f);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the length of the longest road of the player
+     */
+    int longestRoad(int player) {
+        int best = 0;
+        for (int root = 0; root < component.length; root++) {
+            if (component[root] != root || edgeOwner[root] != player || componentSize[root] <= best)
+                continue;
+            if (componentLength[root] == -1)
+                componentLength[root] = longestTrail(root);
+            best = Math.max(best, componentLength[root]);
+        }
+        return best;
+    }
+
+    /**
+     * @return the length of the longest trail within a component, found by a depth first search from each of its
+     * vertices (components are at most the 15 roads of a player, so this is cheap)
+     */
+    private int longestTrail(int root) {
+        int player = edgeOwner[root];
+        boolean[] used = new boolean[component.length];
+        int best = 0;
+        for (int e = 0; e < component.length && best < componentSize[root]; e++) {
+            if (component[e] != root)
+                continue;
+            for (int end = 0; end < 2; end++)
+                best = Math.max(best, trailFrom(edgeEnds[2 * e + end], root, player, used));
+        }
+        return best;
+    }
+
+    private int trailFrom(int v, int root, int player, boolean[] used) {
+        int best = 0;
+        for (int f : vertexEdges[v]) {
+            if (component[f] != root || used[f])
+                continue;
+            int w = edgeEnds[2 * f] == v ? edgeEnds[2 * f + 1] : edgeEnds[2 * f];
+            used[f] = true;
+            // a road can end at, but not run through, a settlement of another player
+            int length = 1 + (passable(w, player) ? trailFrom(w, root, player, used) : 0);
+            used[f] = false;
+            best = Math.max(best, length);
+        }
+        return best;
+    }
+}
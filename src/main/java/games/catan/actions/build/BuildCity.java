@@ -45,6 +45,7 @@ public class BuildCity extends AbstractAction {
             Counter settleTokens = cgs.getPlayerTokens().get(playerID).get(BuyAction.BuyType.Settlement);
             settleTokens.decrement();
             settlement.upgrade();
+            cgs.cityBuilt(settlement, playerID);
             cgs.addScore(playerID, cp.buildingValue.get(Building.Type.City));
             cgs.addScore(playerID, -cp.buildingValue.get(Building.Type.Settlement));
 
@@ -50,8 +50,7 @@ public class BuildRoad extends AbstractAction {
             edgeObj.setOwnerId(playerID);
 
             // Check longest road
-            int new_length = cgs.getRoadDistance(x, y, edge);
-            cgs.getRoadLengths()[playerID] = new_length;
+            int new_length = cgs.roadBuilt(edgeObj, playerID);
             if (new_length > cgs.getLongestRoadLength() && new_length > cp.min_longest_road) {
                 cgs.setLongestRoadLength(new_length);
                 // add points for longest road and set the new road in gamestate
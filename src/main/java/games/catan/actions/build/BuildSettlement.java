@@ -49,6 +49,7 @@ public class BuildSettlement extends AbstractAction {
             settleTokens.increment();
 
             settlement.setOwnerId(playerID);
+            cgs.settlementBuilt(settlement, playerID);
             if(settlement.getHarbour() != null){
                 gs.logEvent(PortSettle, String.valueOf(playerID));
 
@@ -0,0 +1,157 @@
+package games.chinesecheckers;
+
+import core.actions.AbstractAction;
+import games.chinesecheckers.actions.MovePeg;
+import games.chinesecheckers.components.CCNode;
+import games.chinesecheckers.components.Peg;
+import games.chinesecheckers.components.StarBoard;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Generates the moves of a player from tables of the star board, which are built once.
+ * <p>
+ * For each of the 121 nodes we hold its neighbour in each of the six directions, and the node two steps away in each
+ * direction (which a jump over that neighbour lands on). Sets of nodes (occupied, visited and so on) are held as
+ * bitsets in two longs, so that the search for chains of jumps from a peg allocates nothing. The MovePeg actions are
+ * immutable, and each (from, to) pair is only created once.
+ */
+class CCMoveGenerator {
+
+    static final int N_NODES = 121;
+    private static final int N_DIRECTIONS = 6;
+
+    // NEIGHBOUR[node * 6 + direction] is the neighbour in that direction, and JUMP[...] the node beyond that, or -1
+    private static final int[] NEIGHBOUR = new int[N_NODES * N_DIRECTIONS];
+    private static final int[] JUMP = new int[N_NODES * N_DIRECTIONS];
+    private static final Peg.Colour[] BASE_COLOUR = new Peg.Colour[N_NODES];
+    // the nodes of each base colour (by ordinal), as a bitset
+    private static final long[][] COLOUR_NODES = new long[Peg.Colour.values().length][2];
+    private static final MovePeg[] MOVES = new MovePeg[N_NODES * N_NODES];
+
+    static {
+        StarBoard board = new StarBoard();
+        List<CCNode> nodes = board.getBoardNodes();
+        if (nodes.size() != N_NODES)
+            throw new AssertionError("Expected " + N_NODES + " nodes on the star board, not " + nodes.size());
+        Arrays.fill(NEIGHBOUR, -1);
+        Arrays.fill(JUMP, -1);
+        for (CCNode node : nodes) {
+            int id = node.getID();
+            BASE_COLOUR[id] = node.getBaseColour();
+            COLOUR_NODES[node.getBaseColour().ordinal()][id >>> 6] |= 1L << id;
+            node.getNeighbourSideMapping().forEach((neighbour, side) -> NEIGHBOUR[id * N_DIRECTIONS + side] = neighbour.getID());
+        }
+        for (int id = 0; id < N_NODES; id++) {
+            for (int dir = 0; dir < N_DIRECTIONS; dir++) {
+                int neighbour = NEIGHBOUR[id * N_DIRECTIONS + dir];
+                if (neighbour != -1)
+                    JUMP[id * N_DIRECTIONS + dir] = NEIGHBOUR[neighbour * N_DIRECTIONS + dir];
+            }
+        }
+    }
+
+    private static boolean contains(long lo, long hi, int node) {
+        return ((node < 64 ? lo : hi) & (1L << node)) != 0;
+    }
+
+    private static MovePeg move(int from, int to) {
+        // a benign race: MovePeg is immutable, so at worst two threads both create the same move
+        MovePeg move = MOVES[from * N_NODES + to];
+        if (move == null) {
+            move = new MovePeg(from, to);
+            MOVES[from * N_NODES + to] = move;
+        }
+        return move;
+    }
+
+    /**
+     * @return all the moves for the pegs of the given colour: first each peg's steps to an adjacent node, and then
+     * every node it can reach by a chain of jumps, with pegs in node order
+     */
+    static List<AbstractAction> generateMoves(StarBoard board, Peg.Colour playerCol) {
+        List<CCNode> nodes = board.getBoardNodes();
+        long occupiedLo = 0, occupiedHi = 0;
+        for (int id = 0; id < N_NODES; id++) {
+            if (nodes.get(id).isNodeOccupied()) {
+                if (id < 64) occupiedLo |= 1L << id;
+                else occupiedHi |= 1L << id;
+            }
+        }
+        // A peg can be placed on neutral nodes, and on the nodes of its own colour or the opposite one
+        long[] own = COLOUR_NODES[playerCol.ordinal()];
+        long[] opposite = COLOUR_NODES[(playerCol.ordinal() + 3) % 6];
+        long[] neutral = COLOUR_NODES[Peg.Colour.neutral.ordinal()];
+        long placeableLo = own[0] | opposite[0] | neutral[0];
+        long placeableHi = own[1] | opposite[1] | neutral[1];
+
+        List<AbstractAction> actions = new ArrayList<>();
+        for (int from = 0; from < N_NODES; from++) {
+            Peg peg = nodes.get(from).getOccupiedPeg();
+            if (peg == null || peg.getColour() != playerCol)
+                continue;
+            // first the single steps to adjacent nodes; once in its destination, a peg may not step out onto neutral nodes
+            long stepLo = placeableLo, stepHi = placeableHi;
+            if (peg.getInDestination()) {
+                stepLo &= ~neutral[0];
+                stepHi &= ~neutral[1];
+            }
+            long steppedLo = 0, steppedHi = 0;
+            for (int dir = 0; dir < N_DIRECTIONS; dir++) {
+                int to = NEIGHBOUR[from * N_DIRECTIONS + dir];
+                if (to != -1 && !contains(occupiedLo, occupiedHi, to) && contains(stepLo, stepHi, to)) {
+                    actions.add(move(from, to));
+                    if (to < 64) steppedLo |= 1L << to;
+                    else steppedHi |= 1L << to;
+                }
+            }
+
+            // then every node reachable by a chain of jumps (over any peg, to an empty node)
+            long visitedLo = 0, visitedHi = 0, toVisitLo = 0, toVisitHi = 0;
+            if (from < 64) toVisitLo = 1L << from;
+            else toVisitHi = 1L << from;
+            while ((toVisitLo | toVisitHi) != 0) {
+                int node;
+                if (toVisitLo != 0) {
+                    node = Long.numberOfTrailingZeros(toVisitLo);
+                    toVisitLo &= toVisitLo - 1;
+                    visitedLo |= 1L << node;
+                } else {
+                    node = 64 + Long.numberOfTrailingZeros(toVisitHi);
+                    toVisitHi &= toVisitHi - 1;
+                    visitedHi |= 1L << node;
+                }
+                // once in target zone, a peg may not leave it
+                boolean canLeaveZone = BASE_COLOUR[node] != playerCol;
+                for (int dir = 0; dir < N_DIRECTIONS; dir++) {
+                    int over = NEIGHBOUR[node * N_DIRECTIONS + dir];
+                    int to = JUMP[node * N_DIRECTIONS + dir];
+                    if (to == -1 || !contains(occupiedLo, occupiedHi, over) || contains(occupiedLo, occupiedHi, to))
+                        continue;
+                    if (!canLeaveZone && BASE_COLOUR[to] != playerCol)
+                        continue;
+                    if (contains(visitedLo, visitedHi, to) || contains(toVisitLo, toVisitHi, to))
+                        continue;
+                    if (to < 64) toVisitLo |= 1L << to;
+                    else toVisitHi |= 1L << to;
+                }
+            }
+            if (from < 64) visitedLo &= ~(1L << from);
+            else visitedHi &= ~(1L << from);
+            // (a few of the board's links are not symmetric, so a jump can land on a node that is also a step away)
+            visitedLo &= placeableLo & ~steppedLo;
+            visitedHi &= placeableHi & ~steppedHi;
+            while (visitedLo != 0) {
+                actions.add(move(from, Long.numberOfTrailingZeros(visitedLo)));
+                visitedLo &= visitedLo - 1;
+            }
+            while (visitedHi != 0) {
+                actions.add(move(from, 64 + Long.numberOfTrailingZeros(visitedHi)));
+                visitedHi &= visitedHi - 1;
+            }
+        }
+        return actions;
+    }
+}
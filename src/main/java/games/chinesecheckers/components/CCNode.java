@@ -148,8 +148,7 @@ public class CCNode extends Component {
     public String toString() {
         StringBuilder sb = new StringBuilder();
         sb.append("{id: " + componentID + "; maxNeighbours: " + maxNeighbours + "; ");
-        for (int prop_key : properties.keySet()) {
-            Property prop = properties.get(prop_key);
+        for (Property prop : getProperties().values()) {
             sb.append(prop.getHashString() + ": " + prop.toString() + "; ");
         }
         return sb.toString();
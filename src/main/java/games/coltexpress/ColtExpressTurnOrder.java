@@ -161,7 +161,10 @@ public class ColtExpressTurnOrder extends TurnOrder {
 
         gameState.getPlayerTimer()[getCurrentPlayer(gameState)].incrementTurn();
 
-        listeners.forEach(l -> l.onEvent(Event.createEvent(Event.GameEvent.TURN_OVER, gameState, getCurrentPlayer(gameState))));
+        if (!listeners.isEmpty()) {
+            Event turnOver = Event.createEvent(Event.GameEvent.TURN_OVER, gameState, getCurrentPlayer(gameState));
+            listeners.forEach(l -> l.onEvent(turnOver));
+        }
 
         turnCounter++;
         ColtExpressGamePhase phase = (ColtExpressGamePhase) cegs.getGamePhase();
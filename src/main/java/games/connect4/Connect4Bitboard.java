@@ -0,0 +1,153 @@
+package games.connect4;
+
+import core.actions.AbstractAction;
+import core.actions.SetGridValueAction;
+import core.components.Token;
+import core.interfaces.IStateKey;
+import utilities.Pair;
+
+import java.util.LinkedList;
+
+/**
+ * A bitboard view of the Connect4 grid, kept in step with the GridBoard by the forward model.
+ * <p>
+ * Each player has one bit per cell (one long for boards of up to 64 cells, as for the default 8x8 board), indexed by
+ * column and then by row counted up from the bottom. With the height of each column this gives the available moves
+ * directly, and a win only needs checking along the four lines through the last disc placed.
+ * A Zobrist-style hash of the discs is also kept up to date with each move.
+ */
+public class Connect4Bitboard {
+
+    // the directions (dx, dRow) of the four lines through a cell; row is counted from the bottom of the grid
+    private static final int[][] LINES = {{0, 1}, {1, 0}, {1, 1}, {1, -1}};
+
+    final int width, height, winCount;
+    private final long[][] discs;
+    private final int[] columnHeights;
+    private int nDiscs;
+    private long hash;
+    // The (immutable) action to place each player's disc in each cell. This is shared by all copies.
+    private final AbstractAction[][] actions;
+
+    public Connect4Bitboard(int width, int height, int winCount, int gridBoardID) {
+        this.width = width;
+        this.height = height;
+        this.winCount = winCount;
+        int words = (width * height + 63) / 64;
+        discs = new long[2][words];
+        columnHeights = new int[width];
+        actions = new AbstractAction[2][width * height];
+        for (int player = 0; player < 2; player++) {
+            Token token = Connect4Constants.playerMapping.get(player);
+            for (int x = 0; x < width; x++)
+                for (int row = 0; row < height; row++)
+                    actions[player][cell(x, row)] = new SetGridValueAction<>(gridBoardID, x, height - 1 - row, token);
+        }
+    }
+
+    private Connect4Bitboard(Connect4Bitboard other) {
+        width = other.width;
+        height = other.height;
+        winCount = other.winCount;
+        discs = new long[][]{other.discs[0].clone(), other.discs[1].clone()};
+        columnHeights = other.columnHeights.clone();
+        nDiscs = other.nDiscs;
+        hash = other.hash;
+        actions = other.actions;
+    }
+
+    public Connect4Bitboard copy() {
+        return new Connect4Bitboard(this);
+    }
+
+    // the bit for a cell is (1L << cell) in word (cell >>> 6), as shifts of a long only use the low 6 bits
+    private int cell(int x, int row) {
+        return x * height + row;
+    }
+
+    /**
+     * @return true if the player has a disc at (x, row), with row counted from the bottom of the grid
+     */
+    public boolean hasDisc(int player, int x, int row) {
+        if (x < 0 || x >= width || row < 0 || row >= height)
+            return false;
+        int cell = cell(x, row);
+        return (discs[player][cell >>> 6] & (1L << cell)) != 0;
+    }
+
+    public boolean isColumnFull(int x) {
+        return columnHeights[x] == height;
+    }
+
+    public boolean isFull() {
+        return nDiscs == width * height;
+    }
+
+    /**
+     * @return the action for the player to drop a disc in the column (which must not be full)
+     */
+    public AbstractAction actionFor(int player, int x) {
+        return actions[player][cell(x, columnHeights[x])];
+    }
+
+    /**
+     * Records a disc for the player at (x, y), with y the GridBoard row (counted from the top).
+     *
+     * @return the row of the disc, counted from the bottom
+     */
+    public int place(int player, int x, int y) {
+        int row = height - 1 - y;
+        if (hasDisc(0, x, row) || hasDisc(1, x, row))
+            throw new AssertionError("Cell " + x + ", " + y + " is already occupied");
+        int cell = cell(x, row);
+        discs[player][cell >>> 6] |= 1L << cell;
+        columnHeights[x] = Math.max(columnHeights[x], row + 1);
+        nDiscs++;
+        hash ^= cellHash(player, cell);
+        return row;
+    }
+
+    private static long cellHash(int player, int cell) {
+        return IStateKey.mix(0x9E3779B97F4A7C15L * (2L * cell + player + 1));
+    }
+
+    /**
+     * @return the number of discs in the run of the player's discs through (x, row) along the line (dx, dRow)
+     */
+    private int runLength(int player, int x, int row, int dx, int dRow) {
+        int count = 1;
+        for (int i = 1; hasDisc(player, x + i * dx, row + i * dRow); i++)
+            count++;
+        for (int i = 1; hasDisc(player, x - i * dx, row - i * dRow); i++)
+            count++;
+        return count;
+    }
+
+    /**
+     * Checks whether the player's disc at (x, row) is part of a line of at least winCount discs.
+     *
+     * @return the GridBoard (x, y) cells of winCount discs of that line, including (x, row) (the first such along
+     * the line, if the run of discs is longer), or null if there is none
+     */
+    public LinkedList<Pair<Integer, Integer>> winningLine(int player, int x, int row) {
+        for (int[] line : LINES) {
+            if (runLength(player, x, row, line[0], line[1]) >= winCount) {
+                LinkedList<Pair<Integer, Integer>> cells = new LinkedList<>();
+                int start = 0;
+                while (start > 1 - winCount && hasDisc(player, x + (start - 1) * line[0], row + (start - 1) * line[1]))
+                    start--;
+                for (int i = start; i < start + winCount; i++)
+                    cells.add(new Pair<>(x + i * line[0], height - 1 - (row + i * line[1])));
+                return cells;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the hash of the position of the discs (which does not depend on the order they were placed in)
+     */
+    public long getHash() {
+        return hash;
+    }
+}
@@ -22,30 +22,21 @@ public class Connect4ForwardModel extends SequentialActionForwardModel {
         int gridSize = c4gp.gridSize;
         Connect4GameState state = (Connect4GameState) firstState;
         state.gridBoard = new GridBoard<>(gridSize, gridSize, new Token(Connect4Constants.emptyCell));
+        state.bitboard = new Connect4Bitboard(gridSize, gridSize, c4gp.winCount, state.gridBoard.getComponentID());
         state.winnerCells = new LinkedList<>();
     }
 
     @Override
     protected List<AbstractAction> _computeAvailableActions(AbstractGameState gameState) {
         Connect4GameState c4gs = (Connect4GameState) gameState;
-        ArrayList<AbstractAction> actions = new ArrayList<>();
+        Connect4Bitboard bitboard = c4gs.bitboard;
+        ArrayList<AbstractAction> actions = new ArrayList<>(bitboard.width);
         int player = c4gs.getCurrentPlayer();
 
         if (gameState.isNotTerminal())
-            for (int x = 0; x < c4gs.gridBoard.getWidth(); x++) {
-                int y = c4gs.gridBoard.getHeight() - 1; // this is bottom of column
-                boolean end = false;
-                while(!end)
-                {
-                    boolean newCol = false;
-                    if (c4gs.gridBoard.getElement(x, y).getTokenType().equals(Connect4Constants.emptyCell)) {
-                        actions.add(new SetGridValueAction<>(c4gs.gridBoard.getComponentID(), x, y, Connect4Constants.playerMapping.get(player)));
-                        newCol = true;
-                    }
-
-                    //Stop when reaching top (column is full) or on finding the first empty cell (action available)
-                    end = (--y <  0 || newCol);
-                }
+            for (int x = 0; x < bitboard.width; x++) {
+                if (!bitboard.isColumnFull(x))
+                    actions.add(bitboard.actionFor(player, x));
             }
         return actions;
     }
@@ -53,108 +44,34 @@ public class Connect4ForwardModel extends SequentialActionForwardModel {
     @Override
     protected void _afterAction(AbstractGameState currentState, AbstractAction action) {
         Connect4GameState c4gs = (Connect4GameState) currentState;
+        SetGridValueAction<?> move = (SetGridValueAction<?>) action;
+        int player = Connect4Constants.playerMapping.indexOf(move.getValue());
+        int row = c4gs.bitboard.place(player, move.getX(), move.getY());
 
         // game-specific check for end of game
-        if (checkGameEnd(c4gs)) {
+        if (checkGameEnd(c4gs, player, move.getX(), row)) {
             return;
         }
         super._afterAction(currentState, action);
     }
 
     /**
-     * Checks if the game ended.
+     * Checks if the game ended. Only the disc just placed can have made a new line, so we only check the lines
+     * through it.
      *
      * @param gameState - game state to check game end.
+     * @param player    - the player who placed the last disc
+     * @param x         - the column of the last disc
+     * @param row       - the row of the last disc, counted from the bottom
      */
-    private boolean checkGameEnd(Connect4GameState gameState) {
-        GridBoard<Token> gridBoard = gameState.getGridBoard();
-        Connect4GameParameters c4gp = (Connect4GameParameters) gameState.getGameParameters();
-        boolean gap = false;
-        LinkedList<Pair<Integer, Integer>> winning = new LinkedList<>();;
-
-        // Check columns
-        for (int x = 0; x < gridBoard.getWidth(); x++) {
-            int count = 0;
-            String lastToken = null;
-            winning.clear();
-            for (int y = gridBoard.getHeight() - 1; y >= 0; y--) {
-                Token c = gridBoard.getElement(x, y);
-                if (c.getTokenType().equals(Connect4Constants.emptyCell)) {
-                    count = 0;
-                    lastToken = null;
-                    winning.clear();
-                    gap = true;
-                } else if (lastToken == null || !lastToken.equals(c.getTokenType())) {
-                    winning.clear();
-                    count = 1;
-                    lastToken = c.getTokenType();
-                    winning.add(new Pair<>(x, y));
-                } else {
-                    {
-                        count++;
-                        winning.add(new Pair<>(x, y));
-                        if (count == c4gp.winCount) {
-                            registerWinner(gameState, c, winning);
-                            return true;
-                        }
-                    }
-                    lastToken = c.getTokenType();
-                }
-            }
-        }
-
-        // Check rows
-        for (int y = gridBoard.getHeight() - 1; y >= 0; y--) {
-            int count = 0;
-            String lastToken = null;
-            winning.clear();
-            for (int x = 0; x < gridBoard.getWidth(); x++) {
-                Token c = gridBoard.getElement(x, y);
-                if (c.getTokenType().equals(Connect4Constants.emptyCell)) {
-                    count = 0;
-                    lastToken = null;
-                    winning.clear();
-                } else if (lastToken == null || !lastToken.equals(c.getTokenType())) {
-                    winning.clear();
-                    count = 1;
-                    lastToken = c.getTokenType();
-                    winning.add(new Pair<>(x, y));
-                } else {
-                    {
-                        count++;
-                        winning.add(new Pair<>(x, y));
-                        if (count == c4gp.winCount) {
-                            registerWinner(gameState, c, winning);
-                            return true;
-                        }
-                    }
-                    lastToken = c.getTokenType();
-                }
-            }
-        }
-
-        //Check main diagonals (from col 0)
-        for (int y = gridBoard.getHeight() - 1; y >= 0; y--) {
-            if (checkMainDiagonals(gameState, 0, y))
-                return true;
-
-        }
-
-        //Check main and inverse diagonals (from row 0)
-        for (int x = 1; x < gridBoard.getWidth(); x++) {
-            if (checkMainDiagonals(gameState, x, gridBoard.getHeight() - 1))
-                return true;
-            if (checkInvDiagonals(gameState, x, gridBoard.getHeight() - 1))
-                return true;
-        }
-
-        //Check inv diagonals (from last column)
-        for (int y = gridBoard.getHeight() - 2; y >= 0; y--) { //height -1 is checked in previous loop
-            if (checkInvDiagonals(gameState, gridBoard.getWidth()-1, y))
-                return true;
+    private boolean checkGameEnd(Connect4GameState gameState, int player, int x, int row) {
+        LinkedList<Pair<Integer, Integer>> winning = gameState.bitboard.winningLine(player, x, row);
+        if (winning != null) {
+            registerWinner(gameState, Connect4Constants.playerMapping.get(player), winning);
+            return true;
         }
 
-        if (!gap) { //tie
+        if (gameState.bitboard.isFull()) { //tie
             gameState.setGameStatus(CoreConstants.GameResult.DRAW_GAME);
             Arrays.fill(gameState.getPlayerResults(), CoreConstants.GameResult.DRAW_GAME);
             return true;
@@ -163,73 +80,6 @@ public class Connect4ForwardModel extends SequentialActionForwardModel {
         return false;
     }
 
-
-    private boolean checkMainDiagonals(Connect4GameState gameState, int xStart, int yStart)
-    {
-        GridBoard<Token> gridBoard = gameState.getGridBoard();
-        Connect4GameParameters c4gp = (Connect4GameParameters) gameState.getGameParameters();
-        int count = 0;
-        String lastToken = null;
-        LinkedList<Pair<Integer, Integer>> winning = new LinkedList<>();
-
-        for (int x = xStart, y = yStart; x < gridBoard.getWidth() && y >=0; x++, y--) {
-            Token c = gridBoard.getElement(x, y);
-
-            if (c.getTokenType().equals(Connect4Constants.emptyCell)) {
-                count = 0;
-                lastToken = null;
-                winning.clear();
-            } else if (lastToken == null || !lastToken.equals(c.getTokenType())) {
-                winning.clear();
-                count = 1;
-                lastToken = c.getTokenType();
-                winning.add(new Pair<>(x, y));
-            } else {
-                count++;
-                winning.add(new Pair<>(x, y));
-                if (count == c4gp.winCount) {
-                    registerWinner(gameState, c, winning);
-                    return true;
-                }
-                lastToken = c.getTokenType();
-            }
-        }
-        return false;
-    }
-
-    private boolean checkInvDiagonals(Connect4GameState gameState, int xStart, int yStart)
-    {
-        GridBoard<Token> gridBoard = gameState.getGridBoard();
-        Connect4GameParameters c4gp = (Connect4GameParameters) gameState.getGameParameters();
-        int count = 0;
-        String lastToken = null;
-        LinkedList<Pair<Integer, Integer>> winning = new LinkedList<>();
-
-        for (int x = xStart, y = yStart; x >= 0 && y >= 0; x--, y--) {
-            Token c = gridBoard.getElement(x, y);
-
-            if (c.getTokenType().equals(Connect4Constants.emptyCell)) {
-                count = 0;
-                lastToken = null;
-                winning.clear();
-            } else if (lastToken == null || !lastToken.equals(c.getTokenType())) {
-                winning.clear();
-                count = 1;
-                lastToken = c.getTokenType();
-                winning.add(new Pair<>(x, y));
-            } else {
-                count++;
-                winning.add(new Pair<>(x, y));
-                if (count == c4gp.winCount) {
-                    registerWinner(gameState, c, winning);
-                    return true;
-                }
-                lastToken = c.getTokenType();
-            }
-        }
-        return false;
-    }
-
     /**
      * Inform the game this player has won.
      *
@@ -21,6 +21,8 @@ import java.util.Objects;
 public class Connect4GameState extends AbstractGameState implements IPrintable, IGridGameState<Token> {
 
     GridBoard<Token> gridBoard;
+    // the same discs as the gridBoard, used by the forward model to find moves and check for wins
+    Connect4Bitboard bitboard;
     LinkedList<Pair<Integer, Integer>> winnerCells;
 
     public Connect4GameState(AbstractParameters gameParameters, int nPlayers) {
@@ -43,8 +45,9 @@ public class Connect4GameState extends AbstractGameState implements IPrintable,
 
     @Override
     protected AbstractGameState _copy(int playerId) {
-        Connect4GameState s = new Connect4GameState(gameParameters.copy(), getNPlayers());
+        Connect4GameState s = new Connect4GameState(gameParameters, getNPlayers());
         s.gridBoard = gridBoard.copy();
+        s.bitboard = bitboard.copy();
 
         s.winnerCells.clear();
         for (Pair<Integer, Integer> wC : this.winnerCells)
@@ -114,6 +117,10 @@ public class Connect4GameState extends AbstractGameState implements IPrintable,
         System.out.println(gridBoard.toString());
     }
 
+    public Connect4Bitboard getBitboard() {
+        return bitboard;
+    }
+
     void registerWinningCells(LinkedList<Pair<Integer, Integer>> winnerCells) {
         this.winnerCells = winnerCells;
     }
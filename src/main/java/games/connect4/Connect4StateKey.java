@@ -0,0 +1,18 @@
+package games.connect4;
+
+import core.AbstractGameState;
+import core.interfaces.IStateKey;
+
+/**
+ * The key of a Connect4 state is the hash of its discs, which the bitboard keeps up to date as each one is placed;
+ * so this costs nothing to compute. (Connect4StateVector instead gives the same key to positions that are the same
+ * relative to the player to move.)
+ */
+public class Connect4StateKey implements IStateKey {
+
+    @Override
+    public long getKey(AbstractGameState state) {
+        Connect4GameState c4gs = (Connect4GameState) state;
+        return IStateKey.mix(c4gs.bitboard.getHash() ^ c4gs.getCurrentPlayer());
+    }
+}
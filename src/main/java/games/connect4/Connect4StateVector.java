@@ -1,5 +1,6 @@
 package games.connect4;
 import core.AbstractGameState;
+import core.components.GridBoard;
 import core.components.Token;
 import core.interfaces.IStateFeatureVector;
 import core.interfaces.IStateKey;
@@ -37,8 +38,22 @@ public class Connect4StateVector implements IStateFeatureVector, IStateKey {
     }
 
     @Override
-    public String getKey(AbstractGameState state) {
-        double[] retValue = featureVector(state, state.getCurrentPlayer());
-        return String.format("%d-%s", state.getCurrentPlayer(), Arrays.toString(retValue));
+    public long getKey(AbstractGameState gs) {
+        // Zobrist-style: xor a fixed random-looking value for each occupied (cell, owner) pair, with owner
+        // relative to the current player as in featureVector(); this avoids building the vector at all
+        Connect4GameState state = (Connect4GameState) gs;
+        String playerChar = Connect4Constants.playerMapping.get(state.getCurrentPlayer()).getTokenType();
+        GridBoard<Token> grid = state.gridBoard;
+        long key = IStateKey.mix(state.getCurrentPlayer());
+        int cell = 0;
+        for (int y = 0; y < grid.getHeight(); y++) {
+            for (int x = 0; x < grid.getWidth(); x++, cell++) {
+                String pos = grid.getElement(x, y).getTokenType();
+                if (pos.equals(Connect4Constants.emptyCell))
+                    continue;
+                key ^= IStateKey.mix(0x9E3779B97F4A7C15L * (2L * cell + (pos.equals(playerChar) ? 1 : 2)));
+            }
+        }
+        return key;
     }
 }
@@ -6,14 +6,16 @@ import core.CoreConstants;
 import core.components.Card;
 import core.components.Component;
 import core.components.Deck;
-import core.components.PartialObservableDeck;
 import core.interfaces.IGamePhase;
 import core.interfaces.IPrintable;
 import games.GameType;
 import games.dominion.DominionConstants.DeckType;
 import games.dominion.actions.IDelayedAction;
+import games.dominion.cards.CardCounts;
 import games.dominion.cards.CardType;
 import games.dominion.cards.DominionCard;
+import games.dominion.cards.DominionDeck;
+import games.dominion.cards.DominionPartialObservableDeck;
 
 import java.util.*;
 import java.util.function.Function;
@@ -27,12 +29,13 @@ public class DominionGameState extends AbstractGameState implements IPrintable {
 
     Map<CardType, Integer> cardsIncludedInGame = new HashMap<>();
     // Then Decks for each player - Hand, Discard and Draw
-    PartialObservableDeck<DominionCard>[] playerHands;
-    PartialObservableDeck<DominionCard>[] playerDrawPiles;
-    Deck<DominionCard>[] playerDiscards;
-    Deck<DominionCard>[] playerTableaux;
+    // (these also count the cards of each type they hold, for cardsOfType() and getTotal())
+    DominionPartialObservableDeck[] playerHands;
+    DominionPartialObservableDeck[] playerDrawPiles;
+    DominionDeck[] playerDiscards;
+    DominionDeck[] playerTableaux;
     // Trash pile and other global decks
-    Deck<DominionCard> trashPile;
+    DominionDeck trashPile;
     boolean[] defenceStatus;
     int buysLeftForCurrentPlayer = 1;
     int actionsLeftForCurrentPlayer = 1;
@@ -104,6 +107,8 @@ public class DominionGameState extends AbstractGameState implements IPrintable {
     }
 
     public boolean moveCard(CardType type, int fromPlayer, DeckType fromDeck, int toPlayer, DeckType toDeck) {
+        if (cardsOfType(type, fromPlayer, fromDeck) == 0)
+            return false;
         DominionCard cardToMove = getDeck(fromDeck, fromPlayer).stream()
                 .filter(c -> c.cardType() == type)
                 .findFirst().orElse(null);
@@ -150,7 +155,7 @@ public class DominionGameState extends AbstractGameState implements IPrintable {
         if (playerID != turnOwner) {
             return 0;
         }
-        int totalTreasureInHand = playerHands[playerID].sumInt(DominionCard::treasureValue);
+        int totalTreasureInHand = playerHands[playerID].sumByType(DominionCard::treasureValue);
         return totalTreasureInHand - spentSoFar + additionalSpendAvailable;
     }
 
@@ -192,29 +197,25 @@ public class DominionGameState extends AbstractGameState implements IPrintable {
     }
 
     public int cardsOfType(CardType type, int playerId, DeckType deck) {
-        Deck<DominionCard> allCards;
         switch (deck) {
             case SUPPLY:
                 return cardsIncludedInGame.getOrDefault(type, 0);
             case HAND:
+                return playerHands[playerId].count(type);
             case TABLE:
+                return playerTableaux[playerId].count(type);
             case DRAW:
+                return playerDrawPiles[playerId].count(type);
             case DISCARD:
+                return playerDiscards[playerId].count(type);
             case TRASH:
-                allCards = getDeck(deck, playerId);
-                break;
+                return trashPile.count(type);
             case ALL:
-                allCards = new Deck<>("temp", VISIBLE_TO_ALL);
-                allCards.add(playerHands[playerId]);
-                allCards.add(playerDiscards[playerId]);
-                allCards.add(playerDrawPiles[playerId]);
-                allCards.add(playerTableaux[playerId]);
-                break;
+                return playerHands[playerId].count(type) + playerDiscards[playerId].count(type)
+                        + playerDrawPiles[playerId].count(type) + playerTableaux[playerId].count(type);
             default:
                 throw new IllegalStateException("Unexpected value: " + deck);
         }
-
-        return (int) allCards.stream().filter(c -> c.cardType() == type).count();
     }
 
     public List<CardType> cardsToBuy() {
@@ -251,7 +252,7 @@ public class DominionGameState extends AbstractGameState implements IPrintable {
      */
     @Override
     protected AbstractGameState _copy(int playerId) {
-        DominionGameState retValue = new DominionGameState(((DominionParameters)gameParameters).shallowCopy(), nPlayers);
+        DominionGameState retValue = new DominionGameState(gameParameters, nPlayers);
         for (CardType ct : cardsIncludedInGame.keySet()) {
             retValue.cardsIncludedInGame.put(ct, cardsIncludedInGame.get(ct));
         }
@@ -268,28 +269,7 @@ public class DominionGameState extends AbstractGameState implements IPrintable {
                 // need to combine and shuffle hands and drawpiles
                 retValue.playerDrawPiles[p] = playerDrawPiles[p].copy();
                 retValue.playerHands[p] = playerHands[p].copy();
-                for (int i = 0; i < retValue.playerHands[p].getSize(); i++) {
-                    // if we (the perspective player) can see the card, then we need to keep it in place
-                    // if not then we move it to the *bottom* of the drawpile (this is the end of an ArrayList...so more efficient?)
-                    if (!retValue.playerHands[p].getVisibilityForPlayer(i, playerId)) {
-                        retValue.playerDrawPiles[p].add(retValue.playerHands[p].get(i), retValue.playerDrawPiles[p].getSize());
-                    }
-                }
-                // we have now moved all the non-visible Hand cards into the Draw pile to reshuffle
-                retValue.playerHands[p].clear(); // we will need to reconstruct this, including visibility status in a sec
-                // we then reshuffle all the non-visible cards
-                retValue.playerDrawPiles[p].shuffleVisible(redeterminisationRnd, playerId, false);
-                // we then remove cards from the top of the shuffled draw pile (in the region we know is not visible)
-                for (int i = 0; i < playerHands[p].getSize(); i++) {
-                    if (!playerHands[p].getVisibilityForPlayer(i, playerId)) {
-                        // we then pick cards from the end of the drawpile List and add them to the Hand
-                        // possibly more efficient picking from the end of an ArrayList?
-                        retValue.playerHands[p].add(retValue.playerDrawPiles[p].pick(retValue.playerDrawPiles[p].getSize() - 1), i);
-                    } else {
-                        // we know what this card is, so copy over visibility status
-                        retValue.playerHands[p].add(playerHands[p].get(i).copy(), playerHands[p].getVisibilityOfComponent(i).clone());
-                    }
-                }
+                redeterminiseHand(retValue.playerHands[p], retValue.playerDrawPiles[p], playerId);
             }
             retValue.playerDiscards[p] = playerDiscards[p].copy();
             retValue.playerTableaux[p] = playerTableaux[p].copy();
@@ -306,6 +286,29 @@ public class DominionGameState extends AbstractGameState implements IPrintable {
         return retValue;
     }
 
+    /**
+     * Shuffles the cards in the hand of another player that the perspective player cannot see with those in their
+     * draw pile that the perspective player cannot see, leaving everything that can be seen where it is. The hand
+     * positions that are dealt again take the default visibility of the hand.
+     */
+    private void redeterminiseHand(DominionPartialObservableDeck hand, DominionPartialObservableDeck drawPile, int playerId) {
+        List<DominionCard> unseen = new ArrayList<>(hand.getSize() + drawPile.getSize());
+        for (int i = 0; i < hand.getSize(); i++)
+            if (!hand.getVisibilityForPlayer(i, playerId)) unseen.add(hand.get(i));
+        for (int i = 0; i < drawPile.getSize(); i++)
+            if (!drawPile.getVisibilityForPlayer(i, playerId)) unseen.add(drawPile.get(i));
+        Collections.shuffle(unseen, redeterminisationRnd);
+        int n = 0;
+        for (int i = 0; i < hand.getSize(); i++) {
+            if (!hand.getVisibilityForPlayer(i, playerId)) {
+                hand.setComponent(i, unseen.get(n++));
+                hand.setVisibilityOfComponent(i, hand.getDeckVisibility());
+            }
+        }
+        for (int i = 0; i < drawPile.getSize(); i++)
+            if (!drawPile.getVisibilityForPlayer(i, playerId)) drawPile.setComponent(i, unseen.get(n++));
+    }
+
     /**
      * Provide a simple numerical assessment of the current game state, the bigger the better.
      * Subjective heuristic function definition.
@@ -337,16 +340,31 @@ public class DominionGameState extends AbstractGameState implements IPrintable {
         return getTotal(playerId, c -> c.victoryPoints(playerId, this));
     }
 
+    /**
+     * @param cardValuer - the value of a card, which must depend only on its type (cards are valued by type)
+     */
     public int getTotal(int playerId, DeckType deck, Function<DominionCard, Integer> cardValuer) {
-        return getDeck(deck, playerId).sumInt(cardValuer);
+        switch (deck) {
+            case HAND:
+                return playerHands[playerId].sumByType(cardValuer);
+            case DRAW:
+                return playerDrawPiles[playerId].sumByType(cardValuer);
+            case DISCARD:
+                return playerDiscards[playerId].sumByType(cardValuer);
+            case TABLE:
+                return playerTableaux[playerId].sumByType(cardValuer);
+            case TRASH:
+                return trashPile.sumByType(cardValuer);
+        }
+        throw new AssertionError("Unknown deck type " + deck);
     }
 
+    /**
+     * @param cardValuer - the value of a card, which must depend only on its type (cards are valued by type)
+     */
     public int getTotal(int playerId, Function<DominionCard, Integer> cardValuer) {
-        int score = playerHands[playerId].sumInt(cardValuer);
-        score += playerDiscards[playerId].sumInt(cardValuer);
-        score += playerTableaux[playerId].sumInt(cardValuer);
-        score += playerDrawPiles[playerId].sumInt(cardValuer);
-        return score;
+        return CardCounts.sum(cardValuer, playerHands[playerId].getCounts(), playerDiscards[playerId].getCounts(),
+                playerTableaux[playerId].getCounts(), playerDrawPiles[playerId].getCounts());
     }
 
     public int getTotalCards(int playerId) {
@@ -371,19 +389,19 @@ public class DominionGameState extends AbstractGameState implements IPrintable {
      */
     @Override
     protected void reset() {
-        playerHands = new PartialObservableDeck[nPlayers];
-        playerDrawPiles = new PartialObservableDeck[nPlayers];
-        playerDiscards = new Deck[nPlayers];
-        playerTableaux = new Deck[nPlayers];
+        playerHands = new DominionPartialObservableDeck[nPlayers];
+        playerDrawPiles = new DominionPartialObservableDeck[nPlayers];
+        playerDiscards = new DominionDeck[nPlayers];
+        playerTableaux = new DominionDeck[nPlayers];
 
-        trashPile = new Deck<>("Trash", VISIBLE_TO_ALL);
+        trashPile = new DominionDeck("Trash", VISIBLE_TO_ALL);
         for (int i = 0; i < nPlayers; i++) {
             boolean[] handVisibility = new boolean[nPlayers];
             handVisibility[i] = true;
-            playerHands[i] = new PartialObservableDeck<>("Hand of Player " + i + 1, handVisibility);
-            playerDrawPiles[i] = new PartialObservableDeck<>("Drawpile of Player " + i + 1, new boolean[nPlayers]);
-            playerDiscards[i] = new Deck<>("Discard of Player " + i + 1, VISIBLE_TO_ALL);
-            playerTableaux[i] = new Deck<>("Tableau of Player " + i + 1, VISIBLE_TO_ALL);
+            playerHands[i] = new DominionPartialObservableDeck("Hand of Player " + i + 1, handVisibility);
+            playerDrawPiles[i] = new DominionPartialObservableDeck("Drawpile of Player " + i + 1, new boolean[nPlayers]);
+            playerDiscards[i] = new DominionDeck("Discard of Player " + i + 1, VISIBLE_TO_ALL);
+            playerTableaux[i] = new DominionDeck("Tableau of Player " + i + 1, VISIBLE_TO_ALL);
         }
         super.reset();
     }
@@ -0,0 +1,101 @@
+package games.dominion.cards;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * The number of cards of each CardType in a deck of Dominion cards. Cards of the same type are interchangeable, so
+ * this is all that is needed to count or value a deck, which is then O(number of card types) rather than O(cards).
+ * The deck still holds its list of cards alongside the counts, and copying, drawing from or redeterminising the deck
+ * work on that list as before (only the counts themselves are copied in O(number of card types)).
+ * <p>
+ * The counts are kept up to date by the deck as cards are added and removed. They are only counted from the cards
+ * when first needed, and are dropped (to be counted again) if the list of cards is handed out, as it may then be
+ * changed without the deck knowing.
+ */
+public final class CardCounts {
+
+    private static final CardType[] TYPES = CardType.values();
+    // one card of each type, to value a type of card (all cards are immutable, and equal if of the same type)
+    private static final DominionCard[] EXAMPLES = new DominionCard[TYPES.length];
+
+    private int[] counts;  // by CardType ordinal; null if they need to be counted (again)
+
+    CardCounts() {
+    }
+
+    private CardCounts(int[] counts) {
+        this.counts = counts;
+    }
+
+    CardCounts copy() {
+        return new CardCounts(counts == null ? null : counts.clone());
+    }
+
+    void add(DominionCard card) {
+        if (counts != null) counts[card.type.ordinal()]++;
+    }
+
+    void add(Collection<? extends DominionCard> cards) {
+        if (counts != null)
+            for (DominionCard card : cards) counts[card.type.ordinal()]++;
+    }
+
+    void remove(DominionCard card) {
+        if (counts != null) counts[card.type.ordinal()]--;
+    }
+
+    void clear() {
+        counts = null;
+    }
+
+    void invalidate() {
+        counts = null;
+    }
+
+    /**
+     * @param cards - the cards in the deck, used if the counts need to be counted again
+     */
+    int count(CardType type, List<DominionCard> cards) {
+        return counts(cards)[type.ordinal()];
+    }
+
+    /**
+     * The total value of the cards of one or more decks, valuing each type of card once. The valuer must therefore
+     * depend only on the type of the card (as is the case for everything a DominionCard knows about itself).
+     *
+     * @param counts - the counts of each deck, as given by getCounts()
+     */
+    public static int sum(Function<DominionCard, Integer> cardValuer, int[]... counts) {
+        int total = 0;
+        for (int i = 0; i < TYPES.length; i++) {
+            int n = 0;
+            for (int[] c : counts) n += c[i];
+            if (n != 0)
+                total += n * cardValuer.apply(example(i));
+        }
+        return total;
+    }
+
+    /**
+     * @param cards - the cards in the deck, used if the counts need to be counted again
+     * @return the number of cards of each type, by CardType ordinal (not to be modified)
+     */
+    int[] counts(List<DominionCard> cards) {
+        if (counts == null) {
+            counts = new int[TYPES.length];
+            for (DominionCard card : cards) counts[card.type.ordinal()]++;
+        }
+        return counts;
+    }
+
+    private static DominionCard example(int ordinal) {
+        DominionCard card = EXAMPLES[ordinal];
+        if (card == null) {
+            card = DominionCard.create(TYPES[ordinal]);
+            EXAMPLES[ordinal] = card;
+        }
+        return card;
+    }
+}
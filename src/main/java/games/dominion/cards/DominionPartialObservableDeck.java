@@ -0,0 +1,137 @@
+package games.dominion.cards;
+
+import core.components.Deck;
+import core.components.PartialObservableDeck;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A PartialObservableDeck of Dominion cards that also keeps count of how many cards of each CardType it holds (as
+ * DominionDeck does).
+ */
+public class DominionPartialObservableDeck extends PartialObservableDeck<DominionCard> {
+
+    CardCounts counts = new CardCounts();
+
+    public DominionPartialObservableDeck(String id, boolean[] defaultVisibility) {
+        super(id, defaultVisibility);
+    }
+
+    protected DominionPartialObservableDeck(String name, int ownerID, boolean[] defaultVisibility, int ID) {
+        super(name, ownerID, defaultVisibility, ID);
+    }
+
+    /**
+     * @return the number of cards of the given type in the deck
+     */
+    public int count(CardType type) {
+        return counts.count(type, components);
+    }
+
+    /**
+     * @return the number of cards of each type in the deck, by CardType ordinal (not to be modified)
+     */
+    public int[] getCounts() {
+        return counts.counts(components);
+    }
+
+    /**
+     * @param cardValuer - the value of a card, which must depend only on its type
+     * @return the total value of the cards in the deck (as sumInt(), but by type rather than by card)
+     */
+    public int sumByType(Function<DominionCard, Integer> cardValuer) {
+        return CardCounts.sum(cardValuer, getCounts());
+    }
+
+    @Override
+    public DominionCard pick(int idx) {
+        DominionCard card = super.pick(idx);
+        if (card != null) counts.remove(card);
+        return card;
+    }
+
+    @Override
+    public boolean add(DominionCard c, int index, boolean[] visibilityPerPlayer) {
+        boolean retValue = super.add(c, index, visibilityPerPlayer);
+        counts.add(c);
+        return retValue;
+    }
+
+    @Override
+    public boolean add(Deck<DominionCard> d, int index) {
+        boolean retValue = super.add(d, index);
+        d.stream().forEach(counts::add);
+        return retValue;
+    }
+
+    @Override
+    public boolean add(Collection<DominionCard> d, int index) {
+        boolean retValue = super.add(d, index);
+        counts.add(d);
+        return retValue;
+    }
+
+    @Override
+    public boolean remove(int idx) {
+        DominionCard card = idx >= 0 && idx < components.size() ? components.get(idx) : null;
+        if (super.remove(idx)) {
+            counts.remove(card);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        counts.clear();
+    }
+
+    @Override
+    public void setComponents(ArrayList<DominionCard> components) {
+        super.setComponents(components);
+        counts.invalidate();
+    }
+
+    @Override
+    public void setComponents(ArrayList<DominionCard> components, ArrayList<boolean[]> visibilityPerPlayer) {
+        super.setComponents(components, visibilityPerPlayer);
+        counts.invalidate();
+    }
+
+    @Override
+    public void setComponent(int idx, DominionCard component) {
+        DominionCard old = components.get(idx);
+        super.setComponent(idx, component);
+        counts.remove(old);
+        counts.add(component);
+    }
+
+    @Override
+    public List<DominionCard> getComponents() {
+        // the caller may change the list
+        counts.invalidate();
+        return super.getComponents();
+    }
+
+    @Override
+    public DominionPartialObservableDeck copy() {
+        DominionPartialObservableDeck dp = new DominionPartialObservableDeck(componentName, ownerId, deckVisibility, componentID);
+        copyTo(dp);
+        copyVisibilityTo(dp);
+        dp.counts = counts.copy();
+        return dp;
+    }
+
+    @Override
+    public DominionPartialObservableDeck copy(int playerId) {
+        DominionPartialObservableDeck dp = new DominionPartialObservableDeck(componentName, ownerId, deckVisibility, componentID);
+        copyTo(dp, playerId);
+        copyVisibilityTo(dp);
+        dp.counts = counts.copy();
+        return dp;
+    }
+}
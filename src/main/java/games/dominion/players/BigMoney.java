@@ -36,6 +36,7 @@ public class BigMoney extends AbstractPlayer {
             return new EndPhase(phase);
         List<AbstractAction> actions = getForwardModel().computeAvailableActions(gameState, getParameters().actionSpace);
 
+        AbstractAction choice;
         switch (cash) {
             case 0:
             case 1:
@@ -46,20 +47,23 @@ public class BigMoney extends AbstractPlayer {
                 return new EndPhase(phase);
             case 3:
             case 4:
-                return new BuyCard(CardType.SILVER, player);
+                choice = new BuyCard(CardType.SILVER, player);
+                break;
             case 5:
                 if (provinces < 6 && actions.contains(new BuyCard(CardType.DUCHY, player)))
-                    return new BuyCard(CardType.DUCHY, player);
+                    choice = new BuyCard(CardType.DUCHY, player);
                 else
-                    return new BuyCard(CardType.SILVER, player);
+                    choice = new BuyCard(CardType.SILVER, player);
+                break;
             case 6:
             case 7:
-                return new BuyCard(CardType.GOLD, player);
+                choice = new BuyCard(CardType.GOLD, player);
+                break;
             default:
-                return new BuyCard(CardType.PROVINCE, player);
-
-
+                choice = new BuyCard(CardType.PROVINCE, player);
         }
+        // the pile may have run out, in which case trying to buy from it would not end the turn
+        return actions.contains(choice) ? choice : new EndPhase(phase);
     }
 
     @Override
@@ -3,19 +3,22 @@ package games.dotsboxes;
 import core.AbstractGameState;
 import core.interfaces.IStateKey;
 
-import java.util.Arrays;
-import java.util.stream.Collectors;
-
 public class DBEdgeAndScoreKey implements IStateKey {
 
     @Override
-    public String getKey(AbstractGameState state) {
+    public long getKey(AbstractGameState state) {
         DBGameState dbgs = (DBGameState) state;
-        String edgeString = dbgs.edgeToOwnerMap.keySet().stream()
-                .map(e -> 100.0 * ((e.from.getX() + e.to.getX()) / 2.0) +
-                        ((e.from.getY() + e.to.getY())/ 2.0)).mapToDouble(i -> i)
-                .sorted().mapToObj(d -> String.format("%.1f", d)).collect(Collectors.joining(","));
-        String scoreString = "Scores: " + Arrays.toString(dbgs.nCellsPerPlayer);
-        return state.getCurrentPlayer() + " " + edgeString + scoreString;
+        // each edge is identified by (twice) its midpoint; xor-ing the per-edge hashes makes the key
+        // independent of iteration order, so no sorting is needed
+        long edgeKey = 0;
+        for (DBEdge e : dbgs.edgeToOwnerMap.keySet()) {
+            long midX = e.from.getX() + e.to.getX();
+            long midY = e.from.getY() + e.to.getY();
+            edgeKey ^= IStateKey.mix(0x9E3779B97F4A7C15L * ((midX << 32) ^ midY ^ 0x5bd1e995L));
+        }
+        long key = IStateKey.mix(edgeKey ^ state.getCurrentPlayer());
+        for (int score : dbgs.nCellsPerPlayer)
+            key = IStateKey.mix(key ^ score);
+        return key;
     }
 }
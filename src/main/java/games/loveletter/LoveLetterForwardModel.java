@@ -56,11 +56,12 @@ public class LoveLetterForwardModel extends StandardForwardModel implements ITre
             llgs.setPlayerResult(GameResult.GAME_ONGOING, i);
         }
 
-        // Add all cards to the draw pile
+        // Add all cards to the draw pile, in CardType order (the HashMap order of enum keys differs between runs, and
+        // so then would the deal for a given seed)
         llgs.drawPile.clear();
-        for (HashMap.Entry<LoveLetterCard.CardType, Integer> entry : llp.cardCounts.entrySet()) {
-            for (int i = 0; i < entry.getValue(); i++) {
-                LoveLetterCard card = new LoveLetterCard(entry.getKey());
+        for (LoveLetterCard.CardType type : LoveLetterCard.CardType.values()) {
+            for (int i = 0; i < llp.cardCounts.get(type); i++) {
+                LoveLetterCard card = new LoveLetterCard(type);
                 llgs.drawPile.add(card);
             }
         }
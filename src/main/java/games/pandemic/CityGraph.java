@@ -0,0 +1,148 @@
+package games.pandemic;
+
+import core.components.BoardNode;
+import core.components.GraphBoard;
+import core.properties.PropertyString;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static core.CoreConstants.nameHash;
+
+/**
+ * The cities of the Pandemic world map, given an index each (in alphabetical order of name), with the neighbours of
+ * each city and the distance between every pair of cities (the number of Drive / Ferry moves needed to go from one
+ * to the other).
+ * <p>
+ * The map never changes, so this is computed once for each data set and then shared by every game (and every copy
+ * of every game state) that uses that data. What is on the cities (disease cubes, research stations, players) is
+ * part of the state, and stays on the board nodes of the state's world.
+ */
+public class CityGraph {
+
+    private static final Map<String, CityGraph> graphs = new ConcurrentHashMap<>();
+
+    private final String[] names;
+    private final Map<String, Integer> index;
+    private final int[][] neighbours;
+    private final int[][] distances;  // -1 if there is no path between the cities
+    private final int maxDistance;
+
+    /**
+     * @param dataPath - path of the data the world was loaded from
+     * @param world    - the world, as loaded from that data (only used the first time the data set is seen)
+     * @return the city graph of the data set
+     */
+    public static CityGraph forData(String dataPath, GraphBoard world) {
+        return graphs.computeIfAbsent(dataPath, p -> new CityGraph(world));
+    }
+
+    CityGraph(GraphBoard world) {
+        List<String> cityNames = new ArrayList<>();
+        for (BoardNode bn : world.getBoardNodes())
+            cityNames.add(nameOf(bn));
+        Collections.sort(cityNames);
+        names = cityNames.toArray(new String[0]);
+        index = new HashMap<>();
+        for (int i = 0; i < names.length; i++)
+            index.put(names[i], i);
+
+        neighbours = new int[names.length][];
+        for (BoardNode bn : world.getBoardNodes()) {
+            int[] n = bn.getNeighbours().stream().mapToInt(other -> index.get(nameOf(other))).sorted().toArray();
+            neighbours[index.get(nameOf(bn))] = n;
+        }
+
+        // a breadth first search from every city
+        distances = new int[names.length][names.length];
+        int[] queue = new int[names.length];
+        int max = 0;
+        for (int from = 0; from < names.length; from++) {
+            int[] d = distances[from];
+            Arrays.fill(d, -1);
+            d[from] = 0;
+            int head = 0, tail = 0;
+            queue[tail++] = from;
+            while (head < tail) {
+                int city = queue[head++];
+                for (int next : neighbours[city]) {
+                    if (d[next] == -1) {
+                        d[next] = d[city] + 1;
+                        max = Math.max(max, d[next]);
+                        queue[tail++] = next;
+                    }
+                }
+            }
+        }
+        maxDistance = max;
+    }
+
+    private static String nameOf(BoardNode bn) {
+        return ((PropertyString) bn.getProperty(nameHash)).value;
+    }
+
+    /**
+     * @return the component IDs of the board nodes of the given world (loaded from this data set), by city index
+     */
+    int[] nodeIDs(GraphBoard world) {
+        int[] ids = new int[names.length];
+        for (BoardNode bn : world.getBoardNodes())
+            ids[index.get(nameOf(bn))] = bn.getComponentID();
+        return ids;
+    }
+
+    public int getNCities() {
+        return names.length;
+    }
+
+    /**
+     * @return the index of the named city, or -1 if there is no such city
+     */
+    public int getIndex(String city) {
+        Integer i = index.get(city);
+        return i == null ? -1 : i;
+    }
+
+    public String getName(int city) {
+        return names[city];
+    }
+
+    /**
+     * @return the indices of the neighbours of the city (not to be modified)
+     */
+    public int[] getNeighbours(int city) {
+        return neighbours[city];
+    }
+
+    /**
+     * @return the number of Drive / Ferry moves from one city to the other, or -1 if there is no path
+     */
+    public int getDistance(int from, int to) {
+        return distances[from][to];
+    }
+
+    /**
+     * @return the longest distance between two cities (connected to each other)
+     */
+    public int getMaxDistance() {
+        return maxDistance;
+    }
+
+    public int getDistance(String from, String to) {
+        return distances[getIndex(from)][getIndex(to)];
+    }
+
+    /**
+     * @return the distance from the city to the nearest of the given cities, or -1 if none can be reached
+     */
+    public int getDistanceToNearest(String from, Collection<String> cities) {
+        int[] d = distances[getIndex(from)];
+        int best = -1;
+        for (String city : cities) {
+            int distance = d[getIndex(city)];
+            if (distance != -1 && (best == -1 || distance < best))
+                best = distance;
+        }
+        return best;
+    }
+}
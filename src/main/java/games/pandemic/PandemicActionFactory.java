@@ -33,7 +33,7 @@ class PandemicActionFactory {
         String roleString = pgs.getPlayerRoleActingPlayer();
         PropertyString playerLocationName = (PropertyString) pgs.getComponentActingPlayer(playerCardHash)
                 .getProperty(playerLocationHash);
-        BoardNode playerLocationNode = pgs.world.getNodeByProperty(nameHash, playerLocationName);
+        BoardNode playerLocationNode = pgs.getCityNode(playerLocationName.value);
         int activePlayer = pgs.getTurnOrder().getCurrentPlayer(pgs);
 
         // Create a list for possible actions, including first move actions
@@ -157,16 +157,17 @@ class PandemicActionFactory {
                 if (!(pgs.researchStationLocations.contains(playerLocation))) {
                     actions.addAll(getResearchStationActions(pgs, playerLocation, null, -1, -1,-1));
                 } else {
-                    // List all the other nodes with combination of all the city cards in hand
+                    // List all the other cities with combination of all the city cards in hand
                     PropertyString playerLocationProperty = (PropertyString) pgs.getComponent(playerCardHash, playerIdx)
                             .getProperty(playerLocationHash);
-                    String playerLocationName = playerLocationProperty.value;
-                    for (BoardNode bn : pgs.world.getBoardNodes()) {
-                        if (playerLocationName.equals(((PropertyString)bn.getProperty(nameHash)).value)) continue;
+                    CityGraph graph = pgs.cityGraph;
+                    int from = graph.getIndex(playerLocationProperty.value);
+                    for (int city = 0; city < graph.getNCities(); city++) {
+                        if (city == from) continue;
 
                         for (int c = 0; c < playerHand.getSize(); c++) {
                             if (playerHand.getComponents().get(c).getProperty(colorHash) != null) {
-                                actions.add(new MovePlayerWithCard(MovePlayer.MoveType.OperationsExpert, playerIdx, ((PropertyString) bn.getProperty(nameHash)).value, c, playerIdx));
+                                actions.add(new MovePlayerWithCard(MovePlayer.MoveType.OperationsExpert, playerIdx, graph.getName(city), c, playerIdx));
                             }
                         }
                     }
@@ -256,36 +257,36 @@ class PandemicActionFactory {
         PropertyString playerLocationProperty = (PropertyString) pgs.getComponent(playerCardHash, playerId)
                 .getProperty(playerLocationHash);
         String playerLocationName = playerLocationProperty.value;
-        BoardNode playerLocationNode = pgs.world.getNodeByProperty(nameHash, playerLocationProperty);
-        HashSet<BoardNode> neighbours = playerLocationNode.getNeighbours();
+        BoardNode playerLocationNode = pgs.getCityNode(playerLocationName);
+        CityGraph graph = pgs.cityGraph;
+        int from = graph.getIndex(playerLocationName);
 
         // Drive / Ferry add actions for travelling to immediate cities
-        for (BoardNode otherCity : neighbours){
-            actions.add(new MovePlayer(MovePlayer.MoveType.DriveFerry, playerId, ((PropertyString)otherCity.getProperty(nameHash)).value));
+        for (int otherCity : graph.getNeighbours(from)){
+            actions.add(new MovePlayer(MovePlayer.MoveType.DriveFerry, playerId, graph.getName(otherCity)));
         }
 
-        // Iterate over all the cities in the world
-        for (BoardNode bn: pgs.world.getBoardNodes()) {
-            String destination = ((PropertyString) bn.getProperty(nameHash)).value;
-
-            if (!neighbours.contains(bn)) {  // Ignore neighbours, already covered in Drive/Ferry actions
-                for (int c = 0; c < playerHand.getSize(); c++){
-                    Card card = playerHand.getComponents().get(c);
-
-                    //  Check if card has country to determine if it is city card or not
-                    if ((card.getProperty(countryHash)) != null){
-                        String cardCity = ((PropertyString)card.getProperty(nameHash)).value;
-                        if (playerLocationName.equals(cardCity)){
-                            // Charter flight, discard card that matches your city and travel to any city
-                            // Only add the ones that are different from the current location
-                            if (!destination.equals(playerLocationName)) {
-                                actions.add(new MovePlayerWithCard(MovePlayer.MoveType.CharterFlight, playerId, destination, c, playerId));
-                            }
-                        } else if (destination.equals(cardCity)) {
-                            // Direct Flight, discard city card and travel to that city
-                            actions.add(new MovePlayerWithCard(MovePlayer.MoveType.DirectFlight, playerId, cardCity, c, playerId));
+        // Flights, ignoring neighbours (distance 1), already covered in Drive/Ferry actions
+        for (int c = 0; c < playerHand.getSize(); c++){
+            Card card = playerHand.getComponents().get(c);
+
+            //  Check if card has country to determine if it is city card or not
+            if ((card.getProperty(countryHash)) != null){
+                String cardCity = ((PropertyString)card.getProperty(nameHash)).value;
+                if (playerLocationName.equals(cardCity)){
+                    // Charter flight, discard card that matches your city and travel to any city
+                    // Only add the ones that are different from the current location
+                    for (int destination = 0; destination < graph.getNCities(); destination++) {
+                        if (destination != from && graph.getDistance(from, destination) != 1) {
+                            actions.add(new MovePlayerWithCard(MovePlayer.MoveType.CharterFlight, playerId, graph.getName(destination), c, playerId));
                         }
                     }
+                } else {
+                    // Direct Flight, discard city card and travel to that city
+                    int destination = graph.getIndex(cardCity);
+                    if (destination != -1 && graph.getDistance(from, destination) != 1) {
+                        actions.add(new MovePlayerWithCard(MovePlayer.MoveType.DirectFlight, playerId, cardCity, c, playerId));
+                    }
                 }
             }
         }
@@ -380,13 +381,16 @@ class PandemicActionFactory {
             case "Airlift":
 //                System.out.println("Airlift");
 //            System.out.println("Move any 1 pawn to any city. Get permission before moving another player's pawn.");
-                for (BoardNode bn: pgs.world.getBoardNodes()) {
-                    String cityName = ((PropertyString) bn.getProperty(nameHash)).value;
+                CityGraph graph = pgs.cityGraph;
+                int[] pLocations = new int[pgs.getNPlayers()];
+                for (int i = 0; i < pgs.getNPlayers(); i++) {
+                    pLocations[i] = graph.getIndex(((PropertyString) pgs.getComponent(playerCardHash, i).getProperty(playerLocationHash)).value);
+                }
+                for (int city = 0; city < graph.getNCities(); city++) {
                     for (int i = 0; i < pgs.getNPlayers(); i++) {
                         // Check if player is already there
-                        String pLocation = ((PropertyString) pgs.getComponent(playerCardHash, i).getProperty(playerLocationHash)).value;
-                        if (pLocation.equals(cityName)) continue;
-                        actions.add(new MovePlayerWithCard(MovePlayer.MoveType.Airlift, i, cityName, cardIdx, playerIdx));
+                        if (pLocations[i] == city) continue;
+                        actions.add(new MovePlayerWithCard(MovePlayer.MoveType.Airlift, i, graph.getName(city), cardIdx, playerIdx));
                     }
                 }
 
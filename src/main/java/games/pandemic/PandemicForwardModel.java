@@ -149,8 +149,7 @@ public class PandemicForwardModel extends AbstractRuleBasedForwardModel {
         state._reset();
         PandemicParameters pp = (PandemicParameters) state.getGameParameters();
 
-        AbstractGameData _data = new AbstractGameData();
-        _data.load(pp.getDataPath());
+        AbstractGameData _data = AbstractGameData.getData(pp.getDataPath());
 
         state.tempDeck = new Deck<>("Temp Deck", VISIBLE_TO_ALL);
         state.areas = new HashMap<>();
@@ -173,6 +172,8 @@ public class PandemicForwardModel extends AbstractRuleBasedForwardModel {
 
         // Load the board
         state.world = _data.findGraphBoard("cities");
+        state.cityGraph = CityGraph.forData(pp.getDataPath(), state.world);
+        state.cityNodeIDs = state.cityGraph.nodeIDs(state.world);
         gameArea.putComponent(pandemicBoardHash, state.world);
 
         // Initialize game state variables
@@ -36,6 +36,10 @@ public class PandemicGameState extends AbstractGameStateWithTurnOrder implements
 
     // The main game board
     GraphBoard world;
+    // Indices of and distances between the cities of the board; the same for all games on the same data, so shared by copies
+    CityGraph cityGraph;
+    // Component ID of the board node of each city, by city index (shared by copies, which keep the component IDs)
+    int[] cityNodeIDs;
     // Was a quiet night card played?
     boolean quietNight;
     // Was an epidemic card drawn?
@@ -122,6 +126,8 @@ public class PandemicGameState extends AbstractGameStateWithTurnOrder implements
         areas = null;
         tempDeck = null;
         world = null;
+        cityGraph = null;
+        cityNodeIDs = null;
         quietNight = false;
         epidemic = false;
         nCardsDrawn = 0;
@@ -220,9 +226,25 @@ public class PandemicGameState extends AbstractGameStateWithTurnOrder implements
         return world;
     }
 
+    /**
+     * @return the cities of the world and the distances between them (the same for all copies of the state)
+     */
+    public CityGraph getCityGraph() {
+        return cityGraph;
+    }
+
+    /**
+     * @param city - name of the city
+     * @return the board node of the city in this state's world, or null if there is no such city
+     */
+    public BoardNode getCityNode(String city) {
+        int idx = cityGraph.getIndex(city);
+        return idx == -1 ? null : world.getNodeByID(cityNodeIDs[idx]);
+    }
+
     @Override
     protected AbstractGameStateWithTurnOrder __copy(int playerId) {
-        PandemicGameState gs = new PandemicGameState(gameParameters.copy(), getNPlayers());
+        PandemicGameState gs = new PandemicGameState(gameParameters, getNPlayers());
 
         gs.areas = new HashMap<>();
         for(int key : areas.keySet())
@@ -252,6 +274,8 @@ public class PandemicGameState extends AbstractGameStateWithTurnOrder implements
         gs.tempDeck = tempDeck.copy();
 
         gs.world = world.copy();
+        gs.cityGraph = cityGraph;
+        gs.cityNodeIDs = cityNodeIDs;
         gs.quietNight = quietNight;
         gs.epidemic = epidemic;
         gs.nCardsDrawn = nCardsDrawn;
@@ -21,6 +21,7 @@ public class PandemicHeuristic extends TunableParameters implements IStateHeuris
     double FACTOR_OUTBREAKS = -0.5;
     double FACTOR_RS = 0.35;
     double FACTOR_AT_RS = 0.6;
+    double FACTOR_DISTANCE_TO_RS = 0.0;
 
     public PandemicHeuristic() {
         addTunableParameter("FACTOR_CURES", 0.3);
@@ -29,6 +30,7 @@ public class PandemicHeuristic extends TunableParameters implements IStateHeuris
         addTunableParameter("FACTOR_CARDS_IN_HAND", 0.15);
         addTunableParameter("FACTOR_OUTBREAKS", -0.2);
         addTunableParameter("FACTOR_RS", 0.2);
+        addTunableParameter("FACTOR_DISTANCE_TO_RS", 0.0);
         _reset();
     }
 
@@ -40,6 +42,7 @@ public class PandemicHeuristic extends TunableParameters implements IStateHeuris
         FACTOR_CARDS_IN_HAND = (double) getParameterValue("FACTOR_CARDS_IN_HAND");
         FACTOR_OUTBREAKS = (double) getParameterValue("FACTOR_OUTBREAKS");
         FACTOR_RS = (double) getParameterValue("FACTOR_RS");
+        FACTOR_DISTANCE_TO_RS = (double) getParameterValue("FACTOR_DISTANCE_TO_RS");
     }
 
     @Override
@@ -59,12 +62,14 @@ public class PandemicHeuristic extends TunableParameters implements IStateHeuris
         int nCardsInHand = ((Deck) pgs.getComponentActingPlayer(CoreConstants.playerHandHash)).getSize() / (pp.maxCardsPerPlayer + 2);
         int nResearchStations = ((Counter) pgs.getComponent(PandemicConstants.researchStationHash)).getValue() / pp.nResearchStations;
 
-        int playerAtResStation = 0;
-        for (String resStationLocation: pgs.researchStationLocations){
-            if (((PropertyString) pgs.getComponentActingPlayer(playerCardHash).getProperty(playerLocationHash)).value.equals(resStationLocation)){
-                playerAtResStation = 1;
-            }
-
+        String playerLocation = ((PropertyString) pgs.getComponentActingPlayer(playerCardHash).getProperty(playerLocationHash)).value;
+        int playerAtResStation = pgs.researchStationLocations.contains(playerLocation) ? 1 : 0;
+        // How far (in Drive / Ferry moves, relative to the longest distance on the map) to the nearest research station
+        double distanceToResStation = 0;
+        if (FACTOR_DISTANCE_TO_RS != 0) {
+            CityGraph graph = pgs.getCityGraph();
+            int distance = graph.getDistanceToNearest(playerLocation, pgs.researchStationLocations);
+            distanceToResStation = distance == -1 ? 1.0 : (double) distance / graph.getMaxDistance();
         }
         double nCuresDiscovered = 0;
         double nDiseaseCubes = 0;
@@ -82,6 +87,7 @@ public class PandemicHeuristic extends TunableParameters implements IStateHeuris
                 + nOutbreaks * FACTOR_OUTBREAKS
                 + nResearchStations * FACTOR_RS
                 + playerAtResStation * FACTOR_AT_RS
+                + distanceToResStation * FACTOR_DISTANCE_TO_RS
                 ;
     }
 
@@ -94,6 +100,7 @@ public class PandemicHeuristic extends TunableParameters implements IStateHeuris
         retValue.FACTOR_CARDS_IN_PILE = FACTOR_CARDS_IN_PILE;
         retValue.FACTOR_OUTBREAKS = FACTOR_OUTBREAKS;
         retValue.FACTOR_RS = FACTOR_RS;
+        retValue.FACTOR_DISTANCE_TO_RS = FACTOR_DISTANCE_TO_RS;
         return retValue;
     }
 
@@ -103,7 +110,8 @@ public class PandemicHeuristic extends TunableParameters implements IStateHeuris
             PandemicHeuristic other = (PandemicHeuristic) o;
             return other.FACTOR_RS == FACTOR_RS && other.FACTOR_OUTBREAKS == FACTOR_OUTBREAKS &&
                     other.FACTOR_CARDS_IN_HAND == FACTOR_CARDS_IN_HAND && other.FACTOR_CARDS_IN_PILE == FACTOR_CARDS_IN_PILE &&
-                    other.FACTOR_CUBES == FACTOR_CUBES && other.FACTOR_CURES == FACTOR_CURES;
+                    other.FACTOR_CUBES == FACTOR_CUBES && other.FACTOR_CURES == FACTOR_CURES &&
+                    other.FACTOR_DISTANCE_TO_RS == FACTOR_DISTANCE_TO_RS;
         }
         return false;
     }
@@ -27,7 +27,7 @@ public class AddResearchStationFrom extends AddResearchStation {
         boolean success = super.execute(gs);
 
         // Remove research station from "fromCity" location
-        BoardNode bn = pgs.getWorld().getNodeByStringProperty(nameHash, fromCity);
+        BoardNode bn = pgs.getCityNode(fromCity);
         if (bn != null) {
             bn.setProperty(new PropertyBoolean("Research Stations", false));
             pgs.removeResearchStation(((PropertyString) bn.getProperty(nameHash)).value);
@@ -50,7 +50,7 @@ public class InfectCity extends DrawCard {
             int colorIdx = Utils.indexOf(colors, color.valueStr);
             PropertyString city = (PropertyString) infectingCard.getProperty(nameHash);
 
-            BoardNode bn = pgs.getWorld().getNodeByStringProperty(nameHash, city.value);
+            BoardNode bn = pgs.getCityNode(city.value);
             if (bn != null) {
                 // check if quarantine specialist is on that node
                 PropertyIntArrayList players = (PropertyIntArrayList)bn.getProperty(playersHash);
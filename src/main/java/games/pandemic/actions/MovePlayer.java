@@ -10,7 +10,6 @@ import games.pandemic.PandemicConstants;
 
 import java.util.Objects;
 
-import static core.CoreConstants.nameHash;
 import static core.CoreConstants.playersHash;
 
 
@@ -51,7 +50,7 @@ public class MovePlayer extends AbstractAction {
 
 
     public static void placePlayer(PandemicGameState gs, String city, int playerIdx) {
-        BoardNode bn = gs.getWorld().getNodeByStringProperty(nameHash, city);
+        BoardNode bn = gs.getCityNode(city);
         PropertyIntArrayList prop = (PropertyIntArrayList) bn.getProperty(playersHash);
         prop.getValues().add(playerIdx);
 
@@ -60,7 +59,7 @@ public class MovePlayer extends AbstractAction {
     }
 
     public static void removePlayer(PandemicGameState gs, String city, int playerIdx) {
-        BoardNode bn = gs.getWorld().getNodeByStringProperty(nameHash, city);
+        BoardNode bn = gs.getCityNode(city);
         PropertyIntArrayList prop = (PropertyIntArrayList) bn.getProperty(playersHash);
         prop.getValues().remove(Integer.valueOf(playerIdx));
 
@@ -12,7 +12,6 @@ import utilities.Utils;
 import java.util.Objects;
 
 import static games.pandemic.PandemicConstants.*;
-import static core.CoreConstants.nameHash;
 
 public class TreatDisease extends AbstractAction {
 
@@ -43,7 +42,7 @@ public class TreatDisease extends AbstractAction {
         Counter diseaseCubeCounter = (Counter) pgs.getComponent(Hash.GetInstance().hash("Disease Cube " + color));
         int colorIdx = Utils.indexOf(colors, color);
 
-        BoardNode bn = pgs.getWorld().getNodeByStringProperty(nameHash, city);
+        BoardNode bn = pgs.getCityNode(city);
         if (bn != null) {
             PropertyIntArray infectionArray = (PropertyIntArray) bn.getProperty(infectionHash);
             int[] array = infectionArray.getValues();
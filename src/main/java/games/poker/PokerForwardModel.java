@@ -247,15 +247,20 @@ public class PokerForwardModel extends StandardForwardModel {
     public Pair<Map<Integer, Integer>, Map<Integer, Set<Integer>>> translatePokerHands(PokerGameState pgs) {
         Map<Integer, Integer> ranks = new HashMap<>();
         Map<Integer, Set<Integer>> hands = new HashMap<>();
+        int[] cards = new int[0];
         for (int i = 0; i < pgs.getNPlayers(); i++) {
             if (!pgs.playerFold[i] && pgs.getPlayerResults()[i] != LOSE_GAME) {
-                Deck<FrenchCard> cardsToEvaluate = pgs.playerDecks.get(i).copy();
-                cardsToEvaluate.add(pgs.communityCards.copy());
-                Pair<PokerGameState.PokerHand, HashSet<Integer>> hand = PokerGameState.PokerHand.translateHand(cardsToEvaluate);
-                if (hand != null) {
-                    ranks.put(i, hand.a.rank);
-                    hands.put(i, hand.b);
-                }
+                int nCards = pgs.playerDecks.get(i).getSize() + pgs.communityCards.getSize();
+                if (cards.length < nCards)
+                    cards = new int[nCards];
+                int n = 0;
+                for (FrenchCard card : pgs.playerDecks.get(i).getComponents())
+                    cards[n++] = PokerHandEvaluator.encode(card);
+                for (FrenchCard card : pgs.communityCards.getComponents())
+                    cards[n++] = PokerHandEvaluator.encode(card);
+                int strength = PokerHandEvaluator.evaluate(cards, n);
+                ranks.put(i, PokerHandEvaluator.handRank(strength));
+                hands.put(i, PokerHandEvaluator.cardValues(strength));
             }
         }
         return new Pair<>(ranks, hands);
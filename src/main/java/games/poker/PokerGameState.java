@@ -18,7 +18,6 @@ import games.poker.components.MoneyPot;
 import utilities.Pair;
 
 import static core.CoreConstants.GameResult.LOSE_GAME;
-import static utilities.Utils.generateCombinations;
 
 
 public class PokerGameState extends AbstractGameState implements IPrintable {
@@ -251,7 +250,7 @@ public class PokerGameState extends AbstractGameState implements IPrintable {
 
     @Override
     protected AbstractGameState _copy(int playerId) {
-        PokerGameState copy = new PokerGameState(gameParameters.copy(), getNPlayers());
+        PokerGameState copy = new PokerGameState(gameParameters, getNPlayers());
         copy.communityCards = communityCards.copy();
         copy.moneyPots = new ArrayList<>();
         for (MoneyPot pot : moneyPots) {
@@ -376,73 +375,16 @@ public class PokerGameState extends AbstractGameState implements IPrintable {
         OnePair(9),
         HighCard(10);
 
-        static final int pokerHandSize = 5;
         final int rank;
 
         PokerHand(int rank) {
             this.rank = rank;
         }
 
-        static Pair<PokerHand, HashSet<Integer>> translateHand(Deck<FrenchCard> deck) {
-            if (deck.getSize() > pokerHandSize) {
-                // Make combinations, translate each hand and return the best hand (lowest rank; if tied, highest card values)
-                int[] indx = new int[deck.getSize()];
-                for (int i = 0; i < indx.length; i++) {
-                    indx[i] = i;
-                }
-                ArrayList<int[]> combinations = generateCombinations(indx, pokerHandSize);
-                ArrayList<Pair<Pair<PokerHand, ArrayList<Integer>>, Deck<FrenchCard>>> handOptions = new ArrayList<>();
-                int smallestRank = 11;
-                for (int[] combo : combinations) {
-                    Deck<FrenchCard> temp = new Deck<>("Temp", CoreConstants.VisibilityMode.HIDDEN_TO_ALL);
-                    for (int j : combo) {
-                        temp.add(deck.get(j).copy());
-                    }
-                    Pair<PokerHand, ArrayList<Integer>> hand = _translateHand(temp);
-                    if (hand.a.rank < smallestRank) {
-                        handOptions.clear();
-                        handOptions.add(new Pair<>(hand, temp));
-                    } else if (hand.a.rank == smallestRank) {
-                        handOptions.add(new Pair<>(hand, temp));
-                    }
-                }
-                if (handOptions.size() == 1) {
-                    deck.clear();
-                    for (FrenchCard c : handOptions.get(0).b.getComponents()) {
-                        deck.add(c);
-                    }
-                    return new Pair<>(handOptions.get(0).a.a, new HashSet<>(handOptions.get(0).a.b));
-                } else {
-                    // Choose the one with highest card values
-                    for (int i = 0; i < pokerHandSize; i++) {
-                        int maxValue = 0;
-                        for (Pair<Pair<PokerHand, ArrayList<Integer>>, Deck<FrenchCard>> handOption : handOptions) {
-                            int value = handOption.a.b.get(i);
-                            if (value > maxValue) maxValue = value;
-                        }
-                        HashSet<Integer> best = new HashSet<>();
-                        for (int j = 0; j < handOptions.size(); j++) {
-                            int value = handOptions.get(j).a.b.get(i);
-                            if (value == maxValue) best.add(j);
-                        }
-                        if (best.size() == 1 || i == pokerHandSize - 1) {
-                            int option = best.iterator().next();
-                            deck.clear();
-                            for (FrenchCard c : handOptions.get(option).b.getComponents()) {
-                                deck.add(c);
-                            }
-                            return new Pair<>(handOptions.get(option).a.a, new HashSet<>(handOptions.get(option).a.b));
-                        }
-                    }
-                    return null;
-                }
-            } else {
-                // Only one combination, just return its rank
-                Pair<PokerHand, ArrayList<Integer>> hand = _translateHand(deck);
-                return new Pair<>(hand.a, new HashSet<>(hand.b));
-            }
-        }
-
+        /**
+         * Ranks a hand of (up to) five cards, returning the sorted card values too. This is the reference for the
+         * rules used by PokerHandEvaluator, which ranks hands at showdown.
+         */
         static Pair<PokerHand, ArrayList<Integer>> _translateHand(Deck<FrenchCard> deck) {
             HashSet<FrenchCard.Suite> suites = new HashSet<>();
             HashSet<Integer> numberSet = new HashSet<>();
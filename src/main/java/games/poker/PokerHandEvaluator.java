@@ -0,0 +1,177 @@
+package games.poker;
+
+import core.components.FrenchCard;
+
+import java.util.*;
+
+import static games.poker.PokerGameState.PokerHand.*;
+
+/**
+ * Ranks Poker hands with precomputed tables, using the same rules as PokerHand._translateHand(): there is no low
+ * (Ace to Five) straight, and hands of the same type are compared on their distinct card values, highest first.
+ * <p>
+ * Each card is encoded in one int (as in Cactus Kev's evaluator): a bit for its value (bits 16-28), a bit for its
+ * suit (bits 12-15), its value - 2 (bits 8-11) and a prime for its value (bits 0-7). A five card hand is then
+ * looked up by the or of its value bits if all cards are of one suit, or all values are distinct; and otherwise by the
+ * product of its primes, which is unique to the multiset of values.
+ * <p>
+ * The strength of a hand is an int that is higher for better hands: the PokerHand (as 11 - rank) in bits 20 and up,
+ * then each distinct card value, highest first, in four bits each from bit 16 down.
+ */
+public class PokerHandEvaluator {
+
+    private static final int[] PRIMES = {2, 3, 5, 7, 11, 13, 17, 19, 23, 29, 31, 37, 41};
+    private static final int N_VALUES = PRIMES.length;
+
+    // strength of a hand of five cards of one suit, or five distinct values (not of one suit), by the or of value bits
+    private static final int[] FLUSHES = new int[1 << N_VALUES];
+    private static final int[] UNIQUE5 = new int[1 << N_VALUES];
+    // strength of a hand with repeated values, by the product of primes (sorted, for binary search)
+    private static final int[] PRODUCTS;
+    private static final int[] PAIRED;
+
+    static {
+        List<int[]> paired = new ArrayList<>();
+        addHands(new int[N_VALUES], 0, 5, paired);
+        paired.sort(Comparator.comparingInt(p -> p[0]));
+        PRODUCTS = new int[paired.size()];
+        PAIRED = new int[paired.size()];
+        for (int i = 0; i < paired.size(); i++) {
+            PRODUCTS[i] = paired.get(i)[0];
+            PAIRED[i] = paired.get(i)[1];
+        }
+    }
+
+    /**
+     * Enumerates every multiset of values for a five card hand (at most four of any value), and records its strength.
+     */
+    private static void addHands(int[] counts, int value, int cardsLeft, List<int[]> paired) {
+        if (cardsLeft == 0) {
+            int mask = 0, product = 1, distinct = 0;
+            for (int v = 0; v < N_VALUES; v++) {
+                if (counts[v] > 0) {
+                    mask |= 1 << v;
+                    distinct++;
+                }
+                for (int c = 0; c < counts[v]; c++)
+                    product *= PRIMES[v];
+            }
+            if (distinct == 5) {
+                FLUSHES[mask] = strength(counts, 5, true);
+                UNIQUE5[mask] = strength(counts, 5, false);
+            } else {
+                paired.add(new int[]{product, strength(counts, 5, false)});
+            }
+            return;
+        }
+        if (value == N_VALUES) return;
+        for (int c = 0; c <= Math.min(4, cardsLeft); c++) {
+            counts[value] = c;
+            addHands(counts, value + 1, cardsLeft - c, paired);
+        }
+        counts[value] = 0;
+    }
+
+    /**
+     * The strength of a hand of nCards cards with the given number of cards of each value (value - 2 is the index).
+     * This follows PokerHand._translateHand(), including for hands of fewer than five cards.
+     */
+    private static int strength(int[] counts, int nCards, boolean oneSuit) {
+        int distinct = 0, maxCount = 0, lowest = -1, highest = -1;
+        for (int v = 0; v < N_VALUES; v++) {
+            if (counts[v] == 0) continue;
+            distinct++;
+            maxCount = Math.max(maxCount, counts[v]);
+            if (lowest == -1) lowest = v;
+            highest = v;
+        }
+        boolean consecutive = distinct == nCards && highest - lowest == nCards - 1;
+        PokerGameState.PokerHand hand;
+        if (oneSuit) {
+            if (consecutive)
+                hand = counts[N_VALUES - 1] > 0 ? RoyalFlush : StraightFlush;
+            else
+                hand = Flush;
+        } else if (distinct == 2) {
+            hand = maxCount == 4 ? FourOfAKind : FullHouse;
+        } else if (distinct == 3) {
+            hand = maxCount == 3 ? ThreeOfAKind : TwoPair;
+        } else if (distinct == 4) {
+            hand = OnePair;
+        } else {
+            hand = consecutive ? Straight : HighCard;
+        }
+        int strength = (11 - hand.rank) << 20;
+        int shift = 16;
+        for (int v = N_VALUES - 1; v >= 0; v--) {
+            if (counts[v] > 0) {
+                strength |= (v + 2) << shift;
+                shift -= 4;
+            }
+        }
+        return strength;
+    }
+
+    public static int encode(FrenchCard card) {
+        int value = card.number - 2;
+        return PRIMES[value] | value << 8 | 1 << (12 + card.suite.ordinal()) | 1 << (16 + value);
+    }
+
+    /**
+     * @return the strength of a hand of exactly five encoded cards
+     */
+    public static int evaluate(int c0, int c1, int c2, int c3, int c4) {
+        int values = (c0 | c1 | c2 | c3 | c4) >>> 16;
+        if ((c0 & c1 & c2 & c3 & c4 & 0xF000) != 0)
+            return FLUSHES[values];
+        int strength = UNIQUE5[values];
+        if (strength != 0)
+            return strength;
+        int product = (c0 & 0xFF) * (c1 & 0xFF) * (c2 & 0xFF) * (c3 & 0xFF) * (c4 & 0xFF);
+        return PAIRED[Arrays.binarySearch(PRODUCTS, product)];
+    }
+
+    /**
+     * @return the strength of the best five card hand from the first n encoded cards (or of all of them, if there
+     * are fewer than five)
+     */
+    public static int evaluate(int[] cards, int n) {
+        if (n < 5) {
+            int[] counts = new int[N_VALUES];
+            int suits = 0xF000;
+            for (int i = 0; i < n; i++) {
+                counts[(cards[i] >>> 8) & 0xF]++;
+                suits &= cards[i];
+            }
+            return strength(counts, n, suits != 0);
+        }
+        int best = 0;
+        for (int a = 0; a < n - 4; a++)
+            for (int b = a + 1; b < n - 3; b++)
+                for (int c = b + 1; c < n - 2; c++)
+                    for (int d = c + 1; d < n - 1; d++)
+                        for (int e = d + 1; e < n; e++)
+                            best = Math.max(best, evaluate(cards[a], cards[b], cards[c], cards[d], cards[e]));
+        return best;
+    }
+
+    /**
+     * @return the rank of the PokerHand of a hand of this strength (1 is the best)
+     */
+    public static int handRank(int strength) {
+        return 11 - (strength >>> 20);
+    }
+
+    /**
+     * @return the distinct card values in a hand of this strength
+     */
+    public static Set<Integer> cardValues(int strength) {
+        Set<Integer> values = new HashSet<>();
+        for (int shift = 16; shift >= 0; shift -= 4) {
+            int value = (strength >>> shift) & 0xF;
+            if (value != 0)
+                values.add(value);
+        }
+        return values;
+    }
+}
@@ -12,6 +12,7 @@ import games.terraformingmars.components.Award;
 import games.terraformingmars.components.Milestone;
 import games.terraformingmars.components.TMCard;
 import games.terraformingmars.components.TMMapTile;
+import games.terraformingmars.rules.requirements.TMRequirementCache;
 import games.terraformingmars.rules.requirements.TagOnCardRequirement;
 import utilities.Vector2D;
 
@@ -341,18 +342,25 @@ public class TMForwardModel extends StandardForwardModelWithTurnOrder {
         TMGameParameters params = (TMGameParameters) gs.getGameParameters();
         int player = gs.getCurrentPlayer();
 
-        List<AbstractAction> possibleActions = getAllActions(gs);
-
-        // Wrap actions that can actually be played and must be paid for
-        for (AbstractAction aa : possibleActions) {
-            TMAction a = (TMAction) aa;
-            if (a != null && a.canBePlayed(gs)) {
-                if (a.getCost() != 0) {
-                    actions.add(new PayForAction(player, a));
-                } else {
-                    actions.add(a);
+        // The state does not change while we list actions, so requirements can be cached
+        TMRequirementCache requirementCache = gs.getRequirementCache();
+        requirementCache.refresh(gs);
+        try {
+            List<AbstractAction> possibleActions = getAllActions(gs);
+
+            // Wrap actions that can actually be played and must be paid for
+            for (AbstractAction aa : possibleActions) {
+                TMAction a = (TMAction) aa;
+                if (a != null && a.canBePlayed(gs)) {
+                    if (a.getCost() != 0) {
+                        actions.add(new PayForAction(player, a));
+                    } else {
+                        actions.add(a);
+                    }
                 }
             }
+        } finally {
+            requirementCache.release();
         }
 
         return actions;
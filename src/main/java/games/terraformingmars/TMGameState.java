@@ -14,6 +14,7 @@ import games.terraformingmars.rules.effects.Bonus;
 import games.terraformingmars.rules.effects.Effect;
 import games.terraformingmars.rules.requirements.ActionTypeRequirement;
 import games.terraformingmars.rules.requirements.Requirement;
+import games.terraformingmars.rules.requirements.TMRequirementCache;
 import games.terraformingmars.rules.requirements.TagsPlayedRequirement;
 import utilities.Pair;
 import utilities.Utils;
@@ -68,6 +69,9 @@ public class TMGameState extends AbstractGameStateWithTurnOrder {
     Counter nMilestonesClaimed;
     Counter nAwardsFunded;
 
+    // Results of requirements while actions are computed; not copied, as it is only a cache
+    transient TMRequirementCache requirementCache = new TMRequirementCache();
+
     /**
      * Constructor. Initialises some generic game state variables.
      *
@@ -119,7 +123,7 @@ public class TMGameState extends AbstractGameStateWithTurnOrder {
 
     @Override
     protected AbstractGameStateWithTurnOrder __copy(int playerId) {
-        TMGameState copy = new TMGameState(gameParameters.copy(), getNPlayers());
+        TMGameState copy = new TMGameState(gameParameters, getNPlayers());
 
         // General public info
         copy.generation = generation;
@@ -514,6 +518,10 @@ public class TMGameState extends AbstractGameStateWithTurnOrder {
         return playerPersistingEffects;
     }
 
+    public TMRequirementCache getRequirementCache() {
+        return requirementCache;
+    }
+
     public HashMap<Requirement, Integer>[] getPlayerDiscountEffects() {
         return playerDiscountEffects;
     }
@@ -31,7 +31,10 @@ public class TMTurnOrder extends AlternatingTurnOrder {
 
         if (gameState.getGameStatus() != GAME_ONGOING) return;
 
-        listeners.forEach(l -> l.onEvent(Event.createEvent(Event.GameEvent.TURN_OVER, gameState, turnOwner)));
+        if (!listeners.isEmpty()) {
+            Event turnOver = Event.createEvent(Event.GameEvent.TURN_OVER, gameState, turnOwner);
+            listeners.forEach(l -> l.onEvent(turnOver));
+        }
 
         if (nActionsTaken == nActionsPerPlayer || passed[turnOwner]) {
             nActionsTaken = 0;
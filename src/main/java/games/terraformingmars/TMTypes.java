@@ -19,6 +19,9 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static games.terraformingmars.components.TMMapTile.parseMapTile;
 
@@ -286,6 +289,12 @@ public class TMTypes {
         Hellas,
         Elysium;
 
+        // Parsed board files and cards, by path: these are read from file once, and then shared by all games (never
+        // changed, the cards are copied into each game). A file that could not be read is not cached, so it is tried
+        // again by the next game, which meanwhile gets no data from it, as before
+        private static final Map<String, JSONObject> boardData = new ConcurrentHashMap<>();
+        private static final Map<String, List<TMCard>> cardData = new ConcurrentHashMap<>();
+
         public String getBoardPath() {
             return "data/terraformingmars/boards/" + this.name().toLowerCase() + ".json";
         }
@@ -303,77 +312,82 @@ public class TMTypes {
 
         public void loadBoard(GridBoard<TMMapTile> board, HashSet<TMMapTile> extraTiles, HashSet<Bonus> bonuses,
                               HashSet<Milestone> milestones, HashSet<Award> awards, HashMap<GlobalParameter, games.terraformingmars.components.GlobalParameter> globalParameters) {
-            JSONParser jsonParser = new JSONParser();
-            try (FileReader reader = new FileReader(getBoardPath())) {
-                JSONObject data = (JSONObject) jsonParser.parse(reader);
-
-                // Process main map
-                if (data.get("board") != null) {
-                    JSONArray b = (JSONArray) data.get("board");
-                    int y = 0;
-                    for (Object g : b) {
-                        JSONArray row = (JSONArray) g;
-                        int x = 0;
-                        for (Object o1 : row) {
-                            board.setElement(x, y, parseMapTile((String) o1, x, y));
-                            x++;
-                        }
-                        y++;
+            JSONObject data = boardData.computeIfAbsent(getBoardPath(), path -> {
+                JSONParser jsonParser = new JSONParser();
+                try (FileReader reader = new FileReader(path)) {
+                    return (JSONObject) jsonParser.parse(reader);
+                } catch (IOException ignored) {
+                } catch (ParseException e) {
+                    e.printStackTrace();
+                }
+                return null;  // not cached
+            });
+            if (data == null)
+                data = new JSONObject();
+
+            // Process main map
+            if (data.get("board") != null) {
+                JSONArray b = (JSONArray) data.get("board");
+                int y = 0;
+                for (Object g : b) {
+                    JSONArray row = (JSONArray) g;
+                    int x = 0;
+                    for (Object o1 : row) {
+                        board.setElement(x, y, parseMapTile((String) o1, x, y));
+                        x++;
                     }
+                    y++;
                 }
+            }
 
-                // Process extra tiles not on regular board
-                if (data.get("extra") != null) {
-                    JSONArray extra = (JSONArray) data.get("extra");
-                    for (Object o : extra) {
-                        extraTiles.add(parseMapTile((String) o));
-                    }
+            // Process extra tiles not on regular board
+            if (data.get("extra") != null) {
+                JSONArray extra = (JSONArray) data.get("extra");
+                for (Object o : extra) {
+                    extraTiles.add(parseMapTile((String) o));
                 }
+            }
 
-                // Process milestones and awards
-                if (data.get("milestones") != null) {
-                    JSONArray milestonesStr = (JSONArray) data.get("milestones");
-                    for (Object o : milestonesStr) {
-                        String[] split = ((String) o).split(":");
-                        milestones.add(new Milestone(split[0], Integer.parseInt(split[2]), split[1]));
-                    }
+            // Process milestones and awards
+            if (data.get("milestones") != null) {
+                JSONArray milestonesStr = (JSONArray) data.get("milestones");
+                for (Object o : milestonesStr) {
+                    String[] split = ((String) o).split(":");
+                    milestones.add(new Milestone(split[0], Integer.parseInt(split[2]), split[1]));
                 }
-                if (data.get("awards") != null) {
-                    JSONArray awardsStr = (JSONArray) data.get("awards");
-                    for (Object o : awardsStr) {
-                        String[] split = ((String) o).split(":");
-                        awards.add(new Award(split[0], split[1]));
-                    }
+            }
+            if (data.get("awards") != null) {
+                JSONArray awardsStr = (JSONArray) data.get("awards");
+                for (Object o : awardsStr) {
+                    String[] split = ((String) o).split(":");
+                    awards.add(new Award(split[0], split[1]));
                 }
+            }
 
-                // Process global parameters enabled
-                if (data.get("globalParameters") != null) {
-                    JSONArray gps = (JSONArray) data.get("globalParameters");
-                    for (Object o : gps) {
-                        JSONObject gp = (JSONObject) o;
-                        GlobalParameter p = GlobalParameter.valueOf((String) gp.get("name"));
-                        JSONArray valuesJSON = (JSONArray) gp.get("range");
-                        int[] values = new int[valuesJSON.size()];
-                        for (int i = 0; i < valuesJSON.size(); i++) {
-                            values[i] = (int)(long)valuesJSON.get(i);
-                        }
-                        globalParameters.put(p, new games.terraformingmars.components.GlobalParameter(values, p.name()));
-
-                        // Process bonuses for this game when counters reach specific points
-                        if (gp.get("bonus") != null) {
-                            JSONArray bonus = (JSONArray) gp.get("bonus");
-                            for (Object o2 : bonus) {
-                                JSONObject b = (JSONObject) o2;
-                                String effectString = (String) b.get("effect");
-                                int threshold = (int)(long) b.get("threshold");
-                                bonuses.add(new Bonus(p, threshold, TMAction.parseActionOnCard(effectString, null, true)));
-                            }
+            // Process global parameters enabled
+            if (data.get("globalParameters") != null) {
+                JSONArray gps = (JSONArray) data.get("globalParameters");
+                for (Object o : gps) {
+                    JSONObject gp = (JSONObject) o;
+                    GlobalParameter p = GlobalParameter.valueOf((String) gp.get("name"));
+                    JSONArray valuesJSON = (JSONArray) gp.get("range");
+                    int[] values = new int[valuesJSON.size()];
+                    for (int i = 0; i < valuesJSON.size(); i++) {
+                        values[i] = (int)(long)valuesJSON.get(i);
+                    }
+                    globalParameters.put(p, new games.terraformingmars.components.GlobalParameter(values, p.name()));
+
+                    // Process bonuses for this game when counters reach specific points
+                    if (gp.get("bonus") != null) {
+                        JSONArray bonus = (JSONArray) gp.get("bonus");
+                        for (Object o2 : bonus) {
+                            JSONObject b = (JSONObject) o2;
+                            String effectString = (String) b.get("effect");
+                            int threshold = (int)(long) b.get("threshold");
+                            bonuses.add(new Bonus(p, threshold, TMAction.parseActionOnCard(effectString, null, true)));
                         }
                     }
                 }
-            } catch (IOException ignored) {
-            } catch (ParseException e) {
-                e.printStackTrace();
             }
         }
 
@@ -386,22 +400,34 @@ public class TMTypes {
         }
 
         private void loadCards(Deck<TMCard> deck, String path) {
-            JSONParser jsonParser = new JSONParser();
-            try (FileReader reader = new FileReader(path)) {
-                JSONArray data = (JSONArray) jsonParser.parse(reader);
-                for (Object o: data) {
-                    TMCard card;
-                    if (deck.getComponentName().equalsIgnoreCase("corporations")) {
-                        card = TMCard.loadCorporation((JSONObject)o);
-                    } else {
-//                        card = TMCard.loadCardHTML((JSONObject) o);
-                        card = TMCard.loadCardJSON((JSONObject) o);
+            boolean corporations = deck.getComponentName().equalsIgnoreCase("corporations");
+            List<TMCard> cards = cardData.computeIfAbsent(path, p -> {
+                List<TMCard> loaded = new ArrayList<>();
+                JSONParser jsonParser = new JSONParser();
+                try (FileReader reader = new FileReader(p)) {
+                    JSONArray data = (JSONArray) jsonParser.parse(reader);
+                    for (Object o: data) {
+                        TMCard card;
+                        if (corporations) {
+                            card = TMCard.loadCorporation((JSONObject)o);
+                        } else {
+//                            card = TMCard.loadCardHTML((JSONObject) o);
+                            card = TMCard.loadCardJSON((JSONObject) o);
+                        }
+                        loaded.add(card);
                     }
-                    deck.add(card);
+                } catch (IOException ignored) {
+                    return null;  // not cached
+                } catch (ParseException e) {
+                    e.printStackTrace();
+                    return null;
                 }
-            } catch (IOException ignored) {
-            } catch (ParseException e) {
-                e.printStackTrace();
+                return loaded;
+            });
+            if (cards == null)
+                return;
+            for (TMCard card : cards) {
+                deck.add(card.copy());
             }
         }
     }
@@ -126,8 +126,8 @@ public class TMAction extends AbstractAction {
         }
         if (played && standardProject == null && basicResourceAction == null) return false;
         if (requirements != null && requirements.size() > 0) {
-            for (Requirement r: requirements) {
-                if (!r.testCondition(gs)) return false;
+            for (Requirement<TMGameState> r: requirements) {
+                if (!gs.getRequirementCache().test(r, gs)) return false;
             }
         }
         return true;
@@ -681,7 +681,7 @@ public class TMCard extends Card {
         copy.nResourcesOnCard = nResourcesOnCard;
         copy.canResourcesBeRemoved = canResourcesBeRemoved;
         copyComponentTo(copy);
-        if (properties.size() == 0) copy.properties = null;
+        if (properties.length == 0) copy.properties = null;
         return copy;
     }
 }
@@ -33,6 +33,10 @@ public class CounterRequirement implements Requirement<TMGameState> {
     }
 
     private int discount(TMGameState gs) {
+        return discount(gs, counterCode);
+    }
+
+    static int discount(TMGameState gs, String counterCode) {
         // Apply discounts for current player
         int discount = 0;
         int player = gs.getCurrentPlayer();
@@ -45,6 +49,17 @@ public class CounterRequirement implements Requirement<TMGameState> {
         return discount;
     }
 
+    @Override
+    public TMRequirementCache.Dependency getDependency() {
+        if (Utils.searchEnum(TMTypes.GlobalParameter.class, counterCode) != null)
+            return TMRequirementCache.Dependency.GlobalParameters;
+        for (TMTypes.Resource res : TMTypes.Resource.values()) {
+            if (counterCode.equalsIgnoreCase(res.name()) || counterCode.equalsIgnoreCase(res.name() + "prod"))
+                return TMRequirementCache.Dependency.Resources;
+        }
+        return null;
+    }
+
     @Override
     public boolean isMax() {
         return max;
@@ -104,7 +119,7 @@ public class CounterRequirement implements Requirement<TMGameState> {
                 thresholdIdx = Utils.indexOf(which.getValues(), thresholdIdx);
             }
         } else {
-            gs.getAllComponents();
+            // (the map of components is only rebuilt if the counter is not in it, e.g. in a new copy of the state)
             which = (Counter) gs.getComponentById(counterID);
         }
 
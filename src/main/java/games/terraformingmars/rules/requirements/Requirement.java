@@ -38,6 +38,14 @@ public interface Requirement<T> {
         }
     }
 
+    /**
+     * @return the part of the state that testCondition() depends on, if it reads nothing else (so that its result can
+     * be cached while that part does not change); or null if the result should not be cached
+     */
+    default TMRequirementCache.Dependency getDependency() {
+        return null;
+    }
+
     Requirement<T> copy();
     default Requirement<T> copySerializable() {return copy();}
 }
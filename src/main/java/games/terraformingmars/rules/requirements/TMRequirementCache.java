@@ -0,0 +1,147 @@
+package games.terraformingmars.rules.requirements;
+
+import core.components.Counter;
+import games.terraformingmars.TMGameState;
+import games.terraformingmars.TMTypes;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Caches the results of requirements while actions are computed, so that the requirements of the cards in a player's
+ * hand are not all tested again from scratch on every call.
+ * <p>
+ * A requirement that can be cached declares the part of the state it reads (its {@link Dependency}). For each part,
+ * refresh() takes a snapshot of the values in the state (with the current player) and moves that part on to a new
+ * version if they changed since the last snapshot. A cached result is used for as long as the version of the part
+ * it depends on is unchanged, so for example the requirements on global parameters hold while only resources change.
+ * <p>
+ * The cache belongs to one game state, and is only used between refresh() and release(): outside that, or for
+ * requirements that do not declare a dependency, test() just calls testCondition().
+ * <p>
+ * Results are held by requirement identity. The requirements of cards live as long as the cards, but some actions
+ * (the standard projects, for example) are created with new requirements each time the actions are computed, so
+ * only the results of requirements tested since the previous refresh() are kept.
+ */
+public class TMRequirementCache {
+
+    /**
+     * The parts of the state that a requirement may depend on.
+     */
+    public enum Dependency {
+        GlobalParameters,  // global parameters, and the current player's discounts on them
+        Tags,  // tags played by the current player
+        Resources  // resources and production of all players, and the current player's discounts on them
+    }
+
+    private final int[][] snapshots = new int[Dependency.values().length][];
+    private final int[] versions = new int[Dependency.values().length];
+    private int nextVersion = 1;
+    private boolean active;
+    // version of the dependency when the result was cached, shifted left by one, with the result in the lowest bit;
+    // for the requirements tested since the last refresh(), and since the refresh() before that
+    private Map<Requirement<TMGameState>, Long> results = new IdentityHashMap<>();
+    private Map<Requirement<TMGameState>, Long> previousResults = new IdentityHashMap<>();
+
+    /**
+     * Takes a new snapshot of the state, invalidating the results that depend on anything that changed, and starts
+     * using the cache. Results of requirements not tested since the previous refresh() are dropped.
+     */
+    public void refresh(TMGameState gs) {
+        Map<Requirement<TMGameState>, Long> dropped = previousResults;
+        previousResults = results;
+        results = dropped;
+        results.clear();
+        for (Dependency d : Dependency.values()) {
+            int[] snapshot = snapshot(d, gs);
+            if (!Arrays.equals(snapshot, snapshots[d.ordinal()])) {
+                snapshots[d.ordinal()] = snapshot;
+                versions[d.ordinal()] = nextVersion++;
+            }
+        }
+        active = true;
+    }
+
+    /**
+     * Stops using the cache, until the next refresh(), as the state may now change.
+     */
+    public void release() {
+        active = false;
+    }
+
+    /**
+     * @return the result of testCondition() of the requirement, from the cache if it is valid
+     */
+    public boolean test(Requirement<TMGameState> requirement, TMGameState gs) {
+        Dependency dependency = active ? requirement.getDependency() : null;
+        if (dependency == null)
+            return requirement.testCondition(gs);
+        long version = versions[dependency.ordinal()];
+        Long cached = results.get(requirement);
+        if (cached == null) {
+            cached = previousResults.get(requirement);
+            if (cached != null)
+                results.put(requirement, cached);
+        }
+        if (cached != null && cached >> 1 == version)
+            return (cached & 1) == 1;
+        boolean result = requirement.testCondition(gs);
+        results.put(requirement, version << 1 | (result ? 1 : 0));
+        return result;
+    }
+
+    /**
+     * @return the number of results held
+     */
+    public int size() {
+        Map<Requirement<TMGameState>, Long> all = new IdentityHashMap<>(previousResults);
+        all.putAll(results);
+        return all.size();
+    }
+
+    private static int[] snapshot(Dependency dependency, TMGameState gs) {
+        int player = gs.getCurrentPlayer();
+        switch (dependency) {
+            case GlobalParameters: {
+                TMTypes.GlobalParameter[] params = TMTypes.GlobalParameter.values();
+                int[] snapshot = new int[1 + 2 * params.length];
+                snapshot[0] = player;
+                for (int i = 0; i < params.length; i++) {
+                    Counter c = gs.getGlobalParameters().get(params[i]);
+                    snapshot[1 + 2 * i] = c == null ? -1 : c.getValueIdx();
+                    snapshot[2 + 2 * i] = CounterRequirement.discount(gs, params[i].name());
+                }
+                return snapshot;
+            }
+            case Tags: {
+                TMTypes.Tag[] tags = TMTypes.Tag.values();
+                int[] snapshot = new int[1 + tags.length];
+                snapshot[0] = player;
+                for (int i = 0; i < tags.length; i++) {
+                    Counter c = gs.getPlayerCardsPlayedTags()[player].get(tags[i]);
+                    snapshot[1 + i] = c == null ? -1 : c.getValue();
+                }
+                return snapshot;
+            }
+            default: {
+                TMTypes.Resource[] resources = TMTypes.Resource.values();
+                int nPlayers = gs.getNPlayers();
+                int[] snapshot = new int[1 + 2 * resources.length * (nPlayers + 1)];
+                snapshot[0] = player;
+                int i = 1;
+                for (TMTypes.Resource res : resources) {
+                    for (int p = 0; p < nPlayers; p++) {
+                        Counter r = gs.getPlayerResources()[p].get(res);
+                        Counter prod = gs.getPlayerProduction()[p].get(res);
+                        snapshot[i++] = r == null ? -1 : r.getValueIdx();
+                        snapshot[i++] = prod == null ? -1 : prod.getValueIdx();
+                    }
+                    snapshot[i++] = CounterRequirement.discount(gs, res.name());
+                    snapshot[i++] = CounterRequirement.discount(gs, res.name() + "prod");
+                }
+                return snapshot;
+            }
+        }
+    }
+}
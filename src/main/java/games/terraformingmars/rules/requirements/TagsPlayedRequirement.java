@@ -35,6 +35,11 @@ public class TagsPlayedRequirement implements Requirement<TMGameState> {
         return true;
     }
 
+    @Override
+    public TMRequirementCache.Dependency getDependency() {
+        return TMRequirementCache.Dependency.Tags;
+    }
+
     @Override
     public boolean isMax() {
         return false;
@@ -3,29 +3,88 @@ package players.heuristics;
 import com.globalmentor.apache.hadoop.fs.BareLocalFileSystem;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.spark.ml.regression.DecisionTreeRegressionModel;
+import org.apache.spark.ml.tree.ContinuousSplit;
+import org.apache.spark.ml.tree.InternalNode;
+import org.apache.spark.ml.tree.LeafNode;
+import org.apache.spark.ml.tree.Node;
 import org.apache.spark.sql.SparkSession;
 
+import java.io.File;
+
 public abstract class AbstractDecisionTreeHeuristic {
 
-    static SparkSession spark = SparkSession
-            .builder()
-            .appName("Java Spark SQL basic example")
-            //     .config("spark.driver.memory", "1g")
-            .master("local").getOrCreate();
-    static {
-        // And the hack to get this to work on Windows (without the Winutils.exe and hadoop.dll nightmare)
-        spark.sparkContext().hadoopConfiguration().setClass("fs.file.impl", BareLocalFileSystem.class, FileSystem.class);
+    // Only started if we have to load a model saved by Spark (which takes a few seconds)
+    private static class Spark {
+        static SparkSession spark = SparkSession
+                .builder()
+                .appName("Java Spark SQL basic example")
+                //     .config("spark.driver.memory", "1g")
+                .master("local").getOrCreate();
+        static {
+            // And the hack to get this to work on Windows (without the Winutils.exe and hadoop.dll nightmare)
+            spark.sparkContext().hadoopConfiguration().setClass("fs.file.impl", BareLocalFileSystem.class, FileSystem.class);
+        }
+
+        static DecisionTreeRegressionModel load(String directory) {
+            return DecisionTreeRegressionModel.load(directory);
+        }
     }
 
-    protected DecisionTreeRegressionModel drModel;
+    protected FlatDecisionTree model;
 
+    /**
+     * @param directory - either a FlatDecisionTree file, or a directory with a model saved by DecisionTreeLearner. If
+     *                  the directory has no FlatDecisionTree file in it (as saved by older versions), the Spark model
+     *                  is loaded and converted instead.
+     */
     public AbstractDecisionTreeHeuristic(String directory) {
         // load in the Decision Tree model from the directory
         if (directory == null || directory.isEmpty()) {
             System.out.println("No directory specified for Decision Tree model");
             return;
         }
-        drModel = DecisionTreeRegressionModel.load(directory);
+        File file = new File(directory);
+        if (file.isFile()) {
+            model = FlatDecisionTree.loadFromFile(directory);
+        } else if (new File(file, FlatDecisionTree.FILE_NAME).exists()) {
+            model = FlatDecisionTree.loadFromFile(new File(file, FlatDecisionTree.FILE_NAME).getPath());
+        } else {
+            model = fromSpark(Spark.load(directory));
+        }
+    }
+
+    /**
+     * Converts a trained Spark model into a FlatDecisionTree, which gives the same predictions.
+     * Only continuous splits are supported (which is all we get from numeric feature vectors).
+     */
+    public static FlatDecisionTree fromSpark(DecisionTreeRegressionModel sparkModel) {
+        int nNodes = sparkModel.numNodes();
+        int[] feature = new int[nNodes];
+        double[] value = new double[nNodes];
+        int[] left = new int[nNodes];
+        int[] right = new int[nNodes];
+        int used = addNode(sparkModel.rootNode(), 0, feature, value, left, right);
+        if (used != nNodes)
+            throw new AssertionError("Expected " + nNodes + " nodes in the tree, but found " + used);
+        return new FlatDecisionTree(feature, value, left, right);
+    }
+
+    // adds the node and all its descendants in pre-order, starting at index, and returns the next free index
+    private static int addNode(Node node, int index, int[] feature, double[] value, int[] left, int[] right) {
+        if (node instanceof LeafNode) {
+            feature[index] = -1;
+            value[index] = node.prediction();
+            return index + 1;
+        }
+        InternalNode internal = (InternalNode) node;
+        if (!(internal.split() instanceof ContinuousSplit))
+            throw new IllegalArgumentException("Only continuous splits are supported, not " + internal.split());
+        ContinuousSplit split = (ContinuousSplit) internal.split();
+        feature[index] = split.featureIndex();
+        value[index] = split.threshold();
+        left[index] = index + 1;
+        right[index] = addNode(internal.leftChild(), index + 1, feature, value, left, right);
+        return addNode(internal.rightChild(), right[index], feature, value, left, right);
     }
 
     public static String prettifyDecisionTreeDescription(DecisionTreeRegressionModel model, String[] featureNames) {
@@ -0,0 +1,121 @@
+package players.heuristics;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A regression tree held in flat arrays, for prediction without Spark (see AbstractDecisionTreeHeuristic.fromSpark()
+ * for the conversion of a trained DecisionTreeRegressionModel). For node i:
+ * - feature[i] is the index of the feature it splits on, or -1 if it is a leaf (no other negative index is valid)
+ * - value[i] is the threshold of the split (features <= threshold go left), or the prediction of a leaf
+ * - children[2i] and children[2i+1] are the indices of its left and right children (unused for a leaf)
+ * <p>
+ * Prediction walks down the arrays, so it does not allocate anything. The next node is picked by indexing children
+ * with the result of the comparison rather than with an if, which the JIT compiles without a branch; with a branch,
+ * the unpredictable splits of a tree made prediction about twice as slow.
+ * <p>
+ * The file format is tab-separated text, with a header line and then one line per node: Feature, Value, Left, Right
+ */
+public class FlatDecisionTree {
+
+    public static final String FILE_NAME = "FlatTree.txt";
+    static final String HEADER = "Feature\tValue\tLeft\tRight";
+
+    final int[] feature;
+    final double[] value;
+    final int[] children;
+
+    /**
+     * Node 0 is the root. Children must come after their parent (as they do if the nodes are in pre-order).
+     */
+    public FlatDecisionTree(int[] feature, double[] value, int[] left, int[] right) {
+        int nNodes = feature.length;
+        if (nNodes == 0 || value.length != nNodes || left.length != nNodes || right.length != nNodes)
+            throw new IllegalArgumentException("A tree needs the same, positive, number of features, values and children");
+        this.feature = feature;
+        this.value = value;
+        this.children = new int[2 * nNodes];
+        for (int i = 0; i < nNodes; i++) {
+            if (feature[i] == -1) continue;
+            if (feature[i] < 0)
+                throw new IllegalArgumentException("Invalid feature " + feature[i] + " for node " + i);
+            if (left[i] <= i || left[i] >= nNodes || right[i] <= i || right[i] >= nNodes)
+                throw new IllegalArgumentException("Invalid children for node " + i);
+            children[2 * i] = left[i];
+            children[2 * i + 1] = right[i];
+        }
+    }
+
+    /**
+     * @param features - the feature vector, in the order the tree was trained with
+     * @return the prediction of the leaf the features lead to
+     */
+    public double predict(double[] features) {
+        int[] feature = this.feature, children = this.children;
+        double[] value = this.value;
+        int node = 0;
+        int f;
+        while ((f = feature[node]) >= 0) {
+            node = children[2 * node + (features[f] <= value[node] ? 0 : 1)];
+        }
+        return value[node];
+    }
+
+    public int size() {
+        return feature.length;
+    }
+
+    public void writeToFile(String file) {
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(file, false))) {
+            writer.write(HEADER + "\n");
+            for (int i = 0; i < feature.length; i++) {
+                // Double.toString() reads back as exactly the same value
+                writer.write(feature[i] + "\t" + value[i] + "\t" + children[2 * i] + "\t" + children[2 * i + 1] + "\n");
+            }
+        } catch (IOException e) {
+            throw new AssertionError("Error writing : " + file);
+        }
+    }
+
+    public static FlatDecisionTree loadFromFile(String file) {
+        try (BufferedReader br = new BufferedReader(new FileReader(file))) {
+            if (!HEADER.equals(br.readLine()))
+                throw new AssertionError("Incompatible data in file " + file);
+            List<String[]> rows = new ArrayList<>();
+            String line;
+            int lineNumber = 1;
+            while ((line = br.readLine()) != null) {
+                lineNumber++;
+                if (line.isEmpty()) continue;
+                String[] row = line.split("\\t");
+                if (row.length != 4)
+                    throw new IllegalArgumentException("Expected 4 fields (" + HEADER.replace('\t', ' ') + ") but found " +
+                            row.length + " on line " + lineNumber);
+                rows.add(row);
+            }
+            int nNodes = rows.size();
+            int[] feature = new int[nNodes];
+            double[] value = new double[nNodes];
+            int[] left = new int[nNodes];
+            int[] right = new int[nNodes];
+            for (int i = 0; i < nNodes; i++) {
+                String[] row = rows.get(i);
+                feature[i] = Integer.parseInt(row[0]);
+                value[i] = Double.parseDouble(row[1]);
+                left[i] = Integer.parseInt(row[2]);
+                right[i] = Integer.parseInt(row[3]);
+            }
+            return new FlatDecisionTree(feature, value, left, right);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid number in " + file + " : " + e.getMessage());
+        } catch (IllegalArgumentException e) {
+            // a malformed line, or nodes that do not make a valid tree
+            throw new IllegalArgumentException(e.getMessage() + " in " + file);
+        } catch (FileNotFoundException e) {
+            throw new AssertionError("File not found : " + file);
+        } catch (IOException e) {
+            throw new AssertionError("Error accessing : " + file);
+        }
+    }
+}
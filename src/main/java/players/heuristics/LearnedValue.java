@@ -14,7 +14,6 @@ import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
-import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
 
 public class LearnedValue extends AbstractPlayer implements ITreeProcessor {
@@ -247,12 +246,12 @@ public class LearnedValue extends AbstractPlayer implements ITreeProcessor {
             List<AbstractAction> actionsFromState = forwardModel.computeAvailableActions(n.getState());
             //no point calculating if only one action!
             if (actionsFromState.size() > 1) {
-                List<Pair<AbstractAction, SingleTreeNode>> actionsToNodes = n.getChildren().keySet().stream()
-                        .filter(action -> n.getChildren().get(action) != null &&
-                                n.getChildren().get(action)[actor] != null &&
-                                actionsFromState.contains(action))
-                        .map(action -> new Pair<>(action, n.getChildren().get(action)[actor]))
-                        .collect(toList());
+                List<Pair<AbstractAction, SingleTreeNode>> actionsToNodes = new ArrayList<>();
+                for (AbstractAction action : new LinkedHashSet<>(actionsFromState)) {
+                    SingleTreeNode[] children = n.childrenFor(action);
+                    if (children != null && children[actor] != null)
+                        actionsToNodes.add(new Pair<>(action, children[actor]));
+                }
 
 
                 for (String bucket : buckets) {
@@ -281,7 +280,7 @@ public class LearnedValue extends AbstractPlayer implements ITreeProcessor {
 
                 }
             }
-            // and then add the child node that have sufficient visits
+            // and then add the child node that have sufficient visits (getChildren() builds a new map, so once only)
             queue.addAll(n.getChildren().values().stream()
                     .filter(Objects::nonNull)
                     .map(arr -> arr[actor])
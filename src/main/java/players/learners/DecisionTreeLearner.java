@@ -5,7 +5,9 @@ import org.apache.spark.ml.regression.DecisionTreeRegressionModel;
 import org.apache.spark.ml.regression.DecisionTreeRegressor;
 import org.apache.spark.sql.Dataset;
 import org.apache.spark.sql.Row;
+import players.heuristics.AbstractDecisionTreeHeuristic;
 import players.heuristics.DecisionTreeActionHeuristic;
+import players.heuristics.FlatDecisionTree;
 
 import java.io.BufferedWriter;
 import java.io.File;
@@ -67,6 +69,8 @@ public class DecisionTreeLearner extends ApacheLearner {
     public void writeToFile(String file) {
         try {
             drModel.write().overwrite().save(file);
+            // and the same tree in a form that can be used without Spark
+            AbstractDecisionTreeHeuristic.fromSpark(drModel).writeToFile(file + File.separator + FlatDecisionTree.FILE_NAME);
             BufferedWriter writer = new BufferedWriter(new java.io.FileWriter(file + File.separator + "Description.txt"));
             writer.write(DecisionTreeActionHeuristic.prettifyDecisionTreeDescription(drModel, descriptions));
             writer.close();
@@ -0,0 +1,160 @@
+package players.mcts;
+
+import core.actions.AbstractAction;
+
+import java.util.*;
+
+/**
+ * The statistics of all the actions tried from one node in the tree.
+ * <p>
+ * Each distinct action is given the next free slot the first time it is seen at the node, and then keeps it.
+ * All the statistics are held in arrays indexed by slot (the value arrays have one entry per player, at
+ * slot * nPlayers + player). The node looks up the slots of the available actions once per visit, and selection
+ * and back-propagation then work directly on the arrays, without calling equals() or hashCode() on the actions.
+ */
+class ActionStatsTable {
+
+    final int nPlayers;
+    private final Map<AbstractAction, Integer> slotByAction = new HashMap<>();
+    private int size;
+
+    // the action in each slot; this is a copy owned by the node
+    AbstractAction[] actions;
+    // the child nodes reached by each action, indexed by the player who acts next (null if not yet expanded)
+    SingleTreeNode[][] children;
+    int[] visits;
+    int[] validVisits;
+    double[] totValue;
+    double[] squaredTotValue;
+    // the actionHeuristic estimate for each action (NaN if it has not been calculated), and the pUCT prior
+    double[] valueEstimate;
+    double[] pdfEstimate;
+
+    ActionStatsTable(int nPlayers) {
+        this.nPlayers = nPlayers;
+        int capacity = 8;
+        actions = new AbstractAction[capacity];
+        children = new SingleTreeNode[capacity][];
+        visits = new int[capacity];
+        validVisits = new int[capacity];
+        totValue = new double[capacity * nPlayers];
+        squaredTotValue = new double[capacity * nPlayers];
+        valueEstimate = new double[capacity];
+        Arrays.fill(valueEstimate, Double.NaN);
+        pdfEstimate = new double[capacity];
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return the slot of the action, or -1 if it has not been added
+     */
+    int slotOf(AbstractAction action) {
+        Integer slot = slotByAction.get(action);
+        return slot == null ? -1 : slot;
+    }
+
+    /**
+     * Adds a new action, which should not be modified afterwards (so callers pass a copy).
+     *
+     * @return the slot of the new action
+     */
+    int add(AbstractAction action) {
+        if (size == actions.length)
+            grow();
+        int slot = size++;
+        if (slotByAction.put(action, slot) != null)
+            throw new AssertionError("Action already in table: " + action);
+        actions[slot] = action;
+        return slot;
+    }
+
+    private void grow() {
+        int capacity = actions.length * 2;
+        actions = Arrays.copyOf(actions, capacity);
+        children = Arrays.copyOf(children, capacity);
+        visits = Arrays.copyOf(visits, capacity);
+        validVisits = Arrays.copyOf(validVisits, capacity);
+        totValue = Arrays.copyOf(totValue, capacity * nPlayers);
+        squaredTotValue = Arrays.copyOf(squaredTotValue, capacity * nPlayers);
+        int oldCapacity = valueEstimate.length;
+        valueEstimate = Arrays.copyOf(valueEstimate, capacity);
+        Arrays.fill(valueEstimate, oldCapacity, capacity, Double.NaN);
+        pdfEstimate = Arrays.copyOf(pdfEstimate, capacity);
+    }
+
+    void update(int slot, double[] results) {
+        int base = slot * nPlayers;
+        for (int i = 0; i < results.length; i++) {
+            totValue[base + i] += results[i];
+            squaredTotValue[base + i] += results[i] * results[i];
+        }
+        visits[slot]++;
+    }
+
+    /**
+     * Adds a virtual loss to the action: n visits, each with the given value for the player (the lowest reward seen).
+     * A tree parallel search adds one to each action on the path of an iteration while its rollout is in progress,
+     * so that other threads are steered to other parts of the tree, and then removes it before backing up the result.
+     */
+    void addVirtualLoss(int slot, int player, int n, double value) {
+        visits[slot] += n;
+        validVisits[slot] += n;
+        totValue[slot * nPlayers + player] += n * value;
+        squaredTotValue[slot * nPlayers + player] += n * value * value;
+    }
+
+    void removeVirtualLoss(int slot, int player, int n, double value) {
+        addVirtualLoss(slot, player, -n, value);
+    }
+
+    double totValue(int slot, int player) {
+        return totValue[slot * nPlayers + player];
+    }
+
+    double squaredTotValue(int slot, int player) {
+        return squaredTotValue[slot * nPlayers + player];
+    }
+
+    /**
+     * @return the action heuristic estimate for the action in this slot, or 0.0 if none has been calculated
+     */
+    double valueEstimate(int slot) {
+        double estimate = valueEstimate[slot];
+        return Double.isNaN(estimate) ? 0.0 : estimate;
+    }
+
+    /**
+     * Adds the statistics from another (independent) search from the same state into this one.
+     * Used to combine the root nodes of parallel trees. Child nodes are not merged.
+     */
+    void merge(ActionStatsTable other) {
+        for (int otherSlot = 0; otherSlot < other.size; otherSlot++) {
+            int slot = slotOf(other.actions[otherSlot]);
+            if (slot == -1)
+                slot = add(other.actions[otherSlot].copy());
+            for (int p = 0; p < nPlayers; p++) {
+                totValue[slot * nPlayers + p] += other.totValue(otherSlot, p);
+                squaredTotValue[slot * nPlayers + p] += other.squaredTotValue(otherSlot, p);
+            }
+            visits[slot] += other.visits[otherSlot];
+            validVisits[slot] += other.validVisits[otherSlot];
+        }
+    }
+
+    /**
+     * @return a copy of the statistics of the action in this slot (for reporting)
+     */
+    ActionStats stats(int slot) {
+        ActionStats retValue = new ActionStats(nPlayers);
+        retValue.nVisits = visits[slot];
+        retValue.validVisits = validVisits[slot];
+        for (int p = 0; p < nPlayers; p++) {
+            retValue.totValue[p] = totValue(slot, p);
+            retValue.squaredTotValue[p] = squaredTotValue(slot, p);
+        }
+        return retValue;
+    }
+}
@@ -0,0 +1,67 @@
+package players.mcts;
+
+import core.actions.AbstractAction;
+import utilities.Pair;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+
+/**
+ * The actions taken (and the player who took each of them) during one MCTS iteration.
+ * <p>
+ * This is a List of (player, action) Pairs for all the code that reads the trajectory, but it holds the players and
+ * actions in parallel arrays, and is cleared and re-used for every iteration. So recording an action (which happens
+ * on every step of every rollout) does not allocate. The Pairs returned by get() are created on demand, and changing
+ * them has no effect on the trajectory.
+ */
+class ActionTrajectory extends AbstractList<Pair<Integer, AbstractAction>> {
+
+    private int[] players = new int[16];
+    private AbstractAction[] actions = new AbstractAction[16];
+    private int size;
+
+    void add(int player, AbstractAction action) {
+        if (size == players.length) {
+            players = Arrays.copyOf(players, size * 2);
+            actions = Arrays.copyOf(actions, size * 2);
+        }
+        players[size] = player;
+        actions[size] = action;
+        size++;
+    }
+
+    int playerAt(int index) {
+        if (index >= size)
+            throw new IndexOutOfBoundsException("Index " + index + " with size " + size);
+        return players[index];
+    }
+
+    AbstractAction actionAt(int index) {
+        if (index >= size)
+            throw new IndexOutOfBoundsException("Index " + index + " with size " + size);
+        return actions[index];
+    }
+
+    @Override
+    public boolean add(Pair<Integer, AbstractAction> pair) {
+        add(pair.a, pair.b);
+        return true;
+    }
+
+    @Override
+    public Pair<Integer, AbstractAction> get(int index) {
+        return new Pair<>(playerAt(index), actionAt(index));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        // we release the actions, but keep the arrays
+        Arrays.fill(actions, 0, size, null);
+        size = 0;
+    }
+}
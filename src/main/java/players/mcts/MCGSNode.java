@@ -3,12 +3,14 @@ package players.mcts;
 import core.AbstractGameState;
 import core.actions.AbstractAction;
 
-import java.util.*;
+import java.util.Arrays;
 
 public class MCGSNode extends SingleTreeNode {
 
-    private Map<String, MCGSNode> transpositionMap = new HashMap<>();
-    public List<String> trajectory = new ArrayList<>();
+    private TranspositionTable transpositionMap = new TranspositionTable();
+    // keys of the states passed through in the tree on the current iteration; trajectoryLength are in use
+    long[] trajectory = new long[16];
+    int trajectoryLength;
 
     protected MCGSNode() {
     }
@@ -22,12 +24,11 @@ public class MCGSNode extends SingleTreeNode {
     }
 
     private void addToTranspositionTable(MCGSNode node, AbstractGameState keyState) {
-        String key = params.MCGSStateKey.getKey(keyState);
+        long key = params.MCGSStateKey.getKey(keyState);
         MCGSNode graphRoot = (MCGSNode) root;
-        if (graphRoot.transpositionMap.containsKey(key)) {
+        if (graphRoot.transpositionMap.put(key, node) != null) {
             throw new AssertionError("Unexpected?");
         }
-        graphRoot.transpositionMap.put(key, node);
         //   System.out.println("Adding to transposition table: " + key);
     }
 
@@ -43,14 +44,14 @@ public class MCGSNode extends SingleTreeNode {
         // we create the new node here; so that the backup does not create new nodes (which is in line with the main MCTS algorithm).
         // this enforces (for the moment) the rule that each iteration adds one new node.
         MCGSNode graphRoot = (MCGSNode) root;
-        String key = params.MCGSStateKey.getKey(nextState);
-        if (graphRoot.transpositionMap.containsKey(key)) {
+        long key = params.MCGSStateKey.getKey(nextState);
+        MCGSNode existing = graphRoot.transpositionMap.get(key);
+        if (existing != null) {
             if (params.MCGSExpandAfterClash) {
                 throw new AssertionError("Unexpected?");
             } else {
-                MCGSNode retValue = graphRoot.transpositionMap.get(key);
-                retValue.setActionsFromOpenLoopState(openLoopState);
-                return retValue;
+                existing.setActionsFromOpenLoopState(openLoopState);
+                return existing;
             }
         }
         return createChildNode(actionCopy, nextState);
@@ -59,11 +60,11 @@ public class MCGSNode extends SingleTreeNode {
     @Override
     protected SingleTreeNode nextNodeInTree(AbstractAction actionChosen) {
         // we look up the node in the transposition table using the feature vector for the openLoopState
-        String key = params.MCGSStateKey.getKey(openLoopState);
+        long key = params.MCGSStateKey.getKey(openLoopState);
         MCGSNode nextNode = ((MCGSNode) root).transpositionMap.get(key);
 
         if (nextNode != null) {
-            if (actionValues.get(actionChosen).nVisits == 0) {
+            if (actionVisits(actionChosen) == 0) {
                 root.nodeClash++;
                 if (!params.MCGSExpandAfterClash) {
                     // we then return null so we rollout from this point
@@ -83,8 +84,10 @@ public class MCGSNode extends SingleTreeNode {
             // We only track this while in the tree (we could do the rollout as well, but at the overhead
             // of featureVector calculations
             MCGSNode mcgsRoot = (MCGSNode) root;
-            String key = params.MCGSStateKey.getKey(gs);
-            mcgsRoot.trajectory.add(key);
+            long key = params.MCGSStateKey.getKey(gs);
+            if (mcgsRoot.trajectoryLength == mcgsRoot.trajectory.length)
+                mcgsRoot.trajectory = Arrays.copyOf(mcgsRoot.trajectory, mcgsRoot.trajectoryLength * 2);
+            mcgsRoot.trajectory[mcgsRoot.trajectoryLength++] = key;
 //            System.out.println("Adding to trajectory: " + key);
         }
         super.advanceState(gs, act, inRollout);
@@ -111,13 +114,13 @@ public class MCGSNode extends SingleTreeNode {
         double[] result = processResultsForParanoidOrSelfOnly(delta);
         MCGSNode nRoot = (MCGSNode) root;
         // trajectory is the sequence of state representations that we have passed through
-        if (nRoot.trajectory.size() != nRoot.actionsInTree.size()) {
+        if (nRoot.trajectoryLength != nRoot.actionsInTree.size()) {
             throw new AssertionError("Trajectory and actionsInTree should be the same size " +
-                    nRoot.trajectory.size() + " != " + nRoot.actionsInTree.size());
+                    nRoot.trajectoryLength + " != " + nRoot.actionsInTree.size());
         }
 
-        for (int i = 0; i < nRoot.trajectory.size(); i++) {
-            String key = nRoot.trajectory.get(i);
+        for (int i = 0; i < nRoot.trajectoryLength; i++) {
+            long key = nRoot.trajectory[i];
             MCGSNode node = nRoot.transpositionMap.get(key);
             AbstractAction action = nRoot.actionsInTree.get(i).b;
             if (node == null) {
@@ -125,14 +128,14 @@ public class MCGSNode extends SingleTreeNode {
             }
             node.backUpSingleNode(action, result);
         }
-        nRoot.trajectory.clear();
+        nRoot.trajectoryLength = 0;
     }
 
-    public Map<String, MCGSNode> getTranspositionMap() {
+    public TranspositionTable getTranspositionMap() {
         return transpositionMap;
     }
 
-    public void setTranspositionMap(Map<String, MCGSNode> transposition) {
+    public void setTranspositionMap(TranspositionTable transposition) {
         transpositionMap = transposition;
     }
 
@@ -69,6 +69,11 @@ public class MCTSParams extends PlayerParameters {
     public double progressiveWideningExponent = 0.0;
     public double progressiveBias = 0.0;
     public boolean reuseTree = false;
+    // Parallel search. These are resources rather than strategy, so they are not in the default tuning space. A search
+    // that is not supported in parallel (see MCTSPlayer) runs on the calling thread alone.
+    public int rootParallelism = 1;  // number of independent trees searched in parallel (one thread each), merged at the root
+    public int treeParallelism = 1;  // number of threads searching one shared tree (used if rootParallelism is 1)
+    public int virtualLoss = 1;  // visits, with the lowest reward seen, added to each action of an iteration in progress
 
     public MCTSParams() {
         addTunableParameter("K", Math.sqrt(2), Arrays.asList(0.0, 0.1, 1.0, Math.sqrt(2), 3.0, 10.0));
@@ -115,6 +120,9 @@ public class MCTSParams extends PlayerParameters {
         addTunableParameter("initialiseVisits", 0);
         addTunableParameter("actionHeuristicRecalculation", 20);
         addTunableParameter("reuseTree", false);
+        addTunableParameter("rootParallelism", 1);
+        addTunableParameter("treeParallelism", 1);
+        addTunableParameter("virtualLoss", 1);
     }
 
     @Override
@@ -172,6 +180,9 @@ public class MCTSParams extends PlayerParameters {
         initialiseVisits = (int) getParameterValue("initialiseVisits");
         actionHeuristicRecalculationThreshold = (int) getParameterValue("actionHeuristicRecalculation");
         reuseTree = (boolean) getParameterValue("reuseTree");
+        rootParallelism = (int) getParameterValue("rootParallelism");
+        treeParallelism = (int) getParameterValue("treeParallelism");
+        virtualLoss = (int) getParameterValue("virtualLoss");
         opponentModel = null;
         rolloutPolicy = null;
         useMASTAsActionHeuristic = (boolean) getParameterValue("useMASTAsActionHeuristic");
@@ -9,10 +9,13 @@ import evaluation.listeners.IGameListener;
 import core.interfaces.IStateHeuristic;
 import evaluation.metrics.Event;
 import players.IAnyTimePlayer;
+import players.PlayerConstants;
+import utilities.ElapsedWallTimer;
 import utilities.Pair;
 import utilities.Utils;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -28,7 +31,13 @@ public class MCTSPlayer extends AbstractPlayer implements IAnyTimePlayer {
     protected SingleTreeNode root;
     protected AbstractAction lastAction;
     List<Map<Object, Pair<Integer, Double>>> MASTStats;
-    Map<String, Integer> oldGraphKeys = new HashMap<>();
+    // MCGS keys and visit counts in the graph when the last decision was made, in matching order
+    long[] oldGraphKeys = new long[0];
+    int[] oldGraphVisits = new int[0];
+    // Worker threads for root or tree parallelisation; created on first use
+    ExecutorService searchThreads;
+    // The trees of the last root parallel search, whose root statistics were merged into root
+    SingleTreeNode[] parallelTrees;
 
     public MCTSPlayer() {
         this(new MCTSParams());
@@ -62,7 +71,8 @@ public class MCTSPlayer extends AbstractPlayer implements IAnyTimePlayer {
             ((AbstractPlayer) getParameters().actionHeuristic).initializePlayer(state);
         MASTStats = null;
         root = null;
-        oldGraphKeys = new HashMap<>();
+        oldGraphKeys = new long[0];
+        oldGraphVisits = new int[0];
         getParameters().getRolloutStrategy().initializePlayer(state);
         getParameters().getOpponentModel().initializePlayer(state);
     }
@@ -120,9 +130,11 @@ public class MCTSPlayer extends AbstractPlayer implements IAnyTimePlayer {
         if (params.reuseTree && (params.opponentTreePolicy == MCGS || params.opponentTreePolicy == MCGSSelfOnly)) {
             // In this case we remove any nodes from the graph that were not present before the last action was taken
             MCGSNode mcgsRoot = (MCGSNode) root;
-            for (String key : oldGraphKeys.keySet()) {
-                int oldVisits = oldGraphKeys.get(key);
-                int newVisits = mcgsRoot.getTranspositionMap().get(key) != null ? mcgsRoot.getTranspositionMap().get(key).nVisits : 0;
+            for (int i = 0; i < oldGraphKeys.length; i++) {
+                long key = oldGraphKeys[i];
+                int oldVisits = oldGraphVisits[i];
+                MCGSNode node = mcgsRoot.getTranspositionMap().get(key);
+                int newVisits = node != null ? node.nVisits : 0;
                 if (newVisits == oldVisits) {
                     // no change, so remove
                     mcgsRoot.getTranspositionMap().remove(key);
@@ -132,17 +144,19 @@ public class MCTSPlayer extends AbstractPlayer implements IAnyTimePlayer {
             }
             // then reset the old keys
             if (mcgsRoot == null) {
-                oldGraphKeys = new HashMap<>();
+                oldGraphKeys = new long[0];
+                oldGraphVisits = new int[0];
                 return null;
             }
 
-            oldGraphKeys = mcgsRoot.getTranspositionMap().entrySet().stream()
-                    .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().nVisits));
+            oldGraphKeys = mcgsRoot.getTranspositionMap().keys();
+            oldGraphVisits = mcgsRoot.getTranspositionMap().values().stream().mapToInt(n -> n.nVisits).toArray();
             // we create the root node as we would have done normally; and then override the transposition map
             MCGSNode retValue = ((MCGSNode) root).getTranspositionMap().get(params.MCGSStateKey.getKey(gameState));
             if (retValue == null) {
                 // have left graph; start from scratch
-                oldGraphKeys = new HashMap<>();
+                oldGraphKeys = new long[0];
+                oldGraphVisits = new int[0];
                 return null;
             }
             retValue.instantiate(null, null, gameState);
@@ -210,8 +224,9 @@ public class MCTSPlayer extends AbstractPlayer implements IAnyTimePlayer {
                     nextActionPlayer = selfOnly ? rootPlayer : nextActionPlayer;
                     if (debug)
                         System.out.println("\tAction: " + action.toString() + "\t Next Player: " + nextActionPlayer);
-                    if (newRoot.children != null && newRoot.children.get(action) != null)
-                        newRoot = newRoot.children.get(action)[nextActionPlayer];
+                    SingleTreeNode[] nextNodes = newRoot.childrenFor(action);
+                    if (nextNodes != null)
+                        newRoot = nextNodes[nextActionPlayer];
                     else
                         newRoot = null;
                     if (newRoot == null)
@@ -252,10 +267,17 @@ public class MCTSPlayer extends AbstractPlayer implements IAnyTimePlayer {
     public AbstractAction _getAction(AbstractGameState gameState, List<AbstractAction> actions) {
         // Search for best action from the root
         long currentTimeNano = System.nanoTime();
-        createRootNode(gameState);
-        long timeTaken = System.nanoTime() - currentTimeNano;
+        if (getParameters().rootParallelism > 1 && supportsRootParallelism()) {
+            rootParallelSearch(gameState, currentTimeNano);
+        } else if (getParameters().rootParallelism <= 1 && getParameters().treeParallelism > 1 && supportsTreeParallelism()) {
+            createRootNode(gameState);
+            new TreeParallelSearch(this, gameState).search(searchThreads(getParameters().treeParallelism), currentTimeNano);
+        } else {
+            createRootNode(gameState);
+            long timeTaken = System.nanoTime() - currentTimeNano;
 
-        root.mctsSearch(timeTaken / 1000000);
+            root.mctsSearch(timeTaken / 1000000);
+        }
 
         if (getParameters().actionHeuristic instanceof ITreeProcessor)
             ((ITreeProcessor) getParameters().actionHeuristic).process(root);
@@ -274,12 +296,121 @@ public class MCTSPlayer extends AbstractPlayer implements IAnyTimePlayer {
         }
         MASTStats = root.MASTStatistics;
 
-        if (root.children.size() > 2 * actions.size() && !(root instanceof MCGSNode) && !getParameters().reuseTree && !getParameters().actionSpace.equals(gameState.getCoreGameParameters().actionSpace))
-            throw new AssertionError(String.format("Unexpectedly large number of children: %d with action size of %d", root.children.size(), actions.size()));
+        if (root.actionTable.size() > 2 * actions.size() && !(root instanceof MCGSNode) && !getParameters().reuseTree && !getParameters().actionSpace.equals(gameState.getCoreGameParameters().actionSpace))
+            throw new AssertionError(String.format("Unexpectedly large number of children: %d with action size of %d", root.actionTable.size(), actions.size()));
         lastAction = root.bestAction();
         return lastAction.copy();
     }
 
+    /**
+     * @return true if root parallelisation can be used with the current parameters. (Each tree is discarded after the
+     * decision, so it cannot be reused; and a MultiTree search has one tree per player.) Otherwise the search runs
+     * on the calling thread alone.
+     */
+    boolean supportsRootParallelism() {
+        MCTSParams params = getParameters();
+        return !params.reuseTree && params.opponentTreePolicy != MultiTree;
+    }
+
+    /**
+     * @return true if tree parallelisation can be used with the current parameters. The MultiTree, OMA and MCGS
+     * variants keep statistics outside the tree's own nodes, which TreeParallelSearch does not lock; with these the
+     * search runs on the calling thread alone.
+     */
+    boolean supportsTreeParallelism() {
+        MCTSEnums.OpponentTreePolicy policy = getParameters().opponentTreePolicy;
+        return policy == OneTree || policy == SelfOnly;
+    }
+
+    /**
+     * @return the pool of threads used by a parallel search of nThreads (including the calling thread)
+     */
+    private ExecutorService searchThreads(int nThreads) {
+        if (searchThreads == null) {
+            searchThreads = Executors.newFixedThreadPool(nThreads - 1, r -> {
+                Thread t = new Thread(r, "MCTS-parallel-search");
+                t.setDaemon(true);
+                return t;
+            });
+        }
+        return searchThreads;
+    }
+
+    /**
+     * Root parallelisation. We search rootParallelism independent trees, one per thread (the calling thread runs the
+     * first), and then merge the statistics of their root nodes into a new root node, from which bestAction() is
+     * taken. The trees are kept in parallelTrees until the next decision.
+     * <p>
+     * Each tree has its own copy of the parameters (and hence of the rollout policy and opponent model), its own
+     * forward model and random seed. Under Information_Set each extra tree starts from its own determinisation.
+     * With a time budget all trees run to the same wall-clock deadline, so the time taken is unchanged however many
+     * CPUs the threads share; with any other budget (iterations, FM calls, copies) the budget is split between the
+     * trees, so the total work is unchanged.
+     */
+    protected void rootParallelSearch(AbstractGameState gameState, long startTimeNano) {
+        MCTSParams params = getParameters();
+        int nTrees = params.rootParallelism;
+        int decisionPlayer = gameState.getCurrentPlayer();
+
+        MCTSPlayer[] workers = new MCTSPlayer[nTrees];
+        for (int i = 0; i < nTrees; i++) {
+            workers[i] = new MCTSPlayer(workerParameters(), toString());
+            workers[i].setForwardModel(getForwardModel().copy());
+            workers[i].initializePlayer(gameState);
+            workers[i].MASTStats = MASTStats;
+        }
+        ExecutorService threads = searchThreads(nTrees);
+
+        List<Future<SingleTreeNode>> otherTrees = new ArrayList<>();
+        for (int i = 1; i < nTrees; i++) {
+            MCTSPlayer worker = workers[i];
+            AbstractGameState treeState = params.information == MCTSEnums.Information.Information_Set ?
+                    gameState.copy(decisionPlayer) : gameState.copy();
+            otherTrees.add(threads.submit(() -> {
+                worker.createRootNode(treeState);
+                worker.root.mctsSearch((System.nanoTime() - startTimeNano) / 1000000, new ElapsedWallTimer());
+                return worker.root;
+            }));
+        }
+        workers[0].createRootNode(gameState);
+        workers[0].root.mctsSearch((System.nanoTime() - startTimeNano) / 1000000, new ElapsedWallTimer());
+
+        parallelTrees = new SingleTreeNode[nTrees];
+        parallelTrees[0] = workers[0].root;
+        for (int i = 1; i < nTrees; i++) {
+            try {
+                parallelTrees[i] = otherTrees.get(i - 1).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted during parallel MCTS search", e);
+            } catch (ExecutionException e) {
+                throw new RuntimeException("Parallel MCTS search failed: " + e.getCause(), e.getCause());
+            }
+        }
+        createRootNode(gameState);
+        root.initialisationTimeTaken = parallelTrees[0].initialisationTimeTaken;
+        for (SingleTreeNode tree : parallelTrees) {
+            root.mergeRoot(tree);
+            root.timeTaken = Math.max(root.timeTaken, tree.timeTaken);
+        }
+        // as before, the MAST statistics carried forward are those of the first tree
+        root.MASTStatistics = parallelTrees[0].MASTStatistics;
+    }
+
+    /**
+     * @return the parameters for a worker of a parallel search, with its own seed (and for a root parallel search, its
+     * share of the budget)
+     */
+    MCTSParams workerParameters() {
+        MCTSParams params = getParameters();
+        MCTSParams workerParams = (MCTSParams) params.copy();
+        if (params.budgetType != PlayerConstants.BUDGET_TIME)
+            workerParams.setParameterValue("budget", Math.max(1, params.budget / params.rootParallelism));
+        // after setParameterValue(), which resets the seed to that of the tunable parameter
+        workerParams.setRandomSeed(rnd.nextInt());
+        return workerParams;
+    }
+
     @Override
     public void finalizePlayer(AbstractGameState state) {
         getParameters().getRolloutStrategy().onEvent(Event.createEvent(Event.GameEvent.GAME_OVER, state));
@@ -288,7 +419,12 @@ public class MCTSPlayer extends AbstractPlayer implements IAnyTimePlayer {
             ((IGameListener) getParameters().heuristic).onEvent(Event.createEvent(Event.GameEvent.GAME_OVER, state));
         if (getParameters().actionHeuristic instanceof IGameListener)
             ((IGameListener) getParameters().actionHeuristic).onEvent(Event.createEvent(Event.GameEvent.GAME_OVER, state));
-
+        // the parallel search threads are released at the end of each game, and created again if needed in the next
+        parallelTrees = null;
+        if (searchThreads != null) {
+            searchThreads.shutdown();
+            searchThreads = null;
+        }
     }
 
     @Override
@@ -299,6 +435,14 @@ public class MCTSPlayer extends AbstractPlayer implements IAnyTimePlayer {
         return retValue;
     }
 
+    @Override
+    public MCTSPlayer copyWithSameSeed() {
+        MCTSPlayer retValue = (MCTSPlayer) super.copyWithSameSeed();
+        // our Random was created from the seed in the constructor
+        retValue.rnd = new Random(parameters.getRandomSeed());
+        return retValue;
+    }
+
     @Override
     public void setForwardModel(AbstractForwardModel model) {
         super.setForwardModel(model);
@@ -313,11 +457,11 @@ public class MCTSPlayer extends AbstractPlayer implements IAnyTimePlayer {
         Map<AbstractAction, Map<String, Object>> retValue = new LinkedHashMap<>();
 
         if (root != null && root.getVisits() > 1) {
-            for (AbstractAction action : root.actionValues.keySet()) {
-                ActionStats stats = root.actionValues.get(action);
-                int visits = stats == null ? 0 : stats.nVisits;
+            for (int slot = 0; slot < root.actionTable.size(); slot++) {
+                AbstractAction action = root.actionTable.actions[slot];
+                int visits = root.actionTable.visits[slot];
                 double visitProportion = visits / (double) root.getVisits();
-                double meanValue = stats == null || visits == 0 ? 0.0 : stats.totValue[root.decisionPlayer] / visits;
+                double meanValue = visits == 0 ? 0.0 : root.actionTable.totValue(slot, root.decisionPlayer) / visits;
                 double heuristicValue = getParameters().heuristic.evaluateState(root.state, root.decisionPlayer);
                 double actionValue = getParameters().actionHeuristic.evaluateAction(action, root.state);
 
@@ -75,8 +75,7 @@ public class MultiTreeNode extends SingleTreeNode {
         maxDepthReached = new boolean[currentLocation.length];
         System.arraycopy(roots, 0, currentLocation, 0, currentLocation.length);
 
-        actionsInTree = new ArrayList<>();
-        actionsInRollout = new ArrayList<>();
+        resetTrajectories();
         // Keep iterating while the state reached is not terminal and the depth of the tree is not exceeded
         do {
             if (debug)
@@ -44,8 +44,12 @@ public class SingleTreeNode {
     // (specifically when using SelfOnly trees, with START/END_TURN/ROUND rollout termination conditions
     protected int roundAtStartOfRollout, turnAtStartOfRollout, lastActorInRollout;
     List<AbstractAction> actionsFromOpenLoopState = new ArrayList<>();
-    Map<AbstractAction, Double> actionValueEstimates = new HashMap<>();
-    Map<AbstractAction, Double> actionPDFEstimates = new HashMap<>();
+    // the slot in actionTable of each action in actionsFromOpenLoopState
+    int[] openLoopSlots = new int[0];
+    // working space for the indices (into actionsFromOpenLoopState) of the actions to consider in selection, which
+    // back-propagation converts to their slots
+    private int[] consideredIndices = new int[0];
+    private boolean actionValuesEstimated;
     // Depth of this node
     protected int depth;
     // the id of the player who makes the decision at this node
@@ -61,11 +65,11 @@ public class SingleTreeNode {
     protected SingleTreeNode root;
     // Parent of this node
     SingleTreeNode parent;
-    // Children of this node. The value is an Array because we have to cater for the possibility that the next decision
-    // could be by any player - each of which would transition to a different Node OpenLoop search. (Closed Loop will
-    // only ever have one position in the array populated: and similarly if we are using a SelfOnly tree).
-    Map<AbstractAction, SingleTreeNode[]> children = new LinkedHashMap<>();
-    Map<AbstractAction, ActionStats> actionValues = new HashMap<>();
+    // Statistics and children for every action seen at this node. The children of an action are an Array because we
+    // have to cater for the possibility that the next decision could be by any player - each of which would transition
+    // to a different Node OpenLoop search. (Closed Loop will only ever have one position in the array populated: and
+    // similarly if we are using a SelfOnly tree).
+    ActionStatsTable actionTable;
     List<Map<Object, Pair<Integer, Double>>> MASTStatistics; // a list of one Map per player. Action -> (visits, totValue)
     // ToDoubleBiFunction<AbstractAction, AbstractGameState> MASTFunction;
     // The total value of all trajectories through this node (one element per player)
@@ -73,6 +77,8 @@ public class SingleTreeNode {
     // Total value of this node
     protected List<Pair<Integer, AbstractAction>> actionsInTree;
     List<Pair<Integer, AbstractAction>> actionsInRollout;
+    // the buffers re-used for actionsInTree and actionsInRollout on every iteration (only used on the root)
+    private ActionTrajectory treeTrajectory, rolloutTrajectory;
 
     protected SingleTreeNode() {
     }
@@ -135,6 +141,7 @@ public class SingleTreeNode {
         } else {
             this.state = state;
         }
+        actionTable = new ActionStatsTable(state.getNPlayers());
         // then set up available actions, and set openLoopState = state
         setActionsFromOpenLoopState(state);
 
@@ -153,12 +160,8 @@ public class SingleTreeNode {
     protected void resetDepth(SingleTreeNode newRoot) {
         depth = parent == null ? 0 : parent.depth + 1;
         root = newRoot;
-        for (SingleTreeNode[] childArray : children.values()) {
-            if (childArray == null) continue;
-            for (SingleTreeNode child : childArray) {
-                if (child != null) child.resetDepth(newRoot);
-            }
-        }
+        for (SingleTreeNode child : childNodes())
+            child.resetDepth(newRoot);
     }
 
     public AbstractGameState getState() {
@@ -191,9 +194,25 @@ public class SingleTreeNode {
             if (actionsFromOpenLoopState.size() != actionsFromOpenLoopState.stream().distinct().count())
                 throw new AssertionError("Duplicate actions found in action list: " +
                         actionsFromOpenLoopState.stream().map(a -> "\t" + a.toString() + "\n").collect(joining()));
-            if ((params.actionHeuristic != IActionHeuristic.nullReturn && nVisits < actionsFromOpenLoopState.size())
+            // find the slot of each available action, adding any that we have not seen before at this node
+            int nActions = actionsFromOpenLoopState.size();
+            int previouslySeen = actionTable.size();
+            if (openLoopSlots.length != nActions)
+                openLoopSlots = new int[nActions];
+            for (int i = 0; i < nActions; i++) {
+                AbstractAction action = actionsFromOpenLoopState.get(i);
+                int slot = actionTable.slotOf(action);
+                if (slot == -1) {
+                    slot = actionTable.add(action.copy()); // mark a new node to be expanded
+                    // This *does* rely on a good equals method being implemented for Actions
+                    if (actionTable.slotOf(action) != slot)
+                        throw new AssertionError("We have an action that does not obey the equals/hashcode contract" + action);
+                }
+                openLoopSlots[i] = slot;
+            }
+            if ((params.actionHeuristic != IActionHeuristic.nullReturn && nVisits < nActions)
                     || params.pUCT || params.progressiveBias > 0 || params.initialiseVisits > 0 || params.progressiveWideningConstant >= 1.0) {
-                // We only need to calculate actionValueEstimates if we are going to be using the data in one of these variants
+                // We only need to calculate action value estimates if we are going to be using the data in one of these variants
                 // If not, then we can save processing time by not calculating them
                 // actionHeuristicRecalculationThreshold defines how often we recalculate the action values
                 // if the actionHeuristic is fixed, then this should be set to a very high value
@@ -201,17 +220,18 @@ public class SingleTreeNode {
                 // change over the course of the search. Setting it to 1 will update it on every visit; but possibly
                 // at a high additional computational cost.
                 if (params.actionHeuristic != IActionHeuristic.nullReturn) {
-                    if (actionValueEstimates.isEmpty() || nVisits % params.actionHeuristicRecalculationThreshold == 0) {
+                    if (!actionValuesEstimated || nVisits % params.actionHeuristicRecalculationThreshold == 0) {
                         // in this case we initialise all action values
                         double[] actionValues = params.actionHeuristic.evaluateAllActions(actionsFromOpenLoopState, actionState);
-                        for (int i = 0; i < actionsFromOpenLoopState.size(); i++) {
-                            actionValueEstimates.put(actionsFromOpenLoopState.get(i), actionValues[i]);
+                        for (int i = 0; i < nActions; i++) {
+                            actionTable.valueEstimate[openLoopSlots[i]] = actionValues[i];
                         }
+                        actionValuesEstimated = nActions > 0;
                     } else {
                         // we just initialise the new actions
-                        for (AbstractAction action : actionsFromOpenLoopState) {
-                            if (!actionValueEstimates.containsKey(action)) {
-                                actionValueEstimates.put(action, params.actionHeuristic.evaluateAction(action, actionState));
+                        for (int i = 0; i < nActions; i++) {
+                            if (Double.isNaN(actionTable.valueEstimate[openLoopSlots[i]])) {
+                                actionTable.valueEstimate[openLoopSlots[i]] = params.actionHeuristic.evaluateAction(actionsFromOpenLoopState.get(i), actionState);
                             }
                         }
                     }
@@ -226,54 +246,51 @@ public class SingleTreeNode {
                 // Generally if using pUCT we would expect FPU to also be used to give effective pruning, rather than the
                 // explicit pruning of Progressive Widening.
                 double[] pdf;
-                actionPDFEstimates = new HashMap<>();
+                double[] actionValues = new double[nActions];
                 if (params.pUCTTemperature > 0.0) {
                     // in this case we construct a Boltzmann
-                    double[] actionValues = actionsFromOpenLoopState.stream().
-                            mapToDouble(a -> actionValueEstimates.getOrDefault(a, 0.0)).toArray();
+                    for (int i = 0; i < nActions; i++)
+                        actionValues[i] = actionTable.valueEstimate(openLoopSlots[i]);
                     pdf = Utils.pdf(Utils.exponentiatePotentials(actionValues, params.pUCTTemperature));
 
                 } else {
                     // in this case, we first set any negative values to zero, and then construct the pdf directly
-                    double[] actionValues = actionsFromOpenLoopState.stream().
-                            mapToDouble(a -> Math.max(0.0, actionValueEstimates.getOrDefault(a, 0.0))).toArray();
+                    for (int i = 0; i < nActions; i++)
+                        actionValues[i] = Math.max(0.0, actionTable.valueEstimate(openLoopSlots[i]));
                     pdf = Utils.pdf(actionValues);
                 }
-                for (int i = 0; i < actionsFromOpenLoopState.size(); i++) {
-                    actionPDFEstimates.put(actionsFromOpenLoopState.get(i), pdf[i]);
+                for (int i = 0; i < nActions; i++) {
+                    actionTable.pdfEstimate[openLoopSlots[i]] = pdf[i];
                 }
             }
-            for (AbstractAction action : actionsFromOpenLoopState) {
-                if (!actionValues.containsKey(action)) {
-                    actionValues.put(action, new ActionStats(actionState.getNPlayers()));
-                    children.put(action.copy(), null); // mark a new node to be expanded
-                    // This *does* rely on a good equals method being implemented for Actions
-                    if (!children.containsKey(action))
-                        throw new AssertionError("We have an action that does not obey the equals/hashcode contract" + action);
-                    // Then we seed the statistics with heuristic biases (if so parameterised)
+            if (params.initialiseVisits > 0) {
+                for (int i = 0; i < nActions; i++) {
+                    int slot = openLoopSlots[i];
+                    if (slot < previouslySeen)
+                        continue;
+                    // Then we seed the statistics of new actions with heuristic biases
                     // This assumes that we have had params.initialiseVisits trials of each action before we start
-                    if (params.initialiseVisits > 0) {
-                        // This also ignores Progressive widening and initialises all possible actions
-                        // As with pUCT, this won't cause any major issues, but will mean that the effective node visits
-                        // will be higher than the visits of the considered actions.
-                        ActionStats stats = actionValues.get(action);
-                        double actionEstimate = actionValueEstimates.getOrDefault(action, 0.0);
-                        if (params.normaliseRewards) {
-                            if (actionEstimate > root.highReward) root.highReward = actionEstimate;
-                            if (actionEstimate < root.lowReward) root.lowReward = actionEstimate;
-                        }
-                        int nActions = Math.max(actionValues.size(), actionsFromOpenLoopState.size());
-                        stats.nVisits = params.initialiseVisits;
-                        stats.validVisits = params.initialiseVisits * nActions;
-                        stats.totValue[decisionPlayer] = actionEstimate * params.initialiseVisits;
-                        stats.squaredTotValue[decisionPlayer] = actionEstimate * actionEstimate * params.initialiseVisits;
-                        if (params.paranoid) // default to zero for other players, unless we're paranoid
-                            for (int i = 0; i < actionState.getNPlayers(); i++)
-                                if (i != decisionPlayer)
-                                    stats.totValue[i] = -stats.totValue[decisionPlayer];
-                        if (nVisits < params.initialiseVisits * nActions) {
-                            nVisits = params.initialiseVisits * nActions;
-                        }
+                    // This also ignores Progressive widening and initialises all possible actions
+                    // As with pUCT, this won't cause any major issues, but will mean that the effective node visits
+                    // will be higher than the visits of the considered actions.
+                    double actionEstimate = actionTable.valueEstimate(slot);
+                    if (params.normaliseRewards) {
+                        if (actionEstimate > root.highReward) root.highReward = actionEstimate;
+                        if (actionEstimate < root.lowReward) root.lowReward = actionEstimate;
+                    }
+                    // slots are allocated in order, so slot + 1 actions had been seen when this one was added
+                    int nSeen = Math.max(slot + 1, nActions);
+                    int base = slot * actionTable.nPlayers;
+                    actionTable.visits[slot] = params.initialiseVisits;
+                    actionTable.validVisits[slot] = params.initialiseVisits * nSeen;
+                    actionTable.totValue[base + decisionPlayer] = actionEstimate * params.initialiseVisits;
+                    actionTable.squaredTotValue[base + decisionPlayer] = actionEstimate * actionEstimate * params.initialiseVisits;
+                    if (params.paranoid) // default to zero for other players, unless we're paranoid
+                        for (int p = 0; p < actionTable.nPlayers; p++)
+                            if (p != decisionPlayer)
+                                actionTable.totValue[base + p] = -actionTable.totValue[base + decisionPlayer];
+                    if (nVisits < params.initialiseVisits * nSeen) {
+                        nVisits = params.initialiseVisits * nSeen;
                     }
                 }
             }
@@ -293,13 +310,17 @@ public class SingleTreeNode {
      * Performs full MCTS search, using the defined budget limits.
      */
     public void mctsSearch(long initialisationTime) {
+        mctsSearch(initialisationTime, new ElapsedCpuTimer());
+    }
+
+    /**
+     * Performs full MCTS search, with a time budget (if that is used) measured by the given timer. Parallel
+     * searches use a wall-clock timer, so that threads sharing a CPU do not each get the whole budget.
+     */
+    void mctsSearch(long initialisationTime, ElapsedCpuTimer elapsedTimer) {
         initialiseRootMetrics();
         initialisationTimeTaken = initialisationTime;
-        // Variables for tracking time budget
-        double avgTimeTaken;
-        long remaining;
-        int remainingLimit = params.breakMS;
-        ElapsedCpuTimer elapsedTimer = new ElapsedCpuTimer();
+        elapsedTimer.reset();
         if (params.budgetType == BUDGET_TIME) {
             elapsedTimer.setMaxTimeMillis(params.budget - initialisationTime);
         }
@@ -308,19 +329,7 @@ public class SingleTreeNode {
         int numIters = 0;
         boolean stop = false;
         while (!stop) {
-            switch (params.information) {
-                case Closed_Loop:
-                    setActionsFromOpenLoopState(state);
-                    break;
-                case Open_Loop:
-                    setActionsFromOpenLoopState(state.copy());
-                    copyCount++;
-                    break;
-                case Information_Set:
-                    setActionsFromOpenLoopState(state.copy(decisionPlayer));
-                    copyCount++;
-                    break;
-            }
+            setRootStateForIteration();
 
             // New timer for this iteration
             //      ElapsedCpuTimer elapsedTimerIteration = new ElapsedCpuTimer();
@@ -334,34 +343,63 @@ public class SingleTreeNode {
             numIters++;
             //       System.out.printf("MCTS Iteration %d, timeLeft: %d\n", numIters, elapsedTimer.remainingTimeMillis());
             // Check stopping condition
-            PlayerConstants budgetType = params.budgetType;
-            if (budgetType == BUDGET_TIME) {
-                // Time budget
-                remaining = elapsedTimer.remainingTimeMillis();
-                avgTimeTaken = (double) elapsedTimer.elapsedMillis() / numIters;
-                stop = remaining <= 2 * avgTimeTaken || remaining <= remainingLimit;
-            } else if (budgetType == BUDGET_ITERATIONS) {
-                // Iteration budget
-                stop = numIters >= params.budget;
-            } else if (budgetType == BUDGET_FM_CALLS) {
-                // FM calls budget
-                stop = fmCallsCount > params.budget || numIters > params.budget;
-            } else if (budgetType == BUDGET_COPY_CALLS) {
-                stop = copyCount > params.budget || numIters > params.budget;
-            } else if (budgetType == BUDGET_FMANDCOPY_CALLS) {
-                stop = (copyCount + fmCallsCount) > params.budget || numIters > params.budget;
-            }
+            stop = budgetUsed(numIters, elapsedTimer);
         }
         timeTaken = elapsedTimer.elapsedMillis();
     }
 
+    /**
+     * Sets the state from which the next iteration starts on this (root) node: a new copy of the root state, which
+     * under Information_Set is also a new determinisation.
+     */
+    void setRootStateForIteration() {
+        switch (params.information) {
+            case Closed_Loop:
+                setActionsFromOpenLoopState(state);
+                break;
+            case Open_Loop:
+                setActionsFromOpenLoopState(state.copy());
+                copyCount++;
+                break;
+            case Information_Set:
+                setActionsFromOpenLoopState(state.copy(decisionPlayer));
+                copyCount++;
+                break;
+        }
+    }
+
+    /**
+     * @param numIters     the number of iterations completed
+     * @param elapsedTimer the timer for the search (only used with a time budget)
+     * @return true if the search budget has been used up (the FM calls and copies counted are those of this root)
+     */
+    boolean budgetUsed(int numIters, ElapsedCpuTimer elapsedTimer) {
+        PlayerConstants budgetType = params.budgetType;
+        if (budgetType == BUDGET_TIME) {
+            // Time budget
+            long remaining = elapsedTimer.remainingTimeMillis();
+            double avgTimeTaken = (double) elapsedTimer.elapsedMillis() / numIters;
+            return remaining <= 2 * avgTimeTaken || remaining <= params.breakMS;
+        } else if (budgetType == BUDGET_ITERATIONS) {
+            // Iteration budget
+            return numIters >= params.budget;
+        } else if (budgetType == BUDGET_FM_CALLS) {
+            // FM calls budget
+            return fmCallsCount > params.budget || numIters > params.budget;
+        } else if (budgetType == BUDGET_COPY_CALLS) {
+            return copyCount > params.budget || numIters > params.budget;
+        } else if (budgetType == BUDGET_FMANDCOPY_CALLS) {
+            return (copyCount + fmCallsCount) > params.budget || numIters > params.budget;
+        }
+        return false;
+    }
+
     /**
      * oneSearchIteration() implements the strategy for tree search (plus expansion, rollouts, backup and so on)
      * Its result is purely stored in the tree generated from root
      */
     protected void oneSearchIteration() {
-        actionsInTree = new ArrayList<>();
-        actionsInRollout = new ArrayList<>();
+        resetTrajectories();
 
         SingleTreeNode selected = treePolicy();
         if (selected == this && openLoopState.isNotTerminalForPlayer(decisionPlayer) && nVisits > 3 && !(this instanceof MCGSNode))
@@ -371,7 +409,7 @@ public class SingleTreeNode {
         // although if we have no decisions to make - this is fine
 
         // Monte carlo rollout: return value of MC rollout from the newly added node
-        int lastActorInTree = actionsInTree.isEmpty() ? decisionPlayer : actionsInTree.get(actionsInTree.size() - 1).a;
+        int lastActorInTree = actionsInTree.isEmpty() ? decisionPlayer : treeTrajectory.playerAt(actionsInTree.size() - 1);
         double[] delta = selected.rollout(lastActorInTree);
         // Back up the value of the rollout through the tree
         rolloutActionsTaken += actionsInRollout.size();
@@ -380,6 +418,28 @@ public class SingleTreeNode {
         updateMASTStatistics(actionsInTree, actionsInRollout, delta);
     }
 
+    /**
+     * Clears actionsInTree and actionsInRollout ready for a new iteration. The same buffers are re-used by every
+     * iteration of a search, so that recording the actions taken does not allocate.
+     */
+    protected void resetTrajectories() {
+        if (treeTrajectory == null) {
+            treeTrajectory = new ActionTrajectory();
+            rolloutTrajectory = new ActionTrajectory();
+        }
+        treeTrajectory.clear();
+        rolloutTrajectory.clear();
+        actionsInTree = treeTrajectory;
+        actionsInRollout = rolloutTrajectory;
+    }
+
+    private static void record(List<Pair<Integer, AbstractAction>> trajectory, int player, AbstractAction action) {
+        if (trajectory instanceof ActionTrajectory)
+            ((ActionTrajectory) trajectory).add(player, action);
+        else
+            trajectory.add(new Pair<>(player, action));
+    }
+
     protected void updateMASTStatistics
             (List<Pair<Integer, AbstractAction>> tree, List<Pair<Integer, AbstractAction>> rollout, double[] value) {
         if (params.useMAST) {
@@ -400,49 +460,43 @@ public class SingleTreeNode {
         }
     }
 
-    /**
-     * Uses plain java loop instead of streams for performance
-     * (this is called often enough it can make a measurable difference)
-     */
     public int actionVisits(AbstractAction action) {
-        ActionStats stats = actionValues.get(action);
-        return stats == null ? 0 : stats.nVisits;
+        int slot = actionTable.slotOf(action);
+        return slot == -1 ? 0 : actionTable.visits[slot];
     }
 
-    private int validVisitsFor(AbstractAction action) {
+    private int validVisitsFor(int slot) {
         if (params.information == Closed_Loop)
             return nVisits;
-        ActionStats stats = actionValues.get(action);
-        return stats == null ? 1 : stats.validVisits;
+        return actionTable.validVisits[slot];
     }
 
-    /**
-     * Uses plain java loop instead of streams for performance
-     * (this is called often enough it can make a measurable difference)
-     */
     public double actionTotValue(AbstractAction action, int playerId) {
-        ActionStats stats = actionValues.get(action);
-        return stats == null ? 0.0 : stats.totValue[playerId];
+        int slot = actionTable.slotOf(action);
+        return slot == -1 ? 0.0 : actionTable.totValue(slot, playerId);
     }
 
     public double nodeValue(int playerId) {
         if (nVisits == 0) return 0.0;
-        return actionValues.values().stream().mapToDouble(s -> s.totValue[playerId]).sum() / nVisits;
-    }
-
-    private double actionSquaredValue(AbstractAction action, int playerId) {
-        ActionStats stats = actionValues.get(action);
-        return stats == null ? 0.0 : stats.squaredTotValue[playerId];
+        double total = 0.0;
+        for (int slot = 0; slot < actionTable.size(); slot++)
+            total += actionTable.totValue(slot, playerId);
+        return total / nVisits;
     }
 
     /**
      * Uses only by TreeStatistics and bestAction() after mctsSearch()
-     * For this reason not converted to old-style java loop as there would be no performance gain
      */
     int[] actionVisits() {
-        return actionValues.values().stream()
-                .mapToInt(a -> a.nVisits)
-                .toArray();
+        return Arrays.copyOf(actionTable.visits, actionTable.size());
+    }
+
+    /**
+     * @return a copy of the statistics for the action, or null if it has not been seen at this node
+     */
+    ActionStats getActionStats(AbstractAction action) {
+        int slot = actionTable.slotOf(action);
+        return slot == -1 ? null : actionTable.stats(slot);
     }
 
     /**
@@ -470,7 +524,7 @@ public class SingleTreeNode {
             if (params.information == Closed_Loop) {
                 // we do not advance
                 // but we do want to track the actions taken (otherwise done in advanceState)
-                actionsInTree.add(new Pair<>(cur.openLoopState.getCurrentPlayer(), chosen));
+                record(actionsInTree, cur.openLoopState.getCurrentPlayer(), chosen);
             } else {
                 cur.advanceState(cur.openLoopState, chosen, false);
             }
@@ -489,21 +543,46 @@ public class SingleTreeNode {
     }
 
     protected List<AbstractAction> actionsToConsider(List<AbstractAction> allAvailable) {
-        if (!allAvailable.isEmpty() && params.progressiveWideningConstant >= 1.0) {
+        if (allAvailable != actionsFromOpenLoopState)
+            throw new AssertionError("Only the actions from the open loop state can be considered");
+        int n = indicesToConsider();
+        List<AbstractAction> retValue = new ArrayList<>(n);
+        for (int i = 0; i < n; i++)
+            retValue.add(actionsFromOpenLoopState.get(consideredIndices[i]));
+        return retValue;
+    }
+
+    /**
+     * Fills consideredIndices with the indices (into actionsFromOpenLoopState) of the actions to consider, which
+     * takes account of any Progressive Widening in play.
+     *
+     * @return the number of actions to consider
+     */
+    private int indicesToConsider() {
+        int n = actionsFromOpenLoopState.size();
+        if (consideredIndices.length < n)
+            consideredIndices = new int[n];
+        for (int i = 0; i < n; i++)
+            consideredIndices[i] = i;
+        if (n > 0 && params.progressiveWideningConstant >= 1.0) {
             int actionsToConsider = (int) Math.floor(params.progressiveWideningConstant * Math.pow(nVisits + 1, params.progressiveWideningExponent));
-            actionsToConsider = Math.min(actionsToConsider, allAvailable.size());
+            actionsToConsider = Math.min(actionsToConsider, n);
             // takes account of the expanded actions
-            if (actionsToConsider <= 0) return new ArrayList<>();
+            if (actionsToConsider <= 0) return 0;
             // sort in advantage order (descending)
             // It is perfectly possible that a previously expanded action falls out of the considered list
             // depending on the advantage heuristic used.
             // However, we do break ties in favour of already expanded actions
-            List<AbstractAction> sortedActions = new ArrayList<>(allAvailable);
-            sortedActions.sort(Comparator.comparingDouble(a -> -actionValueEstimates.getOrDefault(a, 0.0) -
-                    actionValues.getOrDefault(a, new ActionStats(1)).nVisits * 1e-6));
-            return new ArrayList<>(sortedActions.subList(0, actionsToConsider));
+            Integer[] sorted = new Integer[n];
+            for (int i = 0; i < n; i++)
+                sorted[i] = i;
+            Arrays.sort(sorted, Comparator.comparingDouble(i -> -actionTable.valueEstimate(openLoopSlots[i]) -
+                    actionTable.visits[openLoopSlots[i]] * 1e-6));
+            for (int i = 0; i < actionsToConsider; i++)
+                consideredIndices[i] = sorted[i];
+            return actionsToConsider;
         }
-        return new ArrayList<>(allAvailable);
+        return n;
     }
 
 
@@ -511,12 +590,13 @@ public class SingleTreeNode {
         // then instantiate a new node
         int nextPlayer = params.opponentTreePolicy.selfOnlyTree ? decisionPlayer : nextState.getCurrentPlayer();
         SingleTreeNode tn = createChildNode(actionCopy, nextState);
+        int slot = actionTable.slotOf(actionCopy);
+        if (slot == -1)
+            slot = actionTable.add(actionCopy.copy());
         // It is possible that we are expanding a node because a different player is the next to act
-        SingleTreeNode[] newNodeArray = children.get(actionCopy);
-        if (newNodeArray == null)
-            newNodeArray = new SingleTreeNode[nextState.getNPlayers()];
-        newNodeArray[nextPlayer] = tn; // we store this by id of the player who will take their turn next
-        children.put(actionCopy, newNodeArray);
+        if (actionTable.children[slot] == null)
+            actionTable.children[slot] = new SingleTreeNode[nextState.getNPlayers()];
+        actionTable.children[slot][nextPlayer] = tn; // we store this by id of the player who will take their turn next
         return tn;
     }
 
@@ -528,21 +608,23 @@ public class SingleTreeNode {
     /**
      * Advance the current game state with the given action, count the FM call and compute the next available actions.
      * <p>
-     * In some case Action is mutable, and will change state when advance() is called - so this method always copies
-     * first for safety
+     * In some case Action is mutable, and will change state when advance() is called - so this method copies
+     * first for safety whenever the action is used again later (it is in the tree, or recorded for MAST). Immutable
+     * actions return themselves from copy(), so cost nothing here.
      *
      * @param gs  - current game state
      * @param act - action to apply
      */
     protected void advanceState(AbstractGameState gs, AbstractAction act, boolean inRollout) {
         // we execute a copy(), because this can change the action, so we then don't find the node later!
+        boolean actionUsedLater = !inRollout || (params.useMAST && params.MAST != MCTSEnums.MASTType.Tree);
         if (inRollout) {
             lastActorInRollout = gs.getCurrentPlayer();
-            root.actionsInRollout.add(new Pair<>(lastActorInRollout, act));
+            record(root.actionsInRollout, lastActorInRollout, act);
         } else {
-            root.actionsInTree.add(new Pair<>(gs.getCurrentPlayer(), act));
+            record(root.actionsInTree, gs.getCurrentPlayer(), act);
         }
-        forwardModel.next(gs, act.copy());
+        forwardModel.next(gs, actionUsedLater ? act.copy() : act);
         root.fmCallsCount++;
         if (params.opponentTreePolicy != MultiTree &&
                 params.opponentTreePolicy.selfOnlyTree &&
@@ -567,7 +649,7 @@ public class SingleTreeNode {
                 throw new AssertionError("Should always have at least one action possible..." + (action != null ? " Last action: " + action : ""));
             action = oppModel.getAction(gs, availableActions);
             if (inRollout) {
-                root.actionsInRollout.add(new Pair<>(gs.getCurrentPlayer(), action));
+                record(root.actionsInRollout, gs.getCurrentPlayer(), action);
                 lastActorInRollout = gs.getCurrentPlayer();
             }
             forwardModel.next(gs, action);
@@ -584,55 +666,60 @@ public class SingleTreeNode {
         if (params.opponentTreePolicy == SelfOnly && openLoopState != null && openLoopState.getCurrentPlayer() != decisionPlayer)
             throw new AssertionError("An error has occurred. SelfOnly should only call uct when we are moving.");
 
-        // actionsToConsider takes care of any Progressive Widening in play, so we only consider the
+        // indicesToConsider takes care of any Progressive Widening in play, so we only consider the
         // widened subset
-        List<AbstractAction> availableActions = actionsToConsider(actionsFromOpenLoopState);
-        if (availableActions.isEmpty())
+        int nConsidered = indicesToConsider();
+        if (nConsidered == 0)
             throw new AssertionError("We need to have at least one option");
 
-        AbstractAction actionChosen;
-        if (availableActions.size() == 1) {
-            actionChosen = availableActions.get(0);
+        int chosen;
+        if (nConsidered == 1) {
+            chosen = consideredIndices[0];
         } else {
-            // first we shuffle to break ties
-            Collections.shuffle(availableActions, rnd);
-            // then get the actionValues
-            double[] actionValues = actionValues(availableActions);
+            // first we shuffle to break ties (in the same way as Collections.shuffle())
+            for (int i = nConsidered; i > 1; i--) {
+                int j = rnd.nextInt(i);
+                int tmp = consideredIndices[i - 1];
+                consideredIndices[i - 1] = consideredIndices[j];
+                consideredIndices[j] = tmp;
+            }
             // then pick the best one
-            actionChosen = switch (params.treePolicy) {
+            chosen = switch (params.treePolicy) {
                 case UCB, AlphaGo, UCB_Tuned -> {
                     // These take the max
                     // Find child with highest UCB value
-                    AbstractAction bestAction = null;
+                    int bestIndex = -1;
                     double bestValue = -Double.MAX_VALUE;
-                    // no need to shuffle, as ucbValue() adds some random noise
-                    for (AbstractAction availableAction : availableActions) {
-                        double uctValue = ucbValue(availableAction);
+                    for (int i = 0; i < nConsidered; i++) {
+                        double uctValue = ucbValue(openLoopSlots[consideredIndices[i]]);
                         if (uctValue > bestValue) {
                             bestValue = uctValue;
-                            bestAction = availableAction;
+                            bestIndex = consideredIndices[i];
                         }
                     }
-                    yield bestAction;
+                    yield bestIndex;
                 }
                 case RegretMatching, EXP3, Hedge -> {
                     // check exploration first
                     if (explore && rnd.nextDouble() < params.exploreEpsilon) {
-                        yield availableActions.get(rnd.nextInt(availableActions.size()));
+                        yield consideredIndices[rnd.nextInt(nConsidered)];
                     }
+                    double[] actionValues = new double[nConsidered];
+                    for (int i = 0; i < nConsidered; i++)
+                        actionValues[i] = actionValue(openLoopSlots[consideredIndices[i]]);
                     double[] pdf = Utils.pdf(actionValues);
                     long nonZeroActions = Arrays.stream(actionValues).filter(v -> v > 0.0).count();
                     if (nonZeroActions == 0) {
                         // if we have no non-zero values, then we just pick one at random
-                        yield availableActions.get(rnd.nextInt(availableActions.size()));
+                        yield consideredIndices[rnd.nextInt(nConsidered)];
                     }
-                    yield availableActions.get(Utils.sampleFrom(pdf, rnd.nextDouble()));
+                    yield consideredIndices[Utils.sampleFrom(pdf, rnd.nextDouble())];
                 }
                 default -> throw new AssertionError("Unknown treePolicy: " + params.treePolicy);
             };
         }
 
-        return actionChosen;
+        return actionsFromOpenLoopState.get(chosen);
     }
 
 
@@ -646,7 +733,7 @@ public class SingleTreeNode {
         // We check to see if we have finished. This is true if the gameState is terminal; or if
         // this is a selfOnly tree and it is terminal for the root decision player
 
-        SingleTreeNode[] nodeArray = children.get(actionChosen);
+        SingleTreeNode[] nodeArray = childrenFor(actionChosen);
         if (nodeArray == null) return null;
         if (params.information == Closed_Loop) {
             // in this case we have determinism...there should just be a single child node in the array...so we get that
@@ -671,29 +758,35 @@ public class SingleTreeNode {
     protected double[] actionValues(List<AbstractAction> actionsToConsider) {
         double[] retValue = new double[actionsToConsider.size()];
         for (int i = 0; i < actionsToConsider.size(); i++) {
-            AbstractAction action = actionsToConsider.get(i);
-            retValue[i] = switch (params.treePolicy) {
-                case UCB, AlphaGo, UCB_Tuned -> ucbValue(action);
-                case RegretMatching, Hedge -> rmValue(action);
-                case EXP3 -> exp3Value(action);
-            };
+            int slot = actionTable.slotOf(actionsToConsider.get(i));
+            if (slot == -1)
+                throw new AssertionError("Action not seen at this node: " + actionsToConsider.get(i));
+            retValue[i] = actionValue(slot);
         }
         return retValue;
     }
 
-    private double ucbValue(AbstractAction action) {
+    private double actionValue(int slot) {
+        return switch (params.treePolicy) {
+            case UCB, AlphaGo, UCB_Tuned -> ucbValue(slot);
+            case RegretMatching, Hedge -> rmValue(slot);
+            case EXP3 -> exp3Value(slot);
+        };
+    }
+
+    private double ucbValue(int slot) {
 
         // Find 'UCB' value
         double uctValue = 0;
-        int actionVisits = actionVisits(action);
+        int actionVisits = actionTable.visits[slot];
         // Find child value
-        double childValue = getActionValue(action);
+        double childValue = getActionValue(slot);
 
         if (params.normaliseRewards && actionVisits > 0) {
             childValue = normalise(childValue, root.lowReward, root.highReward);
         }
         if (params.progressiveBias > 0)
-            childValue += getBiasValue(action);
+            childValue += getBiasValue(slot);
 
 
         // consider OMA term
@@ -719,7 +812,7 @@ public class SingleTreeNode {
                         throw new AssertionError("We have somehow failed to find the OMA node for this action");
                     }
                 } else {
-                    OMATreeNode.OMAStats stats = tmp.get(action);
+                    OMATreeNode.OMAStats stats = tmp.get(actionTable.actions[slot]);
                     if (stats != null && stats.OMAVisits > 0) {
                         double omaValue = stats.OMATotValue / stats.OMAVisits;
                         childValue = (1.0 - beta) * childValue + beta * omaValue;
@@ -729,7 +822,7 @@ public class SingleTreeNode {
         }
 
         // default to standard UCB
-        int effectiveTotalVisits = validVisitsFor(action);
+        int effectiveTotalVisits = validVisitsFor(slot);
         // use first play urgency as replacement for exploration term if action not previously taken
         double explorationTerm = params.firstPlayUrgency;
         if (actionVisits > 0) {
@@ -737,13 +830,13 @@ public class SingleTreeNode {
                 case UCB_Tuned -> {
                     double range = root.highReward - root.lowReward;
                     if (range < 1e-6) range = 1e-6;
-                    double meanSq = actionSquaredValue(action, decisionPlayer) / actionVisits;
+                    double meanSq = actionTable.squaredTotValue(slot, decisionPlayer) / actionVisits;
                     double standardVar = 0.25;
                     if (params.normaliseRewards) {
                         // we also need to standardise the sum of squares to calculate the variance
                         meanSq = (meanSq
                                 + root.lowReward * root.lowReward
-                                - 2 * root.lowReward * actionTotValue(action, decisionPlayer) / actionVisits
+                                - 2 * root.lowReward * actionTable.totValue(slot, decisionPlayer) / actionVisits
                         ) / (range * range);
                     } else {
                         // we need to modify the standard variance as it is not on a 0..1 basis (which is where 0.25 comes from)
@@ -760,7 +853,7 @@ public class SingleTreeNode {
         if (params.pUCT) {
             // in this case we multiply the exploration term by the pUCT factor (the probability that the action would be taken by
             // our actionHeuristic). These were calculated in setActionsFromOpenLoopState
-            explorationTerm *= actionPDFEstimates.get(action);
+            explorationTerm *= actionTable.pdfEstimate[slot];
         }
 
         // Paranoid/SelfOnly control determines childValue here
@@ -776,8 +869,16 @@ public class SingleTreeNode {
     }
 
     public double exp3Value(AbstractAction action) {
-        double actionValue = getActionValue(action);
-        int actionVisits = actionVisits(action);
+        return exp3Value(actionTable.slotOf(action));
+    }
+
+    public double rmValue(AbstractAction action) {
+        return rmValue(actionTable.slotOf(action));
+    }
+
+    private double exp3Value(int slot) {
+        double actionValue = getActionValue(slot);
+        int actionVisits = actionTable.visits[slot];
         // we then normalise to [0, 1], or we subtract the mean action value to get an advantage (and reduce risk of
         // NaN or Infinities when we exponentiate)
         if (params.normaliseRewards && actionVisits > 0)
@@ -785,7 +886,7 @@ public class SingleTreeNode {
         else
             actionValue = actionValue - nodeValue(decisionPlayer);
         if (params.progressiveBias > 0)
-            actionValue += getBiasValue(action);
+            actionValue += getBiasValue(slot);
         double retValue = Math.exp(actionValue / params.exp3Boltzmann);
 
         if (Double.isNaN(retValue) || Double.isInfinite(retValue)) {
@@ -799,10 +900,10 @@ public class SingleTreeNode {
         return retValue;
     }
 
-    public double rmValue(AbstractAction action) {
-        double actionValue = getActionValue(action);
+    private double rmValue(int slot) {
+        double actionValue = getActionValue(slot);
         if (params.progressiveBias > 0)
-            actionValue += getBiasValue(action);
+            actionValue += getBiasValue(slot);
         double nodeValue = nodeValue(decisionPlayer);
         // potential value is our estimate of our accumulated reward if we had always taken this action
         double potentialValue = actionValue * nVisits;
@@ -816,7 +917,7 @@ public class SingleTreeNode {
                 throw new AssertionError("We have a non-number in Hedge somewhere");
         }
         // We add FPU after all the exponentiation for safety
-        int actionVisits = actionVisits(action);
+        int actionVisits = actionTable.visits[slot];
         if (actionVisits == 0) {
             regret += params.firstPlayUrgency;
         }
@@ -824,15 +925,15 @@ public class SingleTreeNode {
     }
 
 
-    private double getActionValue(AbstractAction action) {
-        int actionVisits = actionVisits(action);
+    private double getActionValue(int slot) {
+        int actionVisits = actionTable.visits[slot];
         // if we are at 'expansion' phase, then we break ties by expansion policy (which is the same actionHeuristic as progressive bias)
-        return actionVisits > 0 ? actionTotValue(action, decisionPlayer) / actionVisits : 0.0;
+        return actionVisits > 0 ? actionTable.totValue(slot, decisionPlayer) / actionVisits : 0.0;
     }
 
-    private double getBiasValue(AbstractAction action) {
-        int actionVisits = actionVisits(action);
-        return params.progressiveBias * actionValueEstimates.getOrDefault(action, 0.0) / (actionVisits + 1);
+    private double getBiasValue(int slot) {
+        int actionVisits = actionTable.visits[slot];
+        return params.progressiveBias * actionTable.valueEstimate(slot) / (actionVisits + 1);
     }
 
     private int sampleFromPotentials(double[] values) {
@@ -847,22 +948,37 @@ public class SingleTreeNode {
      * @return - value of rollout.
      */
     protected double[] rollout(int lastActor) {
+        return rollout(rolloutStartState(), lastActor);
+    }
+
+    /**
+     * @return the state from which a rollout from this node starts; the rollout may change it
+     */
+    AbstractGameState rolloutStartState() {
+        if ((params.rolloutLength > 0 || params.rolloutTermination != DEFAULT) && params.information == Closed_Loop) {
+            // the thinking here is that in openLoop we copy the state right at the root, and then use the forward
+            // model at each action. Hence the current state on the node is the one we have been using up to now.
+            /// Hence we do not need to copy it.
+            root.copyCount++;
+            return state.copy();
+        }
+        return openLoopState;
+    }
+
+    /**
+     * Performs a Monte Carlo rollout from the given state, using the rollout policy, forward model and trajectory
+     * buffers of this node's tree.
+     *
+     * @return - value of rollout.
+     */
+    double[] rollout(AbstractGameState rolloutState, int lastActor) {
         lastActorInRollout = lastActor;
-        roundAtStartOfRollout = openLoopState.getRoundCounter();
-        turnAtStartOfRollout = openLoopState.getTurnCounter();
+        roundAtStartOfRollout = rolloutState.getRoundCounter();
+        turnAtStartOfRollout = rolloutState.getTurnCounter();
 
         // If rollouts are enabled, select actions for the rollout in line with the rollout policy
-        AbstractGameState rolloutState = openLoopState;
         if (params.rolloutLength > 0 || params.rolloutTermination != DEFAULT) {
             // even if rollout length is zero, we may rollout a few actions to reach the end of our turn, or the start of our next turn
-            if (params.information == Closed_Loop) {
-                // the thinking here is that in openLoop we copy the state right at the root, and then use the forward
-                // model at each action. Hence the current state on the node is the one we have been using up to now.
-                /// Hence we do not need to copy it.
-                rolloutState = state.copy();
-                root.copyCount++;
-            }
-
             AbstractAction next = null;
             while (!finishRollout(rolloutState)) {
                 List<AbstractAction> availableActions = forwardModel.computeAvailableActions(rolloutState, params.actionSpace);
@@ -927,7 +1043,7 @@ public class SingleTreeNode {
             n.backUpSingleNode(action, result);
             if (i < root.actionsInTree.size() - 1) {
                 int nextPlayer = root.actionsInTree.get(i + 1).a;
-                SingleTreeNode[] nextN = n.children.get(action);
+                SingleTreeNode[] nextN = n.childrenFor(action);
                 if (nextN == null)
                     throw new AssertionError("We have somehow failed to find the next node in the tree");
                 n = nextN[nextPlayer];
@@ -974,41 +1090,66 @@ public class SingleTreeNode {
     }
 
     protected void backUpSingleNode(AbstractAction actionTaken, double[] result) {
+        // Here we look at actionsFromOpenLoopState to see which ones were valid
+        // when we passed through, and keep track of valid visits
+        // (consideredIndices is working space, so we convert the indices to slots in place)
+        nVisits++;
+        int nConsidered = indicesToConsider();
+        for (int i = 0; i < nConsidered; i++)
+            consideredIndices[i] = openLoopSlots[consideredIndices[i]];
+        backUpSingleNode(actionTaken, result, consideredIndices, nConsidered);
+    }
+
+    /**
+     * @return the slots of the actions considered on the current visit to this node (those available in the open
+     * loop state, less any excluded by Progressive Widening)
+     */
+    int[] consideredSlots() {
+        int nConsidered = indicesToConsider();
+        int[] retValue = new int[nConsidered];
+        for (int i = 0; i < nConsidered; i++)
+            retValue[i] = openLoopSlots[consideredIndices[i]];
+        return retValue;
+    }
+
+    /**
+     * Backs up the result of an iteration that took the action from this node, given the slots of the actions that
+     * were considered on that visit (the first nConsidered entries), and with the visit already counted in nVisits.
+     * A tree parallel search records these at selection, as other threads may have visited the node since.
+     */
+    void backUpSingleNode(AbstractAction actionTaken, double[] result, int[] consideredSlots, int nConsidered) {
         if (params.discardStateAfterEachIteration) {
             if (depth > 0)
                 openLoopState = null; // releases for Garbage Collection
             if (depth > 0 && !params.maintainMasterState)
                 state = null;
         }
-        nVisits++;
-        // Here we look at actionsFromOpenLoopState to see which ones were valid
-        // when we passed through, and keep track of valid visits
-        List<AbstractAction> actionsToConsider = actionsToConsider(actionsFromOpenLoopState);
+        int slotTaken = actionTable.slotOf(actionTaken);
+        boolean considered = false;
+        for (int i = 0; i < nConsidered && !considered; i++)
+            considered = consideredSlots[i] == slotTaken;
 
         // then we update the statistics for the action taken
-        if (!actionsToConsider.contains(actionTaken)) {
+        if (!considered) {
             if (params.opponentTreePolicy != MCGS && params.opponentTreePolicy != MCGSSelfOnly)
                 throw new AssertionError("We have somehow failed to find the action taken in the list of valid actions");
 
             // If MCGS, then this is possible if we have looped in the graph, so that OpenLoopState refers
             // to a different state than the one for which the action was taken. This is awkward.
             // In the absence of any good information, we just increment the valid visits of all actions
-            for (ActionStats stats : actionValues.values()) {
-                stats.validVisits++;
+            for (int slot = 0; slot < actionTable.size(); slot++) {
+                actionTable.validVisits[slot]++;
             }
         } else {
-            for (AbstractAction action : actionsToConsider) {
-                if (!actionValues.containsKey(action))
-                    actionValues.put(action, new ActionStats(result.length));
-                actionValues.get(action).validVisits++;
+            for (int i = 0; i < nConsidered; i++) {
+                actionTable.validVisits[consideredSlots[i]]++;
             }
         }
-        ActionStats stats = actionValues.get(actionTaken);
-        if (stats == null)
+        if (slotTaken == -1)
             throw new AssertionError("We have somehow failed to find the action taken in the list of actions");
-        if (stats.validVisits == 0)
+        if (actionTable.validVisits[slotTaken] == 0)
             throw new AssertionError("We have somehow failed to find the action taken in the list of valid actions");
-        stats.update(result);
+        actionTable.update(slotTaken, result);
     }
 
 
@@ -1024,6 +1165,25 @@ public class SingleTreeNode {
         }
     }
 
+    /**
+     * Merges the root statistics of an independent tree (searched from the same decision point, for example on another
+     * thread) into this root node, so that bestAction() takes account of both searches.
+     * Only the root action statistics are combined; the rest of the other tree is left untouched.
+     *
+     * @param other - root node of the other tree
+     */
+    public void mergeRoot(SingleTreeNode other) {
+        if (other.decisionPlayer != decisionPlayer)
+            throw new AssertionError("Cannot merge trees for different decision players");
+        actionTable.merge(other.actionTable);
+        nVisits += other.nVisits;
+        fmCallsCount += other.fmCallsCount;
+        copyCount += other.copyCount;
+        rolloutActionsTaken += other.rolloutActionsTaken;
+        highReward = Math.max(highReward, other.highReward);
+        lowReward = Math.min(lowReward, other.lowReward);
+    }
+
     /**
      * Calculates the best action from the root according to the selection policy
      *
@@ -1050,23 +1210,21 @@ public class SingleTreeNode {
             // We iterate through all actions valid in the original root state
             // as openLoopState may be different if using MCGS (not an issue with SingleTreeNode or MultiTreeNode)
             for (AbstractAction action : forwardModel.computeAvailableActions(state, params.actionSpace)) {
-                if (!actionValues.containsKey(action)) {
+                int slot = actionTable.slotOf(action);
+                if (slot == -1) {
                     throw new AssertionError("Hashcode / equals contract issue for " + action);
                 }
-                if (actionValues.get(action) != null) {
-                    ActionStats stats = actionValues.get(action);
-                    double childValue = stats.nVisits; // if ROBUST
-                    if (policy == SIMPLE)
-                        childValue = stats.totValue[decisionPlayer] / (stats.nVisits + params.noiseEpsilon);
-
-                    // Apply small noise to break ties randomly
-                    childValue = noise(childValue, params.noiseEpsilon, rnd.nextDouble());
-
-                    // Save best value
-                    if (childValue > bestValue) {
-                        bestValue = childValue;
-                        bestAction = action;
-                    }
+                double childValue = actionTable.visits[slot]; // if ROBUST
+                if (policy == SIMPLE)
+                    childValue = actionTable.totValue(slot, decisionPlayer) / (actionTable.visits[slot] + params.noiseEpsilon);
+
+                // Apply small noise to break ties randomly
+                childValue = noise(childValue, params.noiseEpsilon, rnd.nextDouble());
+
+                // Save best value
+                if (childValue > bestValue) {
+                    bestValue = childValue;
+                    bestAction = action;
                 }
             }
         }
@@ -1074,7 +1232,9 @@ public class SingleTreeNode {
         if (bestAction == null) {
             if (nVisits == 1) {
 //                System.out.println("Only one visit to root node - insufficient information - hopefully due to JVM warming up");
-                bestAction = actionValues.keySet().stream().findFirst().orElseThrow(() -> new AssertionError("No children"));
+                if (actionTable.size() == 0)
+                    throw new AssertionError("No children");
+                bestAction = actionTable.actions[0];
             } else
                 throw new AssertionError("Unexpected - no selection made.");
         }
@@ -1090,8 +1250,37 @@ public class SingleTreeNode {
         return depth;
     }
 
+    /**
+     * @return a new map from each action seen at this node to the child nodes it leads to (the array is null if
+     * the action has not been expanded). This is in the order the actions were first seen.
+     */
     public Map<AbstractAction, SingleTreeNode[]> getChildren() {
-        return children;
+        Map<AbstractAction, SingleTreeNode[]> retValue = new LinkedHashMap<>();
+        for (int slot = 0; slot < actionTable.size(); slot++)
+            retValue.put(actionTable.actions[slot], actionTable.children[slot]);
+        return retValue;
+    }
+
+    /**
+     * @return the child nodes reached by the action (indexed by the player to act next), or null if there are none
+     */
+    public SingleTreeNode[] childrenFor(AbstractAction action) {
+        int slot = actionTable.slotOf(action);
+        return slot == -1 ? null : actionTable.children[slot];
+    }
+
+    /**
+     * @return all the child nodes of this node
+     */
+    public List<SingleTreeNode> childNodes() {
+        List<SingleTreeNode> retValue = new ArrayList<>();
+        for (int slot = 0; slot < actionTable.size(); slot++) {
+            SingleTreeNode[] childArray = actionTable.children[slot];
+            if (childArray == null) continue;
+            for (SingleTreeNode child : childArray)
+                if (child != null) retValue.add(child);
+        }
+        return retValue;
     }
 
     public AbstractAction getActionToReach() {
@@ -1151,11 +1340,7 @@ public class SingleTreeNode {
         while (!nodeQueue.isEmpty()) {
             SingleTreeNode node = nodeQueue.poll();
             retValue.add(node);
-            nodeQueue.addAll(node.getChildren().values().stream()
-                    .filter(Objects::nonNull)
-                    .flatMap(Arrays::stream)
-                    .filter(Objects::nonNull)
-                    .collect(toList()));
+            nodeQueue.addAll(node.childNodes());
         }
         return retValue;
     }
@@ -1174,17 +1359,17 @@ public class SingleTreeNode {
                     .collect(joining(", "));
         }
         retValue.append(String.format("%d total visits, value %s, with %d children, %d actions, depth %d, FMCalls %d: \n",
-                nVisits, valueString, children.size(), actionValues.size(), depth, fmCallsCount));
+                nVisits, valueString, actionTable.size(), actionTable.size(), depth, fmCallsCount));
         // sort all actions by visit count
-        List<AbstractAction> sortedActions = actionValues.keySet().stream()
-                .filter(Objects::nonNull)
-                .sorted(Comparator.comparingInt(a -> -actionVisits(a)))
+        List<Integer> sortedSlots = IntStream.range(0, actionTable.size()).boxed()
+                .sorted(Comparator.comparingInt(slot -> -actionTable.visits[slot]))
                 .collect(toList());
 
-        for (AbstractAction action : sortedActions) {
+        for (int slot : sortedSlots) {
+            AbstractAction action = actionTable.actions[slot];
             String actionName = action.toString();
-            int actionVisits = actionVisits(action);
-            int effectiveVisits = validVisitsFor(action);
+            int actionVisits = actionTable.visits[slot];
+            int effectiveVisits = validVisitsFor(slot);
             if (actionName.length() > 50)
                 actionName = actionName.substring(0, 50);
             valueString = String.format("%.2f", actionTotValue(action, decisionPlayer) / actionVisits);
@@ -0,0 +1,159 @@
+package players.mcts;
+
+import core.interfaces.IStateKey;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The MCGS transposition table: maps the 64-bit key of a state (see {@link IStateKey}) to the node for that state.
+ * <p>
+ * Keys are held in a primitive array with open addressing and linear probing, so the lookups made on every step
+ * of selection and backup neither box the key nor allocate. Removal uses backward-shift deletion, so there are no
+ * tombstones to degrade probe lengths as the graph is pruned between decisions.
+ */
+public class TranspositionTable {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] keys;
+    private MCGSNode[] nodes; // a null node marks an empty slot
+    private int mask;
+    private int size;
+
+    public TranspositionTable() {
+        this(MIN_CAPACITY);
+    }
+
+    public TranspositionTable(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < expectedSize * 2)
+            capacity <<= 1;
+        allocate(capacity);
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        nodes = new MCGSNode[capacity];
+        mask = capacity - 1;
+    }
+
+    private int slotFor(long key) {
+        return (int) IStateKey.mix(key) & mask;
+    }
+
+    // returns the slot holding key, or the empty slot at which it would be inserted
+    private int find(long key) {
+        int i = slotFor(key);
+        while (nodes[i] != null && keys[i] != key)
+            i = (i + 1) & mask;
+        return i;
+    }
+
+    public MCGSNode get(long key) {
+        return nodes[find(key)];
+    }
+
+    public MCGSNode getOrDefault(long key, MCGSNode defaultValue) {
+        MCGSNode node = get(key);
+        return node == null ? defaultValue : node;
+    }
+
+    public boolean containsKey(long key) {
+        return get(key) != null;
+    }
+
+    /**
+     * @return the node previously stored against the key, or null if there was none
+     */
+    public MCGSNode put(long key, MCGSNode node) {
+        if (node == null)
+            throw new IllegalArgumentException("Null nodes cannot be stored in the transposition table");
+        int i = find(key);
+        MCGSNode previous = nodes[i];
+        keys[i] = key;
+        nodes[i] = node;
+        if (previous == null && ++size * 2 > nodes.length)
+            resize(nodes.length << 1);
+        return previous;
+    }
+
+    /**
+     * @return the node that was removed, or null if the key was not present
+     */
+    public MCGSNode remove(long key) {
+        int i = find(key);
+        MCGSNode removed = nodes[i];
+        if (removed == null)
+            return null;
+        // shift back any following entries in the same probe run that could otherwise no longer be reached
+        int j = i;
+        while (true) {
+            j = (j + 1) & mask;
+            if (nodes[j] == null)
+                break;
+            int home = slotFor(keys[j]);
+            boolean homeInGap = i <= j ? (i < home && home <= j) : (i < home || home <= j);
+            if (homeInGap)
+                continue;
+            keys[i] = keys[j];
+            nodes[i] = nodes[j];
+            i = j;
+        }
+        nodes[i] = null;
+        size--;
+        return removed;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        MCGSNode[] oldNodes = nodes;
+        allocate(capacity);
+        for (int i = 0; i < oldNodes.length; i++) {
+            if (oldNodes[i] != null) {
+                int slot = find(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                nodes[slot] = oldNodes[i];
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(nodes, null);
+        size = 0;
+    }
+
+    /**
+     * @return a snapshot of all keys currently in the table, in no particular order
+     */
+    public long[] keys() {
+        long[] retValue = new long[size];
+        int n = 0;
+        for (int i = 0; i < nodes.length; i++) {
+            if (nodes[i] != null)
+                retValue[n++] = keys[i];
+        }
+        return retValue;
+    }
+
+    /**
+     * @return a snapshot of all nodes currently in the table, in the same order as {@link #keys()}
+     */
+    public List<MCGSNode> values() {
+        List<MCGSNode> retValue = new ArrayList<>(size);
+        for (MCGSNode node : nodes) {
+            if (node != null)
+                retValue.add(node);
+        }
+        return retValue;
+    }
+}
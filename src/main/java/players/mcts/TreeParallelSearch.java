@@ -0,0 +1,212 @@
+package players.mcts;
+
+import core.AbstractGameState;
+import core.actions.AbstractAction;
+import utilities.ElapsedCpuTimer;
+import utilities.ElapsedWallTimer;
+import utilities.Pair;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import static players.PlayerConstants.BUDGET_TIME;
+
+/**
+ * Tree parallelisation with virtual loss. treeParallelism threads (the calling thread, and the others from the
+ * player's pool) run iterations on the player's one tree.
+ * <p>
+ * Selection and expansion, and then back-propagation, change the tree and the working state of its nodes, so a thread
+ * holds the lock on the search while it does these. The rollout, usually most of the cost of an iteration, is done
+ * without the lock. For this each thread has a node of its own, with its own copy of the parameters (and hence of the
+ * rollout policy and opponent model), forward model and random seed. While a rollout is in progress each action on
+ * the path to it carries a virtual loss (see ActionStatsTable.addVirtualLoss()), which steers the other threads to
+ * other parts of the tree (there is none until the first result is backed up, as the virtual loss is the lowest
+ * reward seen so far).
+ * <p>
+ * The budget is shared. The iteration, FM call and copy budgets count the work of all threads, and with a time budget
+ * every thread stops at the same wall-clock deadline. The rollout policies of the threads use the MAST statistics
+ * from earlier searches, as the tree's own change during the search.
+ */
+class TreeParallelSearch {
+
+    // one iteration in progress: the path through the tree, and the state from which the rollout starts
+    private static class Iteration {
+        final SingleTreeNode[] nodes;
+        final AbstractAction[] actions;
+        final int[] slots;
+        final int[][] consideredSlots;
+        final List<Pair<Integer, AbstractAction>> actionsInTree;
+        final int virtualLoss;
+        final double virtualLossValue;
+        int lastActorInTree;
+        AbstractGameState rolloutState;
+
+        Iteration(List<Pair<Integer, AbstractAction>> actionsInTree, int virtualLoss, double virtualLossValue) {
+            int n = actionsInTree.size();
+            nodes = new SingleTreeNode[n];
+            actions = new AbstractAction[n];
+            slots = new int[n];
+            consideredSlots = new int[n][];
+            this.actionsInTree = new ArrayList<>(actionsInTree);
+            this.virtualLoss = virtualLoss;
+            this.virtualLossValue = virtualLossValue;
+        }
+    }
+
+    private final SingleTreeNode root;
+    private final MCTSParams params;
+    // the node used by each thread for its rollouts
+    private final SingleTreeNode[] rolloutNodes;
+    private int iterationsStarted;
+    private double lowestReward = Double.POSITIVE_INFINITY;
+    private boolean stop;
+
+    /**
+     * @param player    the player whose root node (already created for gameState) is searched
+     * @param gameState the state from which the search starts
+     */
+    TreeParallelSearch(MCTSPlayer player, AbstractGameState gameState) {
+        root = player.root;
+        params = player.getParameters();
+        rolloutNodes = new SingleTreeNode[params.treeParallelism];
+        for (int i = 0; i < rolloutNodes.length; i++) {
+            MCTSPlayer worker = new MCTSPlayer(player.workerParameters(), player.toString());
+            worker.setForwardModel(player.getForwardModel().copy());
+            worker.initializePlayer(gameState);
+            worker.MASTStats = player.MASTStats;
+            worker.createRootNode(gameState);
+            rolloutNodes[i] = worker.root;
+        }
+    }
+
+    /**
+     * Runs the search on the calling thread and treeParallelism - 1 threads from the pool, and returns when they have
+     * all finished.
+     */
+    void search(ExecutorService threads, long startTimeNano) {
+        long initialisationTime = (System.nanoTime() - startTimeNano) / 1000000;
+        root.initialiseRootMetrics();
+        root.initialisationTimeTaken = initialisationTime;
+        ElapsedCpuTimer elapsedTimer = new ElapsedWallTimer();
+
+        List<Future<?>> otherThreads = new ArrayList<>();
+        for (int i = 1; i < rolloutNodes.length; i++) {
+            SingleTreeNode rolloutNode = rolloutNodes[i];
+            otherThreads.add(threads.submit(() -> runIterations(rolloutNode, initialisationTime)));
+        }
+        try {
+            runIterations(rolloutNodes[0], initialisationTime);
+        } finally {
+            for (Future<?> thread : otherThreads) {
+                try {
+                    thread.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException("Interrupted during parallel MCTS search", e);
+                } catch (ExecutionException e) {
+                    throw new RuntimeException("Parallel MCTS search failed: " + e.getCause(), e.getCause());
+                }
+            }
+        }
+        root.timeTaken = elapsedTimer.elapsedMillis();
+    }
+
+    private void runIterations(SingleTreeNode rolloutNode, long initialisationTime) {
+        ElapsedCpuTimer elapsedTimer = new ElapsedWallTimer();
+        if (params.budgetType == BUDGET_TIME)
+            elapsedTimer.setMaxTimeMillis(params.budget - initialisationTime);
+        int numIters = 0;
+        try {
+            Iteration iteration;
+            while ((iteration = select()) != null) {
+                rolloutNode.resetTrajectories();
+                int fmCallsBefore = rolloutNode.fmCallsCount;
+                double[] delta = rolloutNode.rollout(iteration.rolloutState, iteration.lastActorInTree);
+                backUp(iteration, rolloutNode, rolloutNode.fmCallsCount - fmCallsBefore, delta);
+                numIters++;
+                // the other budgets are shared, and checked before each iteration starts
+                if (params.budgetType == BUDGET_TIME && root.budgetUsed(numIters, elapsedTimer))
+                    break;
+            }
+        } catch (RuntimeException | Error e) {
+            // so that the other threads finish, rather than running to the end of the budget
+            synchronized (this) {
+                stop = true;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Selection and expansion, as in SingleTreeNode.oneSearchIteration(), after which a virtual loss is added to the
+     * actions taken.
+     *
+     * @return the iteration, or null if the budget has been used up
+     */
+    private synchronized Iteration select() {
+        if (stop || (params.budgetType != BUDGET_TIME && root.budgetUsed(iterationsStarted, null))) {
+            stop = true;
+            return null;
+        }
+        iterationsStarted++;
+        root.setRootStateForIteration();
+        root.resetTrajectories();
+        SingleTreeNode selected = root.treePolicy();
+
+        // we walk the path as backUp() does, and record the actions considered at each node on this visit.
+        // There is no virtual loss until a result has been backed up, as until then we have no lowest reward (and
+        // the reward bounds used to normalise the value of a visited action are not set)
+        boolean anyResults = lowestReward != Double.POSITIVE_INFINITY;
+        Iteration iteration = new Iteration(root.actionsInTree, anyResults ? params.virtualLoss : 0,
+                anyResults ? lowestReward : 0.0);
+        SingleTreeNode node = root;
+        for (int i = 0; i < iteration.nodes.length; i++) {
+            Pair<Integer, AbstractAction> step = iteration.actionsInTree.get(i);
+            iteration.nodes[i] = node;
+            iteration.actions[i] = step.b;
+            iteration.slots[i] = node.actionTable.slotOf(step.b);
+            // the visit is counted now (and the actions considered then worked out, as backUp() does)
+            node.nVisits++;
+            iteration.consideredSlots[i] = node.consideredSlots();
+            if (iteration.virtualLoss > 0)
+                node.actionTable.addVirtualLoss(iteration.slots[i], node.decisionPlayer, iteration.virtualLoss, iteration.virtualLossValue);
+            if (i < iteration.nodes.length - 1) {
+                SingleTreeNode[] next = node.childrenFor(step.b);
+                if (next == null)
+                    throw new AssertionError("We have somehow failed to find the next node in the tree");
+                node = next[iteration.actionsInTree.get(i + 1).a];
+            }
+        }
+        iteration.lastActorInTree = iteration.nodes.length == 0 ? root.decisionPlayer :
+                iteration.actionsInTree.get(iteration.nodes.length - 1).a;
+        iteration.rolloutState = selected.rolloutStartState();
+        return iteration;
+    }
+
+    /**
+     * Removes the virtual loss of the iteration, and backs up the result of its rollout, as SingleTreeNode.backUp()
+     * does.
+     */
+    private synchronized void backUp(Iteration iteration, SingleTreeNode rolloutNode, int rolloutFMCalls, double[] delta) {
+        for (int i = 0; i < iteration.nodes.length; i++) {
+            SingleTreeNode node = iteration.nodes[i];
+            if (iteration.virtualLoss > 0)
+                node.actionTable.removeVirtualLoss(iteration.slots[i], node.decisionPlayer, iteration.virtualLoss, iteration.virtualLossValue);
+        }
+        for (double value : delta)
+            lowestReward = Math.min(lowestReward, value);
+
+        root.normaliseRewardsAfterIteration(delta);
+        double[] result = root.processResultsForParanoidOrSelfOnly(delta);
+        for (int i = 0; i < iteration.nodes.length; i++) {
+            int[] considered = iteration.consideredSlots[i];
+            iteration.nodes[i].backUpSingleNode(iteration.actions[i], result, considered, considered.length);
+        }
+        root.fmCallsCount += rolloutFMCalls;
+        root.rolloutActionsTaken += rolloutNode.actionsInRollout.size();
+        root.updateMASTStatistics(iteration.actionsInTree, rolloutNode.actionsInRollout, delta);
+    }
+}
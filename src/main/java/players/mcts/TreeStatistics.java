@@ -27,31 +27,31 @@ public class TreeStatistics {
 
 
     public void mcgsStats(MCGSNode root) {
-        Map<String, MCGSNode> transpositionMap = root.getTranspositionMap();
+        List<MCGSNode> transpositionMap = root.getTranspositionMap().values();
         totalNodes = transpositionMap.size();
-        Map<Integer, List<MCGSNode>> byDepth = transpositionMap.values().stream()
+        Map<Integer, List<MCGSNode>> byDepth = transpositionMap.stream()
                 .collect(Collectors.groupingBy(MCGSNode::getDepth));
         depthReached = byDepth.keySet().stream().max(Integer::compareTo).orElse(0);
         nodeDistribution = IntStream.range(0, depthReached + 1)
                 .mapToDouble(i -> byDepth.getOrDefault(i, new ArrayList<>()).size() / (double) totalNodes)
                 .toArray();
-        totalLeaves = (int) transpositionMap.values().stream().filter(n -> n.nVisits <= root.params.initialiseVisits).count();
-        meanActionsAtNode = transpositionMap.values().stream().mapToInt(n -> n.actionValues.size()).sum() / (double) totalNodes;
-        meanActionsExpanded = transpositionMap.values().stream()
+        totalLeaves = (int) transpositionMap.stream().filter(n -> n.nVisits <= root.params.initialiseVisits).count();
+        meanActionsAtNode = transpositionMap.stream().mapToInt(n -> n.actionTable.size()).sum() / (double) totalNodes;
+        meanActionsExpanded = transpositionMap.stream()
                 .mapToInt(
-                        n -> (int) n.actionValues.values().stream()
-                                .filter(stats -> stats.nVisits > root.params.initialiseVisits)
+                        n -> (int) Arrays.stream(n.actionVisits())
+                                .filter(visits -> visits > root.params.initialiseVisits)
                                 .count()
                 ).sum() / (double) Math.max(totalNodes - totalLeaves, 1);
-        maxActionsAtNode = transpositionMap.values().stream().mapToInt(n -> n.actionValues.size()).max().orElse(0);
+        maxActionsAtNode = transpositionMap.stream().mapToInt(n -> n.actionTable.size()).max().orElse(0);
 
-        // totalTerminalNodes = (int) transpositionMap.values().stream().filter(n -> !n.state.isNotTerminal()).count();
+        // totalTerminalNodes = (int) transpositionMap.stream().filter(n -> !n.state.isNotTerminal()).count();
         leafDistribution = IntStream.range(0, depthReached + 1)
                 .mapToDouble(i -> byDepth.getOrDefault(i, new ArrayList<>()).stream().filter(n -> n.nVisits == 0).count() / (double) totalLeaves)
                 .toArray();
         meanLeafDepth = totalLeaves > 0 ? IntStream.range(0, depthReached + 1).mapToDouble(i -> i * leafDistribution[i]).sum() : 0;
         meanNodeDepth = IntStream.range(0, depthReached + 1).mapToDouble(i -> i * nodeDistribution[i]).sum();
-        oneActionNodes = (int) transpositionMap.values().stream().filter(n -> n.actionValues.size() == 1).count();
+        oneActionNodes = (int) transpositionMap.stream().filter(n -> n.actionTable.size() == 1).count();
     }
 
     public TreeStatistics(SingleTreeNode root) {
@@ -84,22 +84,16 @@ public class TreeStatistics {
                 nodesAtDepth[node.depth]++;
                 if (node.terminalNode)
                     gameTerminalNodesAtDepth[node.depth]++;
-                totalActions += node.actionValues.size();
+                int[] actionVisits = node.actionVisits();
+                totalActions += actionVisits.length;
                 // We have expanded an action if it has been visited more often than initialiseVisits
-                expandedActions += (int) node.actionValues.values().stream().filter(stats -> stats.nVisits > root.params.initialiseVisits).count();
-                if (node.actionValues.size() == 1)
+                expandedActions += (int) Arrays.stream(actionVisits).filter(visits -> visits > root.params.initialiseVisits).count();
+                if (actionVisits.length == 1)
                     oneAction++;
-                if (node.actionValues.size() > maxActions)
-                    maxActions = node.actionValues.size();
-                for (SingleTreeNode child : node.children.values().stream()
-                        .filter(Objects::nonNull)
-                        .flatMap(Arrays::stream)
-                        .filter(Objects::nonNull)
-                        .toList()) {
-                    if (child != null)
-                        nodeQueue.add(child);
-                }
-                if (node.actionValues.values().stream().allMatch(stats -> stats.nVisits <= root.params.initialiseVisits))
+                if (actionVisits.length > maxActions)
+                    maxActions = actionVisits.length;
+                nodeQueue.addAll(node.childNodes());
+                if (Arrays.stream(actionVisits).allMatch(visits -> visits <= root.params.initialiseVisits))
                     leavesAtDepth[node.depth]++;
             }
             if (node.depth > greatestDepth)
@@ -127,7 +127,8 @@ public class RHEAPlayer extends AbstractPlayer {
         RHEAParams newParams = (RHEAParams) parameters.copy();
         newParams.setRandomSeed(rnd.nextInt());
         RHEAPlayer retValue = new RHEAPlayer(newParams);
-        retValue.setForwardModel(getForwardModel().copy());
+        if (getForwardModel() != null)
+            retValue.setForwardModel(getForwardModel().copy());
         return retValue;
     }
 
@@ -73,7 +73,8 @@ public class RMHCPlayer extends AbstractPlayer {
         RMHCParams newParams = (RMHCParams) parameters.copy();
         newParams.setRandomSeed(rnd.nextInt());
         RMHCPlayer retValue = new RMHCPlayer(newParams);
-        retValue.setForwardModel(getForwardModel().copy());
+        if (getForwardModel() != null)
+            retValue.setForwardModel(getForwardModel().copy());
         return retValue;
     }
 
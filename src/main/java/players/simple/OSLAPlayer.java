@@ -74,7 +74,8 @@ public class OSLAPlayer extends AbstractPlayer {
     @Override
     public OSLAPlayer copy() {
         OSLAPlayer retValue = new OSLAPlayer(heuristic, new Random(rnd.nextInt()));
-        retValue.setForwardModel(getForwardModel().copy());
+        if (getForwardModel() != null)
+            retValue.setForwardModel(getForwardModel().copy());
         return retValue;
     }
 
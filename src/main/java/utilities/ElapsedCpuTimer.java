@@ -22,6 +22,13 @@ public class ElapsedCpuTimer {
         reset();
     }
 
+    protected ElapsedCpuTimer(ElapsedCpuTimer other) {
+        bean = other.bean;
+        oldTime = other.oldTime;
+        maxTime = other.maxTime;
+        nIters = other.nIters;
+    }
+
     public void reset() {
         oldTime = getTime();
         nIters = 0;
@@ -85,12 +92,7 @@ public class ElapsedCpuTimer {
 
     public ElapsedCpuTimer copy()
     {
-        ElapsedCpuTimer newCpuTimer = new ElapsedCpuTimer();
-        newCpuTimer.maxTime = this.maxTime;
-        newCpuTimer.oldTime = this.oldTime;
-        newCpuTimer.bean = this.bean;
-        newCpuTimer.nIters = this.nIters;
-        return newCpuTimer;
+        return new ElapsedCpuTimer(this);
     }
 
     @Override
@@ -0,0 +1,27 @@
+package utilities;
+
+/**
+ * An ElapsedCpuTimer that measures wall-clock time rather than the CPU time of the current thread.
+ * This is used where several threads share one time budget (for example in a parallel MCTS search), as threads that
+ * share a CPU would otherwise each be given the whole budget.
+ */
+public class ElapsedWallTimer extends ElapsedCpuTimer {
+
+    public ElapsedWallTimer() {
+        super();
+    }
+
+    private ElapsedWallTimer(ElapsedWallTimer other) {
+        super(other);
+    }
+
+    @Override
+    public ElapsedWallTimer copy() {
+        return new ElapsedWallTimer(this);
+    }
+
+    @Override
+    protected long getTime() {
+        return System.nanoTime();
+    }
+}
@@ -1,34 +1,26 @@
 package utilities;
 
-import java.util.HashMap;
-
+/**
+ * Hashes the names of components and properties into the integer keys they are stored under. The hash of a name is
+ * its String hashCode (which the String caches), so no table is kept and this can be used from any thread.
+ */
 public class Hash
 {
-    private static Hash hash;
-
-    private HashMap<String, Integer> hashmap;
+    private static final Hash hash = new Hash();
 
     public static Hash GetInstance()
     {
-        if(hash == null)
-            hash = new Hash();
         return hash;
     }
 
     private Hash()
     {
-        hashmap = new HashMap<>();
     }
 
 
     public int hash(String key)
     {
-        if(hashmap.containsKey(key))
-            return hashmap.get(key);
-
-        int newValue = key.hashCode();
-        hashmap.put(key, newValue);
-        return newValue;
+        return key.hashCode();
     }
 
 }
@@ -0,0 +1,160 @@
+package core;
+
+import core.actions.AbstractAction;
+import core.components.Card;
+import core.components.Component;
+import core.components.Deck;
+import core.components.GridBoard;
+import core.components.PartialObservableDeck;
+import core.components.Token;
+import core.properties.PropertyIntArray;
+import core.properties.PropertyString;
+import games.GameType;
+import games.dominion.cards.CardType;
+import games.dominion.cards.DominionCard;
+import org.json.simple.JSONArray;
+import org.junit.Test;
+import utilities.Hash;
+
+import java.util.*;
+
+import static core.CoreConstants.VisibilityMode.VISIBLE_TO_ALL;
+import static org.junit.Assert.*;
+
+public class CopyOnWriteComponents {
+
+    private Deck<DominionCard> deck() {
+        // DominionCards are immutable, so copies of this deck share their list of components
+        Deck<DominionCard> deck = new Deck<>("Test", VISIBLE_TO_ALL);
+        deck.add(DominionCard.create(CardType.COPPER));
+        deck.add(DominionCard.create(CardType.SILVER));
+        deck.add(DominionCard.create(CardType.GOLD));
+        return deck;
+    }
+
+    @Test
+    public void changesToADeckCopyDoNotAffectTheOriginal() {
+        Deck<DominionCard> original = deck();
+        Deck<DominionCard> copy = original.copy();
+        assertEquals(original, copy);
+        copy.draw();
+        copy.add(DominionCard.create(CardType.ESTATE));
+        copy.shuffle(new Random(3));
+        assertEquals(deck().getComponents(), original.getComponents());
+        assertEquals(3, original.getSize());
+        assertEquals(3, copy.getSize());
+    }
+
+    @Test
+    public void changesToTheOriginalDeckDoNotAffectACopy() {
+        Deck<DominionCard> original = deck();
+        Deck<DominionCard> copy = original.copy();
+        Deck<DominionCard> secondCopy = original.copy();
+        original.clear();
+        assertEquals(deck().getComponents(), copy.getComponents());
+        assertEquals(deck().getComponents(), secondCopy.getComponents());
+        // getComponents() gives direct access to the list, so must not return a shared one
+        copy.getComponents().remove(0);
+        assertEquals(deck().getComponents(), secondCopy.getComponents());
+        assertEquals(2, copy.getSize());
+    }
+
+    @Test
+    public void visibilityChangesToAPartialObservableDeckCopyDoNotAffectTheOriginal() {
+        PartialObservableDeck<DominionCard> original = new PartialObservableDeck<>("Test", 2);
+        original.add(DominionCard.create(CardType.COPPER));
+        original.add(DominionCard.create(CardType.SILVER));
+        PartialObservableDeck<DominionCard> copy = original.copy();
+        copy.setVisibilityOfComponent(0, 1, true);
+        assertTrue(copy.getVisibilityForPlayer(0, 1));
+        assertFalse(original.getVisibilityForPlayer(0, 1));
+        copy.shuffle(new Random(42));
+        copy.setVisibilityOfComponent(1, 0, true);
+        assertFalse(original.getVisibilityForPlayer(1, 0));
+        assertFalse(original.getVisibilityForPlayer(0, 0));
+    }
+
+    @Test
+    public void changesToAGridBoardCopyDoNotAffectTheOriginal() {
+        Token empty = new Token("."), cross = new Token("X");
+        GridBoard<Token> original = new GridBoard<>(3, 3, empty);
+        GridBoard<Token> copy = original.copy();
+        copy.setElement(1, 1, cross);
+        assertSame(empty, original.getElement(1, 1));
+        original.setElement(2, 2, cross);
+        assertSame(empty, copy.getElement(2, 2));
+        assertSame(cross, copy.getElement(1, 1));
+        GridBoard<Token> copyOfCopy = copy.copy();
+        copyOfCopy.getGridValues()[1][1] = empty;
+        assertSame(cross, copy.getElement(1, 1));
+    }
+
+    @Test
+    public void rotatedGridsDoNotShareRowsWithTheBoard() {
+        Token empty = new Token("."), cross = new Token("X");
+        GridBoard<Token> original = new GridBoard<>(3, 2, empty);
+        original.setElement(2, 0, cross);
+        for (int orientation = 0; orientation < 4; orientation++) {
+            Component[][] rotated = original.rotate(orientation);
+            for (Component[] row : rotated)
+                Arrays.fill(row, cross);
+            assertSame(empty, original.getElement(0, 0));
+        }
+        Component[][] unrotated = original.rotate(0);
+        assertEquals(2, unrotated.length);
+        assertSame(cross, unrotated[0][2]);
+        Component[][] once = original.rotate(1);
+        assertEquals(3, once.length);
+        assertSame(cross, once[2][1]);
+    }
+
+    @Test
+    public void historyIsSharedButDivergesAfterCopying() {
+        Game game = GameType.TicTacToe.createGameInstance(2, 42);
+        AbstractForwardModel fm = game.getForwardModel();
+        AbstractGameState state = game.getGameState();
+        fm.next(state, fm.computeAvailableActions(state).get(0));
+        AbstractGameState copy = state.copy();
+        assertEquals(state.getHistory(), copy.getHistory());
+        int textEntries = state.getHistoryAsText().size();
+
+        List<AbstractAction> actions = fm.computeAvailableActions(copy);
+        fm.next(copy, actions.get(1));
+        fm.next(state, actions.get(2));
+        assertEquals(2, state.getHistory().size());
+        assertEquals(2, copy.getHistory().size());
+        assertEquals(state.getHistory().get(0), copy.getHistory().get(0));
+        assertNotEquals(state.getHistory().get(1), copy.getHistory().get(1));
+        assertEquals(state.getHistoryAsText().size(), copy.getHistoryAsText().size());
+        assertTrue(copy.getHistoryAsText().size() > textEntries);
+    }
+
+    @Test
+    public void staticPropertiesAreSharedButDivergeAfterCopying() {
+        Card original = new Card("Atlanta");
+        original.setStaticProperty(new PropertyString("name", "Atlanta"));
+        JSONArray cubes = new JSONArray();
+        cubes.add(0L);
+        cubes.add(0L);
+        original.setProperty(new PropertyIntArray("infection", cubes));
+        Card copy = original.copy();
+        int nameHash = Hash.GetInstance().hash("name");
+        int infectionHash = Hash.GetInstance().hash("infection");
+        assertSame(original.getProperty(nameHash), copy.getProperty(nameHash));
+        assertNotSame(original.getProperty(infectionHash), copy.getProperty(infectionHash));
+        assertEquals(2, copy.getNumProperties());
+
+        // setting a property hides the static one, in that copy only
+        copy.setProperty(new PropertyString("name", "Epidemic"));
+        assertEquals("Epidemic", copy.getProperty(nameHash).toString());
+        assertEquals("Atlanta", original.getProperty(nameHash).toString());
+        assertEquals(2, copy.getNumProperties());
+        assertEquals("Epidemic", copy.getProperties().get(nameHash).toString());
+
+        // and static properties set after copying are not seen by the copies made before
+        original.setStaticProperty(new PropertyString("country", "USA"));
+        assertNotNull(original.getProperty(Hash.GetInstance().hash("country")));
+        assertNull(copy.getProperty(Hash.GetInstance().hash("country")));
+        assertNotNull(original.copy().getProperty(Hash.GetInstance().hash("country")));
+    }
+}
@@ -1,7 +1,13 @@
 package core;
 
+import games.GameType;
 import games.puertorico.PuertoRicoParameters;
+import games.tictactoe.TicTacToeGameParameters;
 import org.junit.Test;
+import players.simple.RandomPlayer;
+
+import java.util.List;
+import java.util.Random;
 
 import static org.junit.Assert.*;
 
@@ -16,4 +22,38 @@ public class ParameterCopy {
         assertNotEquals(params.getRandomSeed(), paramsCopy.getRandomSeed());
         assertEquals(params.hashCode(), paramsCopy.hashCode());
     }
+
+    @Test
+    public void stateCopiesShareTheGameParameters() {
+        for (GameType gameType : GameType.values()) {
+            AbstractGameState state = gameType.createGameInstance(gameType.getMinPlayers(), 42).getGameState();
+            AbstractGameState copy = state.copy();
+            AbstractGameState playerCopy = copy.copy(0);
+            assertSame(gameType.name(), state.getGameParameters(), copy.getGameParameters());
+            assertSame(gameType.name(), state.getGameParameters(), playerCopy.getGameParameters());
+            assertSame(gameType.name(), state.getCoreGameParameters(), playerCopy.getCoreGameParameters());
+        }
+    }
+
+    @Test
+    public void sharedParametersCannotBeChangedDuringTheGame() {
+        TicTacToeGameParameters params = new TicTacToeGameParameters();
+        Game game = GameType.TicTacToe.createGameInstance(2, 42, params);
+        game.reset(List.of(new RandomPlayer(new Random(1)), new RandomPlayer(new Random(2))));
+        // the players have been given copies of the state
+        assertTrue(params.isShared());
+        assertThrows(IllegalStateException.class, () -> params.setParameterValue("gridSize", 4));
+        assertThrows(IllegalStateException.class, params::randomize);
+        assertThrows(IllegalStateException.class, () -> params.setRandomSeed(3));
+        assertThrows(IllegalStateException.class, () -> params.setMaxRounds(3));
+        // but a copy of them can be
+        params.copy().setParameterValue("gridSize", 4);
+        assertEquals(3, params.gridSize);
+
+        game.run();
+        assertFalse(params.isShared());
+        params.setParameterValue("gridSize", 4);
+        game.reset(List.of(), 43);
+        assertEquals(4, ((TicTacToeGameParameters) game.getGameState().getGameParameters()).gridSize);
+    }
 }
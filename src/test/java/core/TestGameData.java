@@ -0,0 +1,66 @@
+package core;
+
+import core.components.Card;
+import core.components.Counter;
+import core.components.Deck;
+import core.components.GraphBoard;
+import games.GameType;
+import games.pandemic.PandemicGameState;
+import games.pandemic.PandemicParameters;
+import org.junit.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+public class TestGameData {
+
+    final String dataPath = ((PandemicParameters) GameType.Pandemic.createGameInstance(2, 0).getGameState().getGameParameters()).getDataPath();
+
+    @Test
+    public void dataIsLoadedOncePerPath() {
+        AbstractGameData data = AbstractGameData.getData(dataPath);
+        assertSame(data, AbstractGameData.getData(dataPath));
+    }
+
+    @Test
+    public void foundComponentsAreCopies() {
+        AbstractGameData data = AbstractGameData.getData(dataPath);
+        GraphBoard world = data.findGraphBoard("cities");
+        GraphBoard world2 = data.findGraphBoard("cities");
+        assertNotSame(world, world2);
+        assertEquals(world.getBoardNodes().size(), world2.getBoardNodes().size());
+        assertNotSame(world.getBoardNodes().iterator().next(), world2.getBoardNodes().iterator().next());
+
+        // changing what was found does not change the shared data
+        Counter outbreaks = data.findCounter("Outbreaks");
+        int value = outbreaks.getValue();
+        outbreaks.increment(1);
+        assertEquals(value, data.findCounter("Outbreaks").getValue());
+
+        Deck<Card> cities = data.findDeck("Cities");
+        int size = cities.getSize();
+        cities.draw();
+        assertEquals(size - 1, cities.getSize());
+        assertEquals(size, data.findDeck("Cities").getSize());
+    }
+
+    @Test
+    public void gamesSetUpConcurrentlyFromSharedData() throws Exception {
+        int nThreads = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(nThreads);
+        List<Future<PandemicGameState>> results = new ArrayList<>();
+        for (int t = 0; t < nThreads * 4; t++) {
+            int seed = t;
+            results.add(executor.submit(() -> (PandemicGameState) GameType.Pandemic.createGameInstance(4, seed).getGameState()));
+        }
+        Set<Object> worlds = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Future<PandemicGameState> result : results) {
+            PandemicGameState state = result.get();
+            assertEquals(48, state.getWorld().getBoardNodes().size());
+            assertTrue(worlds.add(state.getWorld()));
+        }
+        executor.shutdown();
+    }
+}
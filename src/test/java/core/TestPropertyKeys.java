@@ -0,0 +1,60 @@
+package core;
+
+import core.components.Card;
+import core.properties.PropertyInt;
+import core.properties.PropertyKeys;
+import org.junit.Test;
+import utilities.Hash;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+public class TestPropertyKeys {
+
+    @Test
+    public void keysGetDenseIndices() {
+        int before = PropertyKeys.size();
+        int key = Hash.GetInstance().hash("TestPropertyKeys.dense");
+        assertEquals(-1, PropertyKeys.find(key));
+        int index = PropertyKeys.register(key);
+        assertEquals(before, index);
+        assertEquals(index, PropertyKeys.register(key));
+        assertEquals(index, PropertyKeys.find(key));
+        assertEquals(before + 1, PropertyKeys.size());
+        assertEquals(index, new PropertyInt("TestPropertyKeys.dense", 3).getIndex());
+    }
+
+    @Test
+    public void keysRegisteredFromManyThreadsGetOneIndexEach() throws Exception {
+        int nThreads = 4, nKeys = 64;
+        ExecutorService executor = Executors.newFixedThreadPool(nThreads);
+        List<Future<int[]>> results = new ArrayList<>();
+        for (int t = 0; t < nThreads; t++) {
+            int offset = t;
+            results.add(executor.submit(() -> {
+                int[] indices = new int[nKeys];
+                // each thread registers all the keys, in a different order, while the others do the same
+                for (int i = 0; i < nKeys; i++) {
+                    int k = (i + offset * 17) % nKeys;
+                    Card card = new Card("Card " + k);
+                    card.setProperty(new PropertyInt("TestPropertyKeys.concurrent " + k, k));
+                    indices[k] = PropertyKeys.find(Hash.GetInstance().hash("TestPropertyKeys.concurrent " + k));
+                    assertEquals(k, ((PropertyInt) card.getProperty(Hash.GetInstance().hash("TestPropertyKeys.concurrent " + k))).value);
+                }
+                return indices;
+            }));
+        }
+        int[] first = results.get(0).get();
+        for (Future<int[]> result : results)
+            assertArrayEquals(first, result.get());
+        executor.shutdown();
+        Set<Integer> distinct = new HashSet<>();
+        for (int index : first) {
+            assertTrue(index >= 0 && index < PropertyKeys.size());
+            distinct.add(index);
+        }
+        assertEquals(nKeys, distinct.size());
+    }
+}
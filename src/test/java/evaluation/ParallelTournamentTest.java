@@ -0,0 +1,116 @@
+package evaluation;
+
+import evaluation.listeners.MetricsGameListener;
+import evaluation.metrics.AbstractMetric;
+import evaluation.metrics.GameMetrics;
+import evaluation.metrics.IDataLogger;
+import evaluation.metrics.tablessaw.DataTableSaw;
+import evaluation.tournaments.RoundRobinTournament;
+import games.GameType;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import players.mcts.MCTSParams;
+import players.mcts.MCTSPlayer;
+
+import tech.tablesaw.api.Table;
+
+import java.io.IOException;
+import java.util.*;
+
+import static evaluation.tournaments.AbstractTournament.TournamentMode.NO_SELF_PLAY;
+import static org.junit.Assert.*;
+
+public class ParallelTournamentTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private MCTSPlayer mctsPlayer(int budget) {
+        MCTSParams params = new MCTSParams();
+        params.setParameterValue("budget", budget);
+        params.setParameterValue("resetSeedEachGame", true);
+        params.setRandomSeed(budget);
+        return new MCTSPlayer(params, "MCTS-" + budget);
+    }
+
+    private RoundRobinTournament runTournament(int nThreads, boolean randomGameParams) {
+        return runTournament(nThreads, randomGameParams, null);
+    }
+
+    private RoundRobinTournament runTournament(int nThreads, boolean randomGameParams, MetricsGameListener listener) {
+        Map<RunArg, Object> config = new HashMap<>();
+        config.put(RunArg.matchups, 10);
+        config.put(RunArg.nThreads, nThreads);
+        RoundRobinTournament tournament = new RoundRobinTournament(
+                Arrays.asList(mctsPlayer(20), mctsPlayer(200)), GameType.TicTacToe, 2,
+                null, NO_SELF_PLAY, config);
+        tournament.setRandomSeed(42);
+        tournament.setVerbose(false);
+        tournament.setRandomGameParams(randomGameParams);
+        if (listener != null)
+            tournament.addListener(listener);
+        tournament.run();
+        return tournament;
+    }
+
+    @Test
+    public void parallelTournamentMatchesSerialResults() {
+        assertSameResults(runTournament(1, false), runTournament(4, false));
+    }
+
+    @Test
+    public void parallelTournamentMatchesSerialResultsWithRandomGameParams() {
+        assertSameResults(runTournament(1, true), runTournament(4, true));
+    }
+
+    private AbstractMetric[] metrics() {
+        // no timings, as these differ from run to run
+        return new AbstractMetric[]{new GameMetrics.GameScore(), new GameMetrics.Actions(), new GameMetrics.Decisions(),
+                new GameMetrics.FinalScore(), new GameMetrics.Winner()};
+    }
+
+    private MetricsGameListener metricsListener(AbstractMetric[] metrics, String directory) throws IOException {
+        MetricsGameListener listener = new MetricsGameListener(IDataLogger.ReportDestination.ToFile,
+                new IDataLogger.ReportType[]{IDataLogger.ReportType.RawData}, metrics);
+        listener.setOutputDirectory(folder.newFolder(directory).getPath());
+        return listener;
+    }
+
+    @Test
+    public void listenersSeeTheSameEventsInTheSameOrderAsInASerialRun() throws IOException {
+        AbstractMetric[] serialMetrics = metrics(), parallelMetrics = metrics();
+        runTournament(1, false, metricsListener(serialMetrics, "serial"));
+        // the events of the parallel games are recorded, and then replayed to the listener in the order of the games
+        runTournament(4, false, metricsListener(parallelMetrics, "parallel"));
+
+        for (int m = 0; m < serialMetrics.length; m++) {
+            Table serial = ((DataTableSaw) serialMetrics[m].getDataLogger()).getData();
+            Table parallel = ((DataTableSaw) parallelMetrics[m].getDataLogger()).getData();
+            assertTrue(serial.name(), serial.rowCount() > 0);
+            assertEquals(serial.name(), serial.columnNames(), parallel.columnNames());
+            assertEquals(serial.name(), serial.rowCount(), parallel.rowCount());
+            for (String column : serial.columnNames()) {
+                // game and component IDs are handed out to all games in the JVM, so differ between the runs
+                if (column.equals("GameID")) continue;
+                assertEquals(serial.name() + ": " + column, withoutIDs(serial.column(column).asList()),
+                        withoutIDs(parallel.column(column).asList()));
+            }
+        }
+    }
+
+    private List<String> withoutIDs(List<?> values) {
+        List<String> retValue = new ArrayList<>();
+        for (Object value : values)
+            retValue.add(String.valueOf(value).replaceAll("gridBoard=\\d+", "gridBoard"));
+        return retValue;
+    }
+
+    private void assertSameResults(RoundRobinTournament serial, RoundRobinTournament parallel) {
+        for (int i = 0; i < serial.getNumberOfAgents(); i++) {
+            assertEquals(serial.getWinRate(i), parallel.getWinRate(i), 1e-9);
+            assertEquals(serial.getWinStdErr(i), parallel.getWinStdErr(i), 1e-9);
+            assertEquals(serial.getOrdinalRank(i), parallel.getOrdinalRank(i), 1e-9);
+        }
+    }
+}
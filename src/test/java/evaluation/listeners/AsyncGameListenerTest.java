@@ -0,0 +1,216 @@
+package evaluation.listeners;
+
+import core.AbstractGameState;
+import core.AbstractPlayer;
+import core.Game;
+import evaluation.metrics.Event;
+import games.GameType;
+import games.loveletter.features.LLActionFeaturesTiny;
+import games.tictactoe.TicTacToeStateVector;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import players.simple.RandomPlayer;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.Assert.*;
+
+public class AsyncGameListenerTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    // Records the type and tick of each event, and the state it was given
+    static class Recorder implements IGameListener {
+        List<String> events = Collections.synchronizedList(new ArrayList<>());
+        List<AbstractGameState> states = Collections.synchronizedList(new ArrayList<>());
+        long delayMillis;
+        Game game;
+
+        @Override
+        public void onEvent(Event event) {
+            if (delayMillis > 0) {
+                try {
+                    Thread.sleep(delayMillis);
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+            events.add(event.type + " " + event.state.getGameTick() + " " + event.playerID);
+            states.add(event.state);
+        }
+
+        @Override
+        public void report() {
+        }
+
+        @Override
+        public boolean canRunAsynchronously() {
+            return true;
+        }
+
+        @Override
+        public void setGame(Game game) {
+            this.game = game;
+        }
+
+        @Override
+        public Game getGame() {
+            return game;
+        }
+    }
+
+    private void playGames(Game game, int nGames) {
+        List<AbstractPlayer> players = List.of(new RandomPlayer(new Random(1)), new RandomPlayer(new Random(2)));
+        for (int i = 0; i < nGames; i++) {
+            game.reset(players, 42 + i);
+            game.run();
+        }
+    }
+
+    @Test
+    public void eventsArriveInOrderAsSnapshots() {
+        Game game = GameType.TicTacToe.createGameInstance(2, 42);
+        Recorder sync = new Recorder();
+        Recorder slow = new Recorder();
+        slow.delayMillis = 1;
+        AsyncGameListener async = new AsyncGameListener(slow, 4, 3, AsyncGameListener.Backpressure.BLOCK);
+        game.addListener(sync);
+        game.addListener(async);
+        playGames(game, 3);
+        async.report();
+
+        assertTrue(sync.events.size() > 20);
+        assertEquals(sync.events, slow.events);
+        for (AbstractGameState state : slow.states)
+            assertNotSame(game.getGameState(), state);
+        assertEquals(0, async.getDroppedEvents());
+        async.close();
+    }
+
+    @Test
+    public void writesTheSameDataAsTheListenerItWraps() throws IOException {
+        String fileName = new File(folder.getRoot(), "features.data").getPath();
+        Game game = GameType.TicTacToe.createGameInstance(2, 42);
+        StateFeatureListener listener = new StateFeatureListener(new TicTacToeStateVector(),
+                Event.GameEvent.ACTION_TAKEN, false, fileName);
+        game.addListener(listener);
+        playGames(game, 3);
+        listener.report();
+        List<String> syncLines = Files.readAllLines(new File(fileName).toPath());
+
+        new File(fileName).delete();
+        game = GameType.TicTacToe.createGameInstance(2, 42);
+        AsyncGameListener async = new AsyncGameListener(new StateFeatureListener(new TicTacToeStateVector(),
+                Event.GameEvent.ACTION_TAKEN, false, fileName));
+        game.addListener(async);
+        playGames(game, 3);
+        async.report();
+        async.close();
+        List<String> asyncLines = Files.readAllLines(new File(fileName).toPath());
+
+        assertEquals(syncLines.size(), asyncLines.size());
+        assertEquals(syncLines.get(0), asyncLines.get(0));
+        for (int i = 1; i < syncLines.size(); i++) {
+            // the GameIDs differ, as these are unique across all games
+            String[] expected = syncLines.get(i).split("\t");
+            String[] actual = asyncLines.get(i).split("\t");
+            assertArrayEquals(Arrays.copyOfRange(expected, 1, expected.length), Arrays.copyOfRange(actual, 1, actual.length));
+        }
+    }
+
+    @Test
+    public void eventsAreDroppedWhenTheQueueIsFull() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Recorder recorder = new Recorder() {
+            @Override
+            public void onEvent(Event event) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                super.onEvent(event);
+            }
+        };
+        AsyncGameListener async = new AsyncGameListener(recorder, 2, 1, AsyncGameListener.Backpressure.DROP);
+        AbstractGameState state = GameType.TicTacToe.createGameInstance(2, 42).getGameState();
+        async.onEvent(Event.createEvent(Event.GameEvent.TURN_OVER, state, 0));
+        started.await();
+        // one event is being processed, two more fit in the queue, and the rest are dropped
+        for (int i = 0; i < 5; i++)
+            async.onEvent(Event.createEvent(Event.GameEvent.TURN_OVER, state, 0));
+        assertEquals(3, async.getDroppedEvents());
+        release.countDown();
+        async.flush();
+        assertEquals(3, recorder.events.size());
+        async.close();
+    }
+
+    @Test
+    public void listenerExceptionsAreThrownByFlush() {
+        Recorder failing = new Recorder() {
+            @Override
+            public void onEvent(Event event) {
+                throw new IllegalStateException("failed");
+            }
+        };
+        AsyncGameListener async = new AsyncGameListener(failing);
+        async.onEvent(Event.createEvent(Event.GameEvent.TURN_OVER,
+                GameType.TicTacToe.createGameInstance(2, 42).getGameState(), 0));
+        try {
+            async.flush();
+            fail("Expected the listener's exception");
+        } catch (RuntimeException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+        // reported once only
+        async.flush();
+        async.close();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void listenersThatUseTheGameCannotBeWrapped() {
+        ActionFeatureListener listener = new ActionFeatureListener(new LLActionFeaturesTiny(), null,
+                Event.GameEvent.ACTION_CHOSEN, false, new File(folder.getRoot(), "actions.data").getPath());
+        assertFalse(listener.canRunAsynchronously());
+        new AsyncGameListener(listener);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void listenersMustOptIn() {
+        new AsyncGameListener(new RecordingGameListener());
+    }
+
+    @Test
+    public void asyncListenersShareOneSnapshotOfEachEvent() {
+        Game game = GameType.TicTacToe.createGameInstance(2, 42);
+        Recorder first = new Recorder();
+        Recorder second = new Recorder();
+        AsyncGameListener firstAsync = new AsyncGameListener(first);
+        AsyncGameListener secondAsync = new AsyncGameListener(second);
+        game.addListener(firstAsync);
+        game.addListener(secondAsync);
+        playGames(game, 2);
+        firstAsync.close();
+        secondAsync.close();
+
+        assertEquals(first.events, second.events);
+        assertTrue(first.states.size() > 10);
+        for (int i = 0; i < first.states.size(); i++) {
+            assertSame(first.states.get(i), second.states.get(i));
+            assertNotSame(game.getGameState(), first.states.get(i));
+        }
+        // and each event has its own snapshot
+        Set<AbstractGameState> distinct = Collections.newSetFromMap(new IdentityHashMap<>());
+        distinct.addAll(first.states);
+        assertEquals(first.states.size(), distinct.size());
+    }
+}
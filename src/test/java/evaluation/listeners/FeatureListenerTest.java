@@ -0,0 +1,67 @@
+package evaluation.listeners;
+
+import core.AbstractPlayer;
+import core.Game;
+import evaluation.loggers.FileStatsLogger;
+import evaluation.metrics.Event;
+import games.GameType;
+import games.tictactoe.TicTacToeStateVector;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import players.simple.RandomPlayer;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+public class FeatureListenerTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private List<String> playGames(FeatureListener listener, int nGames) throws IOException {
+        Game game = GameType.TicTacToe.createGameInstance(2, 42);
+        game.addListener(listener);
+        List<AbstractPlayer> players = List.of(new RandomPlayer(new Random(1)), new RandomPlayer(new Random(2)));
+        for (int i = 0; i < nGames; i++) {
+            game.reset(players, 42 + i);
+            game.run();
+        }
+        listener.report();
+        return Files.readAllLines(new File(folder.getRoot(), "features.data").toPath());
+    }
+
+    @Test
+    public void arrayLoggerWritesTheSameDataAsTheMapLogger() throws IOException {
+        String fileName = new File(folder.getRoot(), "features.data").getPath();
+        StateFeatureListener listener = new StateFeatureListener(new TicTacToeStateVector(),
+                Event.GameEvent.ACTION_TAKEN, false, fileName);
+        List<String> fastLines = playGames(listener, 3);
+
+        new File(fileName).delete();
+        StateFeatureListener mapListener = new StateFeatureListener(new TicTacToeStateVector(),
+                Event.GameEvent.ACTION_TAKEN, false, fileName);
+        FileStatsLogger mapLogger = new FileStatsLogger(fileName, "\t", false);
+        mapLogger.doubleFormat = "%s";
+        mapListener.setLogger(mapLogger);
+        List<String> mapLines = playGames(mapListener, 3);
+
+        assertEquals(mapLines.get(0), fastLines.get(0));
+        String[] header = fastLines.get(0).split("\t");
+        assertEquals("GameID", header[0]);
+        assertEquals("FinalScore", header[header.length - 1]);
+        assertEquals(mapLines.size(), fastLines.size());
+        assertTrue(fastLines.size() > 10);
+        for (int i = 1; i < fastLines.size(); i++) {
+            double[] fast = Arrays.stream(fastLines.get(i).split("\t")).mapToDouble(Double::parseDouble).toArray();
+            double[] map = Arrays.stream(mapLines.get(i).split("\t")).mapToDouble(Double::parseDouble).toArray();
+            assertEquals(header.length, fast.length);
+            // the GameIDs differ, as these are unique across all games
+            assertArrayEquals(Arrays.copyOfRange(map, 1, map.length), Arrays.copyOfRange(fast, 1, fast.length), 0.0);
+        }
+    }
+}
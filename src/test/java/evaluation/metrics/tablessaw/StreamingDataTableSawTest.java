@@ -0,0 +1,122 @@
+package evaluation.metrics.tablessaw;
+
+import core.AbstractPlayer;
+import core.Game;
+import evaluation.listeners.MetricsGameListener;
+import evaluation.metrics.AbstractMetric;
+import evaluation.metrics.GameMetrics;
+import evaluation.metrics.IDataLogger;
+import games.GameType;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import players.simple.RandomPlayer;
+import tech.tablesaw.api.Table;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.*;
+
+import static evaluation.metrics.IDataLogger.ReportType.*;
+import static org.junit.Assert.*;
+
+public class StreamingDataTableSawTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    AbstractMetric inMemory, streamed;
+    MetricsGameListener inMemoryListener, streamingListener;
+
+    @Before
+    public void playGames() {
+        inMemory = new GameMetrics.GameScore();
+        streamed = new GameMetrics.GameScore();
+        IDataLogger.ReportType[] reportTypes = {RawData, Summary, Plot};
+        inMemoryListener = new MetricsGameListener(IDataLogger.ReportDestination.ToFile, reportTypes, new AbstractMetric[]{inMemory});
+        streamingListener = new MetricsGameListener(IDataLogger.ReportDestination.ToFile, reportTypes, new AbstractMetric[]{streamed}, 1);
+
+        Game game = GameType.TicTacToe.createGameInstance(2, 42);
+        List<AbstractPlayer> players = List.of(new RandomPlayer(new Random(1)), new RandomPlayer(new Random(2)));
+        Set<String> playerNames = new HashSet<>(Arrays.asList("Random-1", "Random-2"));
+        for (MetricsGameListener listener : List.of(inMemoryListener, streamingListener)) {
+            game.addListener(listener);
+            listener.init(game, 2, playerNames);
+        }
+        for (int i = 0; i < 4; i++) {
+            game.reset(players, 42 + i);
+            game.run();
+        }
+    }
+
+    @Test
+    public void gamesAreWrittenToChunks() {
+        assertTrue(streamed.getDataLogger() instanceof StreamingDataTableSaw);
+        StreamingDataTableSaw logger = (StreamingDataTableSaw) streamed.getDataLogger();
+        // the data of the last game is still in memory
+        assertEquals(3, logger.getChunkCount());
+        assertEquals(((DataTableSaw) inMemory.getDataLogger()).rowCount(), logger.rowCount());
+
+        logger.reset();
+        assertEquals(0, logger.getChunkCount());
+        assertEquals(0, logger.rowCount());
+    }
+
+    @Test
+    public void dataReadBackIsTheSame() {
+        DataTableSaw expected = (DataTableSaw) inMemory.getDataLogger();
+        DataTableSaw actual = (DataTableSaw) streamed.getDataLogger();
+        assertEquals(expected.columnNames(), actual.columnNames());
+        assertTableEquals(expected.getData(), actual.getData());
+        assertTableEquals(expected.getColumns("GameID", "Tick", "Average"), actual.getColumns("GameID", "Tick", "Average"));
+        assertEquals(2, actual.getColumns("GameID", "Average", "NotAColumn").columnCount());
+    }
+
+    @Test
+    public void reportsAreTheSame() throws IOException {
+        File expectedDir = folder.newFolder("inMemory");
+        File actualDir = folder.newFolder("streamed");
+        inMemoryListener.setOutputDirectory(expectedDir.getPath());
+        streamingListener.setOutputDirectory(actualDir.getPath());
+        inMemoryListener.report();
+        streamingListener.report();
+
+        assertFileEquals(new File(expectedDir, "GameScore.csv"), new File(actualDir, "GameScore.csv"));
+        File[] summaries = new File(expectedDir, "summaries/GameScore").listFiles();
+        assertNotNull(summaries);
+        assertTrue(summaries.length > 0);
+        for (File summary : summaries)
+            assertFileEquals(summary, new File(actualDir, "summaries/GameScore/" + summary.getName()));
+        String[] plots = new File(expectedDir, "plots/GameScore").list();
+        assertNotNull(plots);
+        Arrays.sort(plots);
+        String[] streamedPlots = new File(actualDir, "plots/GameScore").list();
+        assertNotNull(streamedPlots);
+        Arrays.sort(streamedPlots);
+        assertArrayEquals(plots, streamedPlots);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rawDataPerEventIsNotSupported() {
+        // this joins the data of all the metrics in memory
+        new MetricsGameListener(IDataLogger.ReportDestination.ToFile, new IDataLogger.ReportType[]{RawDataPerEvent},
+                new AbstractMetric[]{new GameMetrics.GameScore()}, 1);
+    }
+
+    private void assertTableEquals(Table expected, Table actual) {
+        assertEquals(expected.name(), actual.name());
+        assertEquals(expected.columnNames(), actual.columnNames());
+        assertEquals(expected.rowCount(), actual.rowCount());
+        for (int c = 0; c < expected.columnCount(); c++) {
+            assertEquals(expected.column(c).type(), actual.column(c).type());
+            assertEquals(expected.column(c).asList(), actual.column(c).asList());
+        }
+    }
+
+    private void assertFileEquals(File expected, File actual) throws IOException {
+        assertTrue(actual.getPath(), actual.exists());
+        assertEquals(Files.readAllLines(expected.toPath()), Files.readAllLines(actual.toPath()));
+    }
+}
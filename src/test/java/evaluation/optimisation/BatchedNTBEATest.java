@@ -0,0 +1,66 @@
+package evaluation.optimisation;
+
+import evaluation.RunArg;
+import games.GameType;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.*;
+
+public class BatchedNTBEATest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private NTBEA ntbea(int nThreads, int iterations) throws IOException {
+        File searchSpace = folder.newFile("SearchSpace.json");
+        try (FileWriter writer = new FileWriter(searchSpace)) {
+            writer.write("{\"class\" : \"players.mcts.MCTSParams\", \"K\" : [0.1, 1.0, 10.0], \"rolloutLength\" : [0, 5, 10]," +
+                    "\"budgetType\" : \"BUDGET_ITERATIONS\", \"budget\" : 20, \"resetSeedEachGame\" : true, \"randomSeed\" : 7}");
+        }
+        Map<RunArg, Object> config = RunArg.parseConfig(new String[]{
+                "game=TicTacToe", "nPlayers=2", "opponent=random", "seed=42", "evalGames=0", "matchups=0",
+                "iterations=" + iterations, "nThreads=" + nThreads, "searchSpace=" + searchSpace.getPath(),
+                "destDir=" + folder.getRoot().getPath()}, RunArg.Usage.ParameterSearch);
+        return new NTBEA(new NTBEAParameters(config), GameType.TicTacToe, 2);
+    }
+
+    @Test
+    public void batchedTrialsRunTheRequestedNumberOfGames() throws IOException {
+        // 10 trials on 4 threads is two full batches, and one of 2
+        NTBEA ntbea = ntbea(4, 10);
+        ntbea.executor = Executors.newFixedThreadPool(4);
+        try {
+            ntbea.runTrials();
+        } finally {
+            ntbea.executor.shutdownNow();
+        }
+        assertEquals(10, ntbea.evaluator.nEvals());
+        assertEquals(10, ntbea.landscapeModel.numberOfSamples());
+        for (int[] point : ntbea.landscapeModel.getSampledPoints()) {
+            assertEquals(2, point.length);
+            for (int i = 0; i < point.length; i++)
+                assertTrue(point[i] >= 0 && point[i] < ntbea.params.searchSpace.nValues(i));
+        }
+    }
+
+    @Test
+    public void batchesAreNotLargerThanTheTrialsRequested() throws IOException {
+        NTBEA ntbea = ntbea(8, 3);
+        ntbea.executor = Executors.newFixedThreadPool(8);
+        try {
+            ntbea.runTrials();
+        } finally {
+            ntbea.executor.shutdownNow();
+        }
+        assertEquals(3, ntbea.evaluator.nEvals());
+        assertEquals(3, ntbea.landscapeModel.numberOfSamples());
+    }
+}
@@ -0,0 +1,69 @@
+package evaluation.optimisation;
+
+import core.AbstractParameters;
+import games.GameType;
+import games.tictactoe.TicTacToeGameParameters;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import org.junit.Test;
+import players.heuristics.WinOnlyHeuristic;
+import players.mcts.MCTSParams;
+import players.simple.RandomPlayer;
+
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.*;
+
+public class ParallelGameEvaluatorTest {
+
+    private GameEvaluator evaluator(AbstractParameters gameParams) throws ParseException {
+        JSONObject json = (JSONObject) new JSONParser().parse(
+                "{\"class\" : \"players.mcts.MCTSParams\", \"K\" : [0.1, 10.0], \"rolloutLength\" : [0, 10]," +
+                        "\"budgetType\" : \"BUDGET_ITERATIONS\", \"budget\" : 50," +
+                        "\"resetSeedEachGame\" : true, \"randomSeed\" : 7}");
+        ITPSearchSpace searchSpace = new ITPSearchSpace(new MCTSParams(), json);
+        return new GameEvaluator(GameType.TicTacToe, searchSpace, gameParams, 2,
+                Collections.singletonList(new RandomPlayer(new Random(3))), 42,
+                new WinOnlyHeuristic(), null, true);
+    }
+
+    @Test
+    public void parallelEvaluationMatchesSerialResults() throws ParseException {
+        assertParallelMatchesSerial(null, null);
+    }
+
+    @Test
+    public void parallelEvaluationWithGameParametersMatchesSerialResults() throws ParseException {
+        TicTacToeGameParameters serialParams = new TicTacToeGameParameters();
+        serialParams.setParameterValue("gridSize", 4);
+        serialParams.setRandomSeed(5);
+        TicTacToeGameParameters parallelParams = (TicTacToeGameParameters) serialParams.copy();
+        parallelParams.setRandomSeed(5);
+        assertParallelMatchesSerial(serialParams, parallelParams);
+        // each trial plays with a copy, so the parameters given to the evaluator are not changed
+        assertEquals(5, parallelParams.getRandomSeed());
+        assertEquals(4, parallelParams.gridSize);
+    }
+
+    private void assertParallelMatchesSerial(AbstractParameters serialParams, AbstractParameters parallelParams) throws ParseException {
+        List<int[]> settings = new ArrayList<>();
+        for (int i = 0; i < 12; i++)
+            settings.add(new int[]{i % 2, (i / 2) % 2});
+
+        GameEvaluator serialEvaluator = evaluator(serialParams);
+        double[] serial = settings.stream().mapToDouble(serialEvaluator::evaluate).toArray();
+
+        GameEvaluator parallelEvaluator = evaluator(parallelParams);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            double[] parallel = parallelEvaluator.evaluate(settings, executor);
+            assertArrayEquals(serial, parallel, 1e-9);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(serialEvaluator.nEvals(), parallelEvaluator.nEvals());
+    }
+}
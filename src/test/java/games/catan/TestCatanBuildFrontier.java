@@ -0,0 +1,110 @@
+package games.catan;
+
+import core.AbstractForwardModel;
+import core.Game;
+import core.actions.AbstractAction;
+import core.components.Edge;
+import games.GameType;
+import games.catan.components.Building;
+import games.catan.components.CatanTile;
+import org.junit.Test;
+
+import java.util.*;
+
+import static games.catan.CatanConstants.HEX_SIDES;
+import static org.junit.Assert.*;
+
+public class TestCatanBuildFrontier {
+
+    private static boolean onLand(CatanTile tile) {
+        return !(tile.getTileType() == CatanTile.TileType.SEA || tile.getTileType() == CatanTile.TileType.DESERT);
+    }
+
+    private static List<List<Integer>> coordinates(BitSet slots, int[][] coordinates) {
+        List<List<Integer>> list = new ArrayList<>();
+        for (int slot = slots.nextSetBit(0); slot >= 0; slot = slots.nextSetBit(slot + 1))
+            list.add(Arrays.asList(coordinates[slot][0], coordinates[slot][1], coordinates[slot][2]));
+        return list;
+    }
+
+    // The legal places to build, by a scan of the whole board as CatanActionFactory used to do
+
+    private List<List<Integer>> scanRoads(CatanGameState gs, int player) {
+        List<List<Integer>> legal = new ArrayList<>();
+        Set<Integer> seen = new HashSet<>();
+        CatanTile[][] board = gs.getBoard();
+        for (int x = 0; x < board.length; x++)
+            for (int y = 0; y < board[x].length; y++)
+                for (int i = 0; i < HEX_SIDES; i++) {
+                    Edge edge = gs.getRoad(gs.getBuilding(board[x][y], i), board[x][y], i);
+                    if (edge == null || !seen.add(edge.getComponentID())) continue;
+                    if (onLand(board[x][y]) && gs.checkRoadPlacement(i, board[x][y], player))
+                        legal.add(Arrays.asList(x, y, i));
+                }
+        return legal;
+    }
+
+    private List<List<Integer>> scanSettlements(CatanGameState gs, int player, boolean setup) {
+        List<List<Integer>> legal = new ArrayList<>();
+        Set<Integer> seen = new HashSet<>();
+        CatanTile[][] board = gs.getBoard();
+        for (int x = 0; x < board.length; x++)
+            for (int y = 0; y < board[x].length; y++)
+                for (int i = 0; i < HEX_SIDES; i++) {
+                    Building settlement = gs.getBuilding(board[x][y], i);
+                    // in the setup phase only vertices on land were marked as seen
+                    if (setup && !onLand(board[x][y]) || !seen.add(settlement.getComponentID())) continue;
+                    if (onLand(board[x][y]) && gs.checkSettlementPlacement(settlement, player))
+                        legal.add(Arrays.asList(x, y, i));
+                }
+        return legal;
+    }
+
+    private List<List<Integer>> scanCities(CatanGameState gs, int player) {
+        List<List<Integer>> legal = new ArrayList<>();
+        Set<Integer> seen = new HashSet<>();
+        CatanTile[][] board = gs.getBoard();
+        for (int x = 0; x < board.length; x++)
+            for (int y = 0; y < board[x].length; y++)
+                for (int i = 0; i < HEX_SIDES; i++) {
+                    Building settlement = gs.getBuilding(board[x][y], i);
+                    if (!seen.add(settlement.getComponentID())) continue;
+                    if (settlement.getOwnerId() == player && settlement.getBuildingType() == Building.Type.Settlement)
+                        legal.add(Arrays.asList(x, y, i));
+                }
+        return legal;
+    }
+
+    private void assertMatchesScan(CatanGameState gs) {
+        CatanBuildFrontier frontier = gs.buildFrontier;
+        boolean setup = gs.getGamePhase() == CatanGameState.CatanGamePhase.Setup;
+        if (setup)
+            assertEquals(scanSettlements(gs, 0, true), coordinates(frontier.legalSetupSettlements(), frontier.setupCoordinates));
+        for (int p = 0; p < gs.getNPlayers(); p++) {
+            assertEquals(scanRoads(gs, p), coordinates(frontier.legalRoads(p), frontier.roadCoordinates));
+            if (!setup)
+                assertEquals(scanSettlements(gs, p, false), coordinates(frontier.legalSettlements(p), frontier.vertexCoordinates));
+            assertEquals(scanCities(gs, p), coordinates(frontier.legalCities(p), frontier.vertexCoordinates));
+        }
+    }
+
+    @Test
+    public void frontierMatchesScanInRandomGames() {
+        Random rnd = new Random(42);
+        for (int nPlayers = 3; nPlayers <= 4; nPlayers++) {
+            for (int game = 0; game < 3; game++) {
+                Game g = GameType.Catan.createGameInstance(nPlayers, 42 + game);
+                CatanGameState state = (CatanGameState) g.getGameState();
+                AbstractForwardModel fm = g.getForwardModel();
+                assertMatchesScan(state);
+                for (int i = 0; i < 2000 && state.isNotTerminal(); i++) {
+                    List<AbstractAction> actions = fm.computeAvailableActions(state);
+                    fm.next(state, actions.get(rnd.nextInt(actions.size())));
+                    assertMatchesScan(state);
+                    if (i % 100 == 0)
+                        assertMatchesScan((CatanGameState) state.copy());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package games.catan;
+
+import core.AbstractForwardModel;
+import core.Game;
+import core.actions.AbstractAction;
+import core.components.BoardNodeWithEdges;
+import core.components.Edge;
+import games.GameType;
+import games.catan.components.Building;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+public class TestCatanRoadNetwork {
+
+    CatanGameState state;
+    AbstractForwardModel fm;
+
+    @Before
+    public void setup() {
+        Game game = GameType.Catan.createGameInstance(4, 42);
+        state = (CatanGameState) game.getGameState();
+        fm = game.getForwardModel();
+    }
+
+    /**
+     * The longest road of the player, by a search over the whole graph for the longest trail of their roads
+     */
+    private int reference(CatanGameState gs, int player) {
+        int best = 0;
+        for (BoardNodeWithEdges node : gs.getGraph().getBoardNodes())
+            best = Math.max(best, trailFrom(node, player, new HashSet<>()));
+        return best;
+    }
+
+    private int trailFrom(BoardNodeWithEdges node, int player, Set<Integer> used) {
+        int best = 0;
+        for (Map.Entry<Edge, BoardNodeWithEdges> e : node.getNeighbourEdgeMapping().entrySet()) {
+            Edge edge = e.getKey();
+            if (edge.getOwnerId() != player || used.contains(edge.getComponentID()))
+                continue;
+            BoardNodeWithEdges next = e.getValue();
+            used.add(edge.getComponentID());
+            boolean blocked = next.getOwnerId() != -1 && next.getOwnerId() != player;
+            best = Math.max(best, 1 + (blocked ? 0 : trailFrom(next, player, used)));
+            used.remove(edge.getComponentID());
+        }
+        return best;
+    }
+
+    /**
+     * @return a path of n edges through the graph that avoids the given vertices, as the n + 1 vertices along it
+     */
+    private List<Building> path(int n, Collection<Building> avoid) {
+        for (BoardNodeWithEdges start : state.getGraph().getBoardNodes()) {
+            if (avoid.contains(start)) continue;
+            List<Building> path = new ArrayList<>();
+            path.add((Building) start);
+            if (extend(path, n, avoid)) return path;
+        }
+        throw new AssertionError("No path of length " + n);
+    }
+
+    private boolean extend(List<Building> path, int n, Collection<Building> avoid) {
+        if (path.size() == n + 1) return true;
+        for (BoardNodeWithEdges next : path.get(path.size() - 1).getNeighbours()) {
+            if (path.contains(next) || avoid.contains(next)) continue;
+            path.add((Building) next);
+            if (extend(path, n, avoid)) return true;
+            path.remove(path.size() - 1);
+        }
+        return false;
+    }
+
+    private void buildRoads(int player, List<Building> path) {
+        for (int i = 0; i < path.size() - 1; i++) {
+            Edge edge = path.get(i).getEdge(path.get(i + 1));
+            edge.setOwnerId(player);
+            state.roadBuilt(edge, player);
+        }
+    }
+
+    private void awardLongestRoad(int player, int length) {
+        // as BuildRoad would
+        state.setLongestRoadOwner(player);
+        state.setLongestRoadLength(length);
+        state.addScore(player, ((CatanParameters) state.getGameParameters()).longest_road_value);
+    }
+
+    @Test
+    public void settlementBreaksRoad() {
+        List<Building> path = path(7, Collections.emptyList());
+        buildRoads(0, path);
+        assertEquals(7, state.getRoadLengths()[0]);
+        awardLongestRoad(0, 7);
+
+        // a settlement of player 2 in the middle leaves a road of 4 and one of 3
+        Building middle = path.get(4);
+        middle.setOwnerId(2);
+        state.settlementBuilt(middle, 2);
+        assertEquals(4, state.getRoadLengths()[0]);
+        assertEquals(reference(state, 0), state.getRoadLengths()[0]);
+        assertEquals(0, state.getLongestRoadOwner());
+        assertEquals(4, state.getLongestRoadLength());
+    }
+
+    @Test
+    public void longestRoadPassesOnWhenBroken() {
+        List<Building> path = path(7, Collections.emptyList());
+        buildRoads(0, path);
+        awardLongestRoad(0, 7);
+        List<Building> other = path(5, path);
+        buildRoads(1, other);
+        assertEquals(5, state.getRoadLengths()[1]);
+
+        Building middle = path.get(4);
+        middle.setOwnerId(2);
+        state.settlementBuilt(middle, 2);
+        assertEquals(1, state.getLongestRoadOwner());
+        assertEquals(5, state.getLongestRoadLength());
+        assertEquals(0, state.getScores()[0]);
+        assertEquals(((CatanParameters) state.getGameParameters()).longest_road_value, state.getScores()[1]);
+    }
+
+    @Test
+    public void settlementAtEndOfRoadDoesNotBreakIt() {
+        List<Building> path = path(5, Collections.emptyList());
+        buildRoads(0, path);
+        Building end = path.get(5);
+        end.setOwnerId(1);
+        state.settlementBuilt(end, 1);
+        assertEquals(5, state.getRoadLengths()[0]);
+    }
+
+    @Test
+    public void copiesAreIndependent() {
+        List<Building> path = path(4, Collections.emptyList());
+        buildRoads(0, path.subList(0, 3));
+        CatanGameState copy = (CatanGameState) state.copy();
+        buildRoads(0, path.subList(2, 5));
+        assertEquals(4, state.getRoadLengths()[0]);
+        assertEquals(2, copy.getRoadLengths()[0]);
+    }
+
+    @Test
+    public void roadLengthsMatchSearchInRandomGames() {
+        Random rnd = new Random(42);
+        for (int game = 0; game < 5; game++) {
+            setup();
+            fm.setup(state);
+            for (int i = 0; i < 3000 && state.isNotTerminal(); i++) {
+                List<AbstractAction> actions = fm.computeAvailableActions(state);
+                fm.next(state, actions.get(rnd.nextInt(actions.size())));
+                for (int p = 0; p < state.getNPlayers(); p++)
+                    assertEquals(reference(state, p), state.getRoadLengths()[p]);
+            }
+        }
+    }
+}
@@ -6,7 +6,10 @@ import games.GameType;
 import games.chinesecheckers.actions.MovePeg;
 import org.junit.Test;
 
-import java.util.List;
+import games.chinesecheckers.components.CCNode;
+import games.chinesecheckers.components.Peg;
+
+import java.util.*;
 
 import static org.junit.Assert.*;
 
@@ -59,4 +62,65 @@ public class ActionTests {
         assertEquals(2, actions.stream().filter(a -> ((MovePeg)a).getFrom() == 1).count());
         assertEquals(23, actions.size());
     }
+
+    /**
+     * The moves of the peg on the node, found by a search over the neighbours of each node
+     */
+    private Set<MovePeg> referenceMoves(CCNode node, Peg.Colour playerCol) {
+        Set<MovePeg> moves = new HashSet<>();
+        Peg peg = node.getOccupiedPeg();
+        for (CCNode neighbour : node.getNeighbours()) {
+            if (!neighbour.isNodeOccupied() && placeable(neighbour, playerCol) &&
+                    (!peg.getInDestination() || neighbour.getBaseColour() != Peg.Colour.neutral))
+                moves.add(new MovePeg(node.getID(), neighbour.getID()));
+        }
+        Set<CCNode> visited = new HashSet<>();
+        Deque<CCNode> toVisit = new ArrayDeque<>();
+        toVisit.add(node);
+        visited.add(node);
+        while (!toVisit.isEmpty()) {
+            CCNode expNode = toVisit.poll();
+            boolean canLeaveZone = expNode.getBaseColour() != playerCol;
+            for (CCNode neighbour : expNode.getNeighbours()) {
+                if (!neighbour.isNodeOccupied()) continue;
+                int side = expNode.getNeighbourSideMapping().get(neighbour);
+                for (CCNode stride : neighbour.getNeighbours()) {
+                    if (neighbour.getNeighbourSideMapping().get(stride) == side && !stride.isNodeOccupied() &&
+                            (canLeaveZone || stride.getBaseColour() == playerCol) && visited.add(stride)) {
+                        toVisit.add(stride);
+                        if (placeable(stride, playerCol))
+                            moves.add(new MovePeg(node.getID(), stride.getID()));
+                    }
+                }
+            }
+        }
+        return moves;
+    }
+
+    private boolean placeable(CCNode node, Peg.Colour playerCol) {
+        Peg.Colour col = node.getBaseColour();
+        return col == playerCol || col == Peg.Colour.neutral || col == Peg.Colour.values()[(playerCol.ordinal() + 3) % 6];
+    }
+
+    @Test
+    public void movesMatchNeighbourSearchInRandomGames() {
+        Random rnd = new Random(42);
+        for (int nPlayers : new int[]{2, 3, 4, 6}) {
+            for (int g = 0; g < 3; g++) {
+                CCGameState gs = (CCGameState) GameType.ChineseCheckers.createGameInstance(nPlayers, g, new CCParameters()).getGameState();
+                for (int move = 0; move < 300 && gs.isNotTerminal(); move++) {
+                    Peg.Colour playerCol = gs.getPlayerColour(gs.getCurrentPlayer());
+                    Set<MovePeg> expected = new HashSet<>();
+                    for (CCNode node : gs.getStarBoard().getBoardNodes()) {
+                        if (node.isNodeOccupied() && node.getOccupiedPeg().getColour() == playerCol)
+                            expected.addAll(referenceMoves(node, playerCol));
+                    }
+                    List<AbstractAction> actions = fm.computeAvailableActions(gs);
+                    assertEquals(expected.size(), actions.size());
+                    assertEquals(expected, new HashSet<>(actions));
+                    fm.next(gs, actions.get(rnd.nextInt(actions.size())));
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,150 @@
+package games.connect4;
+
+import core.AbstractGameState;
+import core.CoreConstants;
+import core.Game;
+import core.actions.AbstractAction;
+import core.actions.SetGridValueAction;
+import core.components.GridBoard;
+import core.components.Token;
+import games.GameType;
+import org.junit.Before;
+import org.junit.Test;
+import utilities.Pair;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class TestConnect4 {
+
+    Connect4ForwardModel fm = new Connect4ForwardModel();
+    Connect4StateKey stateKey = new Connect4StateKey();
+    Connect4GameState state;
+
+    @Before
+    public void setup() {
+        Game game = GameType.Connect4.createGameInstance(2, 42);
+        state = (Connect4GameState) game.getGameState();
+    }
+
+    private void play(Connect4GameState gs, int... columns) {
+        for (int x : columns) {
+            List<AbstractAction> actions = fm.computeAvailableActions(gs);
+            AbstractAction action = actions.stream()
+                    .filter(a -> ((SetGridValueAction<?>) a).getX() == x)
+                    .findFirst().orElseThrow(() -> new AssertionError("Column " + x + " is not available"));
+            fm.next(gs, action);
+        }
+    }
+
+    private void assertWinner(int player) {
+        assertEquals(CoreConstants.GameResult.GAME_END, state.getGameStatus());
+        assertEquals(CoreConstants.GameResult.WIN_GAME, state.getPlayerResults()[player]);
+        assertEquals(CoreConstants.GameResult.LOSE_GAME, state.getPlayerResults()[1 - player]);
+        assertEquals(4, state.getWinningCells().size());
+        Token winner = Connect4Constants.playerMapping.get(player);
+        state.getWinningCells().forEach(c -> assertEquals(winner, state.getGridBoard().getElement(c.a, c.b)));
+    }
+
+    @Test
+    public void verticalWin() {
+        play(state, 0, 1, 0, 1, 0, 1);
+        assertTrue(state.isNotTerminal());
+        play(state, 0);
+        assertWinner(0);
+    }
+
+    @Test
+    public void horizontalWin() {
+        play(state, 7, 0, 7, 1, 6, 2, 6);
+        assertTrue(state.isNotTerminal());
+        play(state, 3);
+        assertWinner(1);
+    }
+
+    @Test
+    public void diagonalWins() {
+        // player 0 builds a rising diagonal from (0, bottom) to (3, bottom - 3)
+        play(state, 0, 1, 1, 2, 2, 3, 2, 3, 3, 7);
+        assertTrue(state.isNotTerminal());
+        play(state, 3);
+        assertWinner(0);
+
+        setup();
+        // and a falling diagonal from (7, bottom) to (4, bottom - 3)
+        play(state, 7, 6, 6, 5, 5, 4, 5, 4, 4, 0);
+        assertTrue(state.isNotTerminal());
+        play(state, 4);
+        assertWinner(0);
+    }
+
+    @Test
+    public void winningCellsOfALongerLineIncludeTheLastDisc() {
+        // player 0 has (0, 1, 3) on the bottom row, and fills the gap at 2 with a line of five
+        play(state, 0, 0, 1, 1, 3, 3, 4, 4);
+        assertTrue(state.isNotTerminal());
+        play(state, 2);
+        assertWinner(0);
+        int bottom = state.getGridBoard().getHeight() - 1;
+        assertTrue(state.getWinningCells().contains(new Pair<>(2, bottom)));
+        assertEquals(Arrays.asList(new Pair<>(0, bottom), new Pair<>(1, bottom), new Pair<>(2, bottom), new Pair<>(3, bottom)),
+                state.getWinningCells());
+    }
+
+    @Test
+    public void bitboardMatchesGridInRandomGames() {
+        for (int gridSize : new int[]{6, 8, 10}) {
+            Connect4GameParameters params = new Connect4GameParameters();
+            params.setParameterValue("gridSize", gridSize);
+            Random rnd = new Random(gridSize);
+            for (int g = 0; g < 20; g++) {
+                Game game = GameType.Connect4.createGameInstance(2, g, params.copy());
+                Connect4GameState gs = (Connect4GameState) game.getGameState();
+                while (gs.isNotTerminal()) {
+                    List<AbstractAction> actions = fm.computeAvailableActions(gs);
+                    GridBoard<Token> grid = gs.getGridBoard();
+                    int open = 0;
+                    for (int x = 0; x < gridSize; x++)
+                        if (grid.getElement(x, 0).getTokenType().equals(Connect4Constants.emptyCell))
+                            open++;
+                    assertEquals(open, actions.size());
+                    for (AbstractAction a : actions) {
+                        SetGridValueAction<?> move = (SetGridValueAction<?>) a;
+                        // each move is to the lowest empty cell in its column
+                        assertEquals(Connect4Constants.emptyCell, grid.getElement(move.getX(), move.getY()).getTokenType());
+                        if (move.getY() < gridSize - 1)
+                            assertNotEquals(Connect4Constants.emptyCell, grid.getElement(move.getX(), move.getY() + 1).getTokenType());
+                    }
+                    AbstractGameState copy = gs.copy();
+                    fm.next(gs, actions.get(rnd.nextInt(actions.size())));
+                    assertNotEquals(stateKey.getKey(copy), stateKey.getKey(gs));
+                    for (int x = 0; x < gridSize; x++) {
+                        for (int y = 0; y < gridSize; y++) {
+                            String token = grid.getElement(x, y).getTokenType();
+                            for (int p = 0; p < 2; p++)
+                                assertEquals(token.equals(Connect4Constants.playerMapping.get(p).getTokenType()),
+                                        gs.getBitboard().hasDisc(p, x, gridSize - 1 - y));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void transpositionsHaveTheSameKey() {
+        Connect4GameState other = (Connect4GameState) state.copy();
+        play(state, 0, 1, 2, 3);
+        play(other, 2, 3, 0, 1);
+        assertEquals(stateKey.getKey(state), stateKey.getKey(other));
+        play(other, 4);
+        assertNotEquals(stateKey.getKey(state), stateKey.getKey(other));
+        Connect4GameState copy = (Connect4GameState) state.copy();
+        assertEquals(stateKey.getKey(state), stateKey.getKey(copy));
+        play(copy, 5);
+        assertNotEquals(stateKey.getKey(state), stateKey.getKey(copy));
+    }
+}
@@ -0,0 +1,87 @@
+package games.dominion;
+
+import core.AbstractForwardModel;
+import core.Game;
+import core.actions.AbstractAction;
+import games.GameType;
+import games.dominion.DominionConstants.DeckType;
+import games.dominion.cards.CardType;
+import games.dominion.cards.DominionCard;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class TestCardCounts {
+
+    static final DeckType[] ZONES = {DeckType.HAND, DeckType.DRAW, DeckType.DISCARD, DeckType.TABLE, DeckType.TRASH};
+
+    /**
+     * Checks cardsOfType() and getTotal() against a count of the cards themselves
+     */
+    private void checkCounts(DominionGameState state) {
+        for (int p = 0; p < state.getNPlayers(); p++) {
+            for (CardType type : CardType.values()) {
+                int all = 0;
+                for (DeckType zone : ZONES) {
+                    int count = (int) state.getDeck(zone, p).stream().filter(c -> c.cardType() == type).count();
+                    assertEquals(type + " in " + zone + " of " + p, count, state.cardsOfType(type, p, zone));
+                    if (zone != DeckType.TRASH) all += count;
+                }
+                assertEquals(type + " in all of " + p, all, state.cardsOfType(type, p, DeckType.ALL));
+            }
+            int player = p;
+            int points = 0, treasure = 0;
+            for (DeckType zone : ZONES) {
+                if (zone == DeckType.TRASH) continue;
+                points += state.getDeck(zone, p).stream().mapToInt(c -> c.victoryPoints(player, state)).sum();
+                treasure += state.getDeck(zone, p).stream().mapToInt(DominionCard::treasureValue).sum();
+            }
+            assertEquals(points, state.getTotal(p, c -> c.victoryPoints(player, state)));
+            assertEquals(treasure, state.getTotal(p, DominionCard::treasureValue));
+            assertEquals(state.getDeck(DeckType.HAND, p).stream().mapToInt(DominionCard::treasureValue).sum(),
+                    state.getTotal(p, DeckType.HAND, DominionCard::treasureValue));
+        }
+    }
+
+    @Test
+    public void countsMatchCardsInRandomGames() {
+        Random rnd = new Random(42);
+        for (int game = 0; game < 10; game++) {
+            Game g = GameType.Dominion.createGameInstance(4, 100 + game);
+            DominionGameState state = (DominionGameState) g.getGameState();
+            AbstractForwardModel fm = g.getForwardModel();
+            for (int i = 0; i < 1000 && state.isNotTerminal(); i++) {
+                checkCounts(state);
+                // copies, including those that redeterminise what the player cannot see, must count the same
+                DominionGameState copy = (DominionGameState) state.copy(rnd.nextInt(state.getNPlayers()));
+                checkCounts(copy);
+                List<AbstractAction> actions = fm.computeAvailableActions(state);
+                AbstractAction action = actions.get(rnd.nextInt(actions.size()));
+                // and changes to a copy must not change the counts of the original
+                DominionGameState fullCopy = (DominionGameState) state.copy();
+                fm.next(fullCopy, action.copy());
+                checkCounts(state);
+                checkCounts(fullCopy);
+                fm.next(state, action);
+            }
+        }
+    }
+
+    @Test
+    public void countsFollowChangesMadeThroughTheCardList() {
+        Game g = GameType.Dominion.createGameInstance(2, 42);
+        DominionGameState state = (DominionGameState) g.getGameState();
+        assertEquals(0, state.cardsOfType(CardType.GOLD, 0, DeckType.DISCARD));
+        state.getDeck(DeckType.DISCARD, 0).getComponents().add(DominionCard.create(CardType.GOLD));
+        assertEquals(1, state.cardsOfType(CardType.GOLD, 0, DeckType.DISCARD));
+        state.getDeck(DeckType.DISCARD, 0).add(DominionCard.create(CardType.GOLD));
+        assertEquals(2, state.cardsOfType(CardType.GOLD, 0, DeckType.DISCARD));
+        assertTrue(state.moveCard(CardType.GOLD, 0, DeckType.DISCARD, 0, DeckType.HAND));
+        assertEquals(1, state.cardsOfType(CardType.GOLD, 0, DeckType.DISCARD));
+        assertEquals(1, state.cardsOfType(CardType.GOLD, 0, DeckType.HAND));
+        assertFalse(state.moveCard(CardType.GOLD, 0, DeckType.TABLE, 0, DeckType.HAND));
+    }
+}
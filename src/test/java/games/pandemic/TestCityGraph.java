@@ -0,0 +1,65 @@
+package games.pandemic;
+
+import core.Game;
+import core.components.BoardNode;
+import core.properties.PropertyString;
+import games.GameType;
+import org.junit.Test;
+
+import static core.CoreConstants.nameHash;
+import static org.junit.Assert.*;
+
+public class TestCityGraph {
+
+    @Test
+    public void distancesFollowTheMap() {
+        Game g = GameType.Pandemic.createGameInstance(4, 42);
+        PandemicGameState state = (PandemicGameState) g.getGameState();
+        CityGraph graph = state.getCityGraph();
+        assertEquals(state.getWorld().getBoardNodes().size(), graph.getNCities());
+
+        for (BoardNode bn : state.getWorld().getBoardNodes()) {
+            String name = ((PropertyString) bn.getProperty(nameHash)).value;
+            int city = graph.getIndex(name);
+            assertEquals(name, graph.getName(city));
+            assertSame(bn, state.getCityNode(name));
+            assertEquals(bn.getNeighbours().size(), graph.getNeighbours(city).length);
+            for (BoardNode other : bn.getNeighbours())
+                assertEquals(1, graph.getDistance(name, ((PropertyString) other.getProperty(nameHash)).value));
+        }
+
+        for (int a = 0; a < graph.getNCities(); a++) {
+            assertEquals(0, graph.getDistance(a, a));
+            for (int b = 0; b < graph.getNCities(); b++) {
+                int d = graph.getDistance(a, b);
+                assertTrue(d >= 0 && d <= graph.getMaxDistance());
+                assertEquals(d, graph.getDistance(b, a));
+                if (a != b) {
+                    // a shortest path goes through a neighbour one step closer
+                    int closer = Integer.MAX_VALUE;
+                    for (int n : graph.getNeighbours(a))
+                        closer = Math.min(closer, graph.getDistance(n, b));
+                    assertEquals(d - 1, closer);
+                }
+            }
+        }
+        assertEquals(-1, graph.getIndex("Atlantis"));
+        assertNull(state.getCityNode("Atlantis"));
+    }
+
+    @Test
+    public void sharedByCopiesAndGames() {
+        PandemicGameState state = (PandemicGameState) GameType.Pandemic.createGameInstance(2, 1).getGameState();
+        PandemicGameState other = (PandemicGameState) GameType.Pandemic.createGameInstance(3, 2).getGameState();
+        PandemicGameState copy = (PandemicGameState) state.copy(0);
+        assertSame(state.getCityGraph(), copy.getCityGraph());
+        assertSame(state.getCityGraph(), other.getCityGraph());
+
+        // but the board nodes found are those of the copy's own world
+        BoardNode atlanta = state.getCityNode("Atlanta");
+        BoardNode copyAtlanta = copy.getCityNode("Atlanta");
+        assertNotSame(atlanta, copyAtlanta);
+        assertSame(copy.getWorld().getNodeByStringProperty(nameHash, "Atlanta"), copyAtlanta);
+        assertEquals(atlanta.getComponentID(), copyAtlanta.getComponentID());
+    }
+}
@@ -0,0 +1,114 @@
+package games.poker;
+
+import core.CoreConstants;
+import core.components.Deck;
+import core.components.FrenchCard;
+import org.junit.Test;
+import utilities.Pair;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+public class TestPokerHandEvaluator {
+
+    final List<FrenchCard> allCards = FrenchCard.generateDeck("All", CoreConstants.VisibilityMode.VISIBLE_TO_ALL).getComponents();
+    final int[] encoded = allCards.stream().mapToInt(PokerHandEvaluator::encode).toArray();
+
+    /**
+     * The rank and distinct values (highest first) of the hand, from the reference implementation
+     */
+    private Pair<Integer, List<Integer>> reference(int... cardIndices) {
+        Deck<FrenchCard> deck = new Deck<>("Hand", CoreConstants.VisibilityMode.VISIBLE_TO_ALL);
+        for (int i : cardIndices)
+            deck.add(allCards.get(i));
+        Pair<PokerGameState.PokerHand, ArrayList<Integer>> hand = PokerGameState.PokerHand._translateHand(deck);
+        List<Integer> values = new ArrayList<>(new TreeSet<>(hand.b).descendingSet());
+        return new Pair<>(hand.a.rank, values);
+    }
+
+    private int compare(Pair<Integer, List<Integer>> a, Pair<Integer, List<Integer>> b) {
+        if (!a.a.equals(b.a))
+            return Integer.compare(b.a, a.a);
+        for (int i = 0; i < Math.min(a.b.size(), b.b.size()); i++) {
+            if (!a.b.get(i).equals(b.b.get(i)))
+                return Integer.compare(a.b.get(i), b.b.get(i));
+        }
+        return 0;
+    }
+
+    private void assertMatches(Pair<Integer, List<Integer>> expected, int strength) {
+        assertEquals(expected.a.intValue(), PokerHandEvaluator.handRank(strength));
+        assertEquals(new HashSet<>(expected.b), PokerHandEvaluator.cardValues(strength));
+    }
+
+    @Test
+    public void allFiveCardHandsMatchTheReference() {
+        // we also check that strengths are ordered as the reference orders hands (by rank, then distinct values)
+        Map<Integer, Pair<Integer, List<Integer>>> handByStrength = new HashMap<>();
+        int hands = 0;
+        for (int a = 0; a < 52; a++)
+            for (int b = a + 1; b < 52; b++)
+                for (int c = b + 1; c < 52; c++)
+                    for (int d = c + 1; d < 52; d++)
+                        for (int e = d + 1; e < 52; e++) {
+                            Pair<Integer, List<Integer>> expected = reference(a, b, c, d, e);
+                            int strength = PokerHandEvaluator.evaluate(encoded[a], encoded[b], encoded[c], encoded[d], encoded[e]);
+                            assertMatches(expected, strength);
+                            Pair<Integer, List<Integer>> previous = handByStrength.putIfAbsent(strength, expected);
+                            if (previous != null)
+                                assertEquals(0, compare(previous, expected));
+                            hands++;
+                        }
+        assertEquals(2598960, hands);
+        List<Integer> strengths = new ArrayList<>(handByStrength.keySet());
+        Collections.sort(strengths);
+        for (int i = 1; i < strengths.size(); i++)
+            assertTrue(compare(handByStrength.get(strengths.get(i)), handByStrength.get(strengths.get(i - 1))) > 0);
+    }
+
+    @Test
+    public void sevenCardHandsAreTheBestFiveCardHand() {
+        Random rnd = new Random(42);
+        for (int trial = 0; trial < 20000; trial++) {
+            List<Integer> deck = new ArrayList<>();
+            for (int i = 0; i < 52; i++) deck.add(i);
+            Collections.shuffle(deck, rnd);
+            int[] hand = new int[7];
+            int[] cards = new int[7];
+            for (int i = 0; i < 7; i++) {
+                hand[i] = deck.get(i);
+                cards[i] = encoded[hand[i]];
+            }
+            Pair<Integer, List<Integer>> best = null;
+            for (int a = 0; a < 7; a++)
+                for (int b = a + 1; b < 7; b++)
+                    for (int c = b + 1; c < 7; c++)
+                        for (int d = c + 1; d < 7; d++)
+                            for (int e = d + 1; e < 7; e++) {
+                                Pair<Integer, List<Integer>> option = reference(hand[a], hand[b], hand[c], hand[d], hand[e]);
+                                if (best == null || compare(option, best) > 0)
+                                    best = option;
+                            }
+            assertMatches(best, PokerHandEvaluator.evaluate(cards, 7));
+        }
+    }
+
+    @Test
+    public void smallHandsMatchTheReference() {
+        Random rnd = new Random(42);
+        for (int trial = 0; trial < 5000; trial++) {
+            int n = 1 + rnd.nextInt(4);
+            List<Integer> deck = new ArrayList<>();
+            for (int i = 0; i < 52; i++) deck.add(i);
+            Collections.shuffle(deck, rnd);
+            int[] hand = new int[n];
+            int[] cards = new int[n];
+            for (int i = 0; i < n; i++) {
+                hand[i] = deck.get(i);
+                cards[i] = encoded[hand[i]];
+            }
+            assertMatches(reference(hand), PokerHandEvaluator.evaluate(cards, n));
+        }
+    }
+}
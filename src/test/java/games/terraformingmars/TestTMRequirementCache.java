@@ -0,0 +1,78 @@
+package games.terraformingmars;
+
+import core.AbstractForwardModel;
+import core.Game;
+import core.actions.AbstractAction;
+import games.GameType;
+import games.terraformingmars.rules.requirements.TMRequirementCache;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class TestTMRequirementCache {
+
+    private static List<String> sorted(List<AbstractAction> actions) {
+        // some actions come from hash sets, so the order is not fixed
+        List<String> names = new ArrayList<>();
+        for (AbstractAction a : actions)
+            names.add(a.toString());
+        Collections.sort(names);
+        return names;
+    }
+
+    @Test
+    public void cachedActionsMatchFreshEvaluation() {
+        int checked = 0;
+        for (int seed = 0; seed < 5; seed++) {
+            Random rnd = new Random(seed);
+            Game game = GameType.TerraformingMars.createGameInstance(2, seed);
+            TMGameState state = (TMGameState) game.getGameState();
+            AbstractForwardModel fm = game.getForwardModel();
+            for (int i = 0; i < 1000 && state.isNotTerminal(); i++) {
+                // the same state with nothing cached (a copy, as computing the actions can itself move the state on,
+                // for example clearing completed actions in progress)
+                TMGameState fresh = (TMGameState) state.copy();
+                fresh.requirementCache = new TMRequirementCache();
+                List<AbstractAction> actions = fm.computeAvailableActions(state);
+                assertEquals(sorted(fm.computeAvailableActions(fresh)), sorted(actions));
+                checked++;
+
+                if (actions.isEmpty()) break;
+                try {
+                    fm.next(state, actions.get(rnd.nextInt(actions.size())));
+                } catch (AssertionError e) {
+                    break;  // random play reaches states the game does not handle yet; that is not what we test here
+                }
+            }
+        }
+        assertTrue(checked > 500);
+    }
+
+    @Test
+    public void requirementsCreatedForEachComputationAreNotKept() {
+        Game game = GameType.TerraformingMars.createGameInstance(2, 3);
+        TMGameState state = (TMGameState) game.getGameState();
+        AbstractForwardModel fm = game.getForwardModel();
+        Random rnd = new Random(3);
+        // move on to the action phase, where the standard projects are created with new requirements each time (and
+        // the player can afford those that raise global parameters, so that their requirements are tested)
+        for (int i = 0; i < 500 && !(state.getGamePhase() == TMGameState.TMPhase.Actions &&
+                state.getPlayerResources()[state.getCurrentPlayer()].get(TMTypes.Resource.MegaCredit).getValue() >= 14); i++) {
+            List<AbstractAction> actions = fm.computeAvailableActions(state);
+            fm.next(state, actions.get(rnd.nextInt(actions.size())));
+        }
+        assertEquals(TMGameState.TMPhase.Actions, state.getGamePhase());
+        fm.computeAvailableActions(state);
+        int size = state.requirementCache.size();
+        assertTrue(size > 0);
+        // the state does not change, so the cached results are the same, but new requirements are tested each time
+        for (int i = 0; i < 100; i++)
+            fm.computeAvailableActions(state);
+        assertTrue(state.requirementCache.size() <= 2 * size);
+    }
+}
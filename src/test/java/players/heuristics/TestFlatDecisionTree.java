@@ -0,0 +1,152 @@
+package players.heuristics;
+
+import core.AbstractGameState;
+import core.Game;
+import games.GameType;
+import games.tictactoe.TicTacToeStateVector;
+import org.apache.spark.ml.linalg.Vectors;
+import org.apache.spark.ml.regression.DecisionTreeRegressionModel;
+import org.apache.spark.ml.tree.ContinuousSplit;
+import org.apache.spark.ml.tree.InternalNode;
+import org.apache.spark.ml.tree.LeafNode;
+import org.apache.spark.ml.tree.Node;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class TestFlatDecisionTree {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    // feature 1 <= 0.5 ? 1.0 : (feature 0 <= -2.0 ? 2.0 : 3.0)
+    FlatDecisionTree tree = new FlatDecisionTree(
+            new int[]{1, -1, 0, -1, -1},
+            new double[]{0.5, 1.0, -2.0, 2.0, 3.0},
+            new int[]{1, 0, 3, 0, 0},
+            new int[]{2, 0, 4, 0, 0});
+
+    @Test
+    public void predictionsFollowTheSplits() {
+        assertEquals(5, tree.size());
+        assertEquals(1.0, tree.predict(new double[]{10.0, 0.0}), 0.0);
+        assertEquals(1.0, tree.predict(new double[]{10.0, 0.5}), 0.0);  // equal to the threshold goes left
+        assertEquals(2.0, tree.predict(new double[]{-2.0, 0.6}), 0.0);
+        assertEquals(3.0, tree.predict(new double[]{-1.9, 0.6}), 0.0);
+        assertEquals(3.0, tree.predict(new double[]{Double.NaN, Double.NaN}), 0.0);  // as in Spark, NaN goes right
+    }
+
+    @Test
+    public void treesReadBackFromFileAreTheSame() throws IOException {
+        String file = new File(folder.getRoot(), FlatDecisionTree.FILE_NAME).getPath();
+        FlatDecisionTree thresholds = new FlatDecisionTree(
+                new int[]{0, -1, -1},
+                new double[]{0.1 + 0.2, 1.0 / 3.0, -Math.PI},
+                new int[]{1, 0, 0},
+                new int[]{2, 0, 0});
+        thresholds.writeToFile(file);
+        FlatDecisionTree copy = FlatDecisionTree.loadFromFile(file);
+        assertArrayEquals(thresholds.feature, copy.feature);
+        assertArrayEquals(thresholds.value, copy.value, 0.0);
+        assertArrayEquals(thresholds.children, copy.children);
+        assertEquals(1.0 / 3.0, copy.predict(new double[]{0.1 + 0.2}), 0.0);
+        assertEquals(-Math.PI, copy.predict(new double[]{Math.nextUp(0.1 + 0.2)}), 0.0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void childrenMustComeAfterTheirParent() {
+        new FlatDecisionTree(new int[]{0, -1}, new double[]{0.0, 1.0}, new int[]{1, 0}, new int[]{0, 0});
+    }
+
+    private static Node leaf(double prediction) {
+        return new LeafNode(prediction, 0.0, null);
+    }
+
+    private static Node split(int feature, double threshold, Node left, Node right) {
+        return new InternalNode(0.0, 0.0, 0.0, left, right, new ContinuousSplit(feature, threshold), null);
+    }
+
+    @Test
+    public void treesConvertedFromSparkPredictTheSame() {
+        // built directly, so no SparkSession is needed
+        DecisionTreeRegressionModel sparkModel = new DecisionTreeRegressionModel(
+                split(2, 0.25,
+                        split(0, -1.5, leaf(1.0), split(1, 3.0, leaf(2.0), leaf(3.0))),
+                        split(1, 0.0, leaf(4.0), split(0, 0.5, leaf(5.0), leaf(6.0)))),
+                3);
+        FlatDecisionTree flat = AbstractDecisionTreeHeuristic.fromSpark(sparkModel);
+        assertEquals(sparkModel.numNodes(), flat.size());
+
+        Random rnd = new Random(391);
+        double[][] examples = new double[1002][];
+        for (int i = 0; i < 1000; i++)
+            examples[i] = new double[]{rnd.nextGaussian() * 2, rnd.nextGaussian() * 3, rnd.nextDouble() - 0.25};
+        examples[1000] = new double[]{-1.5, 3.0, 0.25};  // on the thresholds
+        examples[1001] = new double[]{Double.NaN, Double.NaN, Double.NaN};
+        for (double[] x : examples)
+            assertEquals(sparkModel.predict(Vectors.dense(x)), flat.predict(x), 0.0);
+    }
+
+    private String writeFile(String... lines) throws IOException {
+        File file = folder.newFile();
+        try (FileWriter writer = new FileWriter(file)) {
+            writer.write(FlatDecisionTree.HEADER + "\n");
+            for (String line : lines)
+                writer.write(line + "\n");
+        }
+        return file.getPath();
+    }
+
+    @Test
+    public void rowsMustHaveFourFields() throws IOException {
+        String file = writeFile("0\t0.5\t1\t2", "-1\t1.0\t0", "-1\t2.0\t0\t0");
+        try {
+            FlatDecisionTree.loadFromFile(file);
+            fail("Expected an exception");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("line 3"));
+        }
+    }
+
+    @Test
+    public void internalNodesMustHaveAValidFeature() throws IOException {
+        String file = writeFile("-2\t0.5\t1\t2", "-1\t1.0\t0\t0", "-1\t2.0\t0\t0");
+        try {
+            FlatDecisionTree.loadFromFile(file);
+            fail("Expected an exception");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("Invalid feature -2 for node 0"));
+        }
+    }
+
+    @Test
+    public void heuristicLoadsTheTreeFromAFileOrDirectory() throws IOException {
+        // split on whether the first player has the centre of the board
+        FlatDecisionTree centre = new FlatDecisionTree(
+                new int[]{4, -1, -1},
+                new double[]{0.5, -1.0, 1.0},
+                new int[]{1, 0, 0},
+                new int[]{2, 0, 0});
+        File directory = folder.newFolder("model");
+        centre.writeToFile(new File(directory, FlatDecisionTree.FILE_NAME).getPath());
+
+        DecisionTreeStateHeuristic fromDirectory = new DecisionTreeStateHeuristic(new TicTacToeStateVector(), directory.getPath(), null);
+        DecisionTreeStateHeuristic fromFile = new DecisionTreeStateHeuristic(new TicTacToeStateVector(),
+                new File(directory, FlatDecisionTree.FILE_NAME).getPath(), null);
+
+        Game game = GameType.TicTacToe.createGameInstance(2, 42);
+        AbstractGameState state = game.getGameState();
+        assertEquals(-1.0, fromDirectory.evaluateState(state, 0), 0.0);
+        game.getForwardModel().next(state, game.getForwardModel().computeAvailableActions(state).get(4));
+        assertEquals(1.0, fromDirectory.evaluateState(state, 0), 0.0);
+        assertEquals(1.0, fromFile.evaluateState(state, 0), 0.0);
+        assertEquals(-1.0, fromFile.evaluateState(state, 1), 0.0);
+    }
+}
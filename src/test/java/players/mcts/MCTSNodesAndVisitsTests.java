@@ -124,14 +124,13 @@ public class MCTSNodesAndVisitsTests {
             if (state.getCurrentPlayer() == 0) {
                 TreeStatistics stats = new TreeStatistics(mctsPlayer.getRoot(0));
                 assertEquals(200, mctsPlayer.getRoot(0).getVisits());
-                int childVisits = mctsPlayer.getRoot(0).actionValues.values().stream()
-                        .mapToInt(actionStats -> actionStats.nVisits).sum();
+                int childVisits = Arrays.stream(mctsPlayer.getRoot(0).actionVisits()).sum();
                 assertEquals(200, childVisits);
-                for (AbstractAction child : mctsPlayer.getRoot(0).actionValues.keySet()) {
-                    int timesActionTaken = mctsPlayer.getRoot(0).actionValues.get(child).nVisits;
+                for (AbstractAction child : mctsPlayer.getRoot(0).getChildren().keySet()) {
+                    int timesActionTaken = mctsPlayer.getRoot(0).actionVisits(child);
                     if (timesActionTaken > 0)
                         assertEquals(timesActionTaken - 1,
-                                Arrays.stream(mctsPlayer.getRoot(0).children.get(child))
+                                Arrays.stream(mctsPlayer.getRoot(0).childrenFor(child))
                                         .filter(Objects::nonNull)
                                         .mapToInt(SingleTreeNode::getVisits).sum());
                 }
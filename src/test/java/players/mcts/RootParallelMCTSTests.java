@@ -0,0 +1,176 @@
+package players.mcts;
+
+import core.AbstractGameState;
+import core.AbstractPlayer;
+import core.Game;
+import core.actions.AbstractAction;
+import games.GameType;
+import games.dominion.DominionForwardModel;
+import games.dominion.DominionGameState;
+import games.dominion.DominionParameters;
+import org.junit.Before;
+import org.junit.Test;
+import players.PlayerConstants;
+import players.simple.RandomPlayer;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+public class RootParallelMCTSTests {
+
+    MCTSParams params;
+    MCTSPlayer mctsPlayer;
+
+    @Before
+    public void setup() {
+        // parameters are registered via setParameterValue so that the per-tree copies pick them up
+        params = new MCTSParams();
+        params.setRandomSeed(9332);
+        params.setParameterValue("budgetType", PlayerConstants.BUDGET_ITERATIONS);
+        params.setParameterValue("budget", 400);
+        params.setParameterValue("rootParallelism", 4);
+        params.setParameterValue("information", MCTSEnums.Information.Information_Set);
+    }
+
+    private Game createGame() {
+        mctsPlayer = new MCTSPlayer(params);
+        List<AbstractPlayer> players = new ArrayList<>();
+        players.add(mctsPlayer);
+        players.add(new RandomPlayer(new Random(3023)));
+        DominionParameters dp = new DominionParameters();
+        dp.setRandomSeed(330245);
+        return new Game(GameType.Dominion, players, new DominionForwardModel(), new DominionGameState(dp, players.size()));
+    }
+
+    @Test
+    public void iterationBudgetIsSplitAcrossTrees() {
+        Game game = createGame();
+        int decisions = 0;
+        while (decisions < 5 && game.getGameState().isNotTerminal()) {
+            boolean mctsToAct = game.getGameState().getCurrentPlayer() == 0;
+            game.oneAction();
+            if (mctsToAct && mctsPlayer.root != null) {
+                decisions++;
+                // each of the four trees runs 100 iterations; the merged root sees all of them
+                assertEquals(400, mctsPlayer.root.getVisits(), 4);
+                int actionVisits = Arrays.stream(mctsPlayer.root.actionVisits()).sum();
+                assertEquals(mctsPlayer.root.getVisits(), actionVisits);
+                mctsPlayer.root = null;
+            }
+        }
+        assertEquals(5, decisions);
+    }
+
+    // plays the game until the MCTS player has searched for a decision
+    private void playToSearch(Game game) {
+        while (game.getGameState().isNotTerminal()) {
+            boolean mctsToAct = game.getGameState().getCurrentPlayer() == 0;
+            game.oneAction();
+            if (mctsToAct && mctsPlayer.root != null)
+                return;
+        }
+        throw new AssertionError("Game ended before MCTS searched");
+    }
+
+    @Test
+    public void timeBudgetIsNotSplitButCoversAllTheTrees() {
+        params.setParameterValue("budgetType", PlayerConstants.BUDGET_TIME);
+        params.setParameterValue("budget", 200);
+        Game game = createGame();
+        AbstractGameState state = game.getGameState();
+        List<AbstractAction> actions = game.getForwardModel().computeAvailableActions(state);
+        // the MCTS player only searches when it has a choice, and so has not searched before this
+        while (state.getCurrentPlayer() != 0 || actions.size() < 2) {
+            game.oneAction();
+            actions = game.getForwardModel().computeAvailableActions(state);
+        }
+        // all the trees search to the same deadline, so each has the whole budget
+        assertEquals(200, mctsPlayer.workerParameters().budget);
+
+        long start = System.nanoTime();
+        mctsPlayer.getAction(state.copy(0), actions);
+        long elapsed = (System.nanoTime() - start) / 1000000;
+        // the deadline is wall-clock time, so four trees take no longer than one, even on a single CPU (each tree
+        // would have its own 200ms of CPU time if the budget were measured per thread)
+        assertTrue("Search took " + elapsed + "ms", elapsed < 400);
+        int maxTreeVisits = 0, totalTreeVisits = 0;
+        for (SingleTreeNode tree : mctsPlayer.parallelTrees) {
+            assertTrue(tree.getVisits() > 0);
+            maxTreeVisits = Math.max(maxTreeVisits, tree.getVisits());
+            totalTreeVisits += tree.getVisits();
+        }
+        assertEquals(totalTreeVisits, mctsPlayer.root.getVisits());
+        assertTrue(mctsPlayer.root.getVisits() > maxTreeVisits);
+    }
+
+    @Test
+    public void mergedRootStatisticsAreTheSumOfThoseOfTheTrees() {
+        playToSearch(createGame());
+        SingleTreeNode root = mctsPlayer.root;
+        SingleTreeNode[] trees = mctsPlayer.parallelTrees;
+        assertEquals(4, trees.length);
+        int nPlayers = root.getState().getNPlayers();
+        int totalVisits = 0;
+        for (SingleTreeNode tree : trees) {
+            assertNotSame(root, tree);
+            totalVisits += tree.getVisits();
+        }
+        assertEquals(totalVisits, root.getVisits());
+        for (AbstractAction action : root.getChildren().keySet()) {
+            int visits = 0;
+            double[] totValue = new double[nPlayers];
+            for (SingleTreeNode tree : trees) {
+                visits += tree.actionVisits(action);
+                for (int p = 0; p < nPlayers; p++)
+                    totValue[p] += tree.actionTotValue(action, p);
+            }
+            assertEquals(visits, root.actionVisits(action));
+            for (int p = 0; p < nPlayers; p++)
+                assertEquals(totValue[p], root.actionTotValue(action, p), 1e-9);
+        }
+        // and each tree's actions were all seen at the merged root
+        for (SingleTreeNode tree : trees)
+            for (AbstractAction action : tree.getChildren().keySet())
+                assertTrue(root.actionTable.slotOf(action) >= 0);
+    }
+
+    @Test
+    public void unsupportedCombinationsSearchSerially() {
+        // tree reuse and MultiTree are not supported with root parallelism, and can be sampled together in tuning
+        params.setParameterValue("reuseTree", true);
+        playToSearch(createGame());
+        assertNull(mctsPlayer.parallelTrees);
+        assertEquals(400, mctsPlayer.root.getVisits(), 4);
+
+        params.setParameterValue("reuseTree", false);
+        params.setParameterValue("opponentTreePolicy", MCTSEnums.OpponentTreePolicy.MultiTree);
+        playToSearch(createGame());
+        assertNull(mctsPlayer.parallelTrees);
+    }
+
+    @Test
+    public void parallelismIsNotInTheDefaultTuningSpace() {
+        MCTSParams defaults = new MCTSParams();
+        assertTrue(defaults.getPossibleValues("rootParallelism").size() <= 1);
+        assertTrue(defaults.getPossibleValues("treeParallelism").size() <= 1);
+    }
+
+    @Test
+    public void otherBudgetsAreSplit() {
+        mctsPlayer = new MCTSPlayer(params);
+        MCTSParams workerParams = mctsPlayer.workerParameters();
+        assertEquals(100, workerParams.budget);
+        assertNotEquals(params.getRandomSeed(), workerParams.getRandomSeed());
+        assertNotEquals(workerParams.getRandomSeed(), mctsPlayer.workerParameters().getRandomSeed());
+    }
+
+    @Test
+    public void searchThreadsAreReleasedAtTheEndOfTheGame() {
+        Game game = createGame();
+        playToSearch(game);
+        assertNotNull(mctsPlayer.searchThreads);
+        mctsPlayer.finalizePlayer(game.getGameState());
+        assertNull(mctsPlayer.searchThreads);
+    }
+}
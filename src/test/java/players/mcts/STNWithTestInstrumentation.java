@@ -13,7 +13,7 @@ public class STNWithTestInstrumentation extends SingleTreeNode {
 
 
     public ActionStats getActionStats(AbstractAction action) {
-        return actionValues.get(action);
+        return super.getActionStats(action);
     }
 
     public AbstractAction treePolicyAction(boolean useExploration) {
@@ -0,0 +1,46 @@
+package players.mcts;
+
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+public class TranspositionTableTest {
+
+    @Test
+    public void putGetAndRemoveMatchHashMap() {
+        TranspositionTable table = new TranspositionTable();
+        Map<Long, MCGSNode> reference = new HashMap<>();
+        Random rnd = new Random(934);
+        for (int i = 0; i < 20000; i++) {
+            // a small key range forces plenty of collisions, overwrites and removals of missing keys
+            long key = rnd.nextInt(500) * 0x100000000L;
+            if (rnd.nextDouble() < 0.6) {
+                MCGSNode node = new MCGSNode();
+                assertSame(reference.put(key, node), table.put(key, node));
+            } else {
+                assertSame(reference.remove(key), table.remove(key));
+            }
+            assertEquals(reference.size(), table.size());
+        }
+        for (long key = 0; key < 500; key++)
+            assertSame(reference.get(key * 0x100000000L), table.get(key * 0x100000000L));
+        long[] keys = table.keys();
+        List<MCGSNode> values = table.values();
+        assertEquals(reference.size(), keys.length);
+        for (int i = 0; i < keys.length; i++)
+            assertSame(reference.get(keys[i]), values.get(i));
+    }
+
+    @Test
+    public void zeroIsAValidKey() {
+        TranspositionTable table = new TranspositionTable();
+        assertFalse(table.containsKey(0L));
+        MCGSNode node = new MCGSNode();
+        table.put(0L, node);
+        assertSame(node, table.get(0L));
+        assertSame(node, table.remove(0L));
+        assertTrue(table.isEmpty());
+    }
+}
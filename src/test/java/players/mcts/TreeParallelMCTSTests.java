@@ -0,0 +1,133 @@
+package players.mcts;
+
+import core.AbstractGameState;
+import core.AbstractPlayer;
+import core.Game;
+import core.actions.AbstractAction;
+import core.actions.DoNothing;
+import core.actions.LogEvent;
+import games.GameType;
+import games.dominion.DominionForwardModel;
+import games.dominion.DominionGameState;
+import games.dominion.DominionParameters;
+import org.junit.Before;
+import org.junit.Test;
+import players.PlayerConstants;
+import players.simple.RandomPlayer;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+import static org.junit.Assert.*;
+
+public class TreeParallelMCTSTests {
+
+    MCTSParams params;
+    MCTSPlayer mctsPlayer;
+
+    // this also checks that no virtual loss is left in the tree after the search
+    private final Predicate<SingleTreeNode> actionVisitsAddUp = node ->
+            node.getVisits() == Arrays.stream(node.actionVisits()).sum();
+
+    @Before
+    public void setup() {
+        params = new MCTSParams();
+        params.setRandomSeed(9332);
+        params.setParameterValue("budgetType", PlayerConstants.BUDGET_ITERATIONS);
+        params.setParameterValue("budget", 400);
+        params.setParameterValue("treeParallelism", 4);
+        params.setParameterValue("information", MCTSEnums.Information.Information_Set);
+    }
+
+    private Game createGame() {
+        mctsPlayer = new MCTSPlayer(params);
+        List<AbstractPlayer> players = new ArrayList<>();
+        players.add(mctsPlayer);
+        players.add(new RandomPlayer(new Random(3023)));
+        DominionParameters dp = new DominionParameters();
+        dp.setRandomSeed(330245);
+        return new Game(GameType.Dominion, players, new DominionForwardModel(), new DominionGameState(dp, players.size()));
+    }
+
+    @Test
+    public void iterationBudgetIsSharedByTheThreads() {
+        Game game = createGame();
+        int decisions = 0;
+        while (decisions < 5 && game.getGameState().isNotTerminal()) {
+            boolean mctsToAct = game.getGameState().getCurrentPlayer() == 0;
+            game.oneAction();
+            if (mctsToAct && mctsPlayer.root != null) {
+                decisions++;
+                // the threads search one tree, and between them run the 400 iterations
+                assertEquals(400, mctsPlayer.root.getVisits());
+                assertNull(mctsPlayer.parallelTrees);
+                assertEquals(Collections.emptyList(), mctsPlayer.root.nonMatchingNodes(actionVisitsAddUp));
+                assertTrue(mctsPlayer.root.allNodesInTree().size() > 1);
+                mctsPlayer.root = null;
+            }
+        }
+        assertEquals(5, decisions);
+    }
+
+    @Test
+    public void timeBudgetIsWallClockTime() {
+        params.setParameterValue("budgetType", PlayerConstants.BUDGET_TIME);
+        params.setParameterValue("budget", 200);
+        Game game = createGame();
+        AbstractGameState state = game.getGameState();
+        List<AbstractAction> actions = game.getForwardModel().computeAvailableActions(state);
+        // the MCTS player only searches when it has a choice, and so has not searched before this
+        while (state.getCurrentPlayer() != 0 || actions.size() < 2) {
+            game.oneAction();
+            actions = game.getForwardModel().computeAvailableActions(state);
+        }
+
+        long start = System.nanoTime();
+        mctsPlayer.getAction(state.copy(0), actions);
+        long elapsed = (System.nanoTime() - start) / 1000000;
+        assertTrue("Search took " + elapsed + "ms", elapsed < 400);
+        assertTrue(mctsPlayer.root.getVisits() > 0);
+        assertEquals(Collections.emptyList(), mctsPlayer.root.nonMatchingNodes(actionVisitsAddUp));
+    }
+
+    @Test
+    public void unsupportedPoliciesSearchSerially() {
+        params.setParameterValue("opponentTreePolicy", MCTSEnums.OpponentTreePolicy.MultiTree);
+        Game game = createGame();
+        for (int i = 0; i < 10 && game.getGameState().isNotTerminal(); i++)
+            game.oneAction();
+        assertNull(mctsPlayer.searchThreads);
+    }
+
+    @Test
+    public void searchThreadsAreReleasedAtTheEndOfTheGame() {
+        Game game = createGame();
+        for (int i = 0; i < 10 && game.getGameState().isNotTerminal(); i++)
+            game.oneAction();
+        assertNotNull(mctsPlayer.searchThreads);
+        mctsPlayer.finalizePlayer(game.getGameState());
+        assertNull(mctsPlayer.searchThreads);
+    }
+
+    @Test
+    public void virtualLossIsRemovedExactly() {
+        ActionStatsTable table = new ActionStatsTable(2);
+        int a = table.add(new DoNothing());
+        int b = table.add(new LogEvent("b"));
+        table.update(a, new double[]{1.0, 0.0});
+        table.update(b, new double[]{0.5, 0.5});
+
+        table.addVirtualLoss(a, 0, 3, -1.0);
+        assertEquals(4, table.visits[a]);
+        assertEquals(1.0 - 3.0, table.totValue(a, 0), 1e-9);
+        // while the virtual loss is there, action a looks worse than b to player 0
+        assertTrue(table.totValue(a, 0) / table.visits[a] < table.totValue(b, 0) / table.visits[b]);
+
+        table.removeVirtualLoss(a, 0, 3, -1.0);
+        assertEquals(1, table.visits[a]);
+        assertEquals(0, table.validVisits[a]);
+        assertEquals(1.0, table.totValue(a, 0), 1e-9);
+        assertEquals(1.0, table.squaredTotValue(a, 0), 1e-9);
+        assertEquals(0.0, table.totValue(a, 1), 1e-9);
+    }
+}
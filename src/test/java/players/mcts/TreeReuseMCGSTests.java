@@ -109,13 +109,13 @@ public class TreeReuseMCGSTests {
         // [as we don't prune this until the *next* decision is taken]
         // After the action is taken we confirm that the old root node no longer exists in the tree (i.e. that we do prune states)
         MCGSNode[] oldRoots = new MCGSNode[2];
-        String[] oldKeys = new String[]{"", ""};
-        String[] oldOldKeys = new String[]{"", ""};
-        String[] oldOldOldKeys = new String[]{"", ""};
-        List<Map<String, Integer>> oldVisitsMap = new ArrayList<>(2);
+        Long[] oldKeys = new Long[2];
+        Long[] oldOldKeys = new Long[2];
+        Long[] oldOldOldKeys = new Long[2];
+        List<Map<Long, Integer>> oldVisitsMap = new ArrayList<>(2);
         oldVisitsMap.add(new HashMap<>());
         oldVisitsMap.add(new HashMap<>());
-        List<Map<String, Integer>> visitsMap = new ArrayList<>(2);
+        List<Map<Long, Integer>> visitsMap = new ArrayList<>(2);
         visitsMap.add(new HashMap<>());
         visitsMap.add(new HashMap<>());
         int[] oldVisits = new int[2];
@@ -133,8 +133,7 @@ public class TreeReuseMCGSTests {
             if (player.root != null) {
                 oldVisits[currentPlayer] = ((MCGSNode) playerOne.getRoot(0)).getTranspositionMap().getOrDefault(oldKeys[currentPlayer], new MCGSNode()).nVisits;
                 visitsMap.remove(currentPlayer);
-                visitsMap.add(currentPlayer, ((MCGSNode) playerOne.getRoot(0)).getTranspositionMap().entrySet().stream()
-                        .collect(HashMap::new, (m, e) -> m.put(e.getKey(), e.getValue().nVisits), HashMap::putAll));
+                visitsMap.add(currentPlayer, visitsByKey((MCGSNode) playerOne.getRoot(0)));
             }
             // when we take the next action we should first prune any states that were not updated last time
             // so we check that states in both trees have monotonic increasing visits
@@ -157,13 +156,12 @@ public class TreeReuseMCGSTests {
                         System.out.println("Visits: " + newRoot.getVisits());
                         assertEquals(oldVisits[0] + paramsOne.budget, newRoot.getVisits());
                         // and check older root is no longer in the tree
-                        if (!oldOldOldKeys[currentPlayer].isEmpty()) {
+                        if (oldOldOldKeys[currentPlayer] != null) {
                             assertFalse(newRoot.getTranspositionMap().containsKey(oldOldOldKeys[currentPlayer]));
                         }
                         // then for each node that was
-                        Map<String, Integer> newVisitsMap = newRoot.getTranspositionMap().entrySet().stream()
-                                .collect(HashMap::new, (m, e) -> m.put(e.getKey(), e.getValue().nVisits), HashMap::putAll);
-                        for (String key : oldVisitsMap.get(currentPlayer).keySet()) {
+                        Map<Long, Integer> newVisitsMap = visitsByKey(newRoot);
+                        for (Long key : oldVisitsMap.get(currentPlayer).keySet()) {
                             if (newVisitsMap.containsKey(key)) {
                                 assertTrue(newVisitsMap.get(key) > oldVisitsMap.get(currentPlayer).get(key));
                             }
@@ -175,4 +173,13 @@ public class TreeReuseMCGSTests {
             }
         } while (state.isNotTerminal());
     }
+
+    private static Map<Long, Integer> visitsByKey(MCGSNode graphRoot) {
+        long[] keys = graphRoot.getTranspositionMap().keys();
+        List<MCGSNode> nodes = graphRoot.getTranspositionMap().values();
+        Map<Long, Integer> retValue = new HashMap<>();
+        for (int i = 0; i < keys.length; i++)
+            retValue.put(keys[i], nodes.get(i).nVisits);
+        return retValue;
+    }
 }